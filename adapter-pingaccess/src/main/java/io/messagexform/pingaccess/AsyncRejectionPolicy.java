@@ -0,0 +1,34 @@
+package io.messagexform.pingaccess;
+
+/**
+ * What to do with an offloaded transform when the async transform queue is
+ * full (FR-002-04, FR-002-15).
+ *
+ * <p>
+ * Used as a {@code @UIElement(type = SELECT)} field on
+ * {@link MessageTransformConfig}. PingAccess's {@code ConfigurationBuilder}
+ * auto-discovers the enum constants for the admin UI (SDK guide §7).
+ *
+ * <ul>
+ * <li>{@link #CALLER_RUNS} — run the transform on the PingAccess thread, as
+ * if offloading were disabled.
+ * <li>{@link #ERROR} — treat the exchange as a transform error with status
+ * 503, handled per the configured {@link ErrorMode}.
+ * </ul>
+ */
+public enum AsyncRejectionPolicy {
+    CALLER_RUNS("Run on PingAccess Thread"),
+    ERROR("Transform Error (503)");
+
+    private final String label;
+
+    AsyncRejectionPolicy(String label) {
+        this.label = label;
+    }
+
+    /** Returns the admin-UI display label. */
+    @Override
+    public String toString() {
+        return label;
+    }
+}
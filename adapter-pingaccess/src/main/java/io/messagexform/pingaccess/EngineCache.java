@@ -0,0 +1,430 @@
+package io.messagexform.pingaccess;
+
+import io.messagexform.core.engine.EngineRegistry;
+import io.messagexform.core.engine.ErrorResponseBuilder;
+import io.messagexform.core.engine.EvalBudget;
+import io.messagexform.core.engine.SchemaValidationMode;
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.engine.jslt.JsltExpressionEngine;
+import io.messagexform.core.spec.SpecParser;
+import jakarta.validation.ValidationException;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVM-wide, reference-counted cache of compiled {@link TransformEngine}s shared
+ * by {@link MessageTransformRule} instances (FR-002-05).
+ *
+ * <p>
+ * PingAccess creates many rule objects, often for the same spec directory.
+ * Rules whose {@link Key} matches and whose spec/profile files have the same
+ * content share one engine: the first {@link #acquire} compiles the specs,
+ * later ones only fingerprint the files (one read per file, no parsing) and
+ * take a {@link Lease} on the existing engine. The last {@link Lease#release()}
+ * — from the rule's {@code @PreDestroy} — drops the engine.
+ *
+ * <p>
+ * Hot reload (FR-002-04) runs once per shared engine, on a single
+ * {@code mxform-spec-reload} daemon thread for the whole JVM. Reload outcomes
+ * are recorded in the metrics of every rule holding a lease. After a
+ * successful reload the engine is re-keyed under its new content hash, so
+ * rules configured later with the reloaded files still share it. The thread
+ * is stopped when no engine needs reloading.
+ *
+ * <p>
+ * Thread-safe. {@link #acquire} holds the cache lock while compiling, so
+ * concurrent {@code configure()} calls for the same key compile once.
+ */
+final class EngineCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EngineCache.class);
+
+    private static final EngineCache SHARED = new EngineCache();
+
+    /**
+     * What an engine is compiled from. Two rules share an engine when their
+     * keys are equal and their spec/profile files have the same content.
+     *
+     * @param specsDir            normalized spec directory
+     * @param profilesDir         normalized profile directory, or null
+     * @param activeProfile       active profile name, or null
+     * @param applicationProfiles PA application name → keyed profile file
+     * @param schemaMode          schema validation mode
+     * @param reloadIntervalSec   hot-reload interval (0 = disabled)
+     */
+    record Key(
+            Path specsDir,
+            Path profilesDir,
+            String activeProfile,
+            Map<String, Path> applicationProfiles,
+            SchemaValidationMode schemaMode,
+            int reloadIntervalSec) {
+
+        Key {
+            activeProfile = activeProfile == null || activeProfile.isEmpty() ? null : activeProfile;
+            applicationProfiles = Map.copyOf(applicationProfiles);
+        }
+
+        /** Resolves the active profile file; null if none is configured or found. */
+        Path activeProfileFile() {
+            return profilesDir != null ? resolveProfileFile(profilesDir.toString(), activeProfile) : null;
+        }
+    }
+
+    /** A {@link Key} plus the content hash of the files the engine was loaded from. */
+    private record CacheKey(Key key, String contentHash) {}
+
+    /** One shared engine and the leases holding it. Guarded by the cache lock except where noted. */
+    private final class Entry {
+        final Key key;
+        final TransformEngine engine;
+        /** Used only by {@link #acquire} (before publication) and the reload thread. */
+        final SpecChangeDetector changeDetector;
+
+        final List<Lease> leases = new ArrayList<>();
+        String contentHash;
+        ScheduledFuture<?> reloadTask;
+
+        Entry(Key key, TransformEngine engine, SpecChangeDetector changeDetector, String contentHash) {
+            this.key = key;
+            this.engine = engine;
+            this.changeDetector = changeDetector;
+            this.contentHash = contentHash;
+        }
+
+        /**
+         * Reload task executed by the shared scheduler (T-002-26, FR-002-04).
+         *
+         * <p>
+         * Resolves spec/profile paths and asks the {@link SpecChangeDetector}
+         * whether any of them changed since the last reload. Unchanged file
+         * sets are skipped without parsing; otherwise
+         * {@link TransformEngine#reload(List, Path, Map)} is called with the
+         * active and per-application profiles. On any failure, logs a warning
+         * and retains the previous valid registry (NFR-001-05).
+         */
+        void reload() {
+            List<MessageTransformMetrics> metrics = metrics(this);
+            try {
+                List<Path> specFiles = collectYamlFiles(key.specsDir());
+
+                // Resolve profile path (null if no profile configured)
+                Path profilePath = null;
+                if (key.activeProfile() != null) {
+                    profilePath = key.activeProfileFile();
+                    if (profilePath == null) {
+                        LOG.warn(
+                                "Hot-reload: profile file not found: {} in {}", key.activeProfile(), key.profilesDir());
+                        return;
+                    }
+                }
+
+                List<Path> profileFiles = profileFiles(profilePath, key.applicationProfiles());
+                SpecChangeDetector.ChangeSet changes =
+                        changeDetector.check(watchedDirs(key, profileFiles), watchedFiles(specFiles, profileFiles));
+                if (!changes.hasChanges()) {
+                    LOG.trace("Hot-reload skipped: no spec/profile changes");
+                    metrics.forEach(MessageTransformMetrics::recordReloadSkipped);
+                    return;
+                }
+
+                long startNanos = System.nanoTime();
+                try {
+                    engine.reload(specFiles, profilePath, key.applicationProfiles());
+                } finally {
+                    changeDetector.commit(changes);
+                    long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+                    metrics.forEach(m -> m.recordReloadDuration(durationMs, changes.changedFiles()));
+                }
+                rekey(this, changes.contentHash());
+                LOG.info("Hot-reload completed: specs={}, changedFiles={}", engine.specCount(), changes.changedFiles());
+                for (MessageTransformMetrics m : metrics) {
+                    m.recordReloadSuccess();
+                    m.setActiveSpecCount(engine.specCount());
+                }
+            } catch (Exception e) {
+                // Retain previous valid registry on any failure (S-002-30)
+                LOG.warn("Hot-reload failed — retaining previous registry: {}", e.getMessage());
+                metrics.forEach(MessageTransformMetrics::recordReloadFailure);
+            }
+        }
+    }
+
+    /**
+     * One rule's hold on a shared engine. Released exactly once, by the rule's
+     * {@code @PreDestroy} or when it is reconfigured.
+     */
+    final class Lease {
+        private final Entry entry;
+        private final MessageTransformMetrics metrics;
+        private boolean released;
+
+        private Lease(Entry entry, MessageTransformMetrics metrics) {
+            this.entry = entry;
+            this.metrics = metrics;
+        }
+
+        /** The shared engine. */
+        TransformEngine engine() {
+            return entry.engine;
+        }
+
+        /** The shared engine's reload task, or null if hot reload is disabled. */
+        Future<?> reloadTask() {
+            synchronized (EngineCache.this) {
+                return entry.reloadTask;
+            }
+        }
+
+        /** Drops this hold; the engine is released with its last lease. Idempotent. */
+        void release() {
+            EngineCache.this.release(this);
+        }
+    }
+
+    private final Map<CacheKey, Entry> entries = new HashMap<>();
+    private ScheduledExecutorService reloadScheduler;
+    private int scheduledEntries;
+
+    /** The JVM-wide cache. */
+    static EngineCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a lease on an engine compiled from {@code key}, compiling and
+     * loading the specs and profiles only if no engine with the same key and
+     * file contents is cached.
+     *
+     * @param metrics the rule's metrics, which receive reload outcomes
+     * @throws ValidationException if a spec or profile fails to load
+     */
+    synchronized Lease acquire(Key key, MessageTransformMetrics metrics) throws ValidationException {
+        List<Path> specFiles = collectYamlFiles(key.specsDir());
+        Path profileFile = key.activeProfileFile();
+        List<Path> profileFiles = profileFiles(profileFile, key.applicationProfiles());
+
+        // Fingerprint spec/profile files BEFORE loading them, so an edit made
+        // while they load is still seen by the first scheduled reload.
+        SpecChangeDetector changeDetector = new SpecChangeDetector();
+        SpecChangeDetector.ChangeSet fingerprint = null;
+        try {
+            fingerprint = changeDetector.check(watchedDirs(key, profileFiles), watchedFiles(specFiles, profileFiles));
+        } catch (IOException e) {
+            // Not shareable, and the first reload then runs unconditionally
+            LOG.debug("Could not fingerprint spec files: {}", e.getMessage());
+        }
+
+        CacheKey cacheKey = fingerprint != null ? new CacheKey(key, fingerprint.contentHash()) : null;
+        Entry entry = cacheKey != null ? entries.get(cacheKey) : null;
+        if (entry != null) {
+            LOG.info("Reusing shared engine: specsDir={}, specs={}", key.specsDir(), entry.engine.specCount());
+        } else {
+            TransformEngine engine = load(key, specFiles, profileFile);
+            if (fingerprint != null) {
+                changeDetector.commit(fingerprint);
+            }
+            entry = new Entry(key, engine, changeDetector, cacheKey != null ? cacheKey.contentHash() : null);
+            if (cacheKey != null) {
+                entries.put(cacheKey, entry);
+            }
+            int reloadSec = key.reloadIntervalSec();
+            if (reloadSec > 0) {
+                entry.reloadTask =
+                        reloadScheduler().scheduleWithFixedDelay(entry::reload, reloadSec, reloadSec, TimeUnit.SECONDS);
+                scheduledEntries++;
+                LOG.info("Hot-reload scheduled: specsDir={}, interval={}s", key.specsDir(), reloadSec);
+            }
+        }
+        Lease lease = new Lease(entry, metrics);
+        entry.leases.add(lease);
+        return lease;
+    }
+
+    /** Engines currently held by at least one lease and findable by key. */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void release(Lease lease) {
+        if (lease.released) {
+            return;
+        }
+        lease.released = true;
+        Entry entry = lease.entry;
+        entry.leases.remove(lease);
+        if (!entry.leases.isEmpty()) {
+            return;
+        }
+        entries.remove(new CacheKey(entry.key, entry.contentHash), entry);
+        if (entry.reloadTask != null) {
+            entry.reloadTask.cancel(false);
+            if (--scheduledEntries == 0) {
+                reloadScheduler.shutdown();
+                reloadScheduler = null;
+                LOG.info("Hot-reload scheduler shut down");
+            }
+        }
+        LOG.info("Released shared engine: specsDir={}", entry.key.specsDir());
+    }
+
+    /** Moves a reloaded entry under its new content hash, unless that key is already taken. */
+    private synchronized void rekey(Entry entry, String contentHash) {
+        if (entry.leases.isEmpty()) {
+            return;
+        }
+        entries.remove(new CacheKey(entry.key, entry.contentHash), entry);
+        entry.contentHash = contentHash;
+        entries.putIfAbsent(new CacheKey(entry.key, contentHash), entry);
+    }
+
+    /** Distinct metrics of the rules holding {@code entry}. */
+    private synchronized List<MessageTransformMetrics> metrics(Entry entry) {
+        List<MessageTransformMetrics> metrics = new ArrayList<>();
+        for (Lease lease : entry.leases) {
+            if (lease.metrics != null && !metrics.contains(lease.metrics)) {
+                metrics.add(lease.metrics);
+            }
+        }
+        return metrics;
+    }
+
+    private ScheduledExecutorService reloadScheduler() {
+        if (reloadScheduler == null) {
+            reloadScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "mxform-spec-reload");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return reloadScheduler;
+    }
+
+    /** Builds an engine with the JSLT expression engine and loads the specs and profiles. */
+    private static TransformEngine load(Key key, List<Path> specFiles, Path profileFile) {
+        EngineRegistry engineRegistry = new EngineRegistry();
+        engineRegistry.register(new JsltExpressionEngine());
+        TransformEngine engine = new TransformEngine(
+                new SpecParser(engineRegistry), new ErrorResponseBuilder(), EvalBudget.DEFAULT, key.schemaMode());
+
+        if (specFiles.isEmpty()) {
+            LOG.warn("No spec files found in {}", key.specsDir());
+        }
+        for (Path specFile : specFiles) {
+            try {
+                engine.loadSpec(specFile);
+                LOG.info("Loaded spec: {}", specFile.getFileName());
+            } catch (Exception e) {
+                throw new ValidationException("Failed to load spec " + specFile + ": " + e.getMessage());
+            }
+        }
+
+        if (key.activeProfile() != null) {
+            if (profileFile == null) {
+                throw new ValidationException(
+                        "Profile file not found: " + key.activeProfile() + " in " + key.profilesDir());
+            }
+            try {
+                engine.loadProfile(profileFile);
+                LOG.info("Loaded profile: {} from {}", key.activeProfile(), profileFile);
+            } catch (Exception e) {
+                throw new ValidationException("Failed to load profile " + key.activeProfile() + ": " + e.getMessage());
+            }
+        }
+
+        // Keyed per-application profiles share the specs loaded above
+        for (Map.Entry<String, Path> entry : key.applicationProfiles().entrySet()) {
+            try {
+                engine.loadProfile(entry.getKey(), entry.getValue());
+                LOG.info("Loaded application profile: {} -> {}", entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                throw new ValidationException(
+                        "Failed to load profile for application " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Resolves {@code <name>.yaml}, then {@code <name>.yml}, in
+     * {@code profilesDir}. Returns {@code null} if either argument is blank or
+     * neither file exists.
+     */
+    static Path resolveProfileFile(String profilesDir, String name) {
+        if (name == null || name.isEmpty() || profilesDir == null || profilesDir.isBlank()) {
+            return null;
+        }
+        Path profilesPath = Paths.get(profilesDir).normalize();
+        Path profileFile = profilesPath.resolve(name + ".yaml");
+        if (!Files.isRegularFile(profileFile)) {
+            profileFile = profilesPath.resolve(name + ".yml");
+        }
+        return Files.isRegularFile(profileFile) ? profileFile : null;
+    }
+
+    /** The active profile file (if any) followed by the per-application profile files. */
+    private static List<Path> profileFiles(Path activeProfileFile, Map<String, Path> applicationProfiles) {
+        List<Path> files = new ArrayList<>();
+        if (activeProfileFile != null) {
+            files.add(activeProfileFile);
+        }
+        for (Path file : applicationProfiles.values()) {
+            if (!files.contains(file)) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /** Directories whose mtime is tracked by the change detector. */
+    private static List<Path> watchedDirs(Key key, List<Path> profileFiles) {
+        List<Path> dirs = new ArrayList<>();
+        dirs.add(key.specsDir());
+        if (!profileFiles.isEmpty() && key.profilesDir() != null) {
+            dirs.add(key.profilesDir());
+        }
+        return dirs;
+    }
+
+    /** Spec files plus the profile files — the change detector's file set. */
+    private static List<Path> watchedFiles(List<Path> specFiles, List<Path> profileFiles) {
+        if (profileFiles.isEmpty()) {
+            return specFiles;
+        }
+        List<Path> files = new ArrayList<>(specFiles);
+        files.addAll(profileFiles);
+        return files;
+    }
+
+    /**
+     * Collects all {@code .yaml} and {@code .yml} files from the given
+     * directory (non-recursive).
+     */
+    private static List<Path> collectYamlFiles(Path dir) {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.{yaml,yml}")) {
+            for (Path entry : stream) {
+                if (Files.isRegularFile(entry)) {
+                    files.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to scan spec directory {}: {}", dir, e.getMessage());
+        }
+        return files;
+    }
+}
@@ -62,6 +62,22 @@ public class MessageTransformConfig extends SimplePluginConfiguration {
                             content = "Name of the profile to activate. Leave empty for no profile" + " filtering."))
     private String activeProfile = "";
 
+    @UIElement(
+            order = 35,
+            type = ConfigurationType.TEXTAREA,
+            label = "Application Profiles",
+            required = false,
+            defaultValue = "",
+            help =
+                    @Help(
+                            title = "Application Profiles",
+                            content = "Optional per-application profiles, one per line:"
+                                    + " '<application name>=<profile name>'. Requests for a listed"
+                                    + " PingAccess application use that profile; all other requests"
+                                    + " use the Active Profile. All profiles share one compiled"
+                                    + " spec set. Lines starting with '#' are ignored."))
+    private String applicationProfiles = "";
+
     @UIElement(
             order = 40,
             type = ConfigurationType.SELECT,
@@ -120,6 +136,113 @@ public class MessageTransformConfig extends SimplePluginConfiguration {
                                     + " zero overhead."))
     private boolean enableJmxMetrics = false;
 
+    @UIElement(
+            order = 80,
+            type = ConfigurationType.TEXT,
+            label = "Session Cache Size",
+            required = false,
+            defaultValue = "10000",
+            help =
+                    @Help(
+                            title = "Session Cache Size",
+                            content = "Maximum number of flattened identities ($session) cached by"
+                                    + " token ID, or tracking ID without a token. Cached entries"
+                                    + " expire with the token. 0 = disabled (the identity is"
+                                    + " flattened on every request and response)."))
+    @Min(0)
+    @Max(1000000)
+    private int sessionCacheSize = 10000;
+
+    @UIElement(
+            order = 90,
+            type = ConfigurationType.TEXT,
+            label = "Session Cache TTL (s)",
+            required = false,
+            defaultValue = "300",
+            help =
+                    @Help(
+                            title = "Session Cache TTL",
+                            content = "Maximum lifetime in seconds of a cached identity. Entries"
+                                    + " expire earlier when the token does; identities without a"
+                                    + " token expiration use this value. Maximum 86400 (24 hours)."))
+    @Min(1)
+    @Max(86400)
+    private int sessionCacheTtlSec = 300;
+
+    @UIElement(
+            order = 100,
+            type = ConfigurationType.TEXT,
+            label = "Async Threshold (KB)",
+            required = false,
+            defaultValue = "0",
+            help =
+                    @Help(
+                            title = "Async Threshold",
+                            content = "Transform requests/responses whose body is at least this many"
+                                    + " KB on a dedicated worker pool instead of the PingAccess"
+                                    + " thread. Size is taken from Content-Length. 0 = disabled."))
+    @Min(0)
+    @Max(1048576)
+    private int asyncThresholdKb = 0;
+
+    @UIElement(
+            order = 110,
+            type = ConfigurationType.TEXTAREA,
+            label = "Async Specs",
+            required = false,
+            defaultValue = "",
+            help =
+                    @Help(
+                            title = "Async Specs",
+                            content = "Spec ids, one per line, whose transforms always run on the"
+                                    + " worker pool regardless of body size. Lines starting with"
+                                    + " '#' are ignored."))
+    private String asyncSpecs = "";
+
+    @UIElement(
+            order = 120,
+            type = ConfigurationType.TEXT,
+            label = "Async Threads",
+            required = false,
+            defaultValue = "4",
+            help =
+                    @Help(
+                            title = "Async Threads",
+                            content = "Worker threads for offloaded transforms (used only when an"
+                                    + " Async Threshold or Async Specs is set)."))
+    @Min(1)
+    @Max(256)
+    private int asyncThreads = 4;
+
+    @UIElement(
+            order = 130,
+            type = ConfigurationType.TEXT,
+            label = "Async Queue Capacity",
+            required = false,
+            defaultValue = "256",
+            help =
+                    @Help(
+                            title = "Async Queue Capacity",
+                            content = "Offloaded transforms that may wait for a worker. When the"
+                                    + " queue is full, the Async Rejection Policy applies."))
+    @Min(1)
+    @Max(100000)
+    private int asyncQueueCapacity = 256;
+
+    @UIElement(
+            order = 140,
+            type = ConfigurationType.SELECT,
+            label = "Async Rejection Policy",
+            required = false,
+            help =
+                    @Help(
+                            title = "Async Rejection Policy",
+                            content = "CALLER_RUNS: transform on the PingAccess thread when the queue"
+                                    + " is full. ERROR: treat the exchange as a transform error"
+                                    + " (503), handled per the Error Mode."))
+    @NotNull
+    private AsyncRejectionPolicy asyncRejectionPolicy = AsyncRejectionPolicy.CALLER_RUNS;
+
     // ---- Getters and setters ----
 
     public String getSpecsDir() {
@@ -146,6 +269,14 @@ public class MessageTransformConfig extends SimplePluginConfiguration {
         this.activeProfile = activeProfile;
     }
 
+    public String getApplicationProfiles() {
+        return applicationProfiles;
+    }
+
+    public void setApplicationProfiles(String applicationProfiles) {
+        this.applicationProfiles = applicationProfiles;
+    }
+
     public ErrorMode getErrorMode() {
         return errorMode;
     }
@@ -177,4 +308,60 @@ public class MessageTransformConfig extends SimplePluginConfiguration {
     public void setEnableJmxMetrics(boolean enableJmxMetrics) {
         this.enableJmxMetrics = enableJmxMetrics;
     }
+
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public void setSessionCacheSize(int sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    public int getSessionCacheTtlSec() {
+        return sessionCacheTtlSec;
+    }
+
+    public void setSessionCacheTtlSec(int sessionCacheTtlSec) {
+        this.sessionCacheTtlSec = sessionCacheTtlSec;
+    }
+
+    public int getAsyncThresholdKb() {
+        return asyncThresholdKb;
+    }
+
+    public void setAsyncThresholdKb(int asyncThresholdKb) {
+        this.asyncThresholdKb = asyncThresholdKb;
+    }
+
+    public String getAsyncSpecs() {
+        return asyncSpecs;
+    }
+
+    public void setAsyncSpecs(String asyncSpecs) {
+        this.asyncSpecs = asyncSpecs;
+    }
+
+    public int getAsyncThreads() {
+        return asyncThreads;
+    }
+
+    public void setAsyncThreads(int asyncThreads) {
+        this.asyncThreads = asyncThreads;
+    }
+
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    public AsyncRejectionPolicy getAsyncRejectionPolicy() {
+        return asyncRejectionPolicy;
+    }
+
+    public void setAsyncRejectionPolicy(AsyncRejectionPolicy asyncRejectionPolicy) {
+        this.asyncRejectionPolicy = asyncRejectionPolicy;
+    }
 }
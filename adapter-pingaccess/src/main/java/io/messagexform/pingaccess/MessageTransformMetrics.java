@@ -12,7 +12,8 @@ import java.util.concurrent.atomic.LongAdder;
  *
  * <p>
  * All counters use {@link LongAdder} for contention-free concurrent updates.
- * Latency tracking uses {@link AtomicLong} for max/last values.
+ * Latency tracking uses {@link AtomicLong} for max/last values — for both
+ * transforms and spec reloads.
  *
  * <p>
  * PingAccess creates multiple rule instances per configuration (one per
@@ -49,6 +50,16 @@ final class MessageTransformMetrics implements MessageTransformMetricsMXBean {
     // --- Reload counters ---
     private final LongAdder reloadSuccessCount = new LongAdder();
     private final LongAdder reloadFailureCount = new LongAdder();
+    private final LongAdder reloadSkippedCount = new LongAdder();
+    private final AtomicLong lastReloadTimeMs = new AtomicLong();
+    private final AtomicLong maxReloadTimeMs = new AtomicLong();
+    private final AtomicLong lastReloadChangedFiles = new AtomicLong();
+
+    // --- Async offload counters ---
+    private final LongAdder asyncOffloadedCount = new LongAdder();
+    private final LongAdder asyncRejectedCount = new LongAdder();
+    private final AtomicLong asyncQueueDepth = new AtomicLong();
+    private final AtomicLong maxAsyncQueueDepth = new AtomicLong();
 
     // --- Active spec count (set externally) ---
     private final AtomicLong activeSpecCount = new AtomicLong();
@@ -89,6 +100,30 @@ final class MessageTransformMetrics implements MessageTransformMetricsMXBean {
         reloadFailureCount.increment();
     }
 
+    void recordReloadSkipped() {
+        reloadSkippedCount.increment();
+    }
+
+    void recordReloadDuration(long durationMs, int changedFiles) {
+        lastReloadTimeMs.set(durationMs);
+        maxReloadTimeMs.accumulateAndGet(durationMs, Math::max);
+        lastReloadChangedFiles.set(changedFiles);
+    }
+
+    void recordAsyncOffloaded() {
+        asyncOffloadedCount.increment();
+    }
+
+    void recordAsyncRejected() {
+        asyncRejectedCount.increment();
+    }
+
+    /** Adjusts the async queue depth: +1 when a transform is queued, -1 when it starts or is refused. */
+    void recordAsyncQueued(int delta) {
+        long depth = asyncQueueDepth.addAndGet(delta);
+        maxAsyncQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
     void setActiveSpecCount(long count) {
         activeSpecCount.set(count);
     }
@@ -130,6 +165,26 @@ final class MessageTransformMetrics implements MessageTransformMetricsMXBean {
         return reloadFailureCount.sum();
     }
 
+    @Override
+    public long getReloadSkippedCount() {
+        return reloadSkippedCount.sum();
+    }
+
+    @Override
+    public long getLastReloadTimeMs() {
+        return lastReloadTimeMs.get();
+    }
+
+    @Override
+    public long getMaxReloadTimeMs() {
+        return maxReloadTimeMs.get();
+    }
+
+    @Override
+    public long getLastReloadChangedFileCount() {
+        return lastReloadChangedFiles.get();
+    }
+
     @Override
     public long getActiveSpecCount() {
         return activeSpecCount.get();
@@ -154,6 +209,26 @@ final class MessageTransformMetrics implements MessageTransformMetricsMXBean {
         return lastTransformTimeMs.get();
     }
 
+    @Override
+    public long getAsyncOffloadedCount() {
+        return asyncOffloadedCount.sum();
+    }
+
+    @Override
+    public long getAsyncRejectedCount() {
+        return asyncRejectedCount.sum();
+    }
+
+    @Override
+    public long getAsyncQueueDepth() {
+        return asyncQueueDepth.get();
+    }
+
+    @Override
+    public long getMaxAsyncQueueDepth() {
+        return maxAsyncQueueDepth.get();
+    }
+
     @Override
     public void resetMetrics() {
         successCount.reset();
@@ -162,11 +237,18 @@ final class MessageTransformMetrics implements MessageTransformMetricsMXBean {
         denyCount.reset();
         reloadSuccessCount.reset();
         reloadFailureCount.reset();
+        reloadSkippedCount.reset();
+        lastReloadTimeMs.set(0);
+        maxReloadTimeMs.set(0);
+        lastReloadChangedFiles.set(0);
         totalTransformTimeMs.reset();
         totalTransformCount.reset();
         maxTransformTimeMs.set(0);
         lastTransformTimeMs.set(0);
-        // activeSpecCount is NOT reset — it reflects current engine state
+        asyncOffloadedCount.reset();
+        asyncRejectedCount.reset();
+        maxAsyncQueueDepth.set(asyncQueueDepth.get());
+        // activeSpecCount and asyncQueueDepth are NOT reset — they reflect current state
     }
 
     // ── Internal ──
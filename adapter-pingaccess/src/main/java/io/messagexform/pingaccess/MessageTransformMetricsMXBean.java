@@ -41,9 +41,35 @@ public interface MessageTransformMetricsMXBean {
     /** Failed reloads (malformed YAML). */
     long getReloadFailureCount();
 
+    /** Scheduled reloads skipped because no spec/profile file changed. */
+    long getReloadSkippedCount();
+
+    /** Duration of the most recent (non-skipped) reload in milliseconds. */
+    long getLastReloadTimeMs();
+
+    /** Max reload duration since startup (or last reset). */
+    long getMaxReloadTimeMs();
+
+    /** Files added, removed or modified that triggered the most recent reload. */
+    long getLastReloadChangedFileCount();
+
     /** Current number of loaded specs. */
     long getActiveSpecCount();
 
+    // --- Async offload (FR-002-15) ---
+
+    /** Transforms handed to the async worker pool. */
+    long getAsyncOffloadedCount();
+
+    /** Offloads refused because the async queue was full. */
+    long getAsyncRejectedCount();
+
+    /** Offloaded transforms currently waiting for a worker. */
+    long getAsyncQueueDepth();
+
+    /** Highest async queue depth since startup (or last reset). */
+    long getMaxAsyncQueueDepth();
+
     // --- Latency (milliseconds) ---
 
     /** Rolling average transform duration in milliseconds. */
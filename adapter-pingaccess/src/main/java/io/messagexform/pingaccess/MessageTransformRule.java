@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pingidentity.pa.sdk.http.Exchange;
 import com.pingidentity.pa.sdk.http.ExchangeProperty;
 import com.pingidentity.pa.sdk.http.HttpStatus;
+import com.pingidentity.pa.sdk.http.Request;
 import com.pingidentity.pa.sdk.http.Response;
 import com.pingidentity.pa.sdk.http.ResponseBuilder;
 import com.pingidentity.pa.sdk.interceptor.Outcome;
+import com.pingidentity.pa.sdk.policy.Application;
 import com.pingidentity.pa.sdk.policy.AsyncRuleInterceptorBase;
 import com.pingidentity.pa.sdk.policy.ErrorHandlingCallback;
 import com.pingidentity.pa.sdk.policy.Rule;
@@ -16,31 +18,27 @@ import com.pingidentity.pa.sdk.policy.config.ErrorHandlerConfiguration;
 import com.pingidentity.pa.sdk.policy.error.RuleInterceptorErrorHandlingCallback;
 import com.pingidentity.pa.sdk.ui.ConfigurationBuilder;
 import com.pingidentity.pa.sdk.ui.ConfigurationField;
-import io.messagexform.core.engine.EngineRegistry;
 import io.messagexform.core.engine.SchemaValidationMode;
 import io.messagexform.core.engine.TransformEngine;
-import io.messagexform.core.engine.jslt.JsltExpressionEngine;
 import io.messagexform.core.model.Direction;
 import io.messagexform.core.model.Message;
+import io.messagexform.core.model.MessageBody;
 import io.messagexform.core.model.TransformContext;
 import io.messagexform.core.model.TransformResult;
-import io.messagexform.core.spec.SpecParser;
 import jakarta.annotation.PreDestroy;
 import jakarta.validation.ValidationException;
-import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
@@ -52,8 +50,9 @@ import org.slf4j.LoggerFactory;
  * core engine (FR-002-02, FR-002-03).
  *
  * <p>
- * Extends {@link AsyncRuleInterceptorBase} for future extensibility
- * (see spec §FR-002-02 async justification). The rule is registered with
+ * Extends {@link AsyncRuleInterceptorBase} (see spec §FR-002-02 async
+ * justification); heavy transforms can complete their stage on a worker pool
+ * (FR-002-15). The rule is registered with
  * {@code destination = Site} — agent rules cannot access request body or
  * handle responses (FR-002-03, Constraint 1).
  *
@@ -87,13 +86,22 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
     static final ExchangeProperty<TransformResultSummary> TRANSFORM_RESULT =
             ExchangeProperty.create("io.messagexform", "transformResult", TransformResultSummary.class);
 
+    /** RFC 9457 body for exchanges rejected by a full async queue (FR-002-15). */
+    private static final String OVERLOADED_PROBLEM = "{\"type\":\"urn:message-xform:error:overloaded\","
+            + "\"title\":\"Service Unavailable\",\"status\":503,\"detail\":\"Transform queue is full\"}";
+
     private TransformEngine engine;
     private PingAccessAdapter adapter;
     private ErrorMode errorMode = ErrorMode.PASS_THROUGH;
-    private ScheduledExecutorService reloadExecutor;
-    private MessageTransformConfig currentConfig;
+    /** Hold on the shared, compiled engine (FR-002-05); null until configured. */
+    private EngineCache.Lease engineLease;
+
     private MessageTransformMetrics metrics;
     private ObjectName jmxObjectName;
+    /** Async worker pool for heavy transforms (FR-002-15); null when disabled. */
+    private TransformOffload offload;
+    /** PA application name → keyed profile file (empty when not configured). */
+    private Map<String, Path> applicationProfiles = Map.of();
 
     /**
      * Factory for building error responses during DENY mode. Defaults to
@@ -120,8 +128,15 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
      * <li>Loads all {@code .yaml}/{@code .yml} spec files from specsDir.</li>
      * <li>Optionally loads a profile from profilesDir if
      * {@code activeProfile} is set.</li>
+     * <li>Loads one keyed profile per {@code applicationProfiles} line,
+     * selected at runtime by the exchange's PA application name.</li>
      * </ol>
      *
+     * <p>
+     * Steps 2–5 are skipped when another rule already compiled the same specs
+     * and profiles: the engine is taken from the JVM-wide {@link EngineCache}
+     * and released again by {@code @PreDestroy}.
+     *
      * @throws ValidationException if specsDir does not exist or spec parsing fails
      */
     @Override
@@ -141,40 +156,21 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
             throw new ValidationException("specsDir does not exist or is not a directory: " + specsPath);
         }
 
-        // Initialize engine with JSLT expression engine
-        EngineRegistry engineRegistry = new EngineRegistry();
-        engineRegistry.register(new JsltExpressionEngine());
-
         // Map schema validation mode from PA enum to core enum
         SchemaValidationMode svMode = config.getSchemaValidation() == SchemaValidation.STRICT
                 ? SchemaValidationMode.STRICT
                 : SchemaValidationMode.LENIENT;
 
-        SpecParser specParser = new SpecParser(engineRegistry);
-        engine = new TransformEngine(
-                specParser,
-                new io.messagexform.core.engine.ErrorResponseBuilder(),
-                io.messagexform.core.engine.EvalBudget.DEFAULT,
-                svMode);
-
-        // Initialize adapter
-        adapter = new PingAccessAdapter(new ObjectMapper());
+        // Initialize adapter, caching flattened identities unless disabled (FR-002-06)
+        SessionCache sessionCache = config.getSessionCacheSize() > 0
+                ? new SessionCache(config.getSessionCacheSize(), config.getSessionCacheTtlSec())
+                : null;
+        adapter = new PingAccessAdapter(new ObjectMapper(), sessionCache);
 
-        // Load specs from specsDir
-        List<Path> specFiles = collectYamlFiles(specsPath);
-        if (specFiles.isEmpty()) {
-            LOG.warn("No spec files found in {}", specsPath);
-        }
-        for (Path specFile : specFiles) {
-            try {
-                engine.loadSpec(specFile);
-                LOG.info("Loaded spec: {}", specFile.getFileName());
-            } catch (Exception e) {
-                throw new ValidationException("Failed to load spec " + specFile + ": " + e.getMessage());
-            }
-        }
+        // Resolve per-application profiles up front — a typo fails configure()
+        applicationProfiles = resolveApplicationProfiles(config);
 
-        // Load profile if configured (T-002-32: validate profilesDir — S-002-18)
+        // Validate the active profile (T-002-32: validate profilesDir — S-002-18)
         String activeProfile = config.getActiveProfile();
         if (activeProfile != null && !activeProfile.isEmpty()) {
             String profilesDirValue = config.getProfilesDir();
@@ -185,44 +181,37 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
             if (!Files.isDirectory(profilesPath)) {
                 throw new ValidationException("profilesDir does not exist or is not a directory: " + profilesPath);
             }
-            Path profileFile = profilesPath.resolve(activeProfile + ".yaml");
-            if (!Files.isRegularFile(profileFile)) {
-                profileFile = profilesPath.resolve(activeProfile + ".yml");
-            }
-            if (Files.isRegularFile(profileFile)) {
-                try {
-                    engine.loadProfile(profileFile);
-                    LOG.info("Loaded profile: {} from {}", activeProfile, profileFile);
-                } catch (Exception e) {
-                    throw new ValidationException("Failed to load profile " + activeProfile + ": " + e.getMessage());
-                }
-            } else {
-                throw new ValidationException("Profile file not found: " + activeProfile + " in " + profilesPath);
-            }
         }
 
-        // Wire error mode for runtime dispatch
-        this.errorMode = config.getErrorMode();
-        this.currentConfig = config;
-
-        // Start reload scheduler if interval > 0 (FR-002-04, T-002-25)
-        int reloadSec = config.getReloadIntervalSec();
-        if (reloadSec > 0) {
-            reloadExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "mxform-spec-reload");
-                t.setDaemon(true);
-                return t;
-            });
-            reloadExecutor.scheduleWithFixedDelay(this::reloadSpecs, reloadSec, reloadSec, TimeUnit.SECONDS);
-            LOG.info("Hot-reload scheduler started: interval={}s", reloadSec);
-        }
-
-        // Register JMX MBean if enabled (FR-002-14, T-002-28)
         // Use forInstance() — PA may create multiple rule objects for the same
         // configuration (one per engine/app binding). All must share one
         // metrics instance so the MBean reads the same counters they increment.
         String instanceName = config.getName() != null ? config.getName() : "default";
         this.metrics = MessageTransformMetrics.forInstance(instanceName);
+
+        // Compile specs and profiles, or share the engine of a rule with the
+        // same key and file contents. Hot reload runs on the shared scheduler.
+        String profilesDirValue = config.getProfilesDir();
+        EngineCache.Lease lease = EngineCache.shared()
+                .acquire(
+                        new EngineCache.Key(
+                                specsPath,
+                                profilesDirValue == null || profilesDirValue.isBlank()
+                                        ? null
+                                        : Paths.get(profilesDirValue).normalize(),
+                                activeProfile,
+                                applicationProfiles,
+                                svMode,
+                                config.getReloadIntervalSec()),
+                        metrics);
+        releaseEngine();
+        this.engineLease = lease;
+        this.engine = lease.engine();
+
+        // Wire error mode for runtime dispatch
+        this.errorMode = config.getErrorMode();
+
+        // Register JMX MBean if enabled (FR-002-14, T-002-28)
         if (config.getEnableJmxMetrics()) {
             try {
                 jmxObjectName = new ObjectName("io.messagexform:type=TransformMetrics,instance=" + instanceName);
@@ -238,6 +227,12 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
         }
         metrics.setActiveSpecCount(engine.specCount());
 
+        // Async offload of heavy transforms (FR-002-15) — opt-in
+        if (offload != null) {
+            offload.shutdown();
+        }
+        this.offload = TransformOffload.fromConfig(config, metrics);
+
         LOG.info(
                 "MessageTransformRule configured: specsDir={}, specs={}, profile={}",
                 config.getSpecsDir(),
@@ -256,15 +251,38 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
      * request body fails to parse as JSON, only header/URL transforms apply —
      * original raw bytes pass through to the backend.
      *
+     * <p>
+     * Exchanges that no profile entry could match are passed through before
+     * the body is read (see {@link #couldTransform}). Heavy exchanges are
+     * transformed on the async worker pool when offloading is configured
+     * (FR-002-15); the returned stage then completes on a worker.
+     *
      * @return CONTINUE or RETURN (DENY only)
      */
     @Override
     public CompletionStage<Outcome> handleRequest(Exchange exchange) {
         long start = System.nanoTime();
 
+        // 0. Envelope pre-check — unmatched exchanges never buffer the body
+        if (!couldTransform(exchange, Direction.REQUEST, null)) {
+            recordSkipped(exchange, "REQUEST", start);
+            return CompletableFuture.completedFuture(Outcome.CONTINUE);
+        }
+
+        // FR-002-15: heavy transforms run on the worker pool
+        TransformOffload offload = this.offload;
+        if (offload != null && shouldOffload(offload, exchange, exchange.getRequest(), Direction.REQUEST, null)) {
+            return offload.submit(() -> transformRequest(exchange, start), () -> rejectRequest(exchange, start));
+        }
+        return CompletableFuture.completedFuture(transformRequest(exchange, start));
+    }
+
+    /** Wraps, transforms and applies the request on the calling thread. */
+    private Outcome transformRequest(Exchange exchange, long start) {
         // 1. Wrap
-        Message wrapped = adapter.wrapRequest(exchange);
-        boolean bodyParseFailed = adapter.isBodyParseFailed();
+        PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+        Message wrapped = state.message();
+        boolean bodyParseFailed = state.bodyParseFailed();
         List<String> originalHeaderNames =
                 new ArrayList<>(wrapped.headers().toSingleValueMap().keySet());
 
@@ -272,7 +290,7 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
         TransformContext context = adapter.buildTransformContext(exchange, null, wrapped.session());
 
         // 3. Transform
-        TransformResult result = engine.transform(wrapped, Direction.REQUEST, context);
+        TransformResult result = transform(exchange, wrapped, Direction.REQUEST, context);
 
         long durationMs = (System.nanoTime() - start) / 1_000_000;
 
@@ -294,7 +312,7 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
                     metrics.recordSuccess(durationMs);
                 }
                 setTransformResultProperty(exchange, result, "REQUEST", durationMs);
-                yield CompletableFuture.completedFuture(Outcome.CONTINUE);
+                yield Outcome.CONTINUE;
             }
             case PASSTHROUGH -> {
                 LOG.debug("Request transform PASSTHROUGH: {} {}", wrapped.requestMethod(), wrapped.requestPath());
@@ -302,7 +320,7 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
                     metrics.recordPassthrough(durationMs);
                 }
                 setTransformResultProperty(exchange, result, "REQUEST", durationMs);
-                yield CompletableFuture.completedFuture(Outcome.CONTINUE);
+                yield Outcome.CONTINUE;
             }
             case ERROR -> handleRequestError(exchange, result, wrapped, durationMs);
         };
@@ -322,9 +340,36 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
 
         long start = System.nanoTime();
 
+        // 0. Envelope pre-check — unmatched exchanges never buffer the body
+        Integer status = exchange.getResponse().getStatusCode();
+        if (!couldTransform(exchange, Direction.RESPONSE, status)) {
+            recordSkipped(exchange, "RESPONSE", start);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // FR-002-15: heavy transforms run on the worker pool
+        TransformOffload offload = this.offload;
+        if (offload != null && shouldOffload(offload, exchange, exchange.getResponse(), Direction.RESPONSE, status)) {
+            return offload.submit(
+                    () -> {
+                        transformResponse(exchange, start);
+                        return null;
+                    },
+                    () -> {
+                        rejectResponse(exchange, start);
+                        return null;
+                    });
+        }
+        transformResponse(exchange, start);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /** Wraps, transforms and applies the response on the calling thread. */
+    private void transformResponse(Exchange exchange, long start) {
         // 1. Wrap
-        Message wrapped = adapter.wrapResponse(exchange);
-        boolean bodyParseFailed = adapter.isBodyParseFailed();
+        PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+        Message wrapped = state.message();
+        boolean bodyParseFailed = state.bodyParseFailed();
         List<String> originalHeaderNames =
                 new ArrayList<>(wrapped.headers().toSingleValueMap().keySet());
 
@@ -333,7 +378,7 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
         TransformContext context = adapter.buildTransformContext(exchange, status, wrapped.session());
 
         // 3. Transform
-        TransformResult result = engine.transform(wrapped, Direction.RESPONSE, context);
+        TransformResult result = transform(exchange, wrapped, Direction.RESPONSE, context);
 
         long durationMs = (System.nanoTime() - start) / 1_000_000;
 
@@ -373,19 +418,129 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
             }
             case ERROR -> handleResponseError(exchange, result, wrapped, durationMs);
         }
+    }
 
-        return CompletableFuture.completedFuture(null);
+    /**
+     * Runs the engine with the profile selected for the exchange's PA
+     * application: its keyed profile if listed in {@code applicationProfiles},
+     * otherwise the active profile.
+     */
+    private TransformResult transform(
+            Exchange exchange, Message wrapped, Direction direction, TransformContext context) {
+        String profileKey = applicationProfileKey(exchange);
+        return profileKey != null
+                ? engine.transform(wrapped, direction, context, profileKey)
+                : engine.transform(wrapped, direction, context);
+    }
+
+    /**
+     * Envelope pre-check: asks the engine whether any entry of the exchange's
+     * profile could apply, from method, path and status alone. A {@code false}
+     * answer guarantees PASSTHROUGH, so the rule skips {@code Body.read()},
+     * JSON validation and wrapping altogether.
+     *
+     * <p>
+     * Content type is left unknown: the adapter derives the body's media type
+     * from the parsed bytes, not from the {@code Content-Type} header, so the
+     * header cannot rule an entry out.
+     */
+    private boolean couldTransform(Exchange exchange, Direction direction, Integer statusCode) {
+        Request request = exchange.getRequest();
+        return engine.couldMatch(
+                direction,
+                applicationProfileKey(exchange),
+                PingAccessAdapter.requestPath(request.getUri()),
+                request.getMethod().getName(),
+                null,
+                statusCode);
+    }
+
+    /** Records an exchange passed through by the envelope pre-check. */
+    private void recordSkipped(Exchange exchange, String direction, long start) {
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        LOG.debug("{} transform skipped — no candidate entry, body not read", direction);
+        if (metrics != null) {
+            metrics.recordPassthrough(durationMs);
+        }
+        setTransformResultProperty(exchange, TransformResult.passthrough(), direction, durationMs);
+    }
+
+    /**
+     * Returns the exchange's application name if it has a keyed profile, else
+     * {@code null}. Costs nothing when no application profiles are configured.
+     */
+    private String applicationProfileKey(Exchange exchange) {
+        if (applicationProfiles.isEmpty() || exchange.getPolicyConfiguration() == null) {
+            return null;
+        }
+        Application application = exchange.getPolicyConfiguration().getApplication();
+        String name = application != null ? application.getName() : null;
+        return name != null && applicationProfiles.containsKey(name) ? name : null;
+    }
+
+    /**
+     * Whether the exchange is heavy enough to transform on the worker pool
+     * (FR-002-15). Decided from headers and the envelope only.
+     */
+    private boolean shouldOffload(
+            TransformOffload offload,
+            Exchange exchange,
+            com.pingidentity.pa.sdk.http.Message message,
+            Direction direction,
+            Integer statusCode) {
+        Request request = exchange.getRequest();
+        return offload.shouldOffload(
+                engine,
+                message,
+                direction,
+                applicationProfileKey(exchange),
+                PingAccessAdapter.requestPath(request.getUri()),
+                request.getMethod().getName(),
+                statusCode);
     }
 
     // ── Error handlers ──
 
+    /**
+     * Async queue full with {@link AsyncRejectionPolicy#ERROR}: the request is
+     * handled as a 503 transform error per the configured error mode, without
+     * reading the body.
+     */
+    private Outcome rejectRequest(Exchange exchange, long start) {
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        return handleRequestError(exchange, overloaded(), envelope(exchange, null), durationMs);
+    }
+
+    /** Response counterpart of {@link #rejectRequest}. */
+    private void rejectResponse(Exchange exchange, long start) {
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        Integer status = exchange.getResponse().getStatusCode();
+        handleResponseError(exchange, overloaded(), envelope(exchange, status), durationMs);
+    }
+
+    private static TransformResult overloaded() {
+        return TransformResult.error(MessageBody.json(OVERLOADED_PROBLEM), 503);
+    }
+
+    /** Method, path and status only — enough for the error handlers' logging. */
+    private static Message envelope(Exchange exchange, Integer statusCode) {
+        Request request = exchange.getRequest();
+        return new Message(
+                MessageBody.empty(),
+                null,
+                statusCode,
+                PingAccessAdapter.requestPath(request.getUri()),
+                request.getMethod().getName(),
+                null,
+                null);
+    }
+
     /**
      * Handles ERROR result in request phase. PASS_THROUGH logs and continues;
      * DENY builds an RFC 9457 response, sets it on the exchange, and returns
      * RETURN.
      */
-    private CompletionStage<Outcome> handleRequestError(
-            Exchange exchange, TransformResult result, Message wrapped, long durationMs) {
+    private Outcome handleRequestError(Exchange exchange, TransformResult result, Message wrapped, long durationMs) {
         setTransformResultProperty(exchange, result, "REQUEST", durationMs);
 
         if (errorMode == ErrorMode.PASS_THROUGH) {
@@ -396,7 +551,7 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
             if (metrics != null) {
                 metrics.recordError(durationMs);
             }
-            return CompletableFuture.completedFuture(Outcome.CONTINUE);
+            return Outcome.CONTINUE;
         }
 
         // DENY mode: build RFC 9457 error response
@@ -414,7 +569,7 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
             metrics.recordDeny(durationMs);
         }
 
-        return CompletableFuture.completedFuture(Outcome.RETURN);
+        return Outcome.RETURN;
     }
 
     /**
@@ -524,6 +679,11 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
         this.adapter = adapter;
     }
 
+    /** Sets the async offload (test injection). */
+    void setOffload(TransformOffload offload) {
+        this.offload = offload;
+    }
+
     /** Sets the error mode (test injection). */
     void setErrorMode(ErrorMode errorMode) {
         this.errorMode = errorMode;
@@ -540,8 +700,9 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
     // ── Lifecycle ──
 
     /**
-     * Shuts down the reload scheduler and releases managed resources
-     * (T-002-14, T-002-25, FR-002-05).
+     * Releases the shared engine — stopping its reload task if this was the
+     * last rule holding it — and other managed resources (T-002-14, T-002-25,
+     * FR-002-05).
      *
      * <p>
      * Belt-and-suspenders with the daemon thread flag — ensures cleanup
@@ -549,9 +710,10 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
      */
     @PreDestroy
     void shutdown() {
-        if (reloadExecutor != null) {
-            reloadExecutor.shutdownNow();
-            LOG.info("Hot-reload scheduler shut down");
+        releaseEngine();
+        if (offload != null) {
+            offload.shutdown();
+            LOG.info("Async transform pool shut down");
         }
         // Unregister JMX MBean if registered (FR-002-14, T-002-28)
         if (jmxObjectName != null) {
@@ -570,46 +732,11 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
 
     // ── Internal helpers ──
 
-    /**
-     * Reload task executed by the scheduler (T-002-26, FR-002-04).
-     *
-     * <p>
-     * Resolves spec/profile paths from the current config and calls
-     * {@link TransformEngine#reload(List, Path)}. On any failure, logs a
-     * warning and retains the previous valid registry (NFR-001-05).
-     */
-    private void reloadSpecs() {
-        try {
-            Path specsPath = Paths.get(currentConfig.getSpecsDir());
-            List<Path> specFiles = collectYamlFiles(specsPath);
-
-            // Resolve profile path (null if no profile configured)
-            Path profilePath = null;
-            String activeProfile = currentConfig.getActiveProfile();
-            if (activeProfile != null && !activeProfile.isEmpty()) {
-                Path profilesPath = Paths.get(currentConfig.getProfilesDir());
-                profilePath = profilesPath.resolve(activeProfile + ".yaml");
-                if (!Files.isRegularFile(profilePath)) {
-                    profilePath = profilesPath.resolve(activeProfile + ".yml");
-                }
-                if (!Files.isRegularFile(profilePath)) {
-                    LOG.warn("Hot-reload: profile file not found: {} in {}", activeProfile, profilesPath);
-                    return;
-                }
-            }
-
-            engine.reload(specFiles, profilePath);
-            LOG.debug("Hot-reload completed: specs={}", engine.specCount());
-            if (metrics != null) {
-                metrics.recordReloadSuccess();
-                metrics.setActiveSpecCount(engine.specCount());
-            }
-        } catch (Exception e) {
-            // Retain previous valid registry on any failure (S-002-30)
-            LOG.warn("Hot-reload failed — retaining previous registry: {}", e.getMessage());
-            if (metrics != null) {
-                metrics.recordReloadFailure();
-            }
+    /** Releases this rule's hold on the shared engine (FR-002-05). */
+    private void releaseEngine() {
+        if (engineLease != null) {
+            engineLease.release();
+            engineLease = null;
         }
     }
 
@@ -623,9 +750,9 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
         return engine;
     }
 
-    /** Accessor for the reload executor — used by lifecycle tests. */
-    ScheduledExecutorService reloadExecutor() {
-        return reloadExecutor;
+    /** Accessor for the shared engine's reload task — used by lifecycle tests. */
+    Future<?> reloadTask() {
+        return engineLease != null ? engineLease.reloadTask() : null;
     }
 
     /** Accessor for the metrics — used by JMX integration tests. */
@@ -634,20 +761,58 @@ public class MessageTransformRule extends AsyncRuleInterceptorBase<MessageTransf
     }
 
     /**
-     * Collects all {@code .yaml} and {@code .yml} files from the given
-     * directory (non-recursive).
+     * Parses the {@code applicationProfiles} text: one
+     * {@code <application name>=<profile name>} mapping per line. Blank lines
+     * and lines starting with {@code #} are ignored; later lines win for a
+     * repeated application name.
+     *
+     * @throws IllegalArgumentException if a line has no {@code =} or an empty
+     *     side
      */
-    private List<Path> collectYamlFiles(Path dir) {
-        List<Path> files = new ArrayList<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.{yaml,yml}")) {
-            for (Path entry : stream) {
-                if (Files.isRegularFile(entry)) {
-                    files.add(entry);
-                }
+    static Map<String, String> parseApplicationProfiles(String text) {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        if (text == null || text.isBlank()) {
+            return mappings;
+        }
+        for (String rawLine : text.split("\\R")) {
+            String line = rawLine.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int eq = line.indexOf('=');
+            String application = eq > 0 ? line.substring(0, eq).strip() : "";
+            String profile = eq > 0 ? line.substring(eq + 1).strip() : "";
+            if (application.isEmpty() || profile.isEmpty()) {
+                throw new IllegalArgumentException("expected '<application name>=<profile name>', got '" + line + "'");
+            }
+            mappings.put(application, profile);
+        }
+        return mappings;
+    }
+
+    /**
+     * Resolves every {@code applicationProfiles} mapping to its profile file in
+     * {@code profilesDir}.
+     *
+     * @throws ValidationException if a line is malformed or a profile file is
+     *     missing
+     */
+    private static Map<String, Path> resolveApplicationProfiles(MessageTransformConfig config) {
+        Map<String, String> mappings;
+        try {
+            mappings = parseApplicationProfiles(config.getApplicationProfiles());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid applicationProfiles: " + e.getMessage());
+        }
+        Map<String, Path> resolved = new LinkedHashMap<>();
+        for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+            Path profileFile = EngineCache.resolveProfileFile(config.getProfilesDir(), mapping.getValue());
+            if (profileFile == null) {
+                throw new ValidationException("Profile file not found for application " + mapping.getKey() + ": "
+                        + mapping.getValue() + " in " + config.getProfilesDir());
             }
-        } catch (IOException e) {
-            LOG.warn("Failed to scan spec directory {}: {}", dir, e.getMessage());
+            resolved.put(mapping.getKey(), profileFile);
         }
-        return files;
+        return Map.copyOf(resolved);
     }
 }
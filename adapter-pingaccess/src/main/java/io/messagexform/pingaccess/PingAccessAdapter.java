@@ -24,13 +24,13 @@ import org.slf4j.LoggerFactory;
  * Bridges PingAccess {@link Exchange} data to the core engine's {@link Message}
  * record. The adapter creates <strong>deep copies</strong> of native data
  * (ADR-0013), handles JSON parse failures internally (spec §FR-002-01), and
- * tracks body parse state via {@link #isBodyParseFailed()}.
+ * reports the body parse outcome with each wrapped message ({@link Wrapped}).
  *
  * <p>
- * <strong>Thread safety:</strong> Parse-state is tracked via thread-local
- * storage so concurrent rule invocations cannot overwrite each other's
- * body-parse outcome before it is consumed by the rule orchestration
- * (NFR-002-03).
+ * <strong>Thread safety:</strong> The adapter is stateless per exchange — the
+ * body-parse outcome travels with the {@link Wrapped} result rather than in
+ * thread-local storage, so an exchange may be wrapped on one thread and
+ * transformed or applied on another (NFR-002-03).
  */
 class PingAccessAdapter implements GatewayAdapter<Exchange> {
 
@@ -41,24 +41,51 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
 
     private final ObjectMapper objectMapper;
 
-    /**
-     * Tracks whether the most recent body parse failed. Reset at the start
-     * of each {@code wrapRequest()} / {@code wrapResponse()} call. Used by
-     * {@code MessageTransformRule} to determine whether to skip body transforms
-     * and preserve the original raw body bytes (spec §FR-002-01, S-002-08).
-     */
-    private final ThreadLocal<Boolean> bodyParseFailed = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    /** Flattened identities reused across requests, or null to flatten every time. */
+    private final SessionCache sessionCache;
 
     PingAccessAdapter(ObjectMapper objectMapper) {
+        this(objectMapper, null);
+    }
+
+    PingAccessAdapter(ObjectMapper objectMapper, SessionCache sessionCache) {
         this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.sessionCache = sessionCache;
     }
 
+    /**
+     * A wrapped message and whether its body failed to parse (malformed JSON,
+     * read error, or non-JSON content). {@code MessageTransformRule} uses the
+     * flag to skip body transforms and preserve the original raw body
+     * (spec §FR-002-01, S-002-08).
+     */
+    record Wrapped(Message message, boolean bodyParseFailed) {}
+
+    /** A parsed body and whether parsing failed. */
+    private record ParsedBody(MessageBody body, boolean failed) {}
+
     // ── GatewayAdapter<Exchange> ──
 
     @Override
     public Message wrapRequest(Exchange exchange) {
-        bodyParseFailed.set(Boolean.FALSE);
+        return wrapRequestWithState(exchange).message();
+    }
 
+    @Override
+    public Message wrapResponse(Exchange exchange) {
+        return wrapResponseWithState(exchange).message();
+    }
+
+    @Override
+    public void applyChanges(Message transformedMessage, Exchange nativeTarget) {
+        // Deliberate — see spec §FR-002-01, applyChanges Direction Strategy
+        throw new UnsupportedOperationException("Use applyRequestChanges() or applyResponseChanges() directly");
+    }
+
+    // ── Wrapping with body parse state ──
+
+    /** {@link #wrapRequest}, with the body parse outcome (S-002-08). */
+    Wrapped wrapRequestWithState(Exchange exchange) {
         Request request = exchange.getRequest();
 
         // T-002-03: URI split → path + query string
@@ -81,18 +108,18 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
         HttpHeaders httpHeaders = mapHeaders(request.getHeaders());
 
         // T-002-05: body read + JSON parse fallback
-        MessageBody messageBody = readAndParseBody(request.getBody());
+        ParsedBody parsed = readAndParseBody(request.getBody());
 
         // T-002-06: statusCode = null for requests (ADR-0020)
         // T-002-18/19: session = identity merge (FR-002-06)
         SessionContext session = buildSessionContext(exchange);
-        return new Message(messageBody, httpHeaders, null, requestPath, requestMethod, queryString, session);
+        return new Wrapped(
+                new Message(parsed.body(), httpHeaders, null, requestPath, requestMethod, queryString, session),
+                parsed.failed());
     }
 
-    @Override
-    public Message wrapResponse(Exchange exchange) {
-        bodyParseFailed.set(Boolean.FALSE);
-
+    /** {@link #wrapResponse}, with the body parse outcome (S-002-08). */
+    Wrapped wrapResponseWithState(Exchange exchange) {
         Request request = exchange.getRequest();
         Response response = exchange.getResponse();
 
@@ -117,31 +144,16 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
         HttpHeaders httpHeaders = mapHeaders(response.getHeaders());
 
         // Response body (same parse strategy as request)
-        MessageBody messageBody = readAndParseBody(response.getBody());
+        ParsedBody parsed = readAndParseBody(response.getBody());
 
         // T-002-18/19: session = identity merge (FR-002-06)
         SessionContext session = buildSessionContext(exchange);
 
         LOG.debug("wrapResponse: {} {} -> status={}", requestMethod, requestPath, statusCode);
 
-        return new Message(messageBody, httpHeaders, statusCode, requestPath, requestMethod, queryString, session);
-    }
-
-    @Override
-    public void applyChanges(Message transformedMessage, Exchange nativeTarget) {
-        // Deliberate — see spec §FR-002-01, applyChanges Direction Strategy
-        throw new UnsupportedOperationException("Use applyRequestChanges() or applyResponseChanges() directly");
-    }
-
-    // ── Body parse state ──
-
-    /**
-     * Returns {@code true} if the most recent body parse failed (malformed JSON,
-     * read error, or non-JSON content). Used by {@code MessageTransformRule} to
-     * skip body transforms and preserve the original raw body (S-002-08).
-     */
-    boolean isBodyParseFailed() {
-        return bodyParseFailed.get();
+        return new Wrapped(
+                new Message(parsed.body(), httpHeaders, statusCode, requestPath, requestMethod, queryString, session),
+                parsed.failed());
     }
 
     // ── Session context construction (T-002-18, T-002-19, FR-002-06) ──
@@ -174,6 +186,10 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
      * objects ({@code String}, {@code List}, {@code Map}, etc.) so that
      * {@link SessionContext} remains Jackson-free (ADR-0032, ADR-0033).
      *
+     * <p>
+     * With a {@link SessionCache}, layers 1–3 are flattened once per token and
+     * only layer 4 is merged per request.
+     *
      * @param exchange the native PA exchange
      * @return session context for engine evaluation
      */
@@ -182,7 +198,27 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
         if (identity == null) {
             return SessionContext.empty();
         }
+        if (sessionCache != null) {
+            return sessionCache.session(identity, this::flattenIdentity, this::jsonNodeToJavaObject);
+        }
+
+        Map<String, Object> flat = flattenIdentity(identity);
+
+        // Layer 4: Session state (spread into flat namespace — highest precedence)
+        SessionStateSupport sss = identity.getSessionStateSupport();
+        if (sss != null && sss.getAttributes() != null) {
+            sss.getAttributes().forEach((key, value) -> flat.put(key, jsonNodeToJavaObject(value)));
+        }
+
+        return SessionContext.of(flat);
+    }
 
+    /**
+     * Flattens layers 1–3 of {@code identity} into a new mutable map — the part
+     * of the session that is fixed for the lifetime of a token and can be
+     * cached by {@link SessionCache}.
+     */
+    private Map<String, Object> flattenIdentity(Identity identity) {
         Map<String, Object> flat = new LinkedHashMap<>();
 
         // Layer 1: PA identity fields (base)
@@ -222,13 +258,7 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
                     .forEachRemaining(entry -> flat.put(entry.getKey(), jsonNodeToJavaObject(entry.getValue())));
         }
 
-        // Layer 4: Session state (spread into flat namespace — highest precedence)
-        SessionStateSupport sss = identity.getSessionStateSupport();
-        if (sss != null && sss.getAttributes() != null) {
-            sss.getAttributes().forEach((key, value) -> flat.put(key, jsonNodeToJavaObject(value)));
-        }
-
-        return SessionContext.of(flat);
+        return flat;
     }
 
     /**
@@ -415,7 +445,7 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
      * Like {@link #applyRequestChanges} but skips body replacement (S-002-08).
      *
      * <p>
-     * Used when {@link #isBodyParseFailed()} is {@code true}: the original raw
+     * Used when {@link Wrapped#bodyParseFailed()} is {@code true}: the original raw
      * bytes and Content-Type are preserved. Header and URI changes are still
      * applied.
      */
@@ -441,7 +471,7 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
      * Like {@link #applyResponseChanges} but skips body replacement (S-002-08).
      *
      * <p>
-     * Used when {@link #isBodyParseFailed()} is {@code true}: the original
+     * Used when {@link Wrapped#bodyParseFailed()} is {@code true}: the original
      * response body bytes and Content-Type are preserved. Header and status
      * changes are still applied.
      */
@@ -461,6 +491,16 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
 
     // ── Internal helpers ──
 
+    /**
+     * Returns the path portion of a request URI — everything before the first
+     * {@code ?} (T-002-03). Used by the rule's envelope pre-check, which must
+     * not wrap the exchange.
+     */
+    static String requestPath(String uri) {
+        int qIndex = uri.indexOf('?');
+        return qIndex >= 0 ? uri.substring(0, qIndex) : uri;
+    }
+
     /**
      * Converts PA SDK {@link Headers} to core {@link HttpHeaders} (T-002-04).
      *
@@ -507,53 +547,50 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
 
     /**
      * Pre-reads the body, validates as JSON, and returns a {@link MessageBody}
-     * (T-002-05). Sets {@link #bodyParseFailed} on read error or parse failure.
+     * (T-002-05), flagging a read error or parse failure.
      *
      * <p>
      * Strategy (spec §FR-002-01, JSON Parse Failure Strategy):
      * <ol>
      * <li>If {@code !body.isRead()}, call {@code body.read()} to load into memory.
      * On {@link IOException} or {@link AccessException}: return
-     * {@code MessageBody.empty()} and set {@code bodyParseFailed = true}.</li>
+     * {@code MessageBody.empty()}, flagged as failed.</li>
      * <li>Get content bytes via {@code body.getContent()}.</li>
      * <li>If content is null or empty: return {@code MessageBody.empty()}
      * (not a parse failure).</li>
      * <li>Validate as JSON via {@code objectMapper.readTree(bytes)}.</li>
      * <li>On success: {@code MessageBody.json(bytes)}.</li>
-     * <li>On failure: {@code MessageBody.empty()} + log warning +
-     * {@code bodyParseFailed = true}.</li>
+     * <li>On failure: {@code MessageBody.empty()} + log warning, flagged as
+     * failed.</li>
      * </ol>
      */
-    private MessageBody readAndParseBody(Body paBody) {
+    private ParsedBody readAndParseBody(Body paBody) {
         // Step 1: pre-read if needed
         if (!paBody.isRead()) {
             try {
                 paBody.read();
             } catch (IOException e) {
                 LOG.warn("Failed to read body: {}", e.getMessage(), e);
-                bodyParseFailed.set(Boolean.TRUE);
-                return MessageBody.empty();
+                return new ParsedBody(MessageBody.empty(), true);
             } catch (AccessException e) {
                 LOG.warn("Body read denied ({}): {}", e.getErrorStatus(), e.getMessage(), e);
-                bodyParseFailed.set(Boolean.TRUE);
-                return MessageBody.empty();
+                return new ParsedBody(MessageBody.empty(), true);
             }
         }
 
         // Step 2-3: get content bytes
         byte[] content = paBody.getContent();
         if (content == null || content.length == 0) {
-            return MessageBody.empty();
+            return new ParsedBody(MessageBody.empty(), false);
         }
 
         // Step 4-6: validate as JSON
         try {
             objectMapper.readTree(content);
-            return MessageBody.json(content);
+            return new ParsedBody(MessageBody.json(content), false);
         } catch (IOException e) {
             LOG.warn("Body is not valid JSON ({} bytes), using empty body: {}", content.length, e.getMessage());
-            bodyParseFailed.set(Boolean.TRUE);
-            return MessageBody.empty();
+            return new ParsedBody(MessageBody.empty(), true);
         }
     }
 
@@ -587,30 +624,26 @@ class PingAccessAdapter implements GatewayAdapter<Exchange> {
     private void applyHeaderDiff(List<String> originalNames, HttpHeaders transformedHeaders, Headers paHeaders) {
         Map<String, String> transformedMap = transformedHeaders.toSingleValueMap();
 
-        // Filter protected headers from both sets
+        // Filter protected headers from the original set
         Set<String> origSet = new LinkedHashSet<>(originalNames);
         origSet.removeAll(PROTECTED_HEADERS);
 
-        Set<String> transSet = new LinkedHashSet<>(transformedMap.keySet());
-        transSet.removeAll(PROTECTED_HEADERS);
-
-        // Headers in transformed but not in original → add (new headers)
-        for (String name : transSet) {
-            if (!origSet.contains(name)) {
-                paHeaders.add(name, transformedMap.get(name));
+        // Headers in transformed and original → update; only in transformed → add
+        for (Map.Entry<String, String> header : transformedMap.entrySet()) {
+            String name = header.getKey();
+            if (PROTECTED_HEADERS.contains(name)) {
+                continue;
             }
-        }
-
-        // Headers in both → update
-        for (String name : transSet) {
             if (origSet.contains(name)) {
-                paHeaders.setValues(name, List.of(transformedMap.get(name)));
+                paHeaders.setValues(name, List.of(header.getValue()));
+            } else {
+                paHeaders.add(name, header.getValue());
             }
         }
 
         // Headers in original but not in transformed → remove
         for (String name : origSet) {
-            if (!transSet.contains(name)) {
+            if (!transformedMap.containsKey(name)) {
                 paHeaders.removeFields(name);
             }
         }
@@ -0,0 +1,212 @@
+package io.messagexform.pingaccess;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pingidentity.pa.sdk.identity.Identity;
+import com.pingidentity.pa.sdk.identity.SessionStateSupport;
+import io.messagexform.core.model.SessionContext;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, expiring cache of flattened PingAccess identities (FR-002-06).
+ *
+ * <p>
+ * Flattening layers 1–3 of an {@link Identity} — identity getters, OAuth
+ * metadata and {@code Identity.getAttributes()} converted node by node — is
+ * the same for every request carrying the same token. Entries are keyed by
+ * {@code tokenId}, or {@code trackingId} when there is no token, and live
+ * until the token expires, capped at {@code maxTtl}. A hit is only used if
+ * its {@code subject} and {@code mappedSubject} still match, since an earlier
+ * rule may remap the subject.
+ *
+ * <p>
+ * Layer 4 (session state) can change between requests, so it is merged per
+ * entry on top of the cached layers: the entry keeps the last state it
+ * merged, and only converts the state attributes again when they differ. The
+ * returned {@link SessionContext} instances are reused, so the engine's JSON
+ * conversion of {@code $session} is cached with them
+ * ({@link SessionContext#convert}).
+ *
+ * <p>
+ * At most about {@code maxEntries} are kept: when the map is full, expired
+ * entries are swept at most once per second; if none has expired, the
+ * identity is flattened without caching.
+ *
+ * <p>
+ * Thread-safe.
+ */
+final class SessionCache {
+
+    /** Minimum time between two sweeps of a full cache. */
+    static final long SWEEP_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+
+    /** Layer 4 state last merged into an entry, and the result. */
+    private record Merged(Map<String, JsonNode> state, SessionContext context) {}
+
+    /** Cached layers 1–3 of one token or session. */
+    private static final class Entry {
+        final String subject;
+        final String mappedSubject;
+        final Map<String, Object> base;
+        final SessionContext baseContext;
+        final long expiresAt;
+        volatile Merged merged;
+
+        Entry(Identity identity, Map<String, Object> base, long expiresAt) {
+            this.subject = identity.getSubject();
+            this.mappedSubject = identity.getMappedSubject();
+            this.base = base;
+            this.baseContext = SessionContext.of(base);
+            this.expiresAt = expiresAt;
+        }
+
+        boolean matches(Identity identity, long now) {
+            return expiresAt > now
+                    && Objects.equals(subject, identity.getSubject())
+                    && Objects.equals(mappedSubject, identity.getMappedSubject());
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxTtlMillis;
+    private final LongSupplier millisClock;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(Long.MIN_VALUE);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxEntries   maximum number of cached identities
+     * @param maxTtlSec    upper bound on an entry's lifetime; also the lifetime
+     *                     of identities without a token expiration
+     */
+    SessionCache(int maxEntries, int maxTtlSec) {
+        this(maxEntries, maxTtlSec, System::currentTimeMillis);
+    }
+
+    /** Test seam: {@code millisClock} replaces {@link System#currentTimeMillis()}. */
+    SessionCache(int maxEntries, int maxTtlSec, LongSupplier millisClock) {
+        this.maxEntries = maxEntries;
+        this.maxTtlMillis = TimeUnit.SECONDS.toMillis(maxTtlSec);
+        this.millisClock = millisClock;
+    }
+
+    /**
+     * Returns the session context for {@code identity}.
+     *
+     * @param identity the exchange's identity (non-null)
+     * @param flatten  flattens layers 1–3 into a new mutable map
+     * @param convert  converts a session-state value to a plain Java object
+     * @return the flattened session, with session state merged on top
+     */
+    SessionContext session(
+            Identity identity, Function<Identity, Map<String, Object>> flatten, Function<JsonNode, Object> convert) {
+        Map<String, JsonNode> state = sessionState(identity);
+        String key = key(identity);
+        long now = millisClock.getAsLong();
+        if (key == null) {
+            return merge(flatten.apply(identity), state, convert);
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.matches(identity, now)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = new Entry(identity, flatten.apply(identity), expiresAt(identity, now));
+            if (entry.expiresAt <= now || !store(key, entry, now)) {
+                return merge(new LinkedHashMap<>(entry.base), state, convert);
+            }
+        }
+
+        if (state == null || state.isEmpty()) {
+            return entry.baseContext;
+        }
+        Merged merged = entry.merged;
+        if (merged != null && merged.state().equals(state)) {
+            return merged.context();
+        }
+        // Deep copies, so a state node modified in place is still seen as a change
+        Map<String, JsonNode> snapshot = new LinkedHashMap<>();
+        state.forEach((name, value) -> snapshot.put(name, value != null ? value.deepCopy() : null));
+        SessionContext context = merge(new LinkedHashMap<>(entry.base), snapshot, convert);
+        entry.merged = new Merged(snapshot, context);
+        return context;
+    }
+
+    /** Cached identities. */
+    int size() {
+        return entries.size();
+    }
+
+    /** Lookups answered from the cache. */
+    long hits() {
+        return hits.sum();
+    }
+
+    /** Lookups that flattened the identity. */
+    long misses() {
+        return misses.sum();
+    }
+
+    /** {@code tokenId}, else {@code trackingId}, namespaced; null if neither is set. */
+    private static String key(Identity identity) {
+        String tokenId = identity.getTokenId();
+        if (tokenId != null) {
+            return "t:" + tokenId;
+        }
+        String trackingId = identity.getTrackingId();
+        return trackingId != null ? "s:" + trackingId : null;
+    }
+
+    private static Map<String, JsonNode> sessionState(Identity identity) {
+        SessionStateSupport sss = identity.getSessionStateSupport();
+        return sss != null ? sss.getAttributes() : null;
+    }
+
+    /** Layer 4 spread over layers 1–3 (highest precedence). */
+    private static SessionContext merge(
+            Map<String, Object> flat, Map<String, JsonNode> state, Function<JsonNode, Object> convert) {
+        if (state != null) {
+            state.forEach((key, value) -> flat.put(key, convert.apply(value)));
+        }
+        return SessionContext.of(flat);
+    }
+
+    private long expiresAt(Identity identity, long now) {
+        long capped = now + maxTtlMillis;
+        Instant tokenExpiration = identity.getTokenExpiration();
+        return tokenExpiration != null ? Math.min(tokenExpiration.toEpochMilli(), capped) : capped;
+    }
+
+    /** Inserts {@code entry}, sweeping expired entries if full; false if there is no room. */
+    private boolean store(String key, Entry entry, long now) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            sweepExpired(now);
+            if (entries.size() >= maxEntries) {
+                return false;
+            }
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    /** Removes expired entries; one thread per sweep interval does the scan. */
+    private void sweepExpired(long now) {
+        long last = lastSweep.get();
+        if ((last != Long.MIN_VALUE && now - last < SWEEP_INTERVAL_MS) || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+}
@@ -0,0 +1,179 @@
+package io.messagexform.pingaccess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detects whether the spec/profile files behind a {@link MessageTransformRule}
+ * changed since the last reload (FR-002-04, T-002-26).
+ *
+ * <p>
+ * The scheduled reload task calls {@link #check(List, List)} on every tick
+ * and only re-parses specs when the returned {@link ChangeSet} reports
+ * changes. Detection is layered so that an idle tick costs one directory
+ * listing and one {@code stat} per file — no file reads:
+ * <ol>
+ * <li><b>Directory mtime</b> — if a watched directory's mtime moved (files
+ * added, removed, renamed or swapped, e.g. a Kubernetes ConfigMap
+ * {@code ..data} symlink flip), every file in the set is re-hashed.</li>
+ * <li><b>File size + mtime</b> — otherwise, only files whose size or mtime
+ * changed are re-hashed.</li>
+ * <li><b>Content hash (SHA-256)</b> — a file counts as changed only if its
+ * content hash differs. A {@code touch} without edits is not a change.</li>
+ * </ol>
+ *
+ * <p>
+ * File-system timestamps are coarse (1–2 s on some file systems), so a file
+ * or directory whose mtime was within {@link #RACY_WINDOW_MS} of the moment it
+ * was fingerprinted is re-hashed on the next check even if its stat matches.
+ * This is the same "racily clean" rule git uses for its index.
+ *
+ * <p>
+ * Thread safety: not thread-safe. Used only by the single reload thread (and
+ * by {@code configure()} before the scheduler starts).
+ */
+final class SpecChangeDetector {
+
+    /** Window (ms) in which a same-stat file may still hide an edit. */
+    static final long RACY_WINDOW_MS = 2_000;
+
+    private Map<Path, FileState> files = Map.of();
+    private Map<Path, FileState> dirs = Map.of();
+    private boolean primed;
+
+    /**
+     * Fingerprints the given directories and files and compares them with
+     * the last {@linkplain #commit(ChangeSet) committed} state.
+     *
+     * @param watchedDirs directories whose mtime signals add/remove/rename
+     * @param watchedFiles spec and profile files currently in the set
+     * @return the change set; pass it to {@link #commit(ChangeSet)} once the
+     *     reload has been attempted
+     * @throws IOException if a file cannot be read or stat'ed
+     */
+    ChangeSet check(List<Path> watchedDirs, List<Path> watchedFiles) throws IOException {
+        long now = System.currentTimeMillis();
+
+        Map<Path, FileState> newDirs = new HashMap<>();
+        boolean dirsMoved = !primed;
+        for (Path dir : watchedDirs) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            long mtime = Files.getLastModifiedTime(dir).toMillis();
+            FileState state = new FileState(0, mtime, null, now - mtime < RACY_WINDOW_MS);
+            newDirs.put(dir, state);
+            FileState previous = dirs.get(dir);
+            if (previous == null || previous.mtimeMillis() != mtime || previous.racy()) {
+                dirsMoved = true;
+            }
+        }
+        if (!newDirs.keySet().equals(dirs.keySet())) {
+            dirsMoved = true;
+        }
+
+        Map<Path, FileState> newFiles = new HashMap<>();
+        int changed = 0;
+        for (Path file : watchedFiles) {
+            long size = Files.size(file);
+            long mtime = Files.getLastModifiedTime(file).toMillis();
+            FileState previous = files.get(file);
+            boolean statMatches =
+                    previous != null && previous.size() == size && previous.mtimeMillis() == mtime && !previous.racy();
+            String hash = !dirsMoved && statMatches ? previous.sha256() : sha256(file);
+            newFiles.put(file, new FileState(size, mtime, hash, now - mtime < RACY_WINDOW_MS));
+            if (previous == null || !previous.sha256().equals(hash)) {
+                changed++;
+            }
+        }
+        for (Path previousFile : files.keySet()) {
+            if (!newFiles.containsKey(previousFile)) {
+                changed++; // removed
+            }
+        }
+        return new ChangeSet(changed, newFiles, newDirs);
+    }
+
+    /**
+     * Records {@code changeSet} as the new baseline. Committed after both
+     * successful and failed reloads — an unchanged broken file set would only
+     * fail again, so it is not re-parsed until a file changes.
+     */
+    void commit(ChangeSet changeSet) {
+        this.files = changeSet.files;
+        this.dirs = changeSet.dirs;
+        this.primed = true;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Fingerprint of one file or directory ({@code sha256} is null for directories). */
+    private record FileState(long size, long mtimeMillis, String sha256, boolean racy) {}
+
+    /**
+     * Result of {@link #check(List, List)}.
+     */
+    static final class ChangeSet {
+        private final int changedFiles;
+        private final Map<Path, FileState> files;
+        private final Map<Path, FileState> dirs;
+
+        private ChangeSet(int changedFiles, Map<Path, FileState> files, Map<Path, FileState> dirs) {
+            this.changedFiles = changedFiles;
+            this.files = Map.copyOf(files);
+            this.dirs = Map.copyOf(dirs);
+        }
+
+        /** Files added, removed or modified (by content) since the last commit. */
+        int changedFiles() {
+            return changedFiles;
+        }
+
+        /** Returns {@code true} if a reload is needed. */
+        boolean hasChanges() {
+            return changedFiles > 0;
+        }
+
+        /**
+         * SHA-256 over every watched file's path and content hash — equal for
+         * two file sets with identical contents, regardless of mtimes.
+         */
+        String contentHash() {
+            MessageDigest digest = newDigest();
+            files.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+                digest.update(entry.getKey().toString().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(entry.getValue().sha256().getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) '\n');
+            });
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package io.messagexform.pingaccess;
+
+import com.pingidentity.pa.sdk.http.Body;
+import com.pingidentity.pa.sdk.http.Headers;
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.model.Direction;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opt-in offloading of heavy transforms from PingAccess engine threads to a
+ * bounded worker pool (FR-002-15).
+ *
+ * <p>
+ * An exchange is offloaded when its body is at least {@code asyncThresholdKb}
+ * — judged from {@code Content-Length}, or the body length if PingAccess has
+ * already read it — or when one of the {@code asyncSpecs} could transform it
+ * ({@link TransformEngine#couldMatchSpecs}). Neither check reads the body.
+ * The rule then returns an incomplete {@link CompletionStage} and the whole
+ * wrap → transform → apply sequence runs on a worker.
+ *
+ * <p>
+ * The pool has {@code asyncThreads} threads and a queue of
+ * {@code asyncQueueCapacity}. When the queue is full the
+ * {@link AsyncRejectionPolicy} decides: run on the calling thread, or fail the
+ * exchange as a transform error. Queue depth, offloads and rejections are
+ * reported through {@link MessageTransformMetrics}.
+ *
+ * <p>
+ * Thread-safe.
+ */
+final class TransformOffload {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransformOffload.class);
+
+    private final long thresholdBytes;
+    private final Set<String> specIds;
+    private final AsyncRejectionPolicy rejectionPolicy;
+    private final MessageTransformMetrics metrics;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param thresholdBytes  body size from which exchanges are offloaded, or
+     *                        0 to ignore size
+     * @param specIds         specs whose exchanges are always offloaded
+     * @param threads         worker threads
+     * @param queueCapacity   offloaded exchanges that may wait for a worker
+     * @param rejectionPolicy what to do when the queue is full
+     * @param metrics         queue and rejection metrics (may be null)
+     */
+    TransformOffload(
+            long thresholdBytes,
+            Set<String> specIds,
+            int threads,
+            int queueCapacity,
+            AsyncRejectionPolicy rejectionPolicy,
+            MessageTransformMetrics metrics) {
+        this.thresholdBytes = thresholdBytes;
+        this.specIds = Set.copyOf(specIds);
+        this.rejectionPolicy = rejectionPolicy;
+        this.metrics = metrics;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "mxform-transform-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Builds the offload from the rule configuration, or returns {@code null}
+     * if neither a size threshold nor any spec is configured.
+     */
+    static TransformOffload fromConfig(MessageTransformConfig config, MessageTransformMetrics metrics) {
+        Set<String> specIds = parseSpecIds(config.getAsyncSpecs());
+        if (config.getAsyncThresholdKb() <= 0 && specIds.isEmpty()) {
+            return null;
+        }
+        LOG.info(
+                "Async transform offload enabled: thresholdKb={}, specs={}, threads={}, queue={}, rejection={}",
+                config.getAsyncThresholdKb(),
+                specIds,
+                config.getAsyncThreads(),
+                config.getAsyncQueueCapacity(),
+                config.getAsyncRejectionPolicy());
+        return new TransformOffload(
+                config.getAsyncThresholdKb() * 1024L,
+                specIds,
+                config.getAsyncThreads(),
+                config.getAsyncQueueCapacity(),
+                config.getAsyncRejectionPolicy(),
+                metrics);
+    }
+
+    /**
+     * Parses the {@code asyncSpecs} text: one spec id per line. Blank lines and
+     * lines starting with {@code #} are ignored.
+     */
+    static Set<String> parseSpecIds(String text) {
+        Set<String> ids = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return ids;
+        }
+        for (String rawLine : text.split("\\R")) {
+            String line = rawLine.strip();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                ids.add(line);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Whether the exchange should be transformed on a worker: its body is at
+     * least the threshold, or a flagged spec could transform it.
+     *
+     * @param message the PA request or response about to be transformed
+     */
+    boolean shouldOffload(
+            TransformEngine engine,
+            com.pingidentity.pa.sdk.http.Message message,
+            Direction direction,
+            String profileKey,
+            String requestPath,
+            String method,
+            Integer statusCode) {
+        if (thresholdBytes > 0 && bodyLength(message) >= thresholdBytes) {
+            return true;
+        }
+        return !specIds.isEmpty()
+                && engine.couldMatchSpecs(specIds, direction, profileKey, requestPath, method, null, statusCode);
+    }
+
+    /**
+     * Runs {@code task} on a worker. If the queue is full, the rejection policy
+     * either runs {@code task} on the calling thread or returns the result of
+     * {@code onRejected}. Either way, an exception thrown by the task fails
+     * the returned stage instead of escaping this method.
+     *
+     * @return a stage completed with the task's result
+     */
+    <T> CompletionStage<T> submit(Supplier<T> task, Supplier<T> onRejected) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        queued(+1);
+        try {
+            executor.execute(() -> {
+                queued(-1);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued(-1);
+            if (metrics != null) {
+                metrics.recordAsyncRejected();
+            }
+            LOG.warn("Async transform queue full — {}", rejectionPolicy.name());
+            // Fail the stage like the worker path does, rather than throwing from submit()
+            try {
+                return CompletableFuture.completedFuture(
+                        rejectionPolicy == AsyncRejectionPolicy.CALLER_RUNS ? task.get() : onRejected.get());
+            } catch (RuntimeException failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+        if (metrics != null) {
+            metrics.recordAsyncOffloaded();
+        }
+        return future;
+    }
+
+    /** Offloaded exchanges waiting for a worker. */
+    int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting work. Exchanges already queued still complete, so
+     * PingAccess is never left waiting on an abandoned stage.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void queued(int delta) {
+        if (metrics != null) {
+            metrics.recordAsyncQueued(delta);
+        }
+    }
+
+    /** Body length if PA has read it, else {@code Content-Length}; -1 if unknown. */
+    private static long bodyLength(com.pingidentity.pa.sdk.http.Message message) {
+        Body body = message.getBody();
+        if (body != null && body.isRead()) {
+            return body.getLength();
+        }
+        Headers headers = message.getHeaders();
+        return headers != null ? headers.getContentLength() : -1;
+    }
+}
@@ -0,0 +1,214 @@
+package io.messagexform.pingaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pingidentity.pa.sdk.http.*;
+import com.pingidentity.pa.sdk.policy.Application;
+import com.pingidentity.pa.sdk.policy.PolicyConfiguration;
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.model.Direction;
+import io.messagexform.core.model.TransformContext;
+import io.messagexform.core.model.TransformResult;
+import jakarta.validation.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for per-application profiles — several profiles over one compiled
+ * spec set, selected by the exchange's PingAccess application name.
+ */
+class ApplicationProfileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path specsDir;
+    private Path profilesDir;
+    private MessageTransformRule rule;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        specsDir = Files.createDirectories(tempDir.resolve("specs"));
+        profilesDir = Files.createDirectories(tempDir.resolve("profiles"));
+        writeSpec("spec-a");
+        writeSpec("spec-b");
+        writeProfile("profile-a", "spec-a");
+        writeProfile("profile-b", "spec-b");
+        rule = new MessageTransformRule();
+    }
+
+    @AfterEach
+    void cleanup() {
+        rule.shutdown();
+    }
+
+    private void writeSpec(String id) throws Exception {
+        Files.writeString(
+                specsDir.resolve(id + ".yaml"),
+                String.join(
+                        "\n",
+                        "id: " + id,
+                        "version: '1'",
+                        "input:",
+                        "  schema:",
+                        "    type: object",
+                        "output:",
+                        "  schema:",
+                        "    type: object",
+                        "transform:",
+                        "  lang: jslt",
+                        "  expr: \".\""));
+    }
+
+    private void writeProfile(String id, String specId) throws Exception {
+        Files.writeString(
+                profilesDir.resolve(id + ".yaml"),
+                String.join(
+                        "\n",
+                        "profile: " + id,
+                        "version: '1'",
+                        "transforms:",
+                        "  - spec: " + specId + "@1",
+                        "    direction: request",
+                        "    match:",
+                        "      path: /api/test"));
+    }
+
+    private MessageTransformConfig config(String applicationProfiles) {
+        MessageTransformConfig config = new MessageTransformConfig();
+        config.setSpecsDir(specsDir.toString());
+        config.setProfilesDir(profilesDir.toString());
+        config.setActiveProfile("profile-b");
+        config.setApplicationProfiles(applicationProfiles);
+        return config;
+    }
+
+    @Nested
+    class Configuration {
+
+        @Test
+        void parseIgnoresBlankAndCommentLines() {
+            assertThat(MessageTransformRule.parseApplicationProfiles(
+                            "# tenants\n Orders API = profile-a \n\nBilling=profile-b\r\n"))
+                    .containsExactly(Map.entry("Orders API", "profile-a"), Map.entry("Billing", "profile-b"));
+            assertThat(MessageTransformRule.parseApplicationProfiles("")).isEmpty();
+            assertThat(MessageTransformRule.parseApplicationProfiles(null)).isEmpty();
+        }
+
+        @Test
+        void parseRejectsMalformedLine() {
+            assertThatThrownBy(() -> MessageTransformRule.parseApplicationProfiles("Orders API"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> MessageTransformRule.parseApplicationProfiles("=profile-a"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void configureLoadsKeyedProfilesOverSharedSpecs() {
+            rule.configure(config("Orders API=profile-a"));
+
+            TransformEngine engine = rule.engine();
+            assertThat(engine.activeProfile().id()).isEqualTo("profile-b");
+            assertThat(engine.registry().profiles()).containsOnlyKeys("Orders API");
+            assertThat(engine.registry().profile("Orders API").entries().get(0).spec())
+                    .isSameAs(engine.registry().getSpec("spec-a@1"));
+        }
+
+        @Test
+        void configureRejectsMissingApplicationProfile() {
+            assertThatThrownBy(() -> rule.configure(config("Orders API=does-not-exist")))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Orders API")
+                    .hasMessageContaining("does-not-exist");
+        }
+
+        @Test
+        void configureRejectsMalformedMapping() {
+            assertThatThrownBy(() -> rule.configure(config("Orders API")))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("applicationProfiles");
+        }
+    }
+
+    @Nested
+    class Selection {
+
+        private TransformEngine engine;
+        private Exchange exchange;
+        private Application application;
+
+        @BeforeEach
+        void wireExchange() {
+            rule.configure(config("Orders API=profile-a"));
+            engine = mock(TransformEngine.class);
+            // Envelope pre-check: every exchange is a candidate
+            when(engine.couldMatch(any(), any(), any(), any(), any(), any())).thenReturn(true);
+            rule.setEngine(engine);
+            rule.setAdapter(new PingAccessAdapter(new ObjectMapper()));
+            when(engine.transform(any(), any(), any(TransformContext.class))).thenReturn(TransformResult.passthrough());
+            when(engine.transform(any(), any(), any(TransformContext.class), any(String.class)))
+                    .thenReturn(TransformResult.passthrough());
+
+            exchange = mock(Exchange.class);
+            Request request = mock(Request.class);
+            Body body = mock(Body.class);
+            Headers headers = mock(Headers.class);
+            when(exchange.getRequest()).thenReturn(request);
+            when(request.getBody()).thenReturn(body);
+            when(request.getHeaders()).thenReturn(headers);
+            when(request.getMethod()).thenReturn(Method.POST);
+            when(request.getUri()).thenReturn("/api/test");
+            when(body.isRead()).thenReturn(true);
+            when(body.getContent()).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+            when(headers.getHeaderFields()).thenReturn(List.of());
+
+            PolicyConfiguration policy = mock(PolicyConfiguration.class);
+            application = mock(Application.class);
+            when(exchange.getPolicyConfiguration()).thenReturn(policy);
+            when(policy.getApplication()).thenReturn(application);
+        }
+
+        @Test
+        void mappedApplicationUsesItsKeyedProfile() {
+            when(application.getName()).thenReturn("Orders API");
+
+            rule.handleRequest(exchange);
+
+            verify(engine).transform(any(), eq(Direction.REQUEST), any(TransformContext.class), eq("Orders API"));
+        }
+
+        @Test
+        void envelopePreCheckUsesTheKeyedProfile() {
+            when(application.getName()).thenReturn("Orders API");
+
+            rule.handleRequest(exchange);
+
+            verify(engine)
+                    .couldMatch(
+                            eq(Direction.REQUEST), eq("Orders API"), eq("/api/test"), eq("POST"), isNull(), isNull());
+        }
+
+        @Test
+        void unmappedApplicationUsesActiveProfile() {
+            when(application.getName()).thenReturn("Billing");
+
+            rule.handleRequest(exchange);
+
+            verify(engine).transform(any(), eq(Direction.REQUEST), any(TransformContext.class));
+            verify(engine, never()).transform(any(), any(), any(TransformContext.class), any(String.class));
+        }
+    }
+}
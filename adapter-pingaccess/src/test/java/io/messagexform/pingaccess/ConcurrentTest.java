@@ -43,6 +43,8 @@ class ConcurrentTest {
     @BeforeEach
     void setUp() {
         engine = mock(TransformEngine.class);
+        // Envelope pre-check: every exchange is a candidate
+        when(engine.couldMatch(any(), any(), any(), any(), any(), any())).thenReturn(true);
         adapter = new PingAccessAdapter(MAPPER);
 
         rule = new MessageTransformRule();
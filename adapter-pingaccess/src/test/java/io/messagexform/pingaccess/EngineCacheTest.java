@@ -0,0 +1,143 @@
+package io.messagexform.pingaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.messagexform.core.engine.SchemaValidationMode;
+import jakarta.validation.ValidationException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link EngineCache} — engines shared across rule instances
+ * (FR-002-05).
+ */
+class EngineCacheTest {
+
+    private final EngineCache cache = new EngineCache();
+
+    private static void writeSpec(Path dir, String id) throws Exception {
+        Files.writeString(
+                dir.resolve(id + ".yaml"),
+                String.join(
+                        "\n",
+                        "id: " + id,
+                        "version: '1'",
+                        "input:",
+                        "  schema:",
+                        "    type: object",
+                        "output:",
+                        "  schema:",
+                        "    type: object",
+                        "transform:",
+                        "  lang: jslt",
+                        "  expr: \".\""));
+    }
+
+    private static EngineCache.Key key(Path specsDir, SchemaValidationMode mode, int reloadSec) {
+        return new EngineCache.Key(specsDir, null, null, Map.of(), mode, reloadSec);
+    }
+
+    private static void await(BooleanSupplier condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    void sameKeyAndContentShareOneEngine(@TempDir Path dir) throws Exception {
+        writeSpec(dir, "orders");
+
+        EngineCache.Lease first = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 0), null);
+        EngineCache.Lease second = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 0), null);
+
+        assertThat(second.engine()).isSameAs(first.engine());
+        assertThat(cache.size()).isEqualTo(1);
+
+        first.release();
+        first.release(); // idempotent
+        assertThat(cache.size()).isEqualTo(1);
+        second.release();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void differentContentOrSchemaModeCompilesAgain(@TempDir Path dir) throws Exception {
+        writeSpec(dir, "orders");
+        EngineCache.Lease original = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 0), null);
+        EngineCache.Lease strict = cache.acquire(key(dir, SchemaValidationMode.STRICT, 0), null);
+
+        writeSpec(dir, "invoices");
+        EngineCache.Lease edited = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 0), null);
+
+        assertThat(strict.engine()).isNotSameAs(original.engine());
+        assertThat(edited.engine()).isNotSameAs(original.engine());
+        assertThat(edited.engine().specCount()).isGreaterThan(original.engine().specCount());
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void failedLoadIsNotCached(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("broken.yaml"), "id: broken\nnot: [valid");
+
+        assertThatThrownBy(() -> cache.acquire(key(dir, SchemaValidationMode.LENIENT, 0), null))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Failed to load spec");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void sharedReloadReportsToEveryHolderAndRekeys(@TempDir Path dir) throws Exception {
+        writeSpec(dir, "orders");
+        MessageTransformMetrics metricsA = new MessageTransformMetrics();
+        MessageTransformMetrics metricsB = new MessageTransformMetrics();
+        EngineCache.Lease a = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 1), metricsA);
+        EngineCache.Lease b = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 1), metricsB);
+        assertThat(b.reloadTask()).isSameAs(a.reloadTask());
+        int initialCount = a.engine().specCount();
+
+        writeSpec(dir, "invoices");
+        await(() -> metricsA.getReloadSuccessCount() == 1 && metricsB.getReloadSuccessCount() == 1);
+
+        // A rule configured after the reload finds the engine under its new content hash
+        EngineCache.Lease late = cache.acquire(key(dir, SchemaValidationMode.LENIENT, 1), null);
+        assertThat(late.engine()).isSameAs(a.engine());
+        assertThat(late.engine().specCount()).isGreaterThan(initialCount);
+
+        Future<?> reloadTask = a.reloadTask();
+        a.release();
+        b.release();
+        assertThat(reloadTask.isCancelled()).isFalse();
+        late.release();
+        assertThat(reloadTask.isCancelled()).isTrue();
+    }
+
+    @Test
+    void rulesOnTheSameSpecsDirShareTheCompiledEngine(@TempDir Path dir) throws Exception {
+        writeSpec(dir, "orders");
+        MessageTransformConfig config = new MessageTransformConfig();
+        config.setSpecsDir(dir.toString());
+        MessageTransformRule first = new MessageTransformRule();
+        MessageTransformRule second = new MessageTransformRule();
+        first.configure(config);
+        second.configure(config);
+        try {
+            assertThat(second.engine()).isSameAs(first.engine());
+            int specCount = first.engine().specCount();
+
+            first.shutdown();
+            assertThat(second.engine().specCount()).isEqualTo(specCount).isPositive();
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+}
@@ -7,8 +7,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 /**
- * Tests for {@link ErrorMode} and {@link SchemaValidation} enums (T-002-01,
- * FR-002-04).
+ * Tests for {@link ErrorMode}, {@link SchemaValidation} and
+ * {@link AsyncRejectionPolicy} enums (T-002-01, FR-002-04).
  *
  * <p>
  * Verifies enum values, admin-UI labels (via {@code toString()}), and
@@ -73,4 +73,18 @@ class EnumTest {
     void schemaValidationValuesOrder() {
         assertThat(SchemaValidation.values()).containsExactly(SchemaValidation.STRICT, SchemaValidation.LENIENT);
     }
+
+    // ---- AsyncRejectionPolicy ----
+
+    @Test
+    void asyncRejectionPolicyLabels() {
+        assertThat(AsyncRejectionPolicy.CALLER_RUNS.toString()).isEqualTo("Run on PingAccess Thread");
+        assertThat(AsyncRejectionPolicy.ERROR.toString()).isEqualTo("Transform Error (503)");
+    }
+
+    @Test
+    void asyncRejectionPolicyValuesOrder() {
+        assertThat(AsyncRejectionPolicy.values())
+                .containsExactly(AsyncRejectionPolicy.CALLER_RUNS, AsyncRejectionPolicy.ERROR);
+    }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import org.junit.jupiter.api.Nested;
@@ -16,13 +17,15 @@ import org.junit.jupiter.api.io.TempDir;
  * S-002-29, S-002-30, S-002-31).
  *
  * <p>
- * T-002-25 covers scheduler lifecycle: daemon thread, @PreDestroy shutdown.
+ * T-002-25 covers scheduler lifecycle: shared daemon thread, reload task
+ * cancelled on @PreDestroy.
  * T-002-26 covers reload task robustness: success, failure recovery, profile
  * path resolution.
  *
  * <p>
  * All tests use real engine instances but configure short reload intervals
- * and verify outcomes through the engine's specCount() accessor.
+ * and verify outcomes through the engine's specCount() accessor (and the
+ * reload metrics for change detection).
  */
 class HotReloadTest {
 
@@ -54,8 +57,8 @@ class HotReloadTest {
 
             rule.configure(config);
 
-            // No background thread running
-            assertThat(rule.reloadExecutor()).isNull();
+            // No reload task scheduled
+            assertThat(rule.reloadTask()).isNull();
         }
 
         @Test
@@ -68,26 +71,30 @@ class HotReloadTest {
             rule.configure(config);
 
             try {
-                assertThat(rule.reloadExecutor()).isNotNull();
-                assertThat(rule.reloadExecutor().isShutdown()).isFalse();
+                assertThat(rule.reloadTask()).isNotNull();
+                assertThat(rule.reloadTask().isCancelled()).isFalse();
+                assertThat(Thread.getAllStackTraces().keySet())
+                        .anyMatch(t -> t.getName().equals("mxform-spec-reload") && t.isDaemon());
             } finally {
                 rule.shutdown();
             }
         }
 
         @Test
-        void shutdownTerminatesScheduler(@TempDir Path tempDir) throws Exception {
+        void shutdownCancelsReloadTask(@TempDir Path tempDir) throws Exception {
             MessageTransformRule rule = new MessageTransformRule();
             MessageTransformConfig config = new MessageTransformConfig();
             config.setSpecsDir(tempDir.toString());
             config.setReloadIntervalSec(5);
 
             rule.configure(config);
-            assertThat(rule.reloadExecutor()).isNotNull();
+            Future<?> reloadTask = rule.reloadTask();
+            assertThat(reloadTask).isNotNull();
 
             rule.shutdown();
 
-            assertThat(rule.reloadExecutor().isShutdown()).isTrue();
+            assertThat(reloadTask.isCancelled()).isTrue();
+            assertThat(rule.reloadTask()).isNull();
         }
 
         @Test
@@ -195,6 +202,34 @@ class HotReloadTest {
             }
         }
 
+        @Test
+        void unchangedFilesSkipReloadAndChangesAreCounted(@TempDir Path tempDir) throws Exception {
+            writeSpec(tempDir, "stable-spec");
+
+            MessageTransformRule rule = new MessageTransformRule();
+            MessageTransformConfig config = new MessageTransformConfig();
+            config.setName("change-detect-" + tempDir.getFileName());
+            config.setSpecsDir(tempDir.toString());
+            config.setReloadIntervalSec(1);
+
+            rule.configure(config);
+
+            try {
+                MessageTransformMetrics metrics = rule.metrics();
+
+                // Nothing changes on disk → ticks are skipped, no re-parse
+                awaitCondition(() -> metrics.getReloadSkippedCount() >= 1, "idle tick should skip reload");
+                assertThat(metrics.getReloadSuccessCount()).isZero();
+
+                // Adding a spec triggers exactly one reload covering one changed file
+                writeSpec(tempDir, "new-spec");
+                awaitCondition(() -> metrics.getReloadSuccessCount() == 1, "new spec should trigger a reload");
+                assertThat(metrics.getLastReloadChangedFileCount()).isEqualTo(1);
+            } finally {
+                rule.shutdown();
+            }
+        }
+
         @Test
         void reloadWithProfileResolvesPath(@TempDir Path tempDir) throws Exception {
             // Create spec
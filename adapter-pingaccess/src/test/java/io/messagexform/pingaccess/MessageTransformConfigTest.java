@@ -57,6 +57,24 @@ class MessageTransformConfigTest {
             assertThat(config.getEnableJmxMetrics()).isFalse();
         }
 
+        @Test
+        void sessionCacheDefaultsToTenThousandEntriesForFiveMinutes() {
+            var config = new MessageTransformConfig();
+            assertThat(config.getSessionCacheSize()).isEqualTo(10000);
+            assertThat(config.getSessionCacheTtlSec()).isEqualTo(300);
+        }
+
+        @Test
+        void asyncOffloadIsDisabledByDefault() {
+            var config = new MessageTransformConfig();
+            assertThat(config.getAsyncThresholdKb()).isZero();
+            assertThat(config.getAsyncSpecs()).isEmpty();
+            assertThat(config.getAsyncThreads()).isEqualTo(4);
+            assertThat(config.getAsyncQueueCapacity()).isEqualTo(256);
+            assertThat(config.getAsyncRejectionPolicy()).isEqualTo(AsyncRejectionPolicy.CALLER_RUNS);
+            assertThat(TransformOffload.fromConfig(config, null)).isNull();
+        }
+
         @Test
         void specsDirDefaultsToSlashSpecs() {
             var config = new MessageTransformConfig();
@@ -139,6 +157,53 @@ class MessageTransformConfigTest {
             Set<ConstraintViolation<MessageTransformConfig>> violations = validator.validate(config);
             assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("reloadIntervalSec"));
         }
+
+        @Test
+        void sessionCacheSizeZeroDisablesTheCache() {
+            var config = validConfig();
+            config.setSessionCacheSize(0);
+            assertThat(validator.validate(config)).isEmpty();
+        }
+
+        @Test
+        void sessionCacheSizeNegativeIsViolation() {
+            var config = validConfig();
+            config.setSessionCacheSize(-1);
+            Set<ConstraintViolation<MessageTransformConfig>> violations = validator.validate(config);
+            assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("sessionCacheSize"));
+        }
+
+        @Test
+        void sessionCacheTtlSecZeroIsViolation() {
+            var config = validConfig();
+            config.setSessionCacheTtlSec(0);
+            Set<ConstraintViolation<MessageTransformConfig>> violations = validator.validate(config);
+            assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("sessionCacheTtlSec"));
+        }
+
+        @Test
+        void asyncThreadsZeroIsViolation() {
+            var config = validConfig();
+            config.setAsyncThreads(0);
+            Set<ConstraintViolation<MessageTransformConfig>> violations = validator.validate(config);
+            assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("asyncThreads"));
+        }
+
+        @Test
+        void asyncQueueCapacityZeroIsViolation() {
+            var config = validConfig();
+            config.setAsyncQueueCapacity(0);
+            Set<ConstraintViolation<MessageTransformConfig>> violations = validator.validate(config);
+            assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("asyncQueueCapacity"));
+        }
+
+        @Test
+        void asyncRejectionPolicyNullIsViolation() {
+            var config = validConfig();
+            config.setAsyncRejectionPolicy(null);
+            Set<ConstraintViolation<MessageTransformConfig>> violations = validator.validate(config);
+            assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("asyncRejectionPolicy"));
+        }
     }
 
     // ---- Setter round-trips ----
@@ -114,6 +114,25 @@ class MessageTransformMetricsTest {
             assertThat(metrics.getReloadFailureCount()).isEqualTo(1);
         }
 
+        @Test
+        void recordReloadSkippedIncrements() {
+            metrics.recordReloadSkipped();
+            metrics.recordReloadSkipped();
+
+            assertThat(metrics.getReloadSkippedCount()).isEqualTo(2);
+            assertThat(metrics.getReloadSuccessCount()).isZero();
+        }
+
+        @Test
+        void reloadDurationTracksLastAndMaxWithChangedFiles() {
+            metrics.recordReloadDuration(40, 3);
+            metrics.recordReloadDuration(15, 1);
+
+            assertThat(metrics.getLastReloadTimeMs()).isEqualTo(15);
+            assertThat(metrics.getMaxReloadTimeMs()).isEqualTo(40);
+            assertThat(metrics.getLastReloadChangedFileCount()).isEqualTo(1);
+        }
+
         @Test
         void activeSpecCountIsSettable() {
             metrics.setActiveSpecCount(5);
@@ -126,6 +145,35 @@ class MessageTransformMetricsTest {
         }
     }
 
+    @Nested
+    class AsyncOffloadCounters {
+
+        @Test
+        void offloadsAndRejectionsAreCounted() {
+            metrics.recordAsyncOffloaded();
+            metrics.recordAsyncOffloaded();
+            metrics.recordAsyncRejected();
+
+            assertThat(metrics.getAsyncOffloadedCount()).isEqualTo(2);
+            assertThat(metrics.getAsyncRejectedCount()).isEqualTo(1);
+        }
+
+        @Test
+        void queueDepthTracksCurrentAndMax() {
+            metrics.recordAsyncQueued(1);
+            metrics.recordAsyncQueued(1);
+            metrics.recordAsyncQueued(-1);
+
+            assertThat(metrics.getAsyncQueueDepth()).isEqualTo(1);
+            assertThat(metrics.getMaxAsyncQueueDepth()).isEqualTo(2);
+
+            metrics.resetMetrics();
+
+            assertThat(metrics.getAsyncQueueDepth()).isEqualTo(1);
+            assertThat(metrics.getMaxAsyncQueueDepth()).isEqualTo(1);
+        }
+    }
+
     @Nested
     class LatencyTracking {
 
@@ -180,6 +228,8 @@ class MessageTransformMetricsTest {
             metrics.recordDeny(8);
             metrics.recordReloadSuccess();
             metrics.recordReloadFailure();
+            metrics.recordReloadSkipped();
+            metrics.recordReloadDuration(25, 2);
 
             metrics.resetMetrics();
 
@@ -190,6 +240,10 @@ class MessageTransformMetricsTest {
             assertThat(metrics.getTransformTotalCount()).isZero();
             assertThat(metrics.getReloadSuccessCount()).isZero();
             assertThat(metrics.getReloadFailureCount()).isZero();
+            assertThat(metrics.getReloadSkippedCount()).isZero();
+            assertThat(metrics.getLastReloadTimeMs()).isZero();
+            assertThat(metrics.getMaxReloadTimeMs()).isZero();
+            assertThat(metrics.getLastReloadChangedFileCount()).isZero();
         }
 
         @Test
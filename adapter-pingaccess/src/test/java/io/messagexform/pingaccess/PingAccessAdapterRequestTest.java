@@ -177,12 +177,13 @@ class PingAccessAdapterRequestTest {
             when(body.isRead()).thenReturn(true);
             when(body.getContent()).thenReturn(json);
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isFalse();
             assertThat(msg.body().asString()).isEqualTo("{\"name\":\"alice\"}");
             assertThat(msg.body().mediaType()).isEqualTo(MediaType.JSON);
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(state.bodyParseFailed()).isFalse();
         }
 
         @Test
@@ -190,10 +191,11 @@ class PingAccessAdapterRequestTest {
             when(body.isRead()).thenReturn(true);
             when(body.getContent()).thenReturn(new byte[0]);
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(state.bodyParseFailed()).isFalse();
         }
 
         @Test
@@ -201,10 +203,11 @@ class PingAccessAdapterRequestTest {
             when(body.isRead()).thenReturn(true);
             when(body.getContent()).thenReturn(null);
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(state.bodyParseFailed()).isFalse();
         }
 
         @Test
@@ -214,11 +217,12 @@ class PingAccessAdapterRequestTest {
             doNothing().when(body).read();
             when(body.getContent()).thenReturn(json);
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             verify(body).read();
             assertThat(msg.body().asString()).isEqualTo("{\"ok\":true}");
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(state.bodyParseFailed()).isFalse();
         }
 
         @Test
@@ -226,10 +230,11 @@ class PingAccessAdapterRequestTest {
             when(body.isRead()).thenReturn(false);
             doThrow(new IOException("disk error")).when(body).read();
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -239,10 +244,11 @@ class PingAccessAdapterRequestTest {
                     .when(body)
                     .read();
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -251,10 +257,11 @@ class PingAccessAdapterRequestTest {
             when(body.isRead()).thenReturn(true);
             when(body.getContent()).thenReturn(notJson);
 
-            Message msg = adapter.wrapRequest(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -263,18 +270,16 @@ class PingAccessAdapterRequestTest {
             byte[] notJson = "not json".getBytes(StandardCharsets.UTF_8);
             when(body.isRead()).thenReturn(true);
             when(body.getContent()).thenReturn(notJson);
-            adapter.wrapRequest(exchange);
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(adapter.wrapRequestWithState(exchange).bodyParseFailed()).isTrue();
 
             // Second call: valid JSON → flag reset
             byte[] json = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
             when(body.getContent()).thenReturn(json);
-            adapter.wrapRequest(exchange);
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(adapter.wrapRequestWithState(exchange).bodyParseFailed()).isFalse();
         }
 
         @Test
-        void bodyParseFailedIsolatedPerThread() throws Exception {
+        void bodyParseFailedIsolatedPerExchange() throws Exception {
             Exchange exchangeA = mock(Exchange.class);
             Request requestA = mock(Request.class);
             Body bodyA = mock(Body.class);
@@ -307,7 +312,7 @@ class PingAccessAdapterRequestTest {
             AtomicBoolean bFlag = new AtomicBoolean();
 
             Thread threadA = new Thread(() -> {
-                adapter.wrapRequest(exchangeA);
+                PingAccessAdapter.Wrapped state = adapter.wrapRequestWithState(exchangeA);
                 aWrapped.countDown();
                 try {
                     bWrapped.await();
@@ -315,7 +320,7 @@ class PingAccessAdapterRequestTest {
                     Thread.currentThread().interrupt();
                     throw new RuntimeException(e);
                 }
-                aFlag.set(adapter.isBodyParseFailed());
+                aFlag.set(state.bodyParseFailed());
             });
 
             Thread threadB = new Thread(() -> {
@@ -325,8 +330,7 @@ class PingAccessAdapterRequestTest {
                     Thread.currentThread().interrupt();
                     throw new RuntimeException(e);
                 }
-                adapter.wrapRequest(exchangeB);
-                bFlag.set(adapter.isBodyParseFailed());
+                bFlag.set(adapter.wrapRequestWithState(exchangeB).bodyParseFailed());
                 bWrapped.countDown();
             });
 
@@ -123,11 +123,12 @@ class PingAccessAdapterResponseTest {
             when(responseBody.isRead()).thenReturn(true);
             when(responseBody.getContent()).thenReturn(json);
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().asString()).isEqualTo("{\"id\":42}");
             assertThat(msg.body().mediaType()).isEqualTo(MediaType.JSON);
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(state.bodyParseFailed()).isFalse();
         }
 
         @Test
@@ -135,10 +136,11 @@ class PingAccessAdapterResponseTest {
             when(responseBody.isRead()).thenReturn(true);
             when(responseBody.getContent()).thenReturn(new byte[0]);
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(state.bodyParseFailed()).isFalse();
         }
     }
 
@@ -153,10 +155,11 @@ class PingAccessAdapterResponseTest {
             when(responseBody.isRead()).thenReturn(true);
             when(responseBody.getContent()).thenReturn(notJson);
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -164,10 +167,11 @@ class PingAccessAdapterResponseTest {
             when(responseBody.isRead()).thenReturn(false);
             doThrow(new IOException("network error")).when(responseBody).read();
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -177,10 +181,11 @@ class PingAccessAdapterResponseTest {
                     .when(responseBody)
                     .read();
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -209,10 +214,11 @@ class PingAccessAdapterResponseTest {
             when(responseBody.isRead()).thenReturn(true);
             when(responseBody.getContent()).thenReturn(gzipBytes);
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
 
         @Test
@@ -222,10 +228,11 @@ class PingAccessAdapterResponseTest {
             when(responseBody.isRead()).thenReturn(true);
             when(responseBody.getContent()).thenReturn(deflateBytes);
 
-            Message msg = adapter.wrapResponse(exchange);
+            PingAccessAdapter.Wrapped state = adapter.wrapResponseWithState(exchange);
+            Message msg = state.message();
 
             assertThat(msg.body().isEmpty()).isTrue();
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(state.bodyParseFailed()).isTrue();
         }
     }
 
@@ -240,14 +247,14 @@ class PingAccessAdapterResponseTest {
             byte[] notJson = "bad".getBytes(StandardCharsets.UTF_8);
             when(responseBody.isRead()).thenReturn(true);
             when(responseBody.getContent()).thenReturn(notJson);
-            adapter.wrapResponse(exchange);
-            assertThat(adapter.isBodyParseFailed()).isTrue();
+            assertThat(adapter.wrapResponseWithState(exchange).bodyParseFailed())
+                    .isTrue();
 
             // Second: valid
             byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
             when(responseBody.getContent()).thenReturn(json);
-            adapter.wrapResponse(exchange);
-            assertThat(adapter.isBodyParseFailed()).isFalse();
+            assertThat(adapter.wrapResponseWithState(exchange).bodyParseFailed())
+                    .isFalse();
         }
     }
 }
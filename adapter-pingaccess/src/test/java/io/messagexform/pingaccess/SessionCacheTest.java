@@ -0,0 +1,171 @@
+package io.messagexform.pingaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pingidentity.pa.sdk.http.Exchange;
+import com.pingidentity.pa.sdk.identity.Identity;
+import com.pingidentity.pa.sdk.identity.SessionStateSupport;
+import io.messagexform.core.model.SessionContext;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SessionCache} through
+ * {@link PingAccessAdapter#buildSessionContext(Exchange)} (FR-002-06).
+ */
+class SessionCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long NOW = Instant.parse("2026-10-18T12:00:00Z").toEpochMilli();
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private SessionCache cache;
+    private PingAccessAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionCache(100, 300, clock::get);
+        adapter = new PingAccessAdapter(MAPPER, cache);
+    }
+
+    private Identity identity(String tokenId, String subject) {
+        Identity identity = mock(Identity.class);
+        ObjectNode claims = MAPPER.createObjectNode().put("email", subject + "@example.com");
+        when(identity.getTokenId()).thenReturn(tokenId);
+        when(identity.getSubject()).thenReturn(subject);
+        when(identity.getTokenExpiration()).thenReturn(Instant.ofEpochMilli(NOW + 60_000));
+        when(identity.getAttributes()).thenReturn(claims);
+        return identity;
+    }
+
+    private SessionContext session(Identity identity) {
+        Exchange exchange = mock(Exchange.class);
+        when(exchange.getIdentity()).thenReturn(identity);
+        return adapter.buildSessionContext(exchange);
+    }
+
+    @Test
+    void sameTokenIsFlattenedOnce() {
+        Identity identity = identity("tok-1", "bjensen");
+
+        SessionContext first = session(identity);
+        SessionContext second = session(identity);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.get("email")).isEqualTo("bjensen@example.com");
+        verify(identity, times(1)).getAttributes();
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void sessionStateIsMergedOnTopAndOnlyWhenChanged() {
+        Identity identity = identity("tok-1", "bjensen");
+        SessionStateSupport sss = mock(SessionStateSupport.class);
+        Map<String, JsonNode> state = new HashMap<>();
+        state.put("email", MAPPER.getNodeFactory().textNode("override@example.com"));
+        when(sss.getAttributes()).thenReturn(state);
+        when(identity.getSessionStateSupport()).thenReturn(sss);
+
+        SessionContext first = session(identity);
+        SessionContext unchanged = session(identity);
+        state.put("cart", MAPPER.getNodeFactory().numberNode(3));
+        SessionContext changed = session(identity);
+
+        assertThat(first.get("email")).isEqualTo("override@example.com");
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed.get("cart")).isEqualTo(3);
+        assertThat(changed.get("email")).isEqualTo("override@example.com");
+        verify(identity, times(1)).getAttributes();
+    }
+
+    @Test
+    void stateNodeModifiedInPlaceIsSeenAsAChange() {
+        Identity identity = identity("tok-1", "bjensen");
+        SessionStateSupport sss = mock(SessionStateSupport.class);
+        ObjectNode prefs = MAPPER.createObjectNode().put("lang", "en");
+        when(sss.getAttributes()).thenReturn(Map.of("prefs", prefs));
+        when(identity.getSessionStateSupport()).thenReturn(sss);
+
+        session(identity);
+        prefs.put("lang", "fr");
+
+        assertThat(session(identity).get("prefs")).isEqualTo(Map.of("lang", "fr"));
+    }
+
+    @Test
+    void entryExpiresWithTheToken() {
+        Identity identity = identity("tok-1", "bjensen");
+        session(identity);
+
+        clock.addAndGet(60_000);
+        session(identity);
+
+        verify(identity, times(2)).getAttributes();
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void remappedSubjectIsNotServedFromTheCache() {
+        Identity identity = identity("tok-1", "bjensen");
+        SessionContext first = session(identity);
+
+        when(identity.getMappedSubject()).thenReturn("bob.jensen");
+        SessionContext remapped = session(identity);
+
+        assertThat(remapped).isNotSameAs(first);
+        assertThat(remapped.get("mappedSubject")).isEqualTo("bob.jensen");
+    }
+
+    @Test
+    void trackingIdKeysSessionsWithoutToken() {
+        Identity identity = identity(null, "bjensen");
+        when(identity.getTrackingId()).thenReturn("tx-1");
+        when(identity.getTokenExpiration()).thenReturn(null);
+
+        assertThat(session(identity)).isSameAs(session(identity));
+
+        clock.addAndGet(300_000);
+        session(identity);
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void identityWithoutKeyIsNotCached() {
+        Identity identity = identity(null, "bjensen");
+
+        session(identity);
+        session(identity);
+
+        verify(identity, times(2)).getAttributes();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void fullCacheSweepsExpiredEntriesOrSkipsCaching() {
+        cache = new SessionCache(1, 300, clock::get);
+        adapter = new PingAccessAdapter(MAPPER, cache);
+        session(identity("tok-1", "a"));
+
+        Identity second = identity("tok-2", "b");
+        when(second.getTokenExpiration()).thenReturn(Instant.ofEpochMilli(NOW + 120_000));
+        session(second);
+        session(second);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(second, times(2)).getAttributes();
+
+        clock.addAndGet(60_000);
+        session(second);
+        session(second);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(second, times(3)).getAttributes();
+    }
+}
@@ -0,0 +1,123 @@
+package io.messagexform.pingaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link SpecChangeDetector} — change detection that lets the
+ * scheduled reload skip unchanged spec sets (FR-002-04, T-002-26).
+ */
+class SpecChangeDetectorTest {
+
+    @TempDir
+    Path dir;
+
+    private final SpecChangeDetector detector = new SpecChangeDetector();
+
+    /** Moves a path's mtime well outside the racy window. */
+    private static void age(Path path) throws Exception {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minusSeconds(60)));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = dir.resolve(name);
+        Files.writeString(file, content);
+        age(file);
+        age(dir);
+        return file;
+    }
+
+    private SpecChangeDetector.ChangeSet checkAndCommit(List<Path> files) throws Exception {
+        SpecChangeDetector.ChangeSet changes = detector.check(List.of(dir), files);
+        detector.commit(changes);
+        return changes;
+    }
+
+    @Test
+    void firstCheckReportsEveryFileAsChanged() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        Path b = write("b.yaml", "id: b");
+
+        assertThat(checkAndCommit(List.of(a, b)).changedFiles()).isEqualTo(2);
+    }
+
+    @Test
+    void unchangedFilesReportNoChanges() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        checkAndCommit(List.of(a));
+
+        SpecChangeDetector.ChangeSet changes = checkAndCommit(List.of(a));
+
+        assertThat(changes.hasChanges()).isFalse();
+        assertThat(changes.changedFiles()).isZero();
+    }
+
+    @Test
+    void touchWithoutContentChangeIsNotAChange() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        checkAndCommit(List.of(a));
+
+        Files.setLastModifiedTime(a, FileTime.from(Instant.now().minusSeconds(30)));
+
+        assertThat(checkAndCommit(List.of(a)).hasChanges()).isFalse();
+    }
+
+    @Test
+    void contentChangeIsDetected() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        Path b = write("b.yaml", "id: b");
+        checkAndCommit(List.of(a, b));
+
+        write("a.yaml", "id: a2");
+
+        assertThat(checkAndCommit(List.of(a, b)).changedFiles()).isEqualTo(1);
+    }
+
+    @Test
+    void sameSizeSameMtimeEditIsDetectedWhenDirectoryMtimeMoves() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        FileTime original = Files.getLastModifiedTime(a);
+        checkAndCommit(List.of(a));
+
+        // Replace content with same length and restore mtime (cp -p style) —
+        // only the directory mtime (bumped by the temp file rename) reveals it
+        Path tmp = dir.resolve("a.yaml.tmp");
+        Files.writeString(tmp, "id: b");
+        Files.setLastModifiedTime(tmp, original);
+        Files.move(tmp, a, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(dir, FileTime.from(Instant.now().minusSeconds(10)));
+
+        assertThat(checkAndCommit(List.of(a)).changedFiles()).isEqualTo(1);
+    }
+
+    @Test
+    void addedAndRemovedFilesAreCounted() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        Path b = write("b.yaml", "id: b");
+        checkAndCommit(List.of(a, b));
+
+        Files.delete(b);
+        Path c = write("c.yaml", "id: c");
+
+        assertThat(checkAndCommit(List.of(a, c)).changedFiles()).isEqualTo(2);
+    }
+
+    @Test
+    void uncommittedCheckDoesNotMoveBaseline() throws Exception {
+        Path a = write("a.yaml", "id: a");
+        checkAndCommit(List.of(a));
+        write("a.yaml", "id: changed");
+
+        detector.check(List.of(dir), List.of(a)); // not committed
+
+        assertThat(checkAndCommit(List.of(a)).hasChanges()).isTrue();
+    }
+}
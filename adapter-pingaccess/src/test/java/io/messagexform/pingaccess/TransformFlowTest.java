@@ -20,7 +20,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -54,6 +58,8 @@ class TransformFlowTest {
     @BeforeEach
     void setUp() throws Exception {
         engine = mock(TransformEngine.class);
+        // Envelope pre-check: every exchange is a candidate
+        when(engine.couldMatch(any(), any(), any(), any(), any(), any())).thenReturn(true);
         adapter = new PingAccessAdapter(MAPPER);
 
         rule = new MessageTransformRule();
@@ -417,4 +423,162 @@ class TransformFlowTest {
                             any(TransformContext.class));
         }
     }
+
+    // ── Envelope pre-check: unmatched exchanges never read the body ──
+
+    @Nested
+    class EnvelopePreCheck {
+
+        @Test
+        void unmatchedRequestIsNotReadOrWrapped() throws Exception {
+            when(request.getUri()).thenReturn("/static/app.js?v=3");
+            when(engine.couldMatch(any(), any(), any(), any(), any(), any())).thenReturn(false);
+
+            CompletionStage<Outcome> result = rule.handleRequest(exchange);
+
+            assertThat(result.toCompletableFuture().get()).isEqualTo(Outcome.CONTINUE);
+            verify(engine)
+                    .couldMatch(eq(Direction.REQUEST), isNull(), eq("/static/app.js"), eq("POST"), isNull(), isNull());
+            verify(requestBody, never()).read();
+            verify(requestBody, never()).getContent();
+            verify(engine, never())
+                    .transform(
+                            any(io.messagexform.core.model.Message.class),
+                            any(Direction.class),
+                            any(TransformContext.class));
+            verify(exchange).setProperty(eq(MessageTransformRule.TRANSFORM_RESULT), any(TransformResultSummary.class));
+            assertThat(rule.metrics().getTransformPassthroughCount()).isEqualTo(1);
+        }
+
+        @Test
+        void unmatchedResponseStatusIsNotReadOrWrapped() throws Exception {
+            when(response.getStatusCode()).thenReturn(404);
+            when(engine.couldMatch(any(), any(), any(), any(), any(), any())).thenReturn(true);
+            when(engine.couldMatch(any(), any(), any(), any(), any(), eq(404))).thenReturn(false);
+
+            rule.handleResponse(exchange).toCompletableFuture().get();
+
+            verify(engine).couldMatch(eq(Direction.RESPONSE), isNull(), eq("/api/test"), eq("POST"), isNull(), eq(404));
+            verify(responseBody, never()).read();
+            verify(responseBody, never()).getContent();
+            verify(response, never()).setBodyContent(any(byte[].class));
+            assertThat(rule.metrics().getTransformPassthroughCount()).isEqualTo(1);
+        }
+
+        @Test
+        void candidateRequestIsWrappedAndTransformed() throws Exception {
+            when(engine.transform(
+                            any(io.messagexform.core.model.Message.class),
+                            eq(Direction.REQUEST),
+                            any(TransformContext.class)))
+                    .thenReturn(TransformResult.passthrough());
+
+            rule.handleRequest(exchange);
+
+            verify(requestBody).getContent();
+            verify(engine)
+                    .transform(
+                            any(io.messagexform.core.model.Message.class),
+                            eq(Direction.REQUEST),
+                            any(TransformContext.class));
+        }
+    }
+
+    // ── FR-002-15: Async offload ──
+
+    @Nested
+    class AsyncOffload {
+
+        private TransformOffload offload;
+
+        @AfterEach
+        void shutdownOffload() {
+            if (offload != null) {
+                offload.shutdown();
+            }
+        }
+
+        @Test
+        void largeRequestIsTransformedOnAWorker() throws Exception {
+            offload = new TransformOffload(1024, Set.of(), 1, 4, AsyncRejectionPolicy.CALLER_RUNS, rule.metrics());
+            rule.setOffload(offload);
+            when(requestBody.getLength()).thenReturn(64 * 1024);
+            AtomicReference<String> transformThread = new AtomicReference<>();
+            when(engine.transform(
+                            any(io.messagexform.core.model.Message.class),
+                            eq(Direction.REQUEST),
+                            any(TransformContext.class)))
+                    .thenAnswer(inv -> {
+                        transformThread.set(Thread.currentThread().getName());
+                        return TransformResult.success(inv.getArgument(0));
+                    });
+
+            CompletionStage<Outcome> result = rule.handleRequest(exchange);
+
+            assertThat(result.toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo(Outcome.CONTINUE);
+            assertThat(transformThread.get()).startsWith("mxform-transform-");
+            verify(request).setUri("/api/test");
+            assertThat(rule.metrics().getAsyncOffloadedCount()).isEqualTo(1);
+            assertThat(rule.metrics().getTransformSuccessCount()).isEqualTo(1);
+        }
+
+        @Test
+        void smallRequestStaysOnTheCallingThread() throws Exception {
+            offload = new TransformOffload(1024, Set.of(), 1, 4, AsyncRejectionPolicy.CALLER_RUNS, rule.metrics());
+            rule.setOffload(offload);
+            when(requestBody.getLength()).thenReturn(2);
+            when(engine.transform(
+                            any(io.messagexform.core.model.Message.class),
+                            eq(Direction.REQUEST),
+                            any(TransformContext.class)))
+                    .thenReturn(TransformResult.passthrough());
+
+            CompletionStage<Outcome> result = rule.handleRequest(exchange);
+
+            assertThat(result.toCompletableFuture().isDone()).isTrue();
+            assertThat(rule.metrics().getAsyncOffloadedCount()).isZero();
+        }
+
+        @Test
+        void fullQueueWithErrorPolicyDeniesWith503() throws Exception {
+            offload = new TransformOffload(1024, Set.of(), 1, 1, AsyncRejectionPolicy.ERROR, rule.metrics());
+            rule.setOffload(offload);
+            rule.setErrorMode(ErrorMode.DENY);
+            AtomicReference<HttpStatus> deniedWith = new AtomicReference<>();
+            rule.setResponseFactory((status, body) -> {
+                deniedWith.set(status);
+                return mock(Response.class);
+            });
+            when(requestBody.getLength()).thenReturn(64 * 1024);
+
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch running = new CountDownLatch(1);
+            offload.submit(
+                    () -> {
+                        running.countDown();
+                        try {
+                            return release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return false;
+                        }
+                    },
+                    () -> false);
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            offload.submit(() -> true, () -> false);
+
+            try {
+                CompletionStage<Outcome> result = rule.handleRequest(exchange);
+
+                assertThat(result.toCompletableFuture().getNow(null)).isEqualTo(Outcome.RETURN);
+                assertThat(deniedWith.get()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                verify(exchange).setProperty(MessageTransformRule.TRANSFORM_DENIED, Boolean.TRUE);
+                verify(requestBody, never()).getContent();
+                assertThat(rule.metrics().getAsyncRejectedCount()).isEqualTo(1);
+                assertThat(rule.metrics().getTransformDenyCount()).isEqualTo(1);
+            } finally {
+                release.countDown();
+            }
+        }
+    }
 }
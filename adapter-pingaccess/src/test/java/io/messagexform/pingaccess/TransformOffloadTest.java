@@ -0,0 +1,183 @@
+package io.messagexform.pingaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pingidentity.pa.sdk.http.Body;
+import com.pingidentity.pa.sdk.http.Headers;
+import com.pingidentity.pa.sdk.http.Request;
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.model.Direction;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link TransformOffload} (FR-002-15). */
+class TransformOffloadTest {
+
+    private MessageTransformMetrics metrics;
+    private TransformOffload offload;
+    private Request request;
+    private Body body;
+    private Headers headers;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MessageTransformMetrics();
+        request = mock(Request.class);
+        body = mock(Body.class);
+        headers = mock(Headers.class);
+        when(request.getBody()).thenReturn(body);
+        when(request.getHeaders()).thenReturn(headers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (offload != null) {
+            offload.shutdown();
+        }
+    }
+
+    private TransformOffload offload(Set<String> specIds, AsyncRejectionPolicy policy) {
+        offload = new TransformOffload(1024, specIds, 1, 1, policy, metrics);
+        return offload;
+    }
+
+    @Test
+    void parseSpecIdsSkipsBlankAndCommentLines() {
+        assertThat(TransformOffload.parseSpecIds("orders-v2\n\n  # heavy\n  invoice-pdf  \r\norders-v2"))
+                .containsExactly("orders-v2", "invoice-pdf");
+        assertThat(TransformOffload.parseSpecIds(null)).isEmpty();
+    }
+
+    @Test
+    void bodyAtThresholdIsOffloadedByContentLength() {
+        TransformEngine engine = mock(TransformEngine.class);
+        offload(Set.of(), AsyncRejectionPolicy.CALLER_RUNS);
+
+        when(headers.getContentLength()).thenReturn(1023L);
+        assertThat(offload.shouldOffload(engine, request, Direction.REQUEST, null, "/a", "POST", null))
+                .isFalse();
+
+        when(headers.getContentLength()).thenReturn(1024L);
+        assertThat(offload.shouldOffload(engine, request, Direction.REQUEST, null, "/a", "POST", null))
+                .isTrue();
+        verify(body, never()).getContent();
+    }
+
+    @Test
+    void readBodyLengthTakesPrecedenceOverContentLength() {
+        offload(Set.of(), AsyncRejectionPolicy.CALLER_RUNS);
+        when(body.isRead()).thenReturn(true);
+        when(body.getLength()).thenReturn(4096);
+        when(headers.getContentLength()).thenReturn(-1L);
+
+        assertThat(offload.shouldOffload(
+                        mock(TransformEngine.class), request, Direction.REQUEST, null, "/a", "POST", null))
+                .isTrue();
+    }
+
+    @Test
+    void flaggedSpecIsOffloadedRegardlessOfSize() {
+        TransformEngine engine = mock(TransformEngine.class);
+        when(engine.couldMatchSpecs(eq(Set.of("invoice-pdf")), any(), any(), eq("/invoices"), any(), any(), any()))
+                .thenReturn(true);
+        offload(Set.of("invoice-pdf"), AsyncRejectionPolicy.CALLER_RUNS);
+
+        assertThat(offload.shouldOffload(engine, request, Direction.RESPONSE, null, "/invoices", "GET", 200))
+                .isTrue();
+        assertThat(offload.shouldOffload(engine, request, Direction.RESPONSE, null, "/orders", "GET", 200))
+                .isFalse();
+    }
+
+    @Test
+    void submitRunsTheTaskOnAWorker() throws Exception {
+        offload(Set.of(), AsyncRejectionPolicy.CALLER_RUNS);
+
+        String thread = offload.submit(() -> Thread.currentThread().getName(), () -> "rejected")
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(thread).startsWith("mxform-transform-");
+        assertThat(metrics.getAsyncOffloadedCount()).isEqualTo(1);
+        assertThat(metrics.getAsyncQueueDepth()).isZero();
+    }
+
+    @Test
+    void fullQueueRunsOnCallerOrRejectsPerPolicy() throws Exception {
+        for (AsyncRejectionPolicy policy : AsyncRejectionPolicy.values()) {
+            metrics.resetMetrics();
+            TransformOffload pool = offload(Set.of(), policy);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch running = new CountDownLatch(1);
+            CompletionStage<String> busy = pool.submit(
+                    () -> {
+                        running.countDown();
+                        await(release);
+                        return "busy";
+                    },
+                    () -> "rejected");
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletionStage<String> queued = pool.submit(() -> "queued", () -> "rejected");
+            assertThat(pool.queueDepth()).isEqualTo(1);
+            assertThat(metrics.getAsyncQueueDepth()).isEqualTo(1);
+
+            CompletionStage<String> overflow =
+                    pool.submit(() -> Thread.currentThread().getName(), () -> "rejected");
+
+            String expected = policy == AsyncRejectionPolicy.CALLER_RUNS
+                    ? Thread.currentThread().getName()
+                    : "rejected";
+            assertThat(overflow.toCompletableFuture().getNow(null)).isEqualTo(expected);
+            assertThat(metrics.getAsyncRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(busy.toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("busy");
+            assertThat(queued.toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void callerRunsFailureFailsTheStageLikeAWorkerFailure() throws Exception {
+        TransformOffload pool = offload(Set.of(), AsyncRejectionPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        pool.submit(
+                () -> {
+                    running.countDown();
+                    await(release);
+                    return "busy";
+                },
+                () -> "rejected");
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        pool.submit(() -> "queued", () -> "rejected");
+
+        CompletionStage<String> overflow = pool.submit(
+                () -> {
+                    throw new IllegalStateException("transform failed");
+                },
+                () -> "rejected");
+
+        assertThat(overflow.toCompletableFuture())
+                .isCompletedExceptionally()
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableThat()
+                .withCauseInstanceOf(IllegalStateException.class);
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
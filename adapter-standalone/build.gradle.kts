@@ -53,3 +53,39 @@ tasks.withType<ShadowJar>().configureEach {
 tasks.named<Jar>("jar") {
     archiveClassifier.set("thin")      // keep for reference but not the default
 }
+
+// --- AppCDS dynamic archive (NFR-004-01) ---
+// Runs the shadow JAR once in training mode (--cds-training: start, warm-up
+// requests, clean stop) with -XX:ArchiveClassesAtExit. Production runs map the
+// archive with -XX:SharedArchiveFile=proxy.jsa. The archive is only valid for
+// the exact JVM build that created it — the Dockerfile regenerates it with the
+// image's own JRE; this task is for local measurement.
+
+val cdsArchiveFile = layout.buildDirectory.file("libs/proxy.jsa")
+
+tasks.register<Exec>("cdsArchive") {
+    description = "Generates an AppCDS dynamic archive (build/libs/proxy.jsa) from a training run."
+    group = "build"
+
+    val shadowJar = tasks.named<ShadowJar>("shadowJar")
+    val launcher = javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(21) }
+    val trainingDir = layout.projectDirectory.dir("docker/cds-training")
+    val trainingConfig = trainingDir.file("config.yaml")
+    dependsOn(shadowJar)
+    inputs.file(shadowJar.flatMap { it.archiveFile })
+    inputs.dir(trainingDir)
+    outputs.file(cdsArchiveFile)
+
+    // Training spec and profile: the config's paths are where the Dockerfile mounts them
+    environment("SPECS_DIR", trainingDir.dir("specs").asFile.absolutePath)
+    environment("ENGINE_PROFILE", trainingDir.file("profile.yaml").asFile.absolutePath)
+    executable = launcher.get().executablePath.asFile.absolutePath
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(
+            "-XX:ArchiveClassesAtExit=" + cdsArchiveFile.get().asFile.absolutePath,
+            "-jar", shadowJar.get().archiveFile.get().asFile.absolutePath,
+            "--config", trainingConfig.asFile.absolutePath,
+            "--cds-training",
+        )
+    })
+}
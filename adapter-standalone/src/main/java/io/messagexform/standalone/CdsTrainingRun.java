@@ -0,0 +1,117 @@
+package io.messagexform.standalone;
+
+import io.messagexform.standalone.proxy.ProxyApp;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AppCDS training run (NFR-004-01).
+ *
+ * <p>
+ * Invoked by {@link StandaloneMain} when {@code --cds-training} is passed.
+ * The JVM is started with {@code -XX:ArchiveClassesAtExit=<file>}; this class
+ * runs the normal startup sequence, drives a few requests through the
+ * request path so their classes are loaded too, then stops the proxy and
+ * returns. The JVM dumps the dynamic archive on exit, and production runs
+ * map it with {@code -XX:SharedArchiveFile=<file>}.
+ *
+ * <p>
+ * The training config ({@code docker/cds-training/}) loads a training spec
+ * and profile, so startup compiles a JSLT expression and a JSON Schema. The
+ * warm-up requests are a health probe, a JSON request the training spec
+ * transforms, one it rejects with an RFC 9457 error, and an unmatched request
+ * that is streamed. They are best effort: the backend is a closed port, so
+ * transformed and streamed requests end in the 502 ProblemDetail path rather
+ * than at a real upstream.
+ */
+final class CdsTrainingRun {
+
+    /** CLI flag that selects the training run. */
+    static final String FLAG = "--cds-training";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdsTrainingRun.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    /** Path the training profile routes to the training spec. */
+    static final String TRANSFORMED_PATH = "/cds-training/orders";
+
+    private CdsTrainingRun() {
+        // utility class
+    }
+
+    /** Returns {@code true} if {@code args} request a training run. */
+    static boolean requested(String[] args) {
+        for (String arg : args) {
+            if (FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts the proxy, sends the warm-up requests and stops it again.
+     *
+     * @param args command-line arguments (same as a normal start)
+     * @return the warm-up responses' bodies, in order; {@code null} for a
+     *         request that failed
+     * @throws Exception if the proxy fails to start
+     */
+    static List<String> run(String[] args) throws Exception {
+        ProxyApp app = ProxyApp.start(args);
+        List<String> responses;
+        try {
+            responses = warmUp(app);
+        } finally {
+            app.stop();
+        }
+        LOG.info("CDS training run complete");
+        return responses;
+    }
+
+    private static List<String> warmUp(ProxyApp app) {
+        String base = "http://127.0.0.1:" + app.port();
+        HttpClient client =
+                HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        List<String> responses = new ArrayList<>();
+        responses.add(send(
+                client,
+                HttpRequest.newBuilder(URI.create(base + app.config().healthPath()))
+                        .GET()));
+        // Transformed by the training spec, then forwarded
+        responses.add(send(
+                client,
+                json(base + TRANSFORMED_PATH, "{\"id\":\"o-1\",\"items\":[{\"sku\":\"a-1\",\"qty\":2}]}")
+                        .header("X-Tenant", "training")));
+        // Rejected by the training spec: transform error response
+        responses.add(send(client, json(base + TRANSFORMED_PATH, "{\"items\":[]}")));
+        // No profile entry matches: streamed
+        responses.add(send(client, json(base + "/cds-training/passthrough?q=1", "{\"warmup\":true}")));
+        return responses;
+    }
+
+    private static HttpRequest.Builder json(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static String send(HttpClient client, HttpRequest.Builder request) {
+        try {
+            HttpResponse<String> response =
+                    client.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+            LOG.debug("Warm-up {} → {}", response.uri().getPath(), response.statusCode());
+            return response.body();
+        } catch (Exception e) {
+            LOG.warn("Warm-up request failed (ignored): {}", e.getMessage());
+            return null;
+        }
+    }
+}
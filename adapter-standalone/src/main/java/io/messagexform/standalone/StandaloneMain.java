@@ -1,5 +1,8 @@
 package io.messagexform.standalone;
 
+import io.messagexform.standalone.bulk.BulkOptions;
+import io.messagexform.standalone.bulk.BulkTransformRun;
+import io.messagexform.standalone.bulk.BulkTransformer;
 import io.messagexform.standalone.proxy.ProxyApp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +14,17 @@ import org.slf4j.LoggerFactory;
  * Delegates to {@link ProxyApp#start(String[])} for the full startup
  * sequence. On failure, logs the error and exits with a non-zero status
  * code (T-004-47, S-004-45).
+ *
+ * <p>
+ * With {@code --cds-training} the proxy starts, serves a few warm-up
+ * requests and exits cleanly — used to record the AppCDS archive
+ * (see {@link CdsTrainingRun}).
+ *
+ * <p>
+ * With {@code --bulk} no proxy starts: the records of an NDJSON or JSON-seq
+ * file are transformed offline (see {@link BulkTransformRun}). The exit
+ * status is 0 if every record transformed or passed through, 2 if some
+ * failed, and 1 if the run could not complete.
  */
 public final class StandaloneMain {
 
@@ -29,7 +43,14 @@ public final class StandaloneMain {
     @SuppressWarnings("SystemExitOutsideMain")
     public static void main(String[] args) {
         try {
-            ProxyApp.start(args);
+            if (BulkOptions.requested(args)) {
+                BulkTransformer.Report report = BulkTransformRun.run(args);
+                System.exit(report.failed() > 0 ? 2 : 0);
+            } else if (CdsTrainingRun.requested(args)) {
+                CdsTrainingRun.run(args);
+            } else {
+                ProxyApp.start(args);
+            }
         } catch (Exception e) {
             LOG.error("Startup failed: {}", e.getMessage(), e);
             System.exit(1);
@@ -1,6 +1,9 @@
 package io.messagexform.standalone.adapter;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.javalin.http.Context;
 import io.messagexform.core.model.HttpHeaders;
 import io.messagexform.core.model.Message;
@@ -8,6 +11,9 @@ import io.messagexform.core.model.MessageBody;
 import io.messagexform.core.model.SessionContext;
 import io.messagexform.core.model.TransformContext;
 import io.messagexform.core.spi.GatewayAdapter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -34,12 +40,31 @@ import org.slf4j.LoggerFactory;
 public final class StandaloneAdapter implements GatewayAdapter<Context> {
 
     private static final Logger LOG = LoggerFactory.getLogger(StandaloneAdapter.class);
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // Shared recycler pool instead of Jackson's per-thread one — under virtual
+    // threads every request runs on a fresh thread (FR-004-41)
+    private static final ObjectMapper MAPPER = JsonMapper.builder(JsonFactory.builder()
+                    .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                    .build())
+            .build();
 
     @Override
     public Message wrapRequest(Context ctx) {
+        return wrapRequest(ctx, ctx.bodyAsBytes());
+    }
+
+    /**
+     * Wraps a Javalin request whose body has already been read as raw bytes
+     * (by {@code ProxyHandler}, pre-sized and limit-checked). The bytes become
+     * the {@link MessageBody} as-is — no String decode/re-encode round-trip.
+     *
+     * @param ctx  the Javalin request context
+     * @param body the raw request body bytes (null or empty for no body)
+     * @return the wrapped request message
+     * @throws IllegalArgumentException if the body is not valid JSON
+     */
+    public Message wrapRequest(Context ctx, byte[] body) {
         // Parse JSON body
-        MessageBody body = parseBody(ctx.body(), ctx.contentType());
+        MessageBody messageBody = parseBody(body);
 
         // Build header map with lowercase keys (FR-004-09)
         HttpHeaders headers = buildHeaders(ctx);
@@ -52,10 +77,10 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
                 "wrapRequest: {} {} (body={} bytes, headers={})",
                 requestMethod,
                 requestPath,
-                ctx.body() != null ? ctx.body().length() : 0,
-                headers.toSingleValueMap().size());
+                messageBody.size(),
+                headers.size());
 
-        return new Message(body, headers, null, requestPath, requestMethod, queryString, SessionContext.empty());
+        return new Message(messageBody, headers, null, requestPath, requestMethod, queryString, SessionContext.empty());
     }
 
     /**
@@ -73,11 +98,7 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
         String requestMethod = ctx.method().name();
         String queryString = ctx.queryString();
 
-        LOG.debug(
-                "wrapRequestRaw: {} {} (body skipped, headers={})",
-                requestMethod,
-                requestPath,
-                headers.toSingleValueMap().size());
+        LOG.debug("wrapRequestRaw: {} {} (body skipped, headers={})", requestMethod, requestPath, headers.size());
 
         return new Message(
                 MessageBody.empty(), headers, null, requestPath, requestMethod, queryString, SessionContext.empty());
@@ -85,9 +106,20 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
 
     @Override
     public Message wrapResponse(Context ctx) {
-        // Read response body from ctx.result() (set by ProxyHandler)
-        String contentType = null;
+        return wrapResponse(ctx, resultBytes(ctx));
+    }
 
+    /**
+     * Wraps the upstream response held in the Javalin context, using the raw
+     * response body bytes read by {@code ProxyHandler} instead of decoding
+     * {@code ctx.result()} back from the result stream.
+     *
+     * @param ctx  the Javalin context (with upstream status and headers)
+     * @param body the raw response body bytes (null or empty for no body)
+     * @return the wrapped response message
+     * @throws IllegalArgumentException if the body is not valid JSON
+     */
+    public Message wrapResponse(Context ctx, byte[] body) {
         // Read response headers from servlet response (FR-004-06a)
         Map<String, List<String>> headersAll = new LinkedHashMap<>();
         for (String name : ctx.res().getHeaderNames()) {
@@ -95,13 +127,10 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
             headersAll.putIfAbsent(
                     lowerName,
                     Collections.unmodifiableList(new ArrayList<>(ctx.res().getHeaders(name))));
-            if ("content-type".equals(lowerName) && contentType == null) {
-                contentType = ctx.res().getHeader(name);
-            }
         }
         HttpHeaders headers = HttpHeaders.ofMulti(headersAll);
 
-        MessageBody body = parseBody(ctx.result(), contentType);
+        MessageBody messageBody = parseBody(body);
 
         int statusCode = ctx.statusCode();
 
@@ -114,11 +143,11 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
                 requestMethod,
                 requestPath,
                 statusCode,
-                ctx.result() != null ? ctx.result().length() : 0,
-                headers.toSingleValueMap().size());
+                messageBody.size(),
+                headers.size());
 
         // queryString is null for responses
-        return new Message(body, headers, statusCode, requestPath, requestMethod, null, SessionContext.empty());
+        return new Message(messageBody, headers, statusCode, requestPath, requestMethod, null, SessionContext.empty());
     }
 
     /**
@@ -149,7 +178,7 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
                 requestMethod,
                 requestPath,
                 statusCode,
-                headers.toSingleValueMap().size());
+                headers.size());
 
         return new Message(
                 MessageBody.empty(), headers, statusCode, requestPath, requestMethod, null, SessionContext.empty());
@@ -157,14 +186,11 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
 
     @Override
     public void applyChanges(Message transformedMessage, Context ctx) {
-        // Write body — empty MessageBody → empty body (FR-004-08)
-        String bodyStr;
-        if (transformedMessage.body() == null || transformedMessage.body().isEmpty()) {
-            bodyStr = "";
-        } else {
-            bodyStr = transformedMessage.body().asString();
-        }
-        ctx.result(bodyStr);
+        // Write body bytes as-is — empty MessageBody → empty body (FR-004-08)
+        byte[] bodyBytes = transformedMessage.body() != null
+                ? transformedMessage.body().content()
+                : MessageBody.empty().content();
+        ctx.result(bodyBytes);
 
         // Write headers
         transformedMessage.headers().toSingleValueMap().forEach(ctx::header);
@@ -177,8 +203,8 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
         LOG.debug(
                 "applyChanges: status={}, headers={}, body={} bytes",
                 transformedMessage.statusCode(),
-                transformedMessage.headers().toSingleValueMap().size(),
-                bodyStr.length());
+                transformedMessage.headers().size(),
+                bodyBytes.length);
     }
 
     /**
@@ -203,12 +229,12 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
     }
 
     /**
-     * Parses a body string into a {@link MessageBody}.
+     * Wraps raw body bytes into a {@link MessageBody}.
      * Returns {@link MessageBody#empty()} for null or whitespace-only bodies.
      * Validates JSON by parsing (throws on invalid JSON).
      */
-    private static MessageBody parseBody(String body, String contentType) {
-        if (body == null || body.isBlank()) {
+    private static MessageBody parseBody(byte[] body) {
+        if (isBlank(body)) {
             return MessageBody.empty();
         }
         try {
@@ -221,6 +247,37 @@ public final class StandaloneAdapter implements GatewayAdapter<Context> {
         }
     }
 
+    /** True for null, empty, or JSON-whitespace-only bodies. */
+    private static boolean isBlank(byte[] body) {
+        if (body == null) {
+            return true;
+        }
+        for (byte b : body) {
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drains the bytes of {@code ctx.result()} and puts them back as the
+     * result, so reading the response body does not consume it.
+     */
+    private static byte[] resultBytes(Context ctx) {
+        InputStream result = ctx.resultInputStream();
+        if (result == null) {
+            return null;
+        }
+        try (result) {
+            byte[] bytes = result.readAllBytes();
+            ctx.result(bytes);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read response body", e);
+        }
+    }
+
     /**
      * Builds an {@link HttpHeaders} from the Javalin request's multi-value
      * headers with lowercase key normalization (FR-004-09). Uses the servlet
@@ -0,0 +1,186 @@
+package io.messagexform.standalone.bulk;
+
+import io.messagexform.core.engine.EvalBudget;
+import io.messagexform.core.model.Direction;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line options of the bulk transformer (FR-004-56, CFG-004-99..113).
+ *
+ * @param specsDir   directory of spec YAML files ({@code --specs}, required)
+ * @param profile    profile YAML file, or {@code null} for single-spec mode
+ *                   ({@code --profile})
+ * @param input      NDJSON or JSON-seq input file ({@code --in}, required)
+ * @param output     output file, same format as the input ({@code --out},
+ *                   required)
+ * @param rejects    file receiving records that failed to transform, or
+ *                   {@code null} to drop them ({@code --rejects})
+ * @param format     record framing ({@code --format}, default from the input
+ *                   file extension)
+ * @param direction  transform direction ({@code --direction}, default
+ *                   {@code request})
+ * @param path       request path used for profile matching ({@code --path},
+ *                   default {@code /})
+ * @param method     request method used for profile matching
+ *                   ({@code --method}, default {@code POST})
+ * @param status     status code for response transforms ({@code --status},
+ *                   default {@code 200})
+ * @param threads    transform parallelism ({@code --threads}, default the
+ *                   number of available processors)
+ * @param batchSize  records per batch ({@code --batch-size}, default
+ *                   {@value #DEFAULT_BATCH_SIZE})
+ * @param logLevel   log level ({@code --log-level}, default {@code INFO})
+ * @param budget     per-record evaluation budget ({@code --max-eval-ms},
+ *                   {@code --max-output-bytes}, default
+ *                   {@link EvalBudget#DEFAULT})
+ */
+public record BulkOptions(
+        Path specsDir,
+        Path profile,
+        Path input,
+        Path output,
+        Path rejects,
+        RecordFormat format,
+        Direction direction,
+        String path,
+        String method,
+        int status,
+        int threads,
+        int batchSize,
+        String logLevel,
+        EvalBudget budget) {
+
+    /** CLI flag that selects the bulk transformer. */
+    public static final String FLAG = "--bulk";
+
+    /** Default records per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /** Usage text printed on invalid arguments. */
+    public static final String USAGE =
+            """
+            Usage: --bulk --specs <dir> --in <file> --out <file> [options]
+              --profile <file>      transform profile (default: single-spec mode)
+              --rejects <file>      write records that fail to transform here
+              --format <fmt>        ndjson | json-seq (default: from --in extension)
+              --direction <dir>     request | response (default: request)
+              --path <path>         request path for profile matching (default: /)
+              --method <method>     request method for profile matching (default: POST)
+              --status <code>       status code for response transforms (default: 200)
+              --threads <n>         transform threads (default: available processors)
+              --batch-size <n>      records per batch (default: 1024)
+              --log-level <level>   TRACE | DEBUG | INFO | WARN | ERROR (default: INFO)
+              --max-eval-ms <n>     per-record evaluation time budget (default: 50)
+              --max-output-bytes <n> per-record output size budget (default: 1048576)""";
+
+    /** Returns {@code true} if {@code args} select the bulk transformer. */
+    public static boolean requested(String[] args) {
+        for (String arg : args) {
+            if (FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses the command line.
+     *
+     * @throws IllegalArgumentException if an option is unknown, lacks its
+     *                                  value, or a required option is missing
+     */
+    public static BulkOptions parse(String[] args) {
+        Path specsDir = null;
+        Path profile = null;
+        Path input = null;
+        Path output = null;
+        Path rejects = null;
+        RecordFormat format = null;
+        Direction direction = Direction.REQUEST;
+        String path = "/";
+        String method = "POST";
+        int status = 200;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = DEFAULT_BATCH_SIZE;
+        String logLevel = "INFO";
+        int maxEvalMs = EvalBudget.DEFAULT.maxEvalMs();
+        int maxOutputBytes = EvalBudget.DEFAULT.maxOutputBytes();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (FLAG.equals(arg)) {
+                continue;
+            }
+            String value = value(args, i++);
+            switch (arg) {
+                case "--specs" -> specsDir = Path.of(value);
+                case "--profile" -> profile = Path.of(value);
+                case "--in" -> input = Path.of(value);
+                case "--out" -> output = Path.of(value);
+                case "--rejects" -> rejects = Path.of(value);
+                case "--format" -> format = RecordFormat.fromCliName(value);
+                case "--direction" -> direction = direction(value);
+                case "--path" -> path = value;
+                case "--method" -> method = value.toUpperCase(Locale.ROOT);
+                case "--status" -> status = positiveInt(arg, value);
+                case "--threads" -> threads = positiveInt(arg, value);
+                case "--batch-size" -> batchSize = positiveInt(arg, value);
+                case "--log-level" -> logLevel = value;
+                case "--max-eval-ms" -> maxEvalMs = positiveInt(arg, value);
+                case "--max-output-bytes" -> maxOutputBytes = positiveInt(arg, value);
+                default -> throw new IllegalArgumentException("Unknown option '" + arg + "'");
+            }
+        }
+        if (specsDir == null || input == null || output == null) {
+            throw new IllegalArgumentException("--specs, --in and --out are required");
+        }
+        if (input.toAbsolutePath().normalize().equals(output.toAbsolutePath().normalize())) {
+            throw new IllegalArgumentException("--out must not be the --in file");
+        }
+        return new BulkOptions(
+                specsDir,
+                profile,
+                input,
+                output,
+                rejects,
+                format != null ? format : RecordFormat.forPath(input),
+                direction,
+                path,
+                method,
+                status,
+                threads,
+                batchSize,
+                logLevel,
+                new EvalBudget(maxEvalMs, maxOutputBytes));
+    }
+
+    private static String value(String[] args, int i) {
+        if (i + 1 >= args.length) {
+            throw new IllegalArgumentException(args[i] + " requires a value");
+        }
+        return args[i + 1];
+    }
+
+    private static Direction direction(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "request" -> Direction.REQUEST;
+            case "response" -> Direction.RESPONSE;
+            default ->
+                throw new IllegalArgumentException(
+                        "Unknown --direction '" + value + "' (expected request or response)");
+        };
+    }
+
+    private static int positiveInt(String option, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new IllegalArgumentException(option + " must be a positive integer, got '" + value + "'");
+    }
+}
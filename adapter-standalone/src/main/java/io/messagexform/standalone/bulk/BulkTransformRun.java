@@ -0,0 +1,114 @@
+package io.messagexform.standalone.bulk;
+
+import io.messagexform.core.engine.EngineRegistry;
+import io.messagexform.core.engine.ErrorResponseBuilder;
+import io.messagexform.core.engine.SchemaValidationMode;
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.engine.jslt.JsltExpressionEngine;
+import io.messagexform.core.spec.SpecParser;
+import io.messagexform.standalone.proxy.AdminReloadHandler;
+import io.messagexform.standalone.proxy.LogbackConfigurator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Offline bulk transform of NDJSON / JSON-seq files (FR-004-56).
+ *
+ * <p>
+ * Invoked by {@link io.messagexform.standalone.StandaloneMain} when
+ * {@code --bulk} is passed. Loads the specs and optional profile named on the
+ * command line — no proxy configuration, HTTP server or backend is involved
+ * — runs {@link BulkTransformer} and logs the throughput summary.
+ *
+ * <p>
+ * The engine's per-transform {@code transform.matched} lines (NFR-001-08)
+ * are logged at {@code INFO}; at hundreds of millions of records they would
+ * dominate the run, so the engine logger is raised to {@code WARN} unless
+ * {@code --log-level} asks for {@code DEBUG} or {@code TRACE}.
+ */
+public final class BulkTransformRun {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkTransformRun.class);
+
+    private BulkTransformRun() {
+        // utility class
+    }
+
+    /**
+     * Parses {@code args}, transforms the input file and returns the summary.
+     *
+     * @param args command-line arguments (see {@link BulkOptions#USAGE})
+     * @return the run summary
+     * @throws IllegalArgumentException if the arguments are invalid
+     * @throws Exception                if specs fail to load or the files
+     *                                  cannot be read or written
+     */
+    public static BulkTransformer.Report run(String[] args) throws Exception {
+        BulkOptions options;
+        try {
+            options = BulkOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + System.lineSeparator() + BulkOptions.USAGE, e);
+        }
+        LogbackConfigurator.configure("text", options.logLevel());
+        String level = options.logLevel().toUpperCase(Locale.ROOT);
+        if (!level.equals("DEBUG") && !level.equals("TRACE")) {
+            LogbackConfigurator.setLevel(TransformEngine.class.getName(), "WARN");
+        }
+        if (!Files.isRegularFile(options.input())) {
+            throw new IllegalArgumentException("Input file not found: " + options.input());
+        }
+
+        TransformEngine engine = loadEngine(options);
+        LOG.info(
+                "Bulk transform: in={}, out={}, format={}, direction={}, threads={}, batchSize={}, maxEvalMs={}",
+                options.input(),
+                options.output(),
+                options.format().cliName(),
+                options.direction(),
+                options.threads(),
+                options.batchSize(),
+                options.budget().maxEvalMs());
+
+        BulkTransformer.Report report = new BulkTransformer(engine, options).run();
+        LOG.info(
+                "Bulk transform complete: records={}, transformed={}, passthrough={}, failed={}, "
+                        + "bytesIn={}, bytesOut={}, elapsedMs={}, recordsPerSec={}, mibPerSec={}",
+                report.records(),
+                report.transformed(),
+                report.passthrough(),
+                report.failed(),
+                report.bytesIn(),
+                report.bytesOut(),
+                report.elapsed().toMillis(),
+                String.format(Locale.ROOT, "%.0f", report.recordsPerSecond()),
+                String.format(Locale.ROOT, "%.1f", report.mibPerSecond()));
+        return report;
+    }
+
+    private static TransformEngine loadEngine(BulkOptions options) throws Exception {
+        EngineRegistry registry = new EngineRegistry();
+        registry.register(new JsltExpressionEngine());
+        TransformEngine engine = new TransformEngine(
+                new SpecParser(registry), new ErrorResponseBuilder(), options.budget(), SchemaValidationMode.LENIENT);
+        List<Path> specPaths = AdminReloadHandler.scanSpecFiles(options.specsDir());
+        if (specPaths.isEmpty()) {
+            throw new IllegalArgumentException("No spec files found in " + options.specsDir());
+        }
+        for (Path specPath : specPaths) {
+            engine.loadSpec(specPath);
+        }
+        if (options.profile() != null) {
+            engine.loadProfile(options.profile());
+        }
+        LOG.info(
+                "Specs loaded: {}, profile: {}",
+                specPaths.size(),
+                engine.activeProfile() != null ? engine.activeProfile().id() : "none");
+        return engine;
+    }
+}
@@ -0,0 +1,223 @@
+package io.messagexform.standalone.bulk;
+
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.model.Direction;
+import io.messagexform.core.model.HttpHeaders;
+import io.messagexform.core.model.Message;
+import io.messagexform.core.model.MessageBody;
+import io.messagexform.core.model.SessionContext;
+import io.messagexform.core.model.TransformResult;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transforms every record of an NDJSON or JSON-seq file with a
+ * {@link TransformEngine} (FR-004-56).
+ *
+ * <p>
+ * Records are read through {@link MappedRecordReader} in batches of
+ * {@link BulkOptions#batchSize()} and transformed in parallel with
+ * {@link TransformEngine#transformBatch(List, Direction, ForkJoinPool)}.
+ * While one batch is transformed the next is read and the previous one
+ * written, so at most two batches are held in memory. Output keeps input
+ * order.
+ *
+ * <p>
+ * Each record becomes the JSON body of a {@link Message} with the configured
+ * path, method and (for responses) status, so profiles match as they would
+ * in the proxy. A transformed record is written with its new body, a
+ * passthrough record unchanged. A record that fails — an error result, or a
+ * body that is not JSON — is counted, logged, and written to the rejects file
+ * if one is configured; the batch engine isolates failures, so the other
+ * records of its batch are unaffected.
+ */
+public final class BulkTransformer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkTransformer.class);
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_LOGGED_FAILURES = 10;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final TransformEngine engine;
+    private final BulkOptions options;
+
+    private long records;
+    private long transformed;
+    private long passthrough;
+    private long failed;
+    private long bytesOut;
+
+    public BulkTransformer(TransformEngine engine, BulkOptions options) {
+        this.engine = engine;
+        this.options = options;
+    }
+
+    /**
+     * Summary of a bulk run.
+     *
+     * @param records     records read
+     * @param transformed records written with a transformed body
+     * @param passthrough records no transform matched, written unchanged
+     * @param failed      records that failed to transform
+     * @param bytesIn     input bytes
+     * @param bytesOut    bytes written to the output file
+     * @param elapsed     wall-clock duration of the run
+     */
+    public record Report(
+            long records,
+            long transformed,
+            long passthrough,
+            long failed,
+            long bytesIn,
+            long bytesOut,
+            Duration elapsed) {
+
+        /** Records per second over the whole run. */
+        public double recordsPerSecond() {
+            return records / seconds();
+        }
+
+        /** Input MiB per second over the whole run. */
+        public double mibPerSecond() {
+            return bytesIn / (1024.0 * 1024.0) / seconds();
+        }
+
+        private double seconds() {
+            return Math.max(elapsed.toNanos(), 1) / 1e9;
+        }
+    }
+
+    /**
+     * Runs the bulk transform.
+     *
+     * @return the run summary
+     * @throws IOException if the input cannot be read or an output cannot be
+     *                     written
+     */
+    public Report run() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        long lastProgress = started;
+        RecordFormat format = options.format();
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try (MappedRecordReader reader = new MappedRecordReader(options.input(), format);
+                OutputStream out =
+                        new BufferedOutputStream(Files.newOutputStream(options.output()), OUTPUT_BUFFER_BYTES);
+                OutputStream rejects = options.rejects() != null
+                        ? new BufferedOutputStream(Files.newOutputStream(options.rejects()), OUTPUT_BUFFER_BYTES)
+                        : null) {
+            List<Message> pendingBatch = null;
+            ForkJoinTask<List<TransformResult>> pending = null;
+            List<Message> batch;
+            while (!(batch = readBatch(reader)).isEmpty()) {
+                List<Message> submitted = batch;
+                ForkJoinTask<List<TransformResult>> task =
+                        pool.submit(() -> engine.transformBatch(submitted, options.direction(), pool));
+                if (pending != null) {
+                    write(pendingBatch, await(pending), format, out, rejects);
+                }
+                pendingBatch = batch;
+                pending = task;
+                if (System.nanoTime() - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+                    lastProgress = System.nanoTime();
+                    LOG.info(
+                            "Bulk progress: records={}, bytes={}/{}, failed={}",
+                            records,
+                            reader.bytesRead(),
+                            reader.size(),
+                            failed);
+                }
+            }
+            if (pending != null) {
+                write(pendingBatch, await(pending), format, out, rejects);
+            }
+            out.flush();
+            return new Report(
+                    records,
+                    transformed,
+                    passthrough,
+                    failed,
+                    reader.size(),
+                    bytesOut,
+                    Duration.ofNanos(System.nanoTime() - started));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Message> readBatch(MappedRecordReader reader) throws IOException {
+        List<Message> batch = new ArrayList<>(options.batchSize());
+        byte[] record;
+        while (batch.size() < options.batchSize() && (record = reader.next()) != null) {
+            batch.add(new Message(
+                    MessageBody.json(record),
+                    HttpHeaders.empty(),
+                    options.direction() == Direction.RESPONSE ? options.status() : null,
+                    options.path(),
+                    options.method(),
+                    null,
+                    SessionContext.empty()));
+        }
+        return batch;
+    }
+
+    private static List<TransformResult> await(ForkJoinTask<List<TransformResult>> task)
+            throws IOException, InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Bulk transform failed", e.getCause());
+        }
+    }
+
+    private void write(
+            List<Message> batch,
+            List<TransformResult> results,
+            RecordFormat format,
+            OutputStream out,
+            OutputStream rejects)
+            throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            records++;
+            Message message = batch.get(i);
+            TransformResult result = results.get(i);
+            if (result.isError()) {
+                failed++;
+                if (failed <= MAX_LOGGED_FAILURES) {
+                    LOG.warn(
+                            "Record {} failed: {}{}",
+                            records,
+                            result.errorResponse().asString(),
+                            failed == MAX_LOGGED_FAILURES ? " (further failures are only counted)" : "");
+                }
+                if (rejects != null) {
+                    writeRecord(rejects, format, message.body().content());
+                }
+            } else if (result.isPassthrough()) {
+                passthrough++;
+                bytesOut += writeRecord(out, format, message.body().content());
+            } else {
+                transformed++;
+                bytesOut += writeRecord(out, format, result.message().body().content());
+            }
+        }
+    }
+
+    private static int writeRecord(OutputStream out, RecordFormat format, byte[] content) throws IOException {
+        byte[] prefix = format.prefix();
+        out.write(prefix);
+        out.write(content);
+        out.write(format.suffix());
+        return prefix.length + content.length + 1;
+    }
+}
@@ -0,0 +1,141 @@
+package io.messagexform.standalone.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the records of an NDJSON or JSON-seq file through memory-mapped
+ * regions (FR-004-56).
+ *
+ * <p>
+ * The file is mapped one region at a time (1 GiB by default), so files
+ * larger than a single {@link MappedByteBuffer} can hold are supported and
+ * the OS pages the input in and out as needed. A record that crosses the end
+ * of a region is re-read from the start of the next mapping; a single record
+ * larger than a region is rejected.
+ *
+ * <p>
+ * Not thread-safe — the bulk transformer reads from one thread.
+ */
+final class MappedRecordReader implements Closeable {
+
+    /** Default mapped region size. */
+    static final int DEFAULT_REGION_BYTES = 1 << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int regionBytes;
+    private final byte delimiter;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+    private int position;
+    private long bytesRead;
+
+    MappedRecordReader(Path path, RecordFormat format) throws IOException {
+        this(path, format, DEFAULT_REGION_BYTES);
+    }
+
+    MappedRecordReader(Path path, RecordFormat format, int regionBytes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.regionBytes = regionBytes;
+        this.delimiter = format.delimiter();
+    }
+
+    /**
+     * Returns the next non-empty record, trimmed of surrounding whitespace,
+     * or {@code null} at end of file.
+     *
+     * @throws IOException if the file cannot be mapped, or a record is larger
+     *                     than a mapped region
+     */
+    byte[] next() throws IOException {
+        while (true) {
+            if (region == null || position >= region.limit()) {
+                if (!map(region == null ? 0 : regionStart + position)) {
+                    return null;
+                }
+            }
+            int start = position;
+            int end = indexOfDelimiter(start);
+            if (end < 0) {
+                if (regionStart + region.limit() < size) {
+                    if (start == 0) {
+                        throw new IOException(
+                                "Record at offset " + regionStart + " is larger than " + regionBytes + " bytes");
+                    }
+                    // Record continues past this region — map again from its start
+                    map(regionStart + start);
+                    continue;
+                }
+                end = region.limit();
+            }
+            position = end + 1;
+            bytesRead = Math.min(size, regionStart + position);
+            byte[] record = trimmed(start, end);
+            if (record != null) {
+                return record;
+            }
+        }
+    }
+
+    /** Input bytes consumed so far. */
+    long bytesRead() {
+        return bytesRead;
+    }
+
+    /** Total size of the input file. */
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+
+    private boolean map(long start) throws IOException {
+        if (start >= size) {
+            return false;
+        }
+        region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionBytes, size - start));
+        regionStart = start;
+        position = 0;
+        return true;
+    }
+
+    private int indexOfDelimiter(int from) {
+        int limit = region.limit();
+        for (int i = from; i < limit; i++) {
+            if (region.get(i) == delimiter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private byte[] trimmed(int start, int end) {
+        while (start < end && isWhitespace(region.get(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(region.get(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        byte[] record = new byte[end - start];
+        region.get(start, record);
+        return record;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
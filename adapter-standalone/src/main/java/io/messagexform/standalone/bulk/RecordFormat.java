@@ -0,0 +1,71 @@
+package io.messagexform.standalone.bulk;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Record framing of a bulk input or output file (FR-004-56).
+ *
+ * <ul>
+ * <li>{@link #NDJSON} — one JSON value per line, terminated by {@code LF}.
+ * <li>{@link #JSON_SEQ} — RFC 7464 JSON text sequence: each value is
+ * preceded by {@code RS} (0x1E) and followed by {@code LF}.
+ * </ul>
+ *
+ * <p>
+ * On input, records are the bytes between two {@link #delimiter()}s with
+ * surrounding whitespace trimmed; empty records are skipped.
+ */
+public enum RecordFormat {
+    NDJSON("ndjson"),
+    JSON_SEQ("json-seq");
+
+    private static final byte LF = '\n';
+    private static final byte RS = 0x1E;
+
+    private final String cliName;
+
+    RecordFormat(String cliName) {
+        this.cliName = cliName;
+    }
+
+    /** The byte that separates records on input. */
+    byte delimiter() {
+        return this == JSON_SEQ ? RS : LF;
+    }
+
+    /** Bytes written before each output record. */
+    byte[] prefix() {
+        return this == JSON_SEQ ? new byte[] {RS} : new byte[0];
+    }
+
+    /** Byte written after each output record. */
+    byte suffix() {
+        return LF;
+    }
+
+    /** The value of {@code --format} that selects this format. */
+    public String cliName() {
+        return cliName;
+    }
+
+    /**
+     * Parses a {@code --format} value.
+     *
+     * @throws IllegalArgumentException if {@code name} is not a known format
+     */
+    public static RecordFormat fromCliName(String name) {
+        for (RecordFormat format : values()) {
+            if (format.cliName.equals(name.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown --format '" + name + "' (expected ndjson or json-seq)");
+    }
+
+    /** {@link #JSON_SEQ} for {@code .json-seq} / {@code .jsonseq} files, else {@link #NDJSON}. */
+    public static RecordFormat forPath(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".json-seq") || name.endsWith(".jsonseq") ? JSON_SEQ : NDJSON;
+    }
+}
@@ -0,0 +1,23 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Adaptive upstream concurrency limiting (CFG-004-66..69, FR-004-48).
+ *
+ * <p>
+ * Each backend gets its own limit on exchanges in flight, moved between
+ * {@code minLimit} and {@code maxLimit} by the response times the proxy
+ * observes: it grows while latency stays near the backend's unloaded
+ * latency and shrinks as queueing inflates it or exchanges time out.
+ * Requests over the limit are rejected with {@code 503} at once instead of
+ * queueing behind a slow backend.
+ *
+ * @param enabled      adapt and enforce the limit (CFG-004-66)
+ * @param initialLimit limit before the first measurements (CFG-004-67)
+ * @param minLimit     floor the limit never drops below (CFG-004-68)
+ * @param maxLimit     ceiling the limit never grows above (CFG-004-69)
+ */
+public record AdaptiveConcurrencyConfig(boolean enabled, int initialLimit, int minLimit, int maxLimit) {
+
+    /** Default configuration — disabled; only the pool limits apply. */
+    public static final AdaptiveConcurrencyConfig DISABLED = new AdaptiveConcurrencyConfig(false, 20, 4, 1000);
+}
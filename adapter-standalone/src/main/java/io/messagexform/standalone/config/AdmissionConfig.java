@@ -0,0 +1,34 @@
+package io.messagexform.standalone.config;
+
+import java.util.List;
+
+/**
+ * Admission control configuration (CFG-004-88..91, FR-004-54).
+ *
+ * @param enabled        bound the requests the proxy handler works on at once
+ *                       (CFG-004-88)
+ * @param maxInFlight    requests admitted at once; later ones wait in the
+ *                       queue (CFG-004-89)
+ * @param queueCapacity  requests waiting for admission before the lowest
+ *                       priority ones are shed with 503 (CFG-004-90)
+ * @param queueTimeoutMs longest a request waits for admission; a request
+ *                       whose predicted wait is longer is rejected at once
+ *                       (CFG-004-91)
+ */
+public record AdmissionConfig(boolean enabled, int maxInFlight, int queueCapacity, int queueTimeoutMs) {
+
+    /** Shed last — e.g. health-check style and critical APIs. */
+    public static final String CRITICAL = "critical";
+
+    /** Default priority of proxied requests. */
+    public static final String NORMAL = "normal";
+
+    /** Shed first — e.g. batch or best-effort APIs. */
+    public static final String LOW = "low";
+
+    /** Valid {@code engine.profile-routes[].priority} values (CFG-004-92). */
+    public static final List<String> PRIORITIES = List.of(CRITICAL, NORMAL, LOW);
+
+    /** Default configuration — every request is admitted. */
+    public static final AdmissionConfig DISABLED = new AdmissionConfig(false, 256, 1024, 1000);
+}
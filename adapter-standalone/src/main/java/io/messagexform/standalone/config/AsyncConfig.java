@@ -0,0 +1,17 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Asynchronous proxy pipeline configuration (CFG-004-45..47, FR-004-42).
+ *
+ * @param enabled          run the proxy handler as a non-blocking pipeline
+ *                         (CFG-004-45)
+ * @param transformThreads size of the dedicated transform executor; 0 sizes
+ *                         it to the available processors (CFG-004-46)
+ * @param queueCapacity    max transform tasks waiting for a thread before
+ *                         requests are rejected with 503 (CFG-004-47)
+ */
+public record AsyncConfig(boolean enabled, int transformThreads, int queueCapacity) {
+
+    /** Default configuration — blocking handler. */
+    public static final AsyncConfig DISABLED = new AsyncConfig(false, 0, 1024);
+}
@@ -0,0 +1,45 @@
+package io.messagexform.standalone.config;
+
+import java.util.List;
+
+/**
+ * Named group of interchangeable backends that requests are load-balanced
+ * across (CFG-004-53..55, FR-004-45).
+ *
+ * <p>
+ * Members share the {@code backend} section's scheme, timeouts, TLS, pool
+ * and protocol settings; only the address differs. Keyed profile routes
+ * select a group with {@code backend-group} (CFG-004-56); every other request
+ * goes to {@code backend.host}.
+ *
+ * @param name       group name, referenced by
+ *                   {@code engine.profile-routes[].backend-group}
+ * @param policy     load-balancing policy: {@code round-robin},
+ *                   {@code least-outstanding}, {@code power-of-two} or
+ *                   {@code consistent-hash} (CFG-004-54)
+ * @param hashHeader request header hashed by {@code consistent-hash}; required
+ *                   for that policy, ignored otherwise (CFG-004-55)
+ * @param members    backend addresses, at least one (CFG-004-53)
+ */
+public record BackendGroupConfig(String name, String policy, String hashHeader, List<Member> members) {
+
+    /** Each member in turn. */
+    public static final String ROUND_ROBIN = "round-robin";
+
+    /** The member with the fewest exchanges in flight. */
+    public static final String LEAST_OUTSTANDING = "least-outstanding";
+
+    /** The less loaded of two random members. */
+    public static final String POWER_OF_TWO = "power-of-two";
+
+    /** The member owning the hash of {@code hashHeader} on a hash ring. */
+    public static final String CONSISTENT_HASH = "consistent-hash";
+
+    /**
+     * One backend in a group.
+     *
+     * @param host backend hostname or IP
+     * @param port backend port
+     */
+    public record Member(String host, int port) {}
+}
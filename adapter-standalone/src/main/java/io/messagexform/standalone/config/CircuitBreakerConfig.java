@@ -0,0 +1,36 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Per-backend circuit breaker (CFG-004-70..75, FR-004-49).
+ *
+ * <p>
+ * The breaker watches the outcome of the last {@code windowSize} exchanges
+ * with a backend. Once at least {@code minimumCalls} have been seen and
+ * {@code failureRateThreshold} percent of them failed, it opens: requests
+ * fail fast with {@code 503} and {@code Retry-After} for
+ * {@code openDurationMs}. It then lets {@code halfOpenCalls} trial requests
+ * through; if all succeed it closes, otherwise it opens again.
+ *
+ * @param enabled              enable the breaker (CFG-004-70)
+ * @param failureRateThreshold failure percentage that opens the breaker,
+ *                             1..100 (CFG-004-71)
+ * @param minimumCalls         outcomes needed before the rate is judged
+ *                             (CFG-004-72)
+ * @param windowSize           number of most recent outcomes considered
+ *                             (CFG-004-73)
+ * @param openDurationMs       how long the breaker stays open in ms
+ *                             (CFG-004-74)
+ * @param halfOpenCalls        trial requests let through after the open
+ *                             period (CFG-004-75)
+ */
+public record CircuitBreakerConfig(
+        boolean enabled,
+        int failureRateThreshold,
+        int minimumCalls,
+        int windowSize,
+        int openDurationMs,
+        int halfOpenCalls) {
+
+    /** Default configuration — disabled. */
+    public static final CircuitBreakerConfig DISABLED = new CircuitBreakerConfig(false, 50, 20, 100, 30000, 5);
+}
@@ -0,0 +1,17 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Outbound response compression configuration (CFG-004-85..87, FR-004-53).
+ *
+ * @param enabled  gzip-compress responses for clients that send
+ *                 {@code Accept-Encoding: gzip} (CFG-004-85); responses that
+ *                 already carry a {@code Content-Encoding} are never touched
+ * @param minBytes smaller responses are sent uncompressed (CFG-004-86)
+ * @param level    gzip compression level, 1 (fastest) to 9 (smallest)
+ *                 (CFG-004-87)
+ */
+public record CompressionConfig(boolean enabled, int minBytes, int level) {
+
+    /** Default configuration — gzip at level 6 from 1500 bytes, as Javalin does out of the box. */
+    public static final CompressionConfig DEFAULT = new CompressionConfig(true, 1500, 6);
+}
@@ -6,6 +6,11 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -135,6 +140,45 @@ public final class ConfigLoader {
         if (shutdown.has("drain-timeout-ms"))
             builder.shutdownDrainTimeoutMs(shutdown.get("drain-timeout-ms").asInt());
 
+        // Proxy virtual threads (from YAML)
+        JsonNode virtualThreads = proxy.path("virtual-threads");
+        boolean yamlVirtualThreadsEnabled = boolOrDefault(virtualThreads, "enabled", false);
+        int yamlVirtualThreadsPinnedThresholdMs = intOrDefault(virtualThreads, "pinned-threshold-ms", 20);
+
+        // Proxy async pipeline (from YAML)
+        JsonNode async = proxy.path("async");
+        boolean yamlAsyncEnabled = boolOrDefault(async, "enabled", false);
+        int yamlAsyncTransformThreads = intOrDefault(async, "transform-threads", 0);
+        int yamlAsyncQueueCapacity = intOrDefault(async, "queue-capacity", 1024);
+
+        // Proxy response cache (from YAML)
+        JsonNode cache = proxy.path("cache");
+        boolean yamlCacheEnabled = boolOrDefault(cache, "enabled", false);
+        int yamlCacheMaxBytes = intOrDefault(cache, "max-bytes", 67_108_864);
+        int yamlCacheMaxEntryBytes = intOrDefault(cache, "max-entry-bytes", 1_048_576);
+
+        // Proxy response compression (from YAML)
+        JsonNode compression = proxy.path("compression");
+        boolean yamlCompressionEnabled = boolOrDefault(compression, "enabled", true);
+        int yamlCompressionMinBytes = intOrDefault(compression, "min-bytes", 1500);
+        int yamlCompressionLevel = intOrDefault(compression, "level", 6);
+
+        // Proxy admission control (from YAML)
+        JsonNode admission = proxy.path("admission");
+        boolean yamlAdmissionEnabled = boolOrDefault(admission, "enabled", false);
+        int yamlAdmissionMaxInFlight = intOrDefault(admission, "max-in-flight", 256);
+        int yamlAdmissionQueueCapacity = intOrDefault(admission, "queue-capacity", 1024);
+        int yamlAdmissionQueueTimeoutMs = intOrDefault(admission, "queue-timeout-ms", 1000);
+
+        // Proxy rate limiting (from YAML)
+        JsonNode rateLimit = proxy.path("rate-limit");
+        boolean yamlRateLimitEnabled = boolOrDefault(rateLimit, "enabled", false);
+        String yamlRateLimitKey = textOrDefault(rateLimit, "key", RateLimitConfig.KEY_IP);
+        String yamlRateLimitHeader = textOrDefault(rateLimit, "header", "X-API-Key");
+        int yamlRateLimitRequestsPerSecond = intOrDefault(rateLimit, "requests-per-second", 100);
+        int yamlRateLimitBurst = intOrDefault(rateLimit, "burst", 200);
+        int yamlRateLimitMaxKeys = intOrDefault(rateLimit, "max-keys", 100_000);
+
         // Proxy forwarded headers
         JsonNode forwarded = proxy.path("forwarded-headers");
         if (forwarded.has("enabled"))
@@ -165,6 +209,56 @@ public final class ConfigLoader {
         int yamlPoolMaxConnections = intOrDefault(pool, "max-connections", 100);
         boolean yamlPoolKeepAlive = boolOrDefault(pool, "keep-alive", true);
         int yamlPoolIdleTimeoutMs = intOrDefault(pool, "idle-timeout-ms", 60000);
+        int yamlPoolMaxPending = intOrDefault(pool, "max-pending", 1000);
+        int yamlPoolAcquireTimeoutMs = intOrDefault(pool, "acquire-timeout-ms", 5000);
+        int yamlPoolPrewarmConnections = intOrDefault(pool, "prewarm-connections", 0);
+
+        // Backend protocol (from YAML)
+        String yamlBackendProtocol = textOrDefault(backend, "protocol", UpstreamProtocolConfig.HTTP_1_1);
+        int yamlHttp2MaxConcurrentStreams = intOrDefault(backend.path("http2"), "max-concurrent-streams", 0);
+
+        // Backend groups (CFG-004-53..55) — YAML only, like engine.profile-routes
+        if (backend.has("groups")) builder.backendGroups(parseBackendGroups(backend.get("groups")));
+
+        // Backend health checks (from YAML)
+        JsonNode healthCheck = backend.path("health-check");
+        boolean yamlHealthCheckEnabled = boolOrDefault(healthCheck, "enabled", false);
+        String yamlHealthCheckPath = textOrNull(healthCheck, "path");
+        int yamlHealthCheckIntervalMs = intOrDefault(healthCheck, "interval-ms", 5000);
+        int yamlHealthCheckTimeoutMs = intOrDefault(healthCheck, "timeout-ms", 1000);
+        int yamlHealthCheckHealthyThreshold = intOrDefault(healthCheck, "healthy-threshold", 2);
+        int yamlHealthCheckUnhealthyThreshold = intOrDefault(healthCheck, "unhealthy-threshold", 3);
+
+        // Backend outlier ejection (from YAML)
+        JsonNode outlierEjection = backend.path("outlier-ejection");
+        int yamlOutlierConsecutiveFailures = intOrDefault(outlierEjection, "consecutive-failures", 5);
+        int yamlOutlierBaseEjectionMs = intOrDefault(outlierEjection, "base-ejection-ms", 30000);
+        int yamlOutlierMaxEjectionPercent = intOrDefault(outlierEjection, "max-ejection-percent", 50);
+
+        // Adaptive concurrency limit (from YAML)
+        JsonNode adaptive = backend.path("adaptive-concurrency");
+        boolean yamlAdaptiveEnabled = boolOrDefault(adaptive, "enabled", false);
+        int yamlAdaptiveInitialLimit = intOrDefault(adaptive, "initial-limit", 20);
+        int yamlAdaptiveMinLimit = intOrDefault(adaptive, "min-limit", 4);
+        int yamlAdaptiveMaxLimit = intOrDefault(adaptive, "max-limit", 1000);
+
+        // Circuit breaker (from YAML)
+        JsonNode breaker = backend.path("circuit-breaker");
+        boolean yamlBreakerEnabled = boolOrDefault(breaker, "enabled", false);
+        int yamlBreakerFailureRateThreshold = intOrDefault(breaker, "failure-rate-threshold", 50);
+        int yamlBreakerMinimumCalls = intOrDefault(breaker, "minimum-calls", 20);
+        int yamlBreakerWindowSize = intOrDefault(breaker, "window-size", 100);
+        int yamlBreakerOpenDurationMs = intOrDefault(breaker, "open-duration-ms", 30000);
+        int yamlBreakerHalfOpenCalls = intOrDefault(breaker, "half-open-calls", 5);
+
+        // Hedging and retries (from YAML)
+        JsonNode hedging = backend.path("hedging");
+        boolean yamlHedgingEnabled = boolOrDefault(hedging, "enabled", false);
+        int yamlHedgingDelayMs = intOrDefault(hedging, "delay-ms", 0);
+        JsonNode retry = backend.path("retry");
+        int yamlRetryMaxRetries = intOrDefault(retry, "max-retries", 0);
+        int yamlRetryBudgetPercent = intOrDefault(retry, "budget-percent", 20);
+        int yamlRetryBudgetMinPerSecond = intOrDefault(retry, "budget-min-per-second", 10);
 
         // Engine section
         JsonNode engine = root.path("engine");
@@ -172,6 +266,7 @@ public final class ConfigLoader {
         if (engine.has("profiles-dir"))
             builder.profilesDir(engine.get("profiles-dir").asText());
         if (engine.has("profile")) builder.profilePath(engine.get("profile").asText());
+        if (engine.has("profile-routes")) builder.profileRoutes(parseProfileRoutes(engine.get("profile-routes")));
         if (engine.has("schema-validation"))
             builder.schemaValidation(engine.get("schema-validation").asText());
 
@@ -218,7 +313,57 @@ public final class ConfigLoader {
                 yamlBackendTlsKeystoreType,
                 yamlPoolMaxConnections,
                 yamlPoolKeepAlive,
-                yamlPoolIdleTimeoutMs);
+                yamlPoolIdleTimeoutMs,
+                yamlPoolMaxPending,
+                yamlPoolAcquireTimeoutMs,
+                yamlPoolPrewarmConnections,
+                yamlVirtualThreadsEnabled,
+                yamlVirtualThreadsPinnedThresholdMs,
+                yamlAsyncEnabled,
+                yamlAsyncTransformThreads,
+                yamlAsyncQueueCapacity,
+                yamlBackendProtocol,
+                yamlHttp2MaxConcurrentStreams,
+                yamlHealthCheckEnabled,
+                yamlHealthCheckPath,
+                yamlHealthCheckIntervalMs,
+                yamlHealthCheckTimeoutMs,
+                yamlHealthCheckHealthyThreshold,
+                yamlHealthCheckUnhealthyThreshold,
+                yamlOutlierConsecutiveFailures,
+                yamlOutlierBaseEjectionMs,
+                yamlOutlierMaxEjectionPercent,
+                yamlAdaptiveEnabled,
+                yamlAdaptiveInitialLimit,
+                yamlAdaptiveMinLimit,
+                yamlAdaptiveMaxLimit,
+                yamlBreakerEnabled,
+                yamlBreakerFailureRateThreshold,
+                yamlBreakerMinimumCalls,
+                yamlBreakerWindowSize,
+                yamlBreakerOpenDurationMs,
+                yamlBreakerHalfOpenCalls,
+                yamlHedgingEnabled,
+                yamlHedgingDelayMs,
+                yamlRetryMaxRetries,
+                yamlRetryBudgetPercent,
+                yamlRetryBudgetMinPerSecond,
+                yamlCacheEnabled,
+                yamlCacheMaxBytes,
+                yamlCacheMaxEntryBytes,
+                yamlCompressionEnabled,
+                yamlCompressionMinBytes,
+                yamlCompressionLevel,
+                yamlAdmissionEnabled,
+                yamlAdmissionMaxInFlight,
+                yamlAdmissionQueueCapacity,
+                yamlAdmissionQueueTimeoutMs,
+                yamlRateLimitEnabled,
+                yamlRateLimitKey,
+                yamlRateLimitHeader,
+                yamlRateLimitRequestsPerSecond,
+                yamlRateLimitBurst,
+                yamlRateLimitMaxKeys);
 
         ProxyConfig config = builder.build();
         validate(config);
@@ -241,6 +386,12 @@ public final class ConfigLoader {
         validateOneOf("logging.format", config.loggingFormat(), "json", "text");
         validateOneOf("proxy.tls.client-auth", config.proxyTls().clientAuth(), "none", "want", "need");
         validateOneOf("engine.schema-validation", config.schemaValidation(), "lenient", "strict");
+        validateOneOf(
+                "backend.protocol",
+                config.upstreamProtocol().protocol(),
+                UpstreamProtocolConfig.HTTP_1_1,
+                UpstreamProtocolConfig.H2,
+                UpstreamProtocolConfig.H2C);
 
         // Keystore types
         validateOneOf("proxy.tls.keystore-type", config.proxyTls().keystoreType(), "PKCS12", "JKS");
@@ -258,6 +409,248 @@ public final class ConfigLoader {
         validatePositive("reload.debounce-ms", config.reloadDebounceMs());
         validatePositive("backend.pool.max-connections", config.pool().maxConnections());
         validatePositive("backend.pool.idle-timeout-ms", config.pool().idleTimeoutMs());
+        validateNonNegative("backend.pool.max-pending", config.pool().maxPending()); // 0 = never wait
+        validatePositive("backend.pool.acquire-timeout-ms", config.pool().acquireTimeoutMs());
+        validateNonNegative("backend.pool.prewarm-connections", config.pool().prewarmConnections());
+        if (config.pool().prewarmConnections() > config.pool().maxConnections()) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.pool.prewarm-connections' (%d) exceeds 'backend.pool.max-connections' (%d)."
+                            .formatted(
+                                    config.pool().prewarmConnections(),
+                                    config.pool().maxConnections()));
+        }
+        validateNonNegative(
+                "proxy.virtual-threads.pinned-threshold-ms",
+                config.virtualThreads().pinnedThresholdMs()); // 0 = no diagnostics
+        validateNonNegative("proxy.async.transform-threads", config.async().transformThreads()); // 0 = auto
+        validatePositive("proxy.async.queue-capacity", config.async().queueCapacity());
+        validateNonNegative(
+                "backend.http2.max-concurrent-streams",
+                config.upstreamProtocol().maxConcurrentStreams()); // 0 = backend's limit
+
+        // --- Protocol vs scheme (CFG-004-48): ALPN needs TLS, h2c needs cleartext ---
+        String protocol = config.upstreamProtocol().protocol();
+        if (UpstreamProtocolConfig.H2.equals(protocol) && !"https".equals(config.backendScheme())) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.protocol' h2 requires 'backend.scheme' https; use h2c for http.");
+        }
+        if (UpstreamProtocolConfig.H2C.equals(protocol) && !"http".equals(config.backendScheme())) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.protocol' h2c requires 'backend.scheme' http; use h2 for https.");
+        }
+
+        // --- Backend groups (CFG-004-53..55) ---
+        Set<String> groupNames = new HashSet<>();
+        for (BackendGroupConfig group : config.backendGroups()) {
+            String field = "backend.groups." + group.name();
+            validateOneOf(
+                    field + ".policy",
+                    group.policy(),
+                    BackendGroupConfig.ROUND_ROBIN,
+                    BackendGroupConfig.LEAST_OUTSTANDING,
+                    BackendGroupConfig.POWER_OF_TWO,
+                    BackendGroupConfig.CONSISTENT_HASH);
+            if (BackendGroupConfig.CONSISTENT_HASH.equals(group.policy())
+                    && (group.hashHeader() == null || group.hashHeader().isBlank())) {
+                throw new ConfigLoadException(
+                        "Configuration error: '%s.hash-header' is required for policy consistent-hash."
+                                .formatted(field));
+            }
+            if (group.members().isEmpty()) {
+                throw new ConfigLoadException(
+                        "Configuration error: '%s.members' must list at least one backend.".formatted(field));
+            }
+            for (int i = 0; i < group.members().size(); i++) {
+                BackendGroupConfig.Member member = group.members().get(i);
+                if (member.host() == null || member.host().isBlank()) {
+                    throw new ConfigLoadException(
+                            "Configuration error: '%s.members[%d].host' is required.".formatted(field, i));
+                }
+                validatePositive(field + ".members[" + i + "].port", member.port());
+            }
+            groupNames.add(group.name());
+        }
+
+        // --- Health checks and outlier ejection (CFG-004-57..65) ---
+        validatePositive(
+                "backend.health-check.interval-ms", config.healthCheck().intervalMs());
+        validatePositive("backend.health-check.timeout-ms", config.healthCheck().timeoutMs());
+        validatePositive(
+                "backend.health-check.healthy-threshold", config.healthCheck().healthyThreshold());
+        validatePositive(
+                "backend.health-check.unhealthy-threshold", config.healthCheck().unhealthyThreshold());
+        if (config.healthCheck().path() != null && !config.healthCheck().path().startsWith("/")) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.health-check.path' must start with '/', got '%s'."
+                            .formatted(config.healthCheck().path()));
+        }
+        validateNonNegative(
+                "backend.outlier-ejection.consecutive-failures",
+                config.outlierEjection().consecutiveFailures()); // 0 = no ejection
+        validatePositive(
+                "backend.outlier-ejection.base-ejection-ms",
+                config.outlierEjection().baseEjectionMs());
+        int maxEjectionPercent = config.outlierEjection().maxEjectionPercent();
+        if (maxEjectionPercent < 0 || maxEjectionPercent > 100) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.outlier-ejection.max-ejection-percent' must be 0..100, got %d."
+                            .formatted(maxEjectionPercent));
+        }
+
+        // --- Adaptive concurrency and circuit breaker (CFG-004-66..75) ---
+        AdaptiveConcurrencyConfig adaptive = config.adaptiveConcurrency();
+        validatePositive("backend.adaptive-concurrency.min-limit", adaptive.minLimit());
+        if (adaptive.initialLimit() < adaptive.minLimit() || adaptive.initialLimit() > adaptive.maxLimit()) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.adaptive-concurrency.initial-limit' (%d) must lie between 'min-limit' (%d) and 'max-limit' (%d)."
+                            .formatted(adaptive.initialLimit(), adaptive.minLimit(), adaptive.maxLimit()));
+        }
+        CircuitBreakerConfig breaker = config.circuitBreaker();
+        if (breaker.failureRateThreshold() < 1 || breaker.failureRateThreshold() > 100) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.circuit-breaker.failure-rate-threshold' must be 1..100, got %d."
+                            .formatted(breaker.failureRateThreshold()));
+        }
+        validatePositive("backend.circuit-breaker.minimum-calls", breaker.minimumCalls());
+        validatePositive("backend.circuit-breaker.window-size", breaker.windowSize());
+        if (breaker.minimumCalls() > breaker.windowSize()) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.circuit-breaker.minimum-calls' (%d) exceeds 'backend.circuit-breaker.window-size' (%d)."
+                            .formatted(breaker.minimumCalls(), breaker.windowSize()));
+        }
+        validatePositive("backend.circuit-breaker.open-duration-ms", breaker.openDurationMs());
+        validatePositive("backend.circuit-breaker.half-open-calls", breaker.halfOpenCalls());
+
+        // --- Hedging and retries (CFG-004-76..80) ---
+        validateNonNegative("backend.hedging.delay-ms", config.hedging().delayMs()); // 0 = observed p95
+        RetryConfig retry = config.retry();
+        validateNonNegative("backend.retry.max-retries", retry.maxRetries());
+        if (retry.budgetPercent() < 0 || retry.budgetPercent() > 100) {
+            throw new ConfigLoadException("Configuration error: 'backend.retry.budget-percent' must be 0..100, got %d."
+                    .formatted(retry.budgetPercent()));
+        }
+        validateNonNegative("backend.retry.budget-min-per-second", retry.budgetMinPerSecond());
+
+        // --- Response cache (CFG-004-82..84) ---
+        ResponseCacheConfig cache = config.cache();
+        validatePositive("proxy.cache.max-bytes", cache.maxBytes());
+        validatePositive("proxy.cache.max-entry-bytes", cache.maxEntryBytes());
+        if (cache.maxEntryBytes() > cache.maxBytes()) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'proxy.cache.max-entry-bytes' (%d) exceeds 'proxy.cache.max-bytes' (%d)."
+                            .formatted(cache.maxEntryBytes(), cache.maxBytes()));
+        }
+
+        // --- Response compression (CFG-004-85..87) ---
+        CompressionConfig compressionConfig = config.compression();
+        validateNonNegative("proxy.compression.min-bytes", compressionConfig.minBytes());
+        if (compressionConfig.level() < 1 || compressionConfig.level() > 9) {
+            throw new ConfigLoadException("Configuration error: 'proxy.compression.level' must be 1..9, got %d."
+                    .formatted(compressionConfig.level()));
+        }
+
+        // --- Admission control (CFG-004-88..91) ---
+        AdmissionConfig admission = config.admission();
+        validatePositive("proxy.admission.max-in-flight", admission.maxInFlight());
+        validateNonNegative("proxy.admission.queue-capacity", admission.queueCapacity());
+        validateNonNegative("proxy.admission.queue-timeout-ms", admission.queueTimeoutMs());
+
+        // --- Rate limiting (CFG-004-93..98) ---
+        RateLimitConfig rateLimit = config.rateLimit();
+        validateOneOf(
+                "proxy.rate-limit.key",
+                rateLimit.key(),
+                RateLimitConfig.KEY_IP,
+                RateLimitConfig.KEY_HEADER,
+                RateLimitConfig.KEY_ROUTE);
+        if (RateLimitConfig.KEY_HEADER.equals(rateLimit.key())
+                && (rateLimit.header() == null || rateLimit.header().isBlank())) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'proxy.rate-limit.header' is required when 'proxy.rate-limit.key' is 'header'.");
+        }
+        validatePositive("proxy.rate-limit.requests-per-second", rateLimit.requestsPerSecond());
+        validatePositive("proxy.rate-limit.burst", rateLimit.burst());
+        validatePositive("proxy.rate-limit.max-keys", rateLimit.maxKeys());
+
+        // --- Keyed profile routes (CFG-004-42, CFG-004-56) ---
+        for (int i = 0; i < config.profileRoutes().size(); i++) {
+            ProfileRoute route = config.profileRoutes().get(i);
+            String field = "engine.profile-routes[" + i + "]";
+            if ((route.profilePath() == null || route.profilePath().isBlank())
+                    && route.backendGroup() == null
+                    && route.priority() == null) {
+                throw new ConfigLoadException(
+                        "Configuration error: '%s.profile', '%s.backend-group' or '%s.priority' is required."
+                                .formatted(field, field, field));
+            }
+            if (route.priority() != null && !AdmissionConfig.PRIORITIES.contains(route.priority())) {
+                throw new ConfigLoadException("Configuration error: '%s.priority' must be one of %s, got '%s'."
+                        .formatted(field, AdmissionConfig.PRIORITIES, route.priority()));
+            }
+            if (route.backendGroup() != null && !groupNames.contains(route.backendGroup())) {
+                throw new ConfigLoadException("Configuration error: '%s.backend-group' references unknown group '%s'."
+                        .formatted(field, route.backendGroup()));
+            }
+            if (route.host() == null && route.pathPrefix() == null) {
+                throw new ConfigLoadException(
+                        "Configuration error: '%s' must set 'host' and/or 'path-prefix'.".formatted(field));
+            }
+            if (route.pathPrefix() != null && !route.pathPrefix().startsWith("/")) {
+                throw new ConfigLoadException("Configuration error: '%s.path-prefix' must start with '/', got '%s'."
+                        .formatted(field, route.pathPrefix()));
+            }
+        }
+    }
+
+    /**
+     * Parses the {@code engine.profile-routes} list (CFG-004-42). Structural
+     * checks only — required fields are enforced by {@link #validate}.
+     */
+    private static List<ProfileRoute> parseProfileRoutes(JsonNode routes) {
+        if (!routes.isArray()) {
+            throw new ConfigLoadException("Configuration error: 'engine.profile-routes' must be a list.");
+        }
+        List<ProfileRoute> result = new ArrayList<>();
+        for (JsonNode route : routes) {
+            result.add(new ProfileRoute(
+                    textOrNull(route, "host"),
+                    textOrNull(route, "path-prefix"),
+                    textOrNull(route, "profile"),
+                    textOrNull(route, "backend-group"),
+                    route.has("hedging") ? route.get("hedging").asBoolean() : null,
+                    textOrNull(route, "priority")));
+        }
+        return result;
+    }
+
+    /**
+     * Parses the {@code backend.groups} map (CFG-004-53..55). Structural
+     * checks only — policies and members are enforced by {@link #validate}.
+     */
+    private static List<BackendGroupConfig> parseBackendGroups(JsonNode groups) {
+        if (!groups.isObject()) {
+            throw new ConfigLoadException(
+                    "Configuration error: 'backend.groups' must be a map of group name to group.");
+        }
+        List<BackendGroupConfig> result = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : groups.properties()) {
+            JsonNode group = entry.getValue();
+            JsonNode members = group.path("members");
+            if (!members.isArray()) {
+                throw new ConfigLoadException(
+                        "Configuration error: 'backend.groups.%s.members' must be a list.".formatted(entry.getKey()));
+            }
+            List<BackendGroupConfig.Member> parsed = new ArrayList<>();
+            for (JsonNode member : members) {
+                parsed.add(new BackendGroupConfig.Member(textOrNull(member, "host"), intOrDefault(member, "port", 0)));
+            }
+            result.add(new BackendGroupConfig(
+                    entry.getKey(),
+                    textOrDefault(group, "policy", BackendGroupConfig.ROUND_ROBIN),
+                    textOrNull(group, "hash-header"),
+                    List.copyOf(parsed)));
+        }
+        return result;
     }
 
     /** Validates that a value is one of the allowed values. */
@@ -319,7 +712,69 @@ public final class ConfigLoader {
             // Pool YAML values
             int yamlPoolMaxConnections,
             boolean yamlPoolKeepAlive,
-            int yamlPoolIdleTimeoutMs) {
+            int yamlPoolIdleTimeoutMs,
+            int yamlPoolMaxPending,
+            int yamlPoolAcquireTimeoutMs,
+            int yamlPoolPrewarmConnections,
+            // Virtual-thread YAML values
+            boolean yamlVirtualThreadsEnabled,
+            int yamlVirtualThreadsPinnedThresholdMs,
+            // Async pipeline YAML values
+            boolean yamlAsyncEnabled,
+            int yamlAsyncTransformThreads,
+            int yamlAsyncQueueCapacity,
+            // Backend protocol YAML values
+            String yamlBackendProtocol,
+            int yamlHttp2MaxConcurrentStreams,
+            // Backend health-check YAML values
+            boolean yamlHealthCheckEnabled,
+            String yamlHealthCheckPath,
+            int yamlHealthCheckIntervalMs,
+            int yamlHealthCheckTimeoutMs,
+            int yamlHealthCheckHealthyThreshold,
+            int yamlHealthCheckUnhealthyThreshold,
+            // Outlier-ejection YAML values
+            int yamlOutlierConsecutiveFailures,
+            int yamlOutlierBaseEjectionMs,
+            int yamlOutlierMaxEjectionPercent,
+            // Adaptive concurrency YAML values
+            boolean yamlAdaptiveEnabled,
+            int yamlAdaptiveInitialLimit,
+            int yamlAdaptiveMinLimit,
+            int yamlAdaptiveMaxLimit,
+            // Circuit-breaker YAML values
+            boolean yamlBreakerEnabled,
+            int yamlBreakerFailureRateThreshold,
+            int yamlBreakerMinimumCalls,
+            int yamlBreakerWindowSize,
+            int yamlBreakerOpenDurationMs,
+            int yamlBreakerHalfOpenCalls,
+            // Hedging and retry YAML values
+            boolean yamlHedgingEnabled,
+            int yamlHedgingDelayMs,
+            int yamlRetryMaxRetries,
+            int yamlRetryBudgetPercent,
+            int yamlRetryBudgetMinPerSecond,
+            // Response cache YAML values
+            boolean yamlCacheEnabled,
+            int yamlCacheMaxBytes,
+            int yamlCacheMaxEntryBytes,
+            // Response compression YAML values
+            boolean yamlCompressionEnabled,
+            int yamlCompressionMinBytes,
+            int yamlCompressionLevel,
+            // Admission control YAML values
+            boolean yamlAdmissionEnabled,
+            int yamlAdmissionMaxInFlight,
+            int yamlAdmissionQueueCapacity,
+            int yamlAdmissionQueueTimeoutMs,
+            // Rate limiting YAML values
+            boolean yamlRateLimitEnabled,
+            String yamlRateLimitKey,
+            String yamlRateLimitHeader,
+            int yamlRateLimitRequestsPerSecond,
+            int yamlRateLimitBurst,
+            int yamlRateLimitMaxKeys) {
 
         // --- Simple top-level string overrides ---
         envString(envLookup, "PROXY_HOST", builder::proxyHost);
@@ -374,7 +829,97 @@ public final class ConfigLoader {
         builder.pool(new PoolConfig(
                 envIntOrDefault(envLookup, "BACKEND_POOL_MAX_CONNECTIONS", yamlPoolMaxConnections),
                 envBoolOrDefault(envLookup, "BACKEND_POOL_KEEP_ALIVE", yamlPoolKeepAlive),
-                envIntOrDefault(envLookup, "BACKEND_POOL_IDLE_TIMEOUT_MS", yamlPoolIdleTimeoutMs)));
+                envIntOrDefault(envLookup, "BACKEND_POOL_IDLE_TIMEOUT_MS", yamlPoolIdleTimeoutMs),
+                envIntOrDefault(envLookup, "BACKEND_POOL_MAX_PENDING", yamlPoolMaxPending),
+                envIntOrDefault(envLookup, "BACKEND_POOL_ACQUIRE_TIMEOUT_MS", yamlPoolAcquireTimeoutMs),
+                envIntOrDefault(envLookup, "BACKEND_POOL_PREWARM_CONNECTIONS", yamlPoolPrewarmConnections)));
+
+        // --- Virtual threads ---
+        builder.virtualThreads(new VirtualThreadsConfig(
+                envBoolOrDefault(envLookup, "PROXY_VIRTUAL_THREADS_ENABLED", yamlVirtualThreadsEnabled),
+                envIntOrDefault(
+                        envLookup, "PROXY_VIRTUAL_THREADS_PINNED_THRESHOLD_MS", yamlVirtualThreadsPinnedThresholdMs)));
+
+        // --- Async pipeline ---
+        builder.async(new AsyncConfig(
+                envBoolOrDefault(envLookup, "PROXY_ASYNC_ENABLED", yamlAsyncEnabled),
+                envIntOrDefault(envLookup, "PROXY_ASYNC_TRANSFORM_THREADS", yamlAsyncTransformThreads),
+                envIntOrDefault(envLookup, "PROXY_ASYNC_QUEUE_CAPACITY", yamlAsyncQueueCapacity)));
+
+        // --- Backend protocol ---
+        builder.upstreamProtocol(new UpstreamProtocolConfig(
+                envStringOrDefault(envLookup, "BACKEND_PROTOCOL", yamlBackendProtocol),
+                envIntOrDefault(envLookup, "BACKEND_HTTP2_MAX_CONCURRENT_STREAMS", yamlHttp2MaxConcurrentStreams)));
+
+        // --- Backend health checks ---
+        builder.healthCheck(new HealthCheckConfig(
+                envBoolOrDefault(envLookup, "BACKEND_HEALTH_CHECK_ENABLED", yamlHealthCheckEnabled),
+                envStringOrDefault(envLookup, "BACKEND_HEALTH_CHECK_PATH", yamlHealthCheckPath),
+                envIntOrDefault(envLookup, "BACKEND_HEALTH_CHECK_INTERVAL_MS", yamlHealthCheckIntervalMs),
+                envIntOrDefault(envLookup, "BACKEND_HEALTH_CHECK_TIMEOUT_MS", yamlHealthCheckTimeoutMs),
+                envIntOrDefault(envLookup, "BACKEND_HEALTH_CHECK_HEALTHY_THRESHOLD", yamlHealthCheckHealthyThreshold),
+                envIntOrDefault(
+                        envLookup, "BACKEND_HEALTH_CHECK_UNHEALTHY_THRESHOLD", yamlHealthCheckUnhealthyThreshold)));
+
+        // --- Outlier ejection ---
+        builder.outlierEjection(new OutlierEjectionConfig(
+                envIntOrDefault(envLookup, "BACKEND_OUTLIER_CONSECUTIVE_FAILURES", yamlOutlierConsecutiveFailures),
+                envIntOrDefault(envLookup, "BACKEND_OUTLIER_BASE_EJECTION_MS", yamlOutlierBaseEjectionMs),
+                envIntOrDefault(envLookup, "BACKEND_OUTLIER_MAX_EJECTION_PERCENT", yamlOutlierMaxEjectionPercent)));
+
+        // --- Adaptive concurrency ---
+        builder.adaptiveConcurrency(new AdaptiveConcurrencyConfig(
+                envBoolOrDefault(envLookup, "BACKEND_ADAPTIVE_CONCURRENCY_ENABLED", yamlAdaptiveEnabled),
+                envIntOrDefault(envLookup, "BACKEND_ADAPTIVE_CONCURRENCY_INITIAL_LIMIT", yamlAdaptiveInitialLimit),
+                envIntOrDefault(envLookup, "BACKEND_ADAPTIVE_CONCURRENCY_MIN_LIMIT", yamlAdaptiveMinLimit),
+                envIntOrDefault(envLookup, "BACKEND_ADAPTIVE_CONCURRENCY_MAX_LIMIT", yamlAdaptiveMaxLimit)));
+
+        // --- Circuit breaker ---
+        builder.circuitBreaker(new CircuitBreakerConfig(
+                envBoolOrDefault(envLookup, "BACKEND_CIRCUIT_BREAKER_ENABLED", yamlBreakerEnabled),
+                envIntOrDefault(
+                        envLookup, "BACKEND_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD", yamlBreakerFailureRateThreshold),
+                envIntOrDefault(envLookup, "BACKEND_CIRCUIT_BREAKER_MINIMUM_CALLS", yamlBreakerMinimumCalls),
+                envIntOrDefault(envLookup, "BACKEND_CIRCUIT_BREAKER_WINDOW_SIZE", yamlBreakerWindowSize),
+                envIntOrDefault(envLookup, "BACKEND_CIRCUIT_BREAKER_OPEN_DURATION_MS", yamlBreakerOpenDurationMs),
+                envIntOrDefault(envLookup, "BACKEND_CIRCUIT_BREAKER_HALF_OPEN_CALLS", yamlBreakerHalfOpenCalls)));
+
+        // --- Hedging and retries ---
+        builder.hedging(new HedgingConfig(
+                envBoolOrDefault(envLookup, "BACKEND_HEDGING_ENABLED", yamlHedgingEnabled),
+                envIntOrDefault(envLookup, "BACKEND_HEDGING_DELAY_MS", yamlHedgingDelayMs)));
+        builder.retry(new RetryConfig(
+                envIntOrDefault(envLookup, "BACKEND_RETRY_MAX_RETRIES", yamlRetryMaxRetries),
+                envIntOrDefault(envLookup, "BACKEND_RETRY_BUDGET_PERCENT", yamlRetryBudgetPercent),
+                envIntOrDefault(envLookup, "BACKEND_RETRY_BUDGET_MIN_PER_SECOND", yamlRetryBudgetMinPerSecond)));
+
+        // --- Response cache ---
+        builder.cache(new ResponseCacheConfig(
+                envBoolOrDefault(envLookup, "PROXY_CACHE_ENABLED", yamlCacheEnabled),
+                envIntOrDefault(envLookup, "PROXY_CACHE_MAX_BYTES", yamlCacheMaxBytes),
+                envIntOrDefault(envLookup, "PROXY_CACHE_MAX_ENTRY_BYTES", yamlCacheMaxEntryBytes)));
+
+        // --- Response compression ---
+        builder.compression(new CompressionConfig(
+                envBoolOrDefault(envLookup, "PROXY_COMPRESSION_ENABLED", yamlCompressionEnabled),
+                envIntOrDefault(envLookup, "PROXY_COMPRESSION_MIN_BYTES", yamlCompressionMinBytes),
+                envIntOrDefault(envLookup, "PROXY_COMPRESSION_LEVEL", yamlCompressionLevel)));
+
+        // --- Admission control ---
+        builder.admission(new AdmissionConfig(
+                envBoolOrDefault(envLookup, "PROXY_ADMISSION_ENABLED", yamlAdmissionEnabled),
+                envIntOrDefault(envLookup, "PROXY_ADMISSION_MAX_IN_FLIGHT", yamlAdmissionMaxInFlight),
+                envIntOrDefault(envLookup, "PROXY_ADMISSION_QUEUE_CAPACITY", yamlAdmissionQueueCapacity),
+                envIntOrDefault(envLookup, "PROXY_ADMISSION_QUEUE_TIMEOUT_MS", yamlAdmissionQueueTimeoutMs)));
+
+        // --- Rate limiting ---
+        builder.rateLimit(new RateLimitConfig(
+                envBoolOrDefault(envLookup, "PROXY_RATE_LIMIT_ENABLED", yamlRateLimitEnabled),
+                envStringOrDefault(envLookup, "PROXY_RATE_LIMIT_KEY", yamlRateLimitKey),
+                envStringOrDefault(envLookup, "PROXY_RATE_LIMIT_HEADER", yamlRateLimitHeader),
+                envIntOrDefault(envLookup, "PROXY_RATE_LIMIT_REQUESTS_PER_SECOND", yamlRateLimitRequestsPerSecond),
+                envIntOrDefault(envLookup, "PROXY_RATE_LIMIT_BURST", yamlRateLimitBurst),
+                envIntOrDefault(envLookup, "PROXY_RATE_LIMIT_MAX_KEYS", yamlRateLimitMaxKeys)));
     }
 
     // --- Env var helpers ---
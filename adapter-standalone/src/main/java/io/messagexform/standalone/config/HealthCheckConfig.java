@@ -0,0 +1,28 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Active backend health checking (CFG-004-57..62, FR-004-46).
+ *
+ * <p>
+ * Every backend — {@code backend.host} and each group member — is probed in
+ * the background. The cached result takes unhealthy members out of load
+ * balancing and backs the readiness probe, which no longer connects to the
+ * backend itself.
+ *
+ * @param enabled            run background health checks (CFG-004-57)
+ * @param path               HTTP path probed with {@code GET}; a {@code 2xx}
+ *                           or {@code 3xx} status is healthy. Null probes
+ *                           with a TCP connect instead (CFG-004-58)
+ * @param intervalMs         time between probes of a backend (CFG-004-59)
+ * @param timeoutMs          max time for one probe (CFG-004-60)
+ * @param healthyThreshold   consecutive successful probes before an
+ *                           unhealthy backend is healthy again (CFG-004-61)
+ * @param unhealthyThreshold consecutive failed probes before a healthy
+ *                           backend is unhealthy (CFG-004-62)
+ */
+public record HealthCheckConfig(
+        boolean enabled, String path, int intervalMs, int timeoutMs, int healthyThreshold, int unhealthyThreshold) {
+
+    /** Default configuration — no background checks. */
+    public static final HealthCheckConfig DISABLED = new HealthCheckConfig(false, null, 5000, 1000, 2, 3);
+}
@@ -0,0 +1,22 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Request hedging toward the backend (CFG-004-76..77, FR-004-50).
+ *
+ * <p>
+ * An idempotent request whose response has not arrived after
+ * {@code delayMs} is sent a second time; whichever response arrives first
+ * is used. With {@code delayMs} 0 the delay is the backend's observed 95th
+ * percentile latency. Hedges draw on the retry budget ({@link RetryConfig}),
+ * so they cannot add more than its share of extra load.
+ *
+ * @param enabled hedge requests by default; {@code engine.profile-routes}
+ *                entries may override it per route (CFG-004-76)
+ * @param delayMs time before the hedge is sent in ms; 0 = the observed p95
+ *                (CFG-004-77)
+ */
+public record HedgingConfig(boolean enabled, int delayMs) {
+
+    /** Default configuration — disabled, delay from the observed p95. */
+    public static final HedgingConfig DISABLED = new HedgingConfig(false, 0);
+}
@@ -0,0 +1,20 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Passive outlier ejection for load-balanced backends (CFG-004-63..65,
+ * FR-004-47).
+ *
+ * @param consecutiveFailures consecutive failed exchanges — connect failures,
+ *                            timeouts or {@code 5xx} responses — that eject a
+ *                            backend; 0 disables ejection (CFG-004-63)
+ * @param baseEjectionMs      ejection time in ms, multiplied by the number of
+ *                            times the backend has been ejected, up to ten
+ *                            times (CFG-004-64)
+ * @param maxEjectionPercent  max share of a group's members ejected at once
+ *                            (CFG-004-65)
+ */
+public record OutlierEjectionConfig(int consecutiveFailures, int baseEjectionMs, int maxEjectionPercent) {
+
+    /** Default configuration. */
+    public static final OutlierEjectionConfig DEFAULT = new OutlierEjectionConfig(5, 30000, 50);
+}
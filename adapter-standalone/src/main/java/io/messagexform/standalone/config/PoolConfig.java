@@ -1,15 +1,28 @@
 package io.messagexform.standalone.config;
 
 /**
- * Backend connection pool configuration (CFG-004-17..19, DO-004-04).
+ * Backend connection pool configuration (CFG-004-17..19, CFG-004-50..52,
+ * DO-004-04).
  *
- * @param maxConnections max concurrent connections to backend (CFG-004-17)
- * @param keepAlive      use HTTP keep-alive (CFG-004-18)
- * @param idleTimeoutMs  close idle connections after this duration in ms
- *                       (CFG-004-19)
+ * @param maxConnections     max concurrent connections to backend
+ *                           (CFG-004-17)
+ * @param keepAlive          use HTTP keep-alive (CFG-004-18)
+ * @param idleTimeoutMs      close idle connections after this duration in ms
+ *                           (CFG-004-19)
+ * @param maxPending         max requests waiting for a connection before new
+ *                           ones are rejected (CFG-004-50)
+ * @param acquireTimeoutMs   max wait for a connection in ms (CFG-004-51)
+ * @param prewarmConnections connections to open at startup; 0 opens none
+ *                           (CFG-004-52)
  */
-public record PoolConfig(int maxConnections, boolean keepAlive, int idleTimeoutMs) {
+public record PoolConfig(
+        int maxConnections,
+        boolean keepAlive,
+        int idleTimeoutMs,
+        int maxPending,
+        int acquireTimeoutMs,
+        int prewarmConnections) {
 
     /** Default pool configuration. */
-    public static final PoolConfig DEFAULT = new PoolConfig(100, true, 60000);
+    public static final PoolConfig DEFAULT = new PoolConfig(100, true, 60000, 1000, 5000, 0);
 }
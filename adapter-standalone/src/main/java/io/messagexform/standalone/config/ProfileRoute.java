@@ -0,0 +1,49 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Keyed profile route (CFG-004-42): requests whose Host header and/or path
+ * match this route are transformed with {@code profilePath} instead of the
+ * default {@code engine.profile}, and forwarded to {@code backendGroup}
+ * instead of {@code backend.host} (CFG-004-56), hedged or not regardless of
+ * {@code backend.hedging.enabled} (CFG-004-81).
+ *
+ * <p>
+ * At least one of {@code host} and {@code pathPrefix} is set, and at least
+ * one of {@code profilePath}, {@code backendGroup} and {@code priority}. When both matchers are
+ * set, both must match. Routes are evaluated in declaration order and the
+ * first match wins.
+ *
+ * @param host         Host header to match (case-insensitive, port ignored); a
+ *                     leading {@code *.} matches any subdomain; null = any
+ *                     host
+ * @param pathPrefix   path prefix to match on a segment boundary (e.g.
+ *                     {@code /tenant-b} matches {@code /tenant-b/users} but
+ *                     not {@code /tenant-bx}); null = any path
+ * @param profilePath  profile YAML file applied to matching requests; null =
+ *                     the default profile
+ * @param backendGroup {@code backend.groups} entry matching requests are
+ *                     forwarded to; null = {@code backend.host}
+ * @param hedging      whether matching idempotent requests are hedged
+ *                     (FR-004-50); null = {@code backend.hedging.enabled}
+ * @param priority     admission priority of matching requests (FR-004-54):
+ *                     {@code critical}, {@code normal} or {@code low}; null =
+ *                     {@code normal}
+ */
+public record ProfileRoute(
+        String host, String pathPrefix, String profilePath, String backendGroup, Boolean hedging, String priority) {
+
+    /** A route that only selects a profile (CFG-004-42). */
+    public ProfileRoute(String host, String pathPrefix, String profilePath) {
+        this(host, pathPrefix, profilePath, null, null, null);
+    }
+
+    /** A route that selects a profile and/or a backend group (CFG-004-56). */
+    public ProfileRoute(String host, String pathPrefix, String profilePath, String backendGroup) {
+        this(host, pathPrefix, profilePath, backendGroup, null, null);
+    }
+
+    /** A route that also overrides hedging (CFG-004-81). */
+    public ProfileRoute(String host, String pathPrefix, String profilePath, String backendGroup, Boolean hedging) {
+        this(host, pathPrefix, profilePath, backendGroup, hedging, null);
+    }
+}
@@ -1,7 +1,9 @@
 package io.messagexform.standalone.config;
 
+import java.util.List;
+
 /**
- * Root configuration for the standalone HTTP proxy (DO-004-01, CFG-004-01..41).
+ * Root configuration for the standalone HTTP proxy (DO-004-01, CFG-004-01..98).
  *
  * <p>
  * All fields provide sensible defaults except {@code backendHost}, which is
@@ -22,6 +24,8 @@ package io.messagexform.standalone.config;
  * @param profilesDir             directory containing transform profile YAML
  *                                files (CFG-004-28)
  * @param profilePath             explicit single profile path (CFG-004-29)
+ * @param profileRoutes           keyed profiles selected per request by Host
+ *                                header or path prefix (CFG-004-42)
  * @param schemaValidation        lenient or strict (CFG-004-30)
  * @param reloadEnabled           enable file-system watching for hot reload
  *                                (CFG-004-31)
@@ -41,6 +45,31 @@ package io.messagexform.standalone.config;
  * @param backendTls              outbound TLS configuration (CFG-004-20..26)
  * @param pool                    backend connection pool configuration
  *                                (CFG-004-17..19)
+ * @param virtualThreads          virtual-thread execution configuration
+ *                                (CFG-004-43..44)
+ * @param async                   asynchronous pipeline configuration
+ *                                (CFG-004-45..47)
+ * @param upstreamProtocol        upstream HTTP version and HTTP/2 stream
+ *                                limit (CFG-004-48..49)
+ * @param backendGroups           named load-balanced backend groups
+ *                                (CFG-004-53..55)
+ * @param healthCheck             active backend health checking
+ *                                (CFG-004-57..62)
+ * @param outlierEjection         passive outlier ejection (CFG-004-63..65)
+ * @param adaptiveConcurrency     per-backend adaptive concurrency limit
+ *                                (CFG-004-66..69)
+ * @param circuitBreaker          per-backend circuit breaker (CFG-004-70..75)
+ * @param hedging                 request hedging (CFG-004-76..77)
+ * @param retry                   connect-failure retries and their budget
+ *                                (CFG-004-78..80)
+ * @param cache                   transformed-response cache
+ *                                (CFG-004-82..84)
+ * @param compression             outbound response compression
+ *                                (CFG-004-85..87)
+ * @param admission               admission control and load shedding
+ *                                (CFG-004-88..91)
+ * @param rateLimit               token-bucket rate limiting
+ *                                (CFG-004-93..98)
  */
 public record ProxyConfig(
         String proxyHost,
@@ -54,6 +83,7 @@ public record ProxyConfig(
         String specsDir,
         String profilesDir,
         String profilePath,
+        List<ProfileRoute> profileRoutes,
         String schemaValidation,
         boolean reloadEnabled,
         int reloadDebounceMs,
@@ -67,13 +97,80 @@ public record ProxyConfig(
         String adminReloadPath,
         TlsConfig proxyTls,
         BackendTlsConfig backendTls,
-        PoolConfig pool) {
+        PoolConfig pool,
+        VirtualThreadsConfig virtualThreads,
+        AsyncConfig async,
+        UpstreamProtocolConfig upstreamProtocol,
+        List<BackendGroupConfig> backendGroups,
+        HealthCheckConfig healthCheck,
+        OutlierEjectionConfig outlierEjection,
+        AdaptiveConcurrencyConfig adaptiveConcurrency,
+        CircuitBreakerConfig circuitBreaker,
+        HedgingConfig hedging,
+        RetryConfig retry,
+        ResponseCacheConfig cache,
+        CompressionConfig compression,
+        AdmissionConfig admission,
+        RateLimitConfig rateLimit) {
 
     /** Creates a new builder with sensible defaults. */
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Returns a copy of this configuration pointing at another backend — a
+     * {@code backend.groups} member, which shares every other setting
+     * (FR-004-45).
+     *
+     * @param host backend hostname or IP
+     * @param port backend port
+     * @return the configuration for that backend
+     */
+    public ProxyConfig withBackend(String host, int port) {
+        return new ProxyConfig(
+                proxyHost,
+                proxyPort,
+                backendScheme,
+                host,
+                port,
+                backendConnectTimeoutMs,
+                backendReadTimeoutMs,
+                maxBodyBytes,
+                specsDir,
+                profilesDir,
+                profilePath,
+                profileRoutes,
+                schemaValidation,
+                reloadEnabled,
+                reloadDebounceMs,
+                healthEnabled,
+                healthPath,
+                readyPath,
+                loggingFormat,
+                loggingLevel,
+                shutdownDrainTimeoutMs,
+                forwardedHeadersEnabled,
+                adminReloadPath,
+                proxyTls,
+                backendTls,
+                pool,
+                virtualThreads,
+                async,
+                upstreamProtocol,
+                backendGroups,
+                healthCheck,
+                outlierEjection,
+                adaptiveConcurrency,
+                circuitBreaker,
+                hedging,
+                retry,
+                cache,
+                compression,
+                admission,
+                rateLimit);
+    }
+
     /**
      * Builder for {@link ProxyConfig}. All fields have defaults except
      * {@code backendHost}.
@@ -90,6 +187,7 @@ public record ProxyConfig(
         private String specsDir = "./specs";
         private String profilesDir = "./profiles";
         private String profilePath;
+        private List<ProfileRoute> profileRoutes = List.of();
         private String schemaValidation = "lenient";
         private boolean reloadEnabled = true;
         private int reloadDebounceMs = 500;
@@ -104,6 +202,20 @@ public record ProxyConfig(
         private TlsConfig proxyTls = TlsConfig.DISABLED;
         private BackendTlsConfig backendTls = BackendTlsConfig.DEFAULT;
         private PoolConfig pool = PoolConfig.DEFAULT;
+        private VirtualThreadsConfig virtualThreads = VirtualThreadsConfig.DISABLED;
+        private AsyncConfig async = AsyncConfig.DISABLED;
+        private UpstreamProtocolConfig upstreamProtocol = UpstreamProtocolConfig.DEFAULT;
+        private List<BackendGroupConfig> backendGroups = List.of();
+        private HealthCheckConfig healthCheck = HealthCheckConfig.DISABLED;
+        private OutlierEjectionConfig outlierEjection = OutlierEjectionConfig.DEFAULT;
+        private AdaptiveConcurrencyConfig adaptiveConcurrency = AdaptiveConcurrencyConfig.DISABLED;
+        private CircuitBreakerConfig circuitBreaker = CircuitBreakerConfig.DISABLED;
+        private HedgingConfig hedging = HedgingConfig.DISABLED;
+        private RetryConfig retry = RetryConfig.DEFAULT;
+        private ResponseCacheConfig cache = ResponseCacheConfig.DISABLED;
+        private CompressionConfig compression = CompressionConfig.DEFAULT;
+        private AdmissionConfig admission = AdmissionConfig.DISABLED;
+        private RateLimitConfig rateLimit = RateLimitConfig.DISABLED;
 
         Builder() {}
 
@@ -162,6 +274,11 @@ public record ProxyConfig(
             return this;
         }
 
+        public Builder profileRoutes(List<ProfileRoute> profileRoutes) {
+            this.profileRoutes = List.copyOf(profileRoutes);
+            return this;
+        }
+
         public Builder schemaValidation(String schemaValidation) {
             this.schemaValidation = schemaValidation;
             return this;
@@ -232,6 +349,76 @@ public record ProxyConfig(
             return this;
         }
 
+        public Builder virtualThreads(VirtualThreadsConfig virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public Builder async(AsyncConfig async) {
+            this.async = async;
+            return this;
+        }
+
+        public Builder upstreamProtocol(UpstreamProtocolConfig upstreamProtocol) {
+            this.upstreamProtocol = upstreamProtocol;
+            return this;
+        }
+
+        public Builder backendGroups(List<BackendGroupConfig> backendGroups) {
+            this.backendGroups = List.copyOf(backendGroups);
+            return this;
+        }
+
+        public Builder healthCheck(HealthCheckConfig healthCheck) {
+            this.healthCheck = healthCheck;
+            return this;
+        }
+
+        public Builder outlierEjection(OutlierEjectionConfig outlierEjection) {
+            this.outlierEjection = outlierEjection;
+            return this;
+        }
+
+        public Builder adaptiveConcurrency(AdaptiveConcurrencyConfig adaptiveConcurrency) {
+            this.adaptiveConcurrency = adaptiveConcurrency;
+            return this;
+        }
+
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        public Builder hedging(HedgingConfig hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        public Builder retry(RetryConfig retry) {
+            this.retry = retry;
+            return this;
+        }
+
+        public Builder cache(ResponseCacheConfig cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public Builder compression(CompressionConfig compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public Builder admission(AdmissionConfig admission) {
+            this.admission = admission;
+            return this;
+        }
+
+        public Builder rateLimit(RateLimitConfig rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
         /**
          * Builds the {@link ProxyConfig}, auto-deriving {@code backendPort} if not set.
          */
@@ -250,6 +437,7 @@ public record ProxyConfig(
                     specsDir,
                     profilesDir,
                     profilePath,
+                    profileRoutes,
                     schemaValidation,
                     reloadEnabled,
                     reloadDebounceMs,
@@ -263,7 +451,21 @@ public record ProxyConfig(
                     adminReloadPath,
                     proxyTls,
                     backendTls,
-                    pool);
+                    pool,
+                    virtualThreads,
+                    async,
+                    upstreamProtocol,
+                    backendGroups,
+                    healthCheck,
+                    outlierEjection,
+                    adaptiveConcurrency,
+                    circuitBreaker,
+                    hedging,
+                    retry,
+                    cache,
+                    compression,
+                    admission,
+                    rateLimit);
         }
     }
 }
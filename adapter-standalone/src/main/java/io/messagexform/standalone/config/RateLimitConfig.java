@@ -0,0 +1,40 @@
+package io.messagexform.standalone.config;
+
+import java.util.List;
+
+/**
+ * Rate limiting configuration (CFG-004-93..98, FR-004-55).
+ *
+ * @param enabled           reject requests over the rate with 429 before any
+ *                          work is done on them (CFG-004-93)
+ * @param key               what a bucket is kept per: {@link #KEY_IP},
+ *                          {@link #KEY_HEADER} or {@link #KEY_ROUTE}
+ *                          (CFG-004-94)
+ * @param header            request header holding the client key when
+ *                          {@code key} is {@code header}, e.g. an API key
+ *                          (CFG-004-95)
+ * @param requestsPerSecond sustained rate each bucket refills at
+ *                          (CFG-004-96)
+ * @param burst             requests a full bucket admits at once
+ *                          (CFG-004-97)
+ * @param maxKeys           buckets kept at most; idle ones are evicted first
+ *                          (CFG-004-98)
+ */
+public record RateLimitConfig(
+        boolean enabled, String key, String header, int requestsPerSecond, int burst, int maxKeys) {
+
+    /** One bucket per client IP address. */
+    public static final String KEY_IP = "ip";
+
+    /** One bucket per value of {@code header}; requests without it fall back to their IP. */
+    public static final String KEY_HEADER = "header";
+
+    /** One bucket per {@code engine.profile-routes} entry, shared by all clients. */
+    public static final String KEY_ROUTE = "route";
+
+    /** Valid {@code proxy.rate-limit.key} values. */
+    public static final List<String> KEYS = List.of(KEY_IP, KEY_HEADER, KEY_ROUTE);
+
+    /** Default configuration — no rate limiting. */
+    public static final RateLimitConfig DISABLED = new RateLimitConfig(false, KEY_IP, "X-API-Key", 100, 200, 100_000);
+}
@@ -0,0 +1,18 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Transformed-response cache configuration (CFG-004-82..84, FR-004-52).
+ *
+ * @param enabled       cache cacheable {@code GET} responses after the
+ *                      response transform (CFG-004-82)
+ * @param maxBytes      total size of the cached entries — bodies, headers
+ *                      and keys — before the least valuable are evicted
+ *                      (CFG-004-83)
+ * @param maxEntryBytes responses with a larger transformed body are not
+ *                      cached (CFG-004-84)
+ */
+public record ResponseCacheConfig(boolean enabled, int maxBytes, int maxEntryBytes) {
+
+    /** Default configuration — no response cache. */
+    public static final ResponseCacheConfig DISABLED = new ResponseCacheConfig(false, 67_108_864, 1_048_576);
+}
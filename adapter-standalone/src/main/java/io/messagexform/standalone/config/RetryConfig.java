@@ -0,0 +1,26 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Retries of idempotent requests that failed to connect, and the budget
+ * that caps them (CFG-004-78..80, FR-004-51).
+ *
+ * <p>
+ * The budget is a token bucket per backend: every request deposits
+ * {@code budgetPercent} hundredths of a token, and the bucket also refills
+ * at {@code budgetMinPerSecond} tokens per second so that low traffic can
+ * still retry. A retry or hedge ({@link HedgingConfig}) spends one token;
+ * with the bucket empty it is not sent. Retries therefore add at most
+ * {@code budgetPercent} percent to the load on a backend that is down.
+ *
+ * @param maxRetries         retries per request after a connect failure;
+ *                           0 = no retries (CFG-004-78)
+ * @param budgetPercent      retries and hedges allowed as a percentage of
+ *                           requests (CFG-004-79)
+ * @param budgetMinPerSecond retries and hedges allowed per second regardless
+ *                           of traffic (CFG-004-80)
+ */
+public record RetryConfig(int maxRetries, int budgetPercent, int budgetMinPerSecond) {
+
+    /** Default configuration — no retries, 20 % budget for hedges. */
+    public static final RetryConfig DEFAULT = new RetryConfig(0, 20, 10);
+}
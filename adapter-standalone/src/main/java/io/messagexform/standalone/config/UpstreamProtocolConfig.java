@@ -0,0 +1,32 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Upstream HTTP protocol configuration (CFG-004-48..49, FR-004-43).
+ *
+ * @param protocol             {@code http/1.1}, {@code h2} (HTTP/2 over TLS,
+ *                             negotiated via ALPN) or {@code h2c} (cleartext
+ *                             HTTP/2) (CFG-004-48)
+ * @param maxConcurrentStreams max upstream HTTP/2 streams in flight; 0 leaves
+ *                             it to the backend's
+ *                             {@code SETTINGS_MAX_CONCURRENT_STREAMS}
+ *                             (CFG-004-49)
+ */
+public record UpstreamProtocolConfig(String protocol, int maxConcurrentStreams) {
+
+    /** HTTP/1.1 for every upstream connection (FR-004-33). */
+    public static final String HTTP_1_1 = "http/1.1";
+
+    /** HTTP/2 over TLS, negotiated via ALPN. */
+    public static final String H2 = "h2";
+
+    /** HTTP/2 over cleartext TCP. */
+    public static final String H2C = "h2c";
+
+    /** Default configuration — HTTP/1.1. */
+    public static final UpstreamProtocolConfig DEFAULT = new UpstreamProtocolConfig(HTTP_1_1, 0);
+
+    /** Returns {@code true} if upstream connections use HTTP/2. */
+    public boolean http2() {
+        return H2.equals(protocol) || H2C.equals(protocol);
+    }
+}
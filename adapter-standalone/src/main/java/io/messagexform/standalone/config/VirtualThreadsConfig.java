@@ -0,0 +1,16 @@
+package io.messagexform.standalone.config;
+
+/**
+ * Virtual-thread execution configuration (CFG-004-43..44, FR-004-41).
+ *
+ * @param enabled           run Jetty request handling and upstream calls on
+ *                          virtual threads (CFG-004-43)
+ * @param pinnedThresholdMs report virtual threads pinned to their carrier for
+ *                          at least this long; 0 disables pinning diagnostics
+ *                          (CFG-004-44)
+ */
+public record VirtualThreadsConfig(boolean enabled, int pinnedThresholdMs) {
+
+    /** Default configuration — platform threads, no pinning diagnostics. */
+    public static final VirtualThreadsConfig DISABLED = new VirtualThreadsConfig(false, 20);
+}
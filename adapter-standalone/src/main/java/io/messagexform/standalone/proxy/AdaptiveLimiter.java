@@ -0,0 +1,146 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.AdaptiveConcurrencyConfig;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-backend adaptive concurrency limit (FR-004-48), in the style of a
+ * gradient limiter.
+ *
+ * <p>
+ * Every completed exchange reports its round-trip time — request sent to
+ * response headers received. A slow-moving average of those samples
+ * approximates the backend's latency without queueing; each new sample is
+ * compared with it:
+ *
+ * <pre>
+ * gradient = clamp(TOLERANCE × longRtt / rtt, 0.5, 1)
+ * limit    = limit × gradient + √limit          (smoothed)
+ * </pre>
+ *
+ * While latency stays within {@link #RTT_TOLERANCE} of the baseline the
+ * gradient is 1 and the limit grows by its square root, probing for more
+ * capacity; once queueing inflates latency the gradient falls below 1 and the
+ * limit shrinks. A dropped exchange — timeout, connect failure, gateway
+ * error — cuts the limit by {@link #BACKOFF}. The limit only grows while at
+ * least half of it is in use, so an idle backend does not earn headroom it
+ * never proved.
+ *
+ * <p>
+ * Thread-safe: admission is a lock-free CAS on the in-flight count; limit
+ * updates synchronise on the limiter.
+ */
+final class AdaptiveLimiter {
+
+    /** Latency inflation over the baseline tolerated before the limit shrinks. */
+    static final double RTT_TOLERANCE = 1.5;
+
+    /** Share of each new limit estimate blended into the current one. */
+    static final double SMOOTHING = 0.2;
+
+    /** Factor applied to the limit on a dropped exchange. */
+    static final double BACKOFF = 0.9;
+
+    /** Samples averaged into the baseline RTT. */
+    static final int BASELINE_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejections = new AtomicLong();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimate;
+    private double baselineRttNanos;
+    private long samples;
+
+    /** @param config the configured initial, min and max limits */
+    AdaptiveLimiter(AdaptiveConcurrencyConfig config) {
+        this.minLimit = config.minLimit();
+        this.maxLimit = config.maxLimit();
+        this.estimate = config.initialLimit();
+        this.limit = config.initialLimit();
+    }
+
+    /**
+     * Admits one exchange if fewer than {@link #limit()} are in flight.
+     *
+     * @return the in-flight count including this exchange, or {@code -1} if
+     *         the limit is reached
+     */
+    int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejections.incrementAndGet();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /** Ends an admitted exchange whose outcome says nothing about the backend. */
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Ends an admitted exchange and adapts the limit to its outcome.
+     *
+     * @param rttNanos          time from sending the request to the response
+     *                          headers
+     * @param inFlightAtAdmission value {@link #tryAcquire()} returned
+     * @param dropped           whether the exchange failed in a way that
+     *                          signals overload
+     */
+    void complete(long rttNanos, int inFlightAtAdmission, boolean dropped) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            if (dropped) {
+                estimate *= BACKOFF;
+            } else {
+                sample(Math.max(1, rttNanos), inFlightAtAdmission);
+            }
+            estimate = Math.max(minLimit, Math.min(maxLimit, estimate));
+            limit = (int) estimate;
+        }
+    }
+
+    private void sample(long rttNanos, int inFlightAtAdmission) {
+        samples++;
+        if (samples == 1) {
+            baselineRttNanos = rttNanos;
+        } else {
+            baselineRttNanos += (rttNanos - baselineRttNanos) / Math.min(samples, BASELINE_WINDOW);
+        }
+        if (baselineRttNanos > 2 * rttNanos) {
+            // Latency fell well below the baseline — the backend recovered; catch up
+            baselineRttNanos = (baselineRttNanos + rttNanos) / 2;
+        }
+        if (inFlightAtAdmission < estimate / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * baselineRttNanos / rttNanos));
+        double next = estimate * gradient + Math.sqrt(estimate);
+        estimate = estimate * (1 - SMOOTHING) + next * SMOOTHING;
+    }
+
+    /** Returns the current limit. */
+    int limit() {
+        return limit;
+    }
+
+    /** Returns the number of admitted exchanges awaiting their response. */
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /** Returns the number of exchanges rejected at the limit. */
+    long rejections() {
+        return rejections.get();
+    }
+}
@@ -11,6 +11,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +22,8 @@ import org.slf4j.LoggerFactory;
  * <p>
  * {@code POST /admin/reload} scans {@code engine.specs-dir} for
  * {@code *.yaml}/{@code *.yml} files and calls
- * {@link TransformEngine#reload(List, Path)} to atomically swap the registry.
+ * {@link TransformEngine#reload(List, Path, Map)} to atomically swap the
+ * registry, including any keyed profiles (CFG-004-42).
  *
  * <p>
  * Response on success:
@@ -51,6 +53,7 @@ public final class AdminReloadHandler implements Handler {
     private final TransformEngine engine;
     private final Path specsDir;
     private final Path profilePath;
+    private final Map<String, Path> keyedProfiles;
 
     /**
      * Creates a new admin reload handler.
@@ -60,9 +63,25 @@ public final class AdminReloadHandler implements Handler {
      * @param profilePath optional profile path (null for no profile)
      */
     public AdminReloadHandler(TransformEngine engine, Path specsDir, Path profilePath) {
+        this(engine, specsDir, profilePath, Map.of());
+    }
+
+    /**
+     * Creates a new admin reload handler that also reloads keyed profiles
+     * (CFG-004-42).
+     *
+     * @param engine        the transform engine to reload
+     * @param specsDir      directory to scan for spec YAML files
+     * @param profilePath   optional profile path (null for no profile)
+     * @param keyedProfiles selection key → profile path (see
+     *                      {@link ProfileSelector#keyedProfiles()})
+     */
+    public AdminReloadHandler(
+            TransformEngine engine, Path specsDir, Path profilePath, Map<String, Path> keyedProfiles) {
         this.engine = engine;
         this.specsDir = specsDir;
         this.profilePath = profilePath;
+        this.keyedProfiles = keyedProfiles;
     }
 
     @Override
@@ -71,7 +90,7 @@ public final class AdminReloadHandler implements Handler {
 
         try {
             List<Path> specPaths = scanSpecFiles(specsDir);
-            engine.reload(specPaths, profilePath);
+            engine.reload(specPaths, profilePath, keyedProfiles);
 
             // Build success response — use specPaths.size() for file count,
             // not engine.specCount() (which counts both id and id@version keys)
@@ -83,6 +102,9 @@ public final class AdminReloadHandler implements Handler {
             response.put("status", "reloaded");
             response.put("specs", loadedSpecCount);
             response.put("profile", profileId);
+            if (!keyedProfiles.isEmpty()) {
+                response.put("keyedProfiles", keyedProfiles.size());
+            }
 
             ctx.status(200);
             ctx.contentType("application/json");
@@ -108,7 +130,7 @@ public final class AdminReloadHandler implements Handler {
      * @return a sorted list of spec file paths
      * @throws IOException if the directory cannot be read
      */
-    static List<Path> scanSpecFiles(Path dir) throws IOException {
+    public static List<Path> scanSpecFiles(Path dir) throws IOException {
         if (dir == null || !Files.exists(dir)) {
             return List.of();
         }
@@ -0,0 +1,415 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.AdmissionConfig;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import javax.management.ObjectName;
+
+/**
+ * Admission control and load shedding for the proxy handler (FR-004-54,
+ * CFG-004-88..92).
+ *
+ * <p>
+ * At most {@code max-in-flight} requests are worked on at once. Later
+ * arrivals wait in a bounded queue, ordered by {@link Priority} and FIFO
+ * within a priority; every freed slot goes to the oldest waiter of the
+ * highest priority. A request is rejected — the caller answers {@code 503}
+ * with {@code Retry-After} — when:
+ * <ul>
+ * <li>its predicted wait already exceeds {@code queue-timeout-ms}: the
+ * requests of equal or higher priority ahead of it, times the moving average
+ * slot hold time, divided by {@code max-in-flight}. Rejecting at once beats
+ * queueing a request that will time out anyway;</li>
+ * <li>the queue is full and holds nothing of lower priority — otherwise the
+ * youngest waiter of the lowest priority is shed to make room;</li>
+ * <li>it waited {@code queue-timeout-ms} without a slot.</li>
+ * </ul>
+ * Under overload, {@code low} requests are shed first and {@code critical}
+ * ones last, and the latency of admitted requests stays bounded by the queue
+ * timeout instead of growing with the backlog.
+ *
+ * <p>
+ * A waiting request blocks its thread — with virtual threads
+ * (FR-004-41) that costs no platform thread. Health, readiness and admin
+ * endpoints are not proxied and never pass through the controller.
+ *
+ * <p>
+ * Thread-safe: queue and slot state are guarded by one lock; counters are
+ * {@link LongAdder}s.
+ */
+public final class AdmissionController implements AdmissionMXBean {
+
+    /** Weight of each new sample in the service and wait time averages. */
+    static final double SMOOTHING = 0.1;
+
+    /** Admission priority of a request, from its route (CFG-004-92). */
+    public enum Priority {
+        LOW,
+        NORMAL,
+        CRITICAL;
+
+        /**
+         * Parses an {@code engine.profile-routes[].priority} value.
+         *
+         * @param value {@code critical}, {@code normal}, {@code low}, or null
+         * @return the priority, or {@code null} for a null value
+         */
+        public static Priority of(String value) {
+            return value != null ? valueOf(value.toUpperCase(Locale.ROOT)) : null;
+        }
+    }
+
+    /** Why a request was not admitted. */
+    enum Reason {
+        QUEUE_FULL,
+        PREDICTED_WAIT,
+        TIMEOUT,
+        SHED
+    }
+
+    /** Thrown by {@link #acquire} when a request is not admitted. */
+    static final class RejectedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Reason reason;
+        private final long retryAfterSeconds;
+
+        RejectedException(Reason reason, long retryAfterSeconds) {
+            super("Request not admitted: "
+                    + reason.name().toLowerCase(Locale.ROOT).replace('_', ' '));
+            this.reason = reason;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        Reason reason() {
+            return reason;
+        }
+
+        /** Seconds after which the queue is expected to have drained. */
+        long retryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /** An admitted request's slot; {@link #close()} gives it back, once. */
+    final class Permit implements AutoCloseable {
+
+        private final long admittedNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long admittedNanos) {
+            this.admittedNanos = admittedNanos;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(nanoClock.getAsLong() - admittedNanos);
+            }
+        }
+    }
+
+    private enum State {
+        WAITING,
+        ADMITTED,
+        SHED
+    }
+
+    /** A queued request; {@code state} is guarded by the lock. */
+    private static final class Waiter {
+
+        final Priority priority;
+        final Condition condition;
+        State state = State.WAITING;
+
+        Waiter(Priority priority, Condition condition) {
+            this.priority = priority;
+            this.condition = condition;
+        }
+    }
+
+    private final int maxInFlight;
+    private final int queueCapacity;
+    private final long queueTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Indexed by Priority.ordinal(); guarded by lock
+    private final List<ArrayDeque<Waiter>> queues;
+    private volatile int inFlight;
+    private volatile int queued;
+    private volatile double serviceNanos;
+    private volatile double queueWaitNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder admittedAfterWait = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedPredictedWait = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder[] rejectedByPriority = {new LongAdder(), new LongAdder(), new LongAdder()};
+
+    private ObjectName jmxObjectName;
+
+    /** @param config the configured limits */
+    public AdmissionController(AdmissionConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    AdmissionController(AdmissionConfig config, LongSupplier nanoClock) {
+        this.maxInFlight = config.maxInFlight();
+        this.queueCapacity = config.queueCapacity();
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.queueTimeoutMs());
+        this.nanoClock = nanoClock;
+        this.queues = new ArrayList<>();
+        for (int i = 0; i < Priority.values().length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Admits a request, waiting in the queue if every slot is taken.
+     *
+     * @param priority the request's priority ({@code null} = normal)
+     * @return the slot, to be closed when the request is finished
+     * @throws RejectedException    if the request is not admitted
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    Permit acquire(Priority priority) throws RejectedException, InterruptedException {
+        Priority p = priority != null ? priority : Priority.NORMAL;
+        long arrived = nanoClock.getAsLong();
+        Waiter waiter;
+        lock.lock();
+        try {
+            int ahead = queuedAtOrAbove(p);
+            if (inFlight < maxInFlight && ahead == 0) {
+                inFlight++;
+                admitted.increment();
+                return new Permit(arrived);
+            }
+            if (queueCapacity == 0 || queueTimeoutNanos == 0) {
+                throw reject(p, Reason.QUEUE_FULL);
+            }
+            if (predictedWaitNanos(ahead + 1) > queueTimeoutNanos) {
+                throw reject(p, Reason.PREDICTED_WAIT);
+            }
+            if (queued >= queueCapacity && !shedBelow(p)) {
+                throw reject(p, Reason.QUEUE_FULL);
+            }
+            waiter = new Waiter(p, lock.newCondition());
+            queues.get(p.ordinal()).addLast(waiter);
+            queued++;
+
+            long remaining = queueTimeoutNanos;
+            try {
+                while (waiter.state == State.WAITING && remaining > 0) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.state == State.WAITING) {
+                    dequeue(waiter);
+                } else if (waiter.state == State.ADMITTED) {
+                    inFlight--;
+                    dispatch();
+                }
+                throw e;
+            }
+            switch (waiter.state) {
+                case ADMITTED -> {
+                    long waited = nanoClock.getAsLong() - arrived;
+                    queueWaitNanos = average(queueWaitNanos, waited);
+                    admitted.increment();
+                    admittedAfterWait.increment();
+                    return new Permit(nanoClock.getAsLong());
+                }
+                case SHED -> throw reject(p, Reason.SHED);
+                default -> {
+                    dequeue(waiter);
+                    throw reject(p, Reason.TIMEOUT);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Frees a slot held for {@code heldNanos} and hands it to the next waiter. */
+    private void release(long heldNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            serviceNanos = average(serviceNanos, heldNanos);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Admits waiters, highest priority first, while slots are free. Caller holds the lock. */
+    private void dispatch() {
+        for (int i = queues.size() - 1; i >= 0 && inFlight < maxInFlight; i--) {
+            ArrayDeque<Waiter> queue = queues.get(i);
+            while (inFlight < maxInFlight && !queue.isEmpty()) {
+                Waiter next = queue.pollFirst();
+                queued--;
+                next.state = State.ADMITTED;
+                inFlight++;
+                next.condition.signal();
+            }
+        }
+    }
+
+    /** Sheds the youngest waiter of the lowest priority below {@code p}. Caller holds the lock. */
+    private boolean shedBelow(Priority p) {
+        for (int i = 0; i < p.ordinal(); i++) {
+            Waiter victim = queues.get(i).pollLast();
+            if (victim != null) {
+                queued--;
+                victim.state = State.SHED;
+                victim.condition.signal();
+                shed.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dequeue(Waiter waiter) {
+        if (queues.get(waiter.priority.ordinal()).remove(waiter)) {
+            queued--;
+        }
+    }
+
+    /** Requests queued with priority {@code p} or higher — all served before a new {@code p} arrival. */
+    private int queuedAtOrAbove(Priority p) {
+        int ahead = 0;
+        for (int i = p.ordinal(); i < queues.size(); i++) {
+            ahead += queues.get(i).size();
+        }
+        return ahead;
+    }
+
+    /** Time for {@code requests} slots to free up at the observed service rate (0 before any sample). */
+    private double predictedWaitNanos(int requests) {
+        return requests * serviceNanos / maxInFlight;
+    }
+
+    private RejectedException reject(Priority p, Reason reason) {
+        switch (reason) {
+            case QUEUE_FULL -> rejectedQueueFull.increment();
+            case PREDICTED_WAIT -> rejectedPredictedWait.increment();
+            case TIMEOUT -> rejectedTimeout.increment();
+            case SHED -> {
+                // Counted by shedBelow()
+            }
+        }
+        rejectedByPriority[p.ordinal()].increment();
+        long drainNanos = (long) predictedWaitNanos(queued + 1);
+        long retryAfter = Math.max(1, (drainNanos + 999_999_999L) / 1_000_000_000L);
+        return new RejectedException(reason, retryAfter);
+    }
+
+    private static double average(double current, long sample) {
+        return current == 0 ? sample : current + SMOOTHING * (sample - current);
+    }
+
+    // ── AdmissionMXBean ──
+
+    @Override
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public int getQueued() {
+        return queued;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    @Override
+    public long getAdmittedAfterWait() {
+        return admittedAfterWait.sum();
+    }
+
+    @Override
+    public long getRejectedQueueFull() {
+        return rejectedQueueFull.sum();
+    }
+
+    @Override
+    public long getRejectedPredictedWait() {
+        return rejectedPredictedWait.sum();
+    }
+
+    @Override
+    public long getRejectedTimeout() {
+        return rejectedTimeout.sum();
+    }
+
+    @Override
+    public long getShed() {
+        return shed.sum();
+    }
+
+    @Override
+    public long getRejectedCritical() {
+        return rejectedByPriority[Priority.CRITICAL.ordinal()].sum();
+    }
+
+    @Override
+    public long getRejectedNormal() {
+        return rejectedByPriority[Priority.NORMAL.ordinal()].sum();
+    }
+
+    @Override
+    public long getRejectedLow() {
+        return rejectedByPriority[Priority.LOW.ordinal()].sum();
+    }
+
+    @Override
+    public double getAverageServiceMillis() {
+        return serviceNanos / 1_000_000.0;
+    }
+
+    @Override
+    public double getAverageQueueWaitMillis() {
+        return queueWaitNanos / 1_000_000.0;
+    }
+
+    // ── JMX lifecycle ──
+
+    /** Registers this MBean for the proxy listening on {@code port} (best effort). */
+    void registerMBean(int port) {
+        jmxObjectName = MBeans.register(this, "Admission", port);
+    }
+
+    /** Unregisters the MBean if {@link #registerMBean(int)} succeeded. */
+    void unregisterMBean() {
+        MBeans.unregister(jmxObjectName);
+        jmxObjectName = null;
+    }
+}
@@ -0,0 +1,68 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * JMX MXBean interface for proxy admission control (FR-004-54).
+ *
+ * <p>
+ * Registered under ObjectName
+ * {@code io.messagexform:type=Admission,instance=proxy-<port>} once the proxy
+ * is ready, if {@code proxy.admission.enabled} is set. Values are live
+ * counters and gauges.
+ *
+ * @see AdmissionController
+ */
+public interface AdmissionMXBean {
+
+    // --- Occupancy ---
+
+    /** Requests admitted and not yet finished. */
+    int getInFlight();
+
+    /** {@code proxy.admission.max-in-flight}. */
+    int getMaxInFlight();
+
+    /** Requests waiting for admission. */
+    int getQueued();
+
+    /** {@code proxy.admission.queue-capacity}. */
+    int getQueueCapacity();
+
+    // --- Outcomes ---
+
+    /** Requests admitted, at once or after waiting. */
+    long getAdmitted();
+
+    /** Admitted requests that had to wait in the queue first. */
+    long getAdmittedAfterWait();
+
+    /** Requests rejected because the queue was full of equal or higher priority requests. */
+    long getRejectedQueueFull();
+
+    /** Requests rejected on arrival because their predicted wait exceeded {@code queue-timeout-ms}. */
+    long getRejectedPredictedWait();
+
+    /** Requests rejected after waiting {@code queue-timeout-ms} without admission. */
+    long getRejectedTimeout();
+
+    /** Queued requests shed to make room for a higher-priority arrival. */
+    long getShed();
+
+    // --- Rejections by priority ---
+
+    /** Rejected or shed requests of priority {@code critical}. */
+    long getRejectedCritical();
+
+    /** Rejected or shed requests of priority {@code normal}. */
+    long getRejectedNormal();
+
+    /** Rejected or shed requests of priority {@code low}. */
+    long getRejectedLow();
+
+    // --- Timing ---
+
+    /** Moving average time an admitted request holds its slot, in milliseconds. */
+    double getAverageServiceMillis();
+
+    /** Moving average queue wait of requests admitted after waiting, in milliseconds. */
+    double getAverageQueueWaitMillis();
+}
@@ -0,0 +1,377 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.BackendGroupConfig;
+import io.messagexform.standalone.config.OutlierEjectionConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A group of interchangeable backends and the policy that spreads requests
+ * across them (FR-004-45..47).
+ *
+ * <p>
+ * Each {@link Backend} has its own {@link UpstreamClient}, and so its own
+ * connection pool (FR-004-44); the pool's leased-slot count is the
+ * backend's number of outstanding requests. {@link #select(String)} picks a
+ * backend by the group's policy among those that are <em>available</em> —
+ * healthy by the last active health checks (FR-004-46), not ejected as
+ * an outlier (FR-004-47), and with its circuit breaker not open
+ * (FR-004-49). If none is available the policy runs over all of
+ * them: a request that might fail beats one that certainly does.
+ *
+ * <p>
+ * Outlier ejection is passive: {@link #recordResponse} and
+ * {@link #recordFailure} count consecutive failed exchanges per backend, and
+ * a backend reaching {@code backend.outlier-ejection.consecutive-failures}
+ * leaves rotation for {@code base-ejection-ms} times the number of times it
+ * has been ejected in a row (at most ten), unless that would take more than
+ * {@code max-ejection-percent} of the group out at once.
+ *
+ * <p>
+ * Thread-safe: selection is lock-free; only ejection decisions synchronise
+ * on the group.
+ */
+public final class BackendGroup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BackendGroup.class);
+
+    /** Name of the group built from {@code backend.host}. */
+    public static final String DEFAULT = "default";
+
+    /** Points per backend on the consistent-hash ring — smooths the key distribution. */
+    static final int RING_POINTS_PER_BACKEND = 100;
+
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private final String name;
+    private final String policy;
+    private final String hashHeader;
+    private final List<Backend> backends;
+    private final OutlierEjectionConfig outlierEjection;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final long[] ringHashes;
+    private final Backend[] ringOwners;
+
+    /**
+     * @param name            group name
+     * @param policy          one of the {@link BackendGroupConfig} policies
+     * @param hashHeader      request header hashed by {@code consistent-hash};
+     *                        null for other policies
+     * @param backends        the members, at least one
+     * @param outlierEjection outlier ejection settings
+     */
+    BackendGroup(
+            String name,
+            String policy,
+            String hashHeader,
+            List<Backend> backends,
+            OutlierEjectionConfig outlierEjection) {
+        this(name, policy, hashHeader, backends, outlierEjection, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    BackendGroup(
+            String name,
+            String policy,
+            String hashHeader,
+            List<Backend> backends,
+            OutlierEjectionConfig outlierEjection,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.policy = policy;
+        this.hashHeader = hashHeader;
+        this.backends = List.copyOf(backends);
+        this.outlierEjection = outlierEjection;
+        this.nanoClock = nanoClock;
+        if (BackendGroupConfig.CONSISTENT_HASH.equals(policy)) {
+            // Sorted ring of (hash, owner) points
+            long[][] points = new long[this.backends.size() * RING_POINTS_PER_BACKEND][];
+            int p = 0;
+            for (int b = 0; b < this.backends.size(); b++) {
+                for (int i = 0; i < RING_POINTS_PER_BACKEND; i++) {
+                    points[p++] = new long[] {hash(this.backends.get(b).label() + "#" + i), b};
+                }
+            }
+            Arrays.sort(points, (x, y) -> Long.compare(x[0], y[0]));
+            this.ringHashes = new long[points.length];
+            this.ringOwners = new Backend[points.length];
+            for (int i = 0; i < points.length; i++) {
+                ringHashes[i] = points[i][0];
+                ringOwners[i] = this.backends.get((int) points[i][1]);
+            }
+        } else {
+            this.ringHashes = null;
+            this.ringOwners = null;
+        }
+    }
+
+    /** Returns the group name. */
+    public String name() {
+        return name;
+    }
+
+    /** Returns the load-balancing policy. */
+    public String policy() {
+        return policy;
+    }
+
+    /** Returns the header hashed by {@code consistent-hash}, or {@code null}. */
+    public String hashHeader() {
+        return hashHeader;
+    }
+
+    /** Returns the members in declaration order. */
+    public List<Backend> backends() {
+        return backends;
+    }
+
+    /** Returns {@code true} if at least one member is healthy and not ejected. */
+    public boolean available() {
+        long now = nanoClock.getAsLong();
+        for (Backend backend : backends) {
+            if (backend.available(now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Picks the backend for one request.
+     *
+     * @param hashKey value of {@link #hashHeader()} on the request, or
+     *                {@code null} — a {@code consistent-hash} group then
+     *                falls back to round-robin
+     * @return the selected backend
+     */
+    public Backend select(String hashKey) {
+        if (backends.size() == 1) {
+            return backends.get(0);
+        }
+        long now = nanoClock.getAsLong();
+        List<Backend> candidates = new ArrayList<>(backends.size());
+        for (Backend backend : backends) {
+            if (backend.available(now)) {
+                candidates.add(backend);
+            }
+        }
+        boolean panic = candidates.isEmpty();
+        if (panic) {
+            // Every member is down or ejected — spread over all of them
+            candidates = backends;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        return switch (policy) {
+            case BackendGroupConfig.LEAST_OUTSTANDING -> leastOutstanding(candidates);
+            case BackendGroupConfig.POWER_OF_TWO -> powerOfTwo(candidates);
+            case BackendGroupConfig.CONSISTENT_HASH ->
+                hashKey != null ? ringOwner(hashKey, now, panic) : roundRobin(candidates);
+            default -> roundRobin(candidates);
+        };
+    }
+
+    /**
+     * Records the status of a response received from {@code backend}:
+     * {@code 5xx} counts as a failure towards outlier ejection, anything else
+     * resets the count.
+     */
+    public void recordResponse(Backend backend, int statusCode) {
+        if (statusCode >= 500) {
+            failed(backend);
+        } else {
+            backend.consecutiveFailures.set(0);
+            if (backend.ejections.get() != 0) {
+                backend.ejections.set(0);
+            }
+        }
+    }
+
+    /**
+     * Records an exchange with {@code backend} that produced no response.
+     * Only connect failures and timeouts count towards outlier ejection — an
+     * exhausted local pool or an oversized body says nothing about the
+     * backend's health.
+     */
+    public void recordFailure(Backend backend, UpstreamException e) {
+        if (e instanceof UpstreamConnectException || e instanceof UpstreamTimeoutException) {
+            failed(backend);
+        }
+    }
+
+    private void failed(Backend backend) {
+        int threshold = outlierEjection.consecutiveFailures();
+        if (threshold > 0 && backend.consecutiveFailures.incrementAndGet() >= threshold) {
+            eject(backend);
+        }
+    }
+
+    private synchronized void eject(Backend backend) {
+        long now = nanoClock.getAsLong();
+        if (backend.ejected(now)) {
+            return;
+        }
+        int ejected = 0;
+        for (Backend member : backends) {
+            if (member.ejected(now)) {
+                ejected++;
+            }
+        }
+        int maxEjected = backends.size() * outlierEjection.maxEjectionPercent() / 100;
+        if (ejected >= maxEjected) {
+            LOG.debug(
+                    "Not ejecting backend {} in group {}: {} of {} members already ejected",
+                    backend.label(),
+                    name,
+                    ejected,
+                    backends.size());
+            return;
+        }
+        int multiplier = Math.min(backend.ejections.incrementAndGet(), MAX_EJECTION_MULTIPLIER);
+        long ejectionMs = (long) outlierEjection.baseEjectionMs() * multiplier;
+        backend.ejectedUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(ejectionMs);
+        backend.ejected = true;
+        backend.consecutiveFailures.set(0);
+        LOG.warn(
+                "Backend {} in group {} ejected for {} ms after {} consecutive failures",
+                backend.label(),
+                name,
+                ejectionMs,
+                outlierEjection.consecutiveFailures());
+    }
+
+    private Backend roundRobin(List<Backend> candidates) {
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    private Backend leastOutstanding(List<Backend> candidates) {
+        // Start at a rotating offset so ties do not always go to the first member
+        int start = Math.floorMod(next.getAndIncrement(), candidates.size());
+        Backend best = null;
+        int bestInFlight = Integer.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            Backend backend = candidates.get((start + i) % candidates.size());
+            int inFlight = backend.client().inFlight();
+            if (inFlight < bestInFlight) {
+                best = backend;
+                bestInFlight = inFlight;
+            }
+        }
+        return best;
+    }
+
+    private static Backend powerOfTwo(List<Backend> candidates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Backend a = candidates.get(first);
+        Backend b = candidates.get(second);
+        return b.client().inFlight() < a.client().inFlight() ? b : a;
+    }
+
+    /** The first available backend clockwise from the key's point on the ring. */
+    private Backend ringOwner(String hashKey, long now, boolean panic) {
+        int index = Arrays.binarySearch(ringHashes, hash(hashKey));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        for (int i = 0; i < ringOwners.length; i++) {
+            Backend owner = ringOwners[(index + i) % ringOwners.length];
+            if (panic || owner.available(now)) {
+                return owner;
+            }
+        }
+        return ringOwners[index % ringOwners.length];
+    }
+
+    /** 64-bit FNV-1a with a final avalanche mix, so similar keys spread over the ring. */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * One member of a group: its address, its {@link UpstreamClient}, and
+     * its health and ejection state.
+     */
+    public static final class Backend {
+
+        private final UpstreamClient client;
+        private final String label;
+
+        /** Written by the health checker (FR-004-46). */
+        private volatile boolean healthy = true;
+
+        /** Consecutive probe results: positive successes, negative failures. Health-checker thread only. */
+        private int probeStreak;
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicInteger ejections = new AtomicInteger();
+        private volatile boolean ejected;
+        private volatile long ejectedUntilNanos;
+
+        /** @param client the upstream client bound to this backend's address */
+        Backend(UpstreamClient client) {
+            this.client = client;
+            this.label = client.host() + ":" + client.port();
+        }
+
+        /** Returns the client that forwards to this backend. */
+        public UpstreamClient client() {
+            return client;
+        }
+
+        /** Returns {@code host:port}. */
+        public String label() {
+            return label;
+        }
+
+        /** Returns {@code true} unless the last health checks failed. */
+        public boolean healthy() {
+            return healthy;
+        }
+
+        void healthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+
+        int probeStreak() {
+            return probeStreak;
+        }
+
+        void probeStreak(int probeStreak) {
+            this.probeStreak = probeStreak;
+        }
+
+        /** Returns {@code true} while this backend is ejected as an outlier. */
+        boolean ejected(long nowNanos) {
+            return ejected && nowNanos - ejectedUntilNanos < 0;
+        }
+
+        boolean available(long nowNanos) {
+            return healthy && !ejected(nowNanos) && client.acceptingRequests();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.BackendGroupConfig;
+import io.messagexform.standalone.config.OutlierEjectionConfig;
+import io.messagexform.standalone.config.ProxyConfig;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The backends a proxy forwards to (FR-004-45): the {@linkplain BackendGroup#DEFAULT
+ * default} group built from {@code backend.host}, plus every named
+ * {@code backend.groups} entry. Routes pick a named group; everything else
+ * goes to the default group.
+ */
+public final class BackendGroups {
+
+    private final BackendGroup defaultGroup;
+    private final Map<String, BackendGroup> named;
+
+    private BackendGroups(BackendGroup defaultGroup, Map<String, BackendGroup> named) {
+        this.defaultGroup = defaultGroup;
+        this.named = named;
+    }
+
+    /** Wraps a single client as the default group, with no named groups. */
+    static BackendGroups of(UpstreamClient client) {
+        return new BackendGroups(single(client, OutlierEjectionConfig.DEFAULT), Map.of());
+    }
+
+    /**
+     * Builds the default group around {@code defaultClient} and one
+     * {@link UpstreamClient} per named group member. Members share every
+     * backend setting — scheme, timeouts, TLS, pool, protocol — except the
+     * address.
+     *
+     * @param config        proxy configuration
+     * @param defaultClient client for {@code backend.host}
+     * @return the groups
+     */
+    public static BackendGroups create(ProxyConfig config, UpstreamClient defaultClient) {
+        Map<String, BackendGroup> named = new LinkedHashMap<>();
+        for (BackendGroupConfig group : config.backendGroups()) {
+            List<BackendGroup.Backend> members = new ArrayList<>();
+            for (BackendGroupConfig.Member member : group.members()) {
+                members.add(
+                        new BackendGroup.Backend(new UpstreamClient(config.withBackend(member.host(), member.port()))));
+            }
+            named.put(
+                    group.name(),
+                    new BackendGroup(
+                            group.name(), group.policy(), group.hashHeader(), members, config.outlierEjection()));
+        }
+        return new BackendGroups(single(defaultClient, config.outlierEjection()), Map.copyOf(named));
+    }
+
+    private static BackendGroup single(UpstreamClient client, OutlierEjectionConfig outlierEjection) {
+        return new BackendGroup(
+                BackendGroup.DEFAULT,
+                BackendGroupConfig.ROUND_ROBIN,
+                null,
+                List.of(new BackendGroup.Backend(client)),
+                outlierEjection);
+    }
+
+    /**
+     * Returns the group a request is forwarded to.
+     *
+     * @param name a {@code backend.groups} name, or {@code null} for the
+     *             default group
+     * @return the group; never {@code null} — route names are validated at
+     *         load time
+     */
+    public BackendGroup group(String name) {
+        if (name == null) {
+            return defaultGroup;
+        }
+        BackendGroup group = named.get(name);
+        return group != null ? group : defaultGroup;
+    }
+
+    /** Returns the default group followed by the named groups. */
+    public List<BackendGroup> groups() {
+        List<BackendGroup> all = new ArrayList<>(named.size() + 1);
+        all.add(defaultGroup);
+        all.addAll(named.values());
+        return all;
+    }
+
+    /** Returns {@code true} while the default group has an available backend (FR-004-22). */
+    public boolean ready() {
+        return defaultGroup.available();
+    }
+}
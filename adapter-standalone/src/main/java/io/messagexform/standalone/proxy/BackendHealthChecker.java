@@ -0,0 +1,116 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.HealthCheckConfig;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Active backend health checking (FR-004-46, CFG-004-57..62).
+ *
+ * <p>
+ * Every {@code interval-ms} a single daemon thread probes each backend of
+ * every group in turn — an HTTP {@code GET} of {@code path} when set, a TCP
+ * connect otherwise. A backend turns unhealthy after
+ * {@code unhealthy-threshold} consecutive failed probes and healthy again
+ * after {@code healthy-threshold} consecutive successes. Request threads only
+ * read the resulting flag; they never wait on a probe. Probes run one after
+ * another, so a sweep takes at most {@code timeout-ms} per unreachable
+ * backend.
+ */
+final class BackendHealthChecker implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BackendHealthChecker.class);
+
+    private final List<BackendGroup> groups;
+    private final HealthCheckConfig config;
+    private final Duration timeout;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param backends the groups to probe
+     * @param config   health-check settings
+     */
+    BackendHealthChecker(BackendGroups backends, HealthCheckConfig config) {
+        this.groups = backends.groups();
+        this.config = config;
+        this.timeout = Duration.ofMillis(config.timeoutMs());
+    }
+
+    /** Starts probing — the first sweep runs immediately. */
+    synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "backend-health-check");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, config.intervalMs(), TimeUnit.MILLISECONDS);
+        LOG.info(
+                "Backend health checks started: {} every {} ms",
+                config.path() != null ? "GET " + config.path() : "TCP connect",
+                config.intervalMs());
+    }
+
+    /** Probes every backend once — package-private so tests can drive sweeps. */
+    void checkAll() {
+        for (BackendGroup group : groups) {
+            for (BackendGroup.Backend backend : group.backends()) {
+                try {
+                    record(group, backend, probe(backend));
+                } catch (RuntimeException e) {
+                    // Never let one probe kill the schedule
+                    LOG.warn("Health check of backend {} failed unexpectedly", backend.label(), e);
+                }
+            }
+        }
+    }
+
+    private boolean probe(BackendGroup.Backend backend) {
+        UpstreamClient client = backend.client();
+        if (config.path() != null) {
+            return client.probe(config.path(), timeout);
+        }
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(client.host(), client.port()), config.timeoutMs());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void record(BackendGroup group, BackendGroup.Backend backend, boolean success) {
+        int streak = backend.probeStreak();
+        streak = success ? Math.max(streak, 0) + 1 : Math.min(streak, 0) - 1;
+        backend.probeStreak(streak);
+        if (backend.healthy() && -streak >= config.unhealthyThreshold()) {
+            backend.healthy(false);
+            LOG.warn(
+                    "Backend {} in group {} is unhealthy after {} failed checks",
+                    backend.label(),
+                    group.name(),
+                    -streak);
+        } else if (!backend.healthy() && streak >= config.healthyThreshold()) {
+            backend.healthy(true);
+            LOG.info("Backend {} in group {} is healthy again", backend.label(), group.name());
+        }
+    }
+
+    /** Stops probing; backends keep their last health state. */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.messagexform.standalone.proxy;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Non-blocking {@link HttpResponse.BodySubscriber} that collects a response
+ * body into a {@code byte[]} while enforcing {@code proxy.max-body-bytes}
+ * (FR-004-13) — the asynchronous counterpart of {@link BoundedInputStream}.
+ *
+ * <p>
+ * The first chunk that takes the total past the limit cancels the
+ * subscription, so the rest of the body is never received, and completes the
+ * body exceptionally with an {@link UpstreamResponseTooLargeException}. A
+ * declared {@code Content-Length} over the limit fails on subscription,
+ * before any byte arrives.
+ */
+final class BoundedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+    private final HttpResponse.BodySubscriber<byte[]> delegate = HttpResponse.BodySubscribers.ofByteArray();
+    private final long limit;
+    private final long declaredLength;
+    private final String source;
+    private Flow.Subscription subscription;
+    private long count;
+    private boolean failed;
+
+    /**
+     * @param limit          max bytes allowed (≤ 0 for no limit)
+     * @param declaredLength the response {@code Content-Length}, or a
+     *                       negative value if unknown
+     * @param source         backend description used in error messages
+     */
+    BoundedBodySubscriber(long limit, long declaredLength, String source) {
+        this.limit = limit;
+        this.declaredLength = declaredLength;
+        this.source = source;
+    }
+
+    @Override
+    public CompletionStage<byte[]> getBody() {
+        return delegate.getBody();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        delegate.onSubscribe(subscription);
+        if (limit > 0 && declaredLength > limit) {
+            fail("Response body from " + source + " exceeds " + limit + " bytes (" + declaredLength + " declared)");
+        }
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        if (failed) {
+            return;
+        }
+        for (ByteBuffer item : items) {
+            count += item.remaining();
+        }
+        if (limit > 0 && count > limit) {
+            fail("Response body from " + source + " exceeds " + limit + " bytes (" + count + " received)");
+            return;
+        }
+        delegate.onNext(items);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!failed) {
+            delegate.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!failed) {
+            delegate.onComplete();
+        }
+    }
+
+    private void fail(String message) {
+        failed = true;
+        subscription.cancel();
+        delegate.onError(new UpstreamResponseTooLargeException(message));
+    }
+}
@@ -0,0 +1,158 @@
+package io.messagexform.standalone.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Counting {@link InputStream} that enforces {@code proxy.max-body-bytes} on a
+ * body as it is read (FR-004-13).
+ *
+ * <p>
+ * Bodies are never first decoded to a {@code String}, so the size limit is
+ * enforced byte-accurately on the bytes actually read — whether they are
+ * streamed through or buffered for a transform: the first read that takes the total
+ * past the limit throws an {@link IOException} and {@link #exceeded()} turns
+ * {@code true}. Callers check the flag to tell a limit violation apart from
+ * an I/O failure (e.g. 413 instead of 502 for a chunked request body).
+ *
+ * <p>
+ * An optional close action runs once when the stream is closed — upstream
+ * response bodies use it to give back their stream slot (FR-004-43).
+ *
+ * <p>
+ * Not thread-safe — each instance wraps one body read by one consumer.
+ */
+final class BoundedInputStream extends FilterInputStream {
+
+    /** Largest array the JVM reliably allocates. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final long limit;
+    private final Runnable onClose;
+    private long count;
+    private boolean exceeded;
+
+    /**
+     * @param in    the body stream to wrap
+     * @param limit max bytes allowed (≤ 0 for no limit)
+     */
+    BoundedInputStream(InputStream in, long limit) {
+        this(in, limit, null);
+    }
+
+    /**
+     * @param in      the body stream to wrap
+     * @param limit   max bytes allowed (≤ 0 for no limit)
+     * @param onClose run after the stream is closed; must be idempotent (may
+     *                be null)
+     */
+    BoundedInputStream(InputStream in, long limit, Runnable onClose) {
+        super(in);
+        this.limit = limit;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            count(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Reads the rest of the body into an array pre-sized from the declared
+     * {@code Content-Length}, so a sized body is copied exactly once. An
+     * unknown (negative) or over-limit hint falls back to
+     * {@link #readAllBytes()}.
+     *
+     * @param sizeHint the declared body length, or a negative value if unknown
+     * @return the body bytes
+     * @throws IOException if reading fails or the body exceeds the limit
+     */
+    byte[] readAllBytes(long sizeHint) throws IOException {
+        if (sizeHint < 0 || sizeHint > MAX_ARRAY_SIZE || (limit > 0 && sizeHint > limit)) {
+            return readAllBytes();
+        }
+        byte[] buf = new byte[(int) sizeHint];
+        int n = 0;
+        while (n < buf.length) {
+            int read = read(buf, n, buf.length - n);
+            if (read < 0) {
+                return Arrays.copyOf(buf, n);
+            }
+            n += read;
+        }
+        // Declared length reached — drain anything beyond it (still counted)
+        int next = read();
+        if (next < 0) {
+            return buf;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(buf.length + 8192);
+        out.write(buf);
+        out.write(next);
+        transferTo(out);
+        return out.toByteArray();
+    }
+
+    /** Returns {@code true} once the stream has produced more than the limit. */
+    boolean exceeded() {
+        return exceeded;
+    }
+
+    /** Returns the number of bytes read so far. */
+    long count() {
+        return count;
+    }
+
+    /** Returns the configured limit (≤ 0 for no limit). */
+    long limit() {
+        return limit;
+    }
+
+    private void count(long n) throws IOException {
+        count += n;
+        if (limit > 0 && count > limit) {
+            exceeded = true;
+            throw new IOException("Body exceeds " + limit + " bytes");
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.CircuitBreakerConfig;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-backend circuit breaker (FR-004-49).
+ *
+ * <p>
+ * <b>Closed:</b> every exchange is let through and its outcome recorded in a
+ * ring of the last {@code window-size} outcomes. Once at least
+ * {@code minimum-calls} are recorded and {@code failure-rate-threshold}
+ * percent of them are failures, the breaker opens.
+ *
+ * <p>
+ * <b>Open:</b> requests are rejected without contacting the backend for
+ * {@code open-duration-ms}; {@link #retryAfterMillis()} says how long is
+ * left.
+ *
+ * <p>
+ * <b>Half-open:</b> after the open period, up to {@code half-open-calls}
+ * trial exchanges are let through. If all succeed the breaker closes with an
+ * empty window; the first failure opens it again.
+ *
+ * <p>
+ * Outcomes are tagged with the {@link Permit} they were admitted under, so a
+ * slow exchange admitted while closed cannot settle a half-open trial.
+ *
+ * <p>
+ * Thread-safe: all state changes synchronise on the breaker — a few field
+ * updates per exchange.
+ */
+final class CircuitBreaker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /** Breaker state. */
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /** Admission granted by {@link #tryAcquire()}. */
+    enum Permit {
+        /** Admitted while closed. */
+        CALL,
+        /** Admitted as a half-open trial. */
+        TRIAL
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final int halfOpenCalls;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private final boolean[] window;
+    private int windowCount;
+    private int windowNext;
+    private int windowFailures;
+    private long openUntilNanos;
+    private int trialsAdmitted;
+    private int trialSuccesses;
+    private long openings;
+    private long rejections;
+
+    /**
+     * @param name   backend label for log messages
+     * @param config breaker settings
+     */
+    CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this(name, config, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    CircuitBreaker(String name, CircuitBreakerConfig config, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureRateThreshold = config.failureRateThreshold();
+        this.minimumCalls = config.minimumCalls();
+        this.halfOpenCalls = config.halfOpenCalls();
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(config.openDurationMs());
+        this.window = new boolean[config.windowSize()];
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Asks to send one exchange.
+     *
+     * @return the permit to settle with {@link #record} or {@link #release},
+     *         or {@code null} if the breaker rejects the request
+     */
+    synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openUntilNanos < 0) {
+                rejections++;
+                return null;
+            }
+            state = State.HALF_OPEN;
+            trialsAdmitted = 0;
+            trialSuccesses = 0;
+            LOG.info("Circuit breaker for {} half-open: admitting {} trial requests", name, halfOpenCalls);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsAdmitted >= halfOpenCalls) {
+                rejections++;
+                return null;
+            }
+            trialsAdmitted++;
+            return Permit.TRIAL;
+        }
+        return Permit.CALL;
+    }
+
+    /**
+     * Records the outcome of an exchange admitted with {@code permit}.
+     *
+     * @param permit  the permit from {@link #tryAcquire()}
+     * @param success {@code false} if the exchange counts as a failure
+     */
+    synchronized void record(Permit permit, boolean success) {
+        if (permit == Permit.TRIAL) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (!success) {
+                open("a half-open trial request failed");
+            } else if (++trialSuccesses >= halfOpenCalls) {
+                state = State.CLOSED;
+                windowCount = 0;
+                windowNext = 0;
+                windowFailures = 0;
+                LOG.info("Circuit breaker for {} closed", name);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (windowCount == window.length) {
+            if (!window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = success;
+        windowNext = (windowNext + 1) % window.length;
+        if (!success) {
+            windowFailures++;
+        }
+        if (windowCount >= minimumCalls && windowFailures * 100L >= (long) failureRateThreshold * windowCount) {
+            open(windowFailures + " of the last " + windowCount + " requests failed");
+        }
+    }
+
+    /** Gives back a permit whose exchange never reached the backend. */
+    synchronized void release(Permit permit) {
+        if (permit == Permit.TRIAL && state == State.HALF_OPEN) {
+            trialsAdmitted--;
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openUntilNanos = nanoClock.getAsLong() + openDurationNanos;
+        openings++;
+        LOG.warn(
+                "Circuit breaker for {} opened for {} ms: {}",
+                name,
+                TimeUnit.NANOSECONDS.toMillis(openDurationNanos),
+                reason);
+    }
+
+    /** Returns {@code true} unless the breaker is open with time left — a request would be rejected. */
+    synchronized boolean allowsRequests() {
+        return state != State.OPEN || nanoClock.getAsLong() - openUntilNanos >= 0;
+    }
+
+    /** Returns the time until the breaker admits a request again, in ms; 0 if it would now. */
+    synchronized long retryAfterMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - nanoClock.getAsLong()));
+    }
+
+    /** Returns the current state. */
+    synchronized State state() {
+        return state;
+    }
+
+    /** Returns the failure percentage over the current window (closed state only). */
+    synchronized int failureRatePercent() {
+        return windowCount == 0 ? 0 : (int) (windowFailures * 100L / windowCount);
+    }
+
+    /** Returns how many times the breaker has opened. */
+    synchronized long openings() {
+        return openings;
+    }
+
+    /** Returns the number of requests rejected while open or half-open. */
+    synchronized long rejections() {
+        return rejections;
+    }
+}
@@ -0,0 +1,110 @@
+package io.messagexform.standalone.proxy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes {@code gzip} / {@code deflate} message bodies so that they can be
+ * parsed and transformed (FR-004-53).
+ *
+ * <p>
+ * Only bodies the engine is about to wrap are decoded; streamed bodies keep
+ * their encoding. Decoding is streamed through a {@link BoundedInputStream},
+ * so {@code proxy.max-body-bytes} bounds the decoded size as well as the
+ * encoded one — a small compressed body cannot inflate without limit.
+ *
+ * <p>
+ * {@code deflate} is accepted both as specified (zlib-wrapped, RFC 9110
+ * §8.4.1.2) and as the raw DEFLATE stream some servers send instead.
+ *
+ * <p>
+ * Stateless and thread-safe.
+ */
+final class ContentCoding {
+
+    private ContentCoding() {}
+
+    /** Why a body could not be decoded. */
+    static final class DecodeException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean tooLarge;
+
+        DecodeException(String message, boolean tooLarge, Throwable cause) {
+            super(message, cause);
+            this.tooLarge = tooLarge;
+        }
+
+        /** Whether the decoded body ran over the limit, rather than being corrupt. */
+        boolean tooLarge() {
+            return tooLarge;
+        }
+    }
+
+    /**
+     * Whether {@code contentEncoding} names a coding this class decodes.
+     * {@code null}, empty and {@code identity} are not codings.
+     */
+    static boolean decodable(String contentEncoding) {
+        String coding = normalize(contentEncoding);
+        return coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("deflate");
+    }
+
+    /**
+     * Decodes {@code body} according to {@code contentEncoding}.
+     *
+     * @param contentEncoding the {@code Content-Encoding} header value; must be
+     *                        {@link #decodable}
+     * @param body            the encoded body (null or empty for no body)
+     * @param limit           max decoded bytes (≤ 0 for no limit)
+     * @return the decoded body ({@code body} itself if it is empty)
+     * @throws DecodeException if the body is corrupt or decodes to more than
+     *                         {@code limit} bytes
+     */
+    static byte[] decode(String contentEncoding, byte[] body, long limit) throws DecodeException {
+        if (body == null || body.length == 0) {
+            return body;
+        }
+        String coding = normalize(contentEncoding);
+        InputStream in = new ByteArrayInputStream(body);
+        // A caller-supplied Inflater is not ended by the stream — end it here
+        Inflater inflater = coding.equals("deflate") ? new Inflater(!isZlib(body)) : null;
+        BoundedInputStream decoded = null;
+        try {
+            InputStream decoder = inflater != null ? new InflaterInputStream(in, inflater) : new GZIPInputStream(in);
+            decoded = new BoundedInputStream(decoder, limit);
+            try (BoundedInputStream stream = decoded) {
+                return stream.readAllBytes(-1);
+            }
+        } catch (IOException e) {
+            if (decoded != null && decoded.exceeded()) {
+                throw new DecodeException("Decoded " + coding + " body exceeds " + limit + " bytes", true, e);
+            }
+            throw new DecodeException("Malformed " + coding + " body: " + e.getMessage(), false, e);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    /** Whether a {@code deflate} body starts with a zlib header (RFC 1950 §2.2). */
+    private static boolean isZlib(byte[] body) {
+        if (body.length < 2) {
+            return false;
+        }
+        int cmf = body[0] & 0xFF;
+        int flg = body[1] & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    private static String normalize(String contentEncoding) {
+        return contentEncoding == null ? "" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+    }
+}
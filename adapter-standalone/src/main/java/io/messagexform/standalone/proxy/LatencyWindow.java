@@ -0,0 +1,56 @@
+package io.messagexform.standalone.proxy;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The latencies of a backend's most recent exchanges, and their 95th
+ * percentile — the default delay before a request is hedged (FR-004-50).
+ *
+ * <p>
+ * Samples go into a ring of the last {@link #CAPACITY}; every
+ * {@link #RECOMPUTE_EVERY} samples the thread that recorded the last one
+ * sorts a copy and publishes the new percentile. Until
+ * {@link #MIN_SAMPLES} have been seen there is no percentile.
+ *
+ * <p>
+ * Thread-safe and lock-free; a percentile computed while other threads
+ * record may mix old and new samples, which is harmless for a hedging delay.
+ */
+final class LatencyWindow {
+
+    /** Samples kept. */
+    static final int CAPACITY = 1024;
+
+    /** Samples between percentile updates. */
+    static final int RECOMPUTE_EVERY = 64;
+
+    /** Samples required before a percentile is reported. */
+    static final int MIN_SAMPLES = 100;
+
+    private final AtomicLongArray samples = new AtomicLongArray(CAPACITY);
+    private final AtomicLong count = new AtomicLong();
+    private volatile long p95Nanos = -1;
+
+    /** Records the latency of one exchange. */
+    void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % CAPACITY), nanos);
+        long recorded = n + 1;
+        if (recorded >= MIN_SAMPLES && (recorded == MIN_SAMPLES || recorded % RECOMPUTE_EVERY == 0)) {
+            int size = (int) Math.min(recorded, CAPACITY);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            p95Nanos = sorted[(int) Math.ceil(size * 0.95) - 1];
+        }
+    }
+
+    /** Returns the 95th percentile latency in ns, or {@code -1} before {@link #MIN_SAMPLES} samples. */
+    long p95Nanos() {
+        return p95Nanos;
+    }
+}
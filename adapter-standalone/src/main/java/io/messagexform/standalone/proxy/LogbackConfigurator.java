@@ -74,4 +74,13 @@ public final class LogbackConfigurator {
         context.getLogger("org.eclipse.jetty").setLevel(Level.WARN);
         context.getLogger("io.javalin").setLevel(Level.INFO);
     }
+
+    /**
+     * Sets the level of one logger, e.g. to silence the engine's per-transform
+     * log lines during a bulk run (FR-004-56).
+     */
+    public static void setLevel(String loggerName, String level) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(loggerName).setLevel(Level.toLevel(level, Level.INFO));
+    }
 }
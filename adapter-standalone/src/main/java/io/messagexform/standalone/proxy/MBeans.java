@@ -0,0 +1,68 @@
+package io.messagexform.standalone.proxy;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Best-effort registration of the proxy's MXBeans on the platform MBean
+ * server, under {@code io.messagexform:type=<type>,instance=proxy-<port>}.
+ * JMX failures are logged and never fail the proxy.
+ */
+final class MBeans {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MBeans.class);
+
+    private MBeans() {}
+
+    /**
+     * Registers {@code mbean} for the proxy listening on {@code port}.
+     *
+     * @return the registered name, or {@code null} if the name was already
+     *         taken or registration failed
+     */
+    static ObjectName register(Object mbean, String type, int port) {
+        return register(mbean, type, port, "");
+    }
+
+    /**
+     * Registers {@code mbean} for the proxy listening on {@code port}, with
+     * {@code keyProperties} (e.g. {@code ",group=..."}) appended to its name.
+     *
+     * @return the registered name, or {@code null} if the name was already
+     *         taken or registration failed
+     */
+    static ObjectName register(Object mbean, String type, int port, String keyProperties) {
+        try {
+            ObjectName name =
+                    new ObjectName("io.messagexform:type=" + type + ",instance=proxy-" + port + keyProperties);
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            if (mbs.isRegistered(name)) {
+                return null;
+            }
+            mbs.registerMBean(mbean, name);
+            LOG.debug("JMX MBean registered: {}", name);
+            return name;
+        } catch (Exception e) {
+            LOG.warn("Failed to register JMX MBean: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Unregisters {@code name} if it is still registered; {@code null} is a no-op. */
+    static void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to unregister JMX MBean: {}", e.getMessage());
+        }
+    }
+}
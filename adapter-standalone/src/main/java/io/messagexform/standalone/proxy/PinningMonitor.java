@@ -0,0 +1,118 @@
+package io.messagexform.standalone.proxy;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Virtual-thread pinning diagnostics (FR-004-41, CFG-004-44).
+ *
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or a
+ * native frame stays mounted on its carrier, so a handful of them can stall
+ * the whole carrier pool. This monitor subscribes to the JFR
+ * {@code jdk.VirtualThreadPinned} event in-process and reports every pin that
+ * lasts at least the configured threshold: each distinct pinning site is
+ * logged once at WARN with its stack, repeats at DEBUG, and
+ * {@link #pinnedCount()} counts them all.
+ *
+ * <p>
+ * The number of distinct sites remembered is bounded, so a pathological
+ * workload cannot grow the monitor without limit.
+ */
+final class PinningMonitor implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** Max distinct pinning sites logged at WARN. */
+    private static final int MAX_REPORTED_SITES = 64;
+
+    /** Max stack frames included in a WARN log entry. */
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final RecordingStream stream;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param threshold minimum pin duration to report (must be positive)
+     */
+    PinningMonitor(Duration threshold) {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    /** Starts consuming events on a background thread. */
+    void start() {
+        stream.startAsync();
+    }
+
+    /** Returns the number of pins at or above the threshold seen so far. */
+    long pinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = stackTrace == null || stackTrace.getFrames().isEmpty()
+                ? "<unknown>"
+                : describe(firstApplicationFrame(stackTrace));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            LOG.warn(
+                    "Virtual thread pinned to its carrier for {} ms at {}{}",
+                    event.getDuration().toMillis(),
+                    site,
+                    formatStack(stackTrace));
+        } else {
+            LOG.debug(
+                    "Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    /** Skips JDK frames so the site names the code that actually blocked. */
+    private static RecordedFrame firstApplicationFrame(RecordedStackTrace stackTrace) {
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return frame;
+            }
+        }
+        return stackTrace.getFrames().get(0);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        int frames = 0;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frames++ == MAX_LOGGED_FRAMES) {
+                sb.append("\n\t...");
+                break;
+            }
+            sb.append("\n\tat ").append(describe(frame));
+        }
+        return sb.toString();
+    }
+}
@@ -1,12 +1,15 @@
 package io.messagexform.standalone.proxy;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Builds RFC 9457 Problem Details responses for proxy-level errors
- * (FR-004-23/24/25/26, FR-004-13).
+ * (FR-004-23/24/25/26, FR-004-13, FR-004-55).
  *
  * <p>
  * This class handles errors that originate in the proxy itself — backend
@@ -31,7 +34,12 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public final class ProblemDetail {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // Shared recycler pool instead of Jackson's per-thread one — under virtual
+    // threads every request runs on a fresh thread (FR-004-41)
+    private static final ObjectMapper MAPPER = JsonMapper.builder(JsonFactory.builder()
+                    .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                    .build())
+            .build();
 
     // URN constants for proxy error types
     static final String URN_BACKEND_UNREACHABLE = "urn:message-xform:proxy:backend-unreachable";
@@ -40,6 +48,8 @@ public final class ProblemDetail {
     static final String URN_BAD_REQUEST = "urn:message-xform:proxy:bad-request";
     static final String URN_METHOD_NOT_ALLOWED = "urn:message-xform:proxy:method-not-allowed";
     static final String URN_INTERNAL_ERROR = "urn:message-xform:proxy:internal-error";
+    static final String URN_SERVICE_UNAVAILABLE = "urn:message-xform:proxy:service-unavailable";
+    static final String URN_TOO_MANY_REQUESTS = "urn:message-xform:proxy:too-many-requests";
 
     private ProblemDetail() {
         // utility class
@@ -114,6 +124,31 @@ public final class ProblemDetail {
         return build(URN_INTERNAL_ERROR, "Internal Server Error", 500, detail, instancePath);
     }
 
+    /**
+     * Proxy temporarily unable to accept the request — e.g. the transform
+     * executor queue is full (FR-004-42), no upstream connection is free
+     * (FR-004-44), or the backend's adaptive limit is reached or circuit
+     * breaker open (FR-004-48, FR-004-49).
+     *
+     * @param detail       human-readable description
+     * @param instancePath the request path
+     * @return RFC 9457 JSON
+     */
+    public static JsonNode serviceUnavailable(String detail, String instancePath) {
+        return build(URN_SERVICE_UNAVAILABLE, "Service Unavailable", 503, detail, instancePath);
+    }
+
+    /**
+     * Client over its rate limit (FR-004-55).
+     *
+     * @param detail       human-readable description
+     * @param instancePath the request path
+     * @return RFC 9457 JSON
+     */
+    public static JsonNode tooManyRequests(String detail, String instancePath) {
+        return build(URN_TOO_MANY_REQUESTS, "Too Many Requests", 429, detail, instancePath);
+    }
+
     /**
      * Builds a standard RFC 9457 Problem Details JSON object.
      *
@@ -0,0 +1,192 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.ProfileRoute;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Selects the keyed profile, backend group, hedging override and admission
+ * priority for an inbound request by Host header and/or path prefix
+ * (CFG-004-42, CFG-004-56, CFG-004-81, CFG-004-92).
+ *
+ * <p>
+ * Each configured {@link ProfileRoute} is registered with the engine under a
+ * selection key — the normalized profile path — via
+ * {@link io.messagexform.core.engine.TransformEngine#loadProfile(String, Path)}.
+ * Routes sharing a profile file share one key, so the profile is resolved
+ * once. All profiles resolve against the same compiled spec set; adding a
+ * tenant costs one profile, not another copy of every spec.
+ *
+ * <p>
+ * {@link #select(String, String)} returns {@code null} when no route matches,
+ * which makes the engine fall back to the default {@code engine.profile}.
+ *
+ * <p>
+ * Thread-safe: immutable after construction.
+ */
+public final class ProfileSelector {
+
+    /** Selector with no routes — every request uses the default profile. */
+    public static final ProfileSelector NONE = new ProfileSelector(List.of());
+
+    private final List<Route> routes;
+    private final Map<String, Path> keyedProfiles;
+
+    /**
+     * Creates a selector for the given routes, in declaration order.
+     *
+     * @param profileRoutes the configured routes (first match wins)
+     */
+    public ProfileSelector(List<ProfileRoute> profileRoutes) {
+        Map<String, Path> keyed = new LinkedHashMap<>();
+        List<Route> compiled = new ArrayList<>(profileRoutes.size());
+        for (int i = 0; i < profileRoutes.size(); i++) {
+            ProfileRoute route = profileRoutes.get(i);
+            String key = null;
+            if (route.profilePath() != null) {
+                Path profile = Path.of(route.profilePath()).normalize();
+                key = profile.toString();
+                keyed.put(key, profile);
+            }
+            String host = route.host() != null ? route.host().toLowerCase(Locale.ROOT) : null;
+            compiled.add(new Route(
+                    host,
+                    route.pathPrefix(),
+                    new Match(
+                            "engine.profile-routes[" + i + "]",
+                            key,
+                            route.backendGroup(),
+                            route.hedging(),
+                            AdmissionController.Priority.of(route.priority()))));
+        }
+        this.routes = List.copyOf(compiled);
+        this.keyedProfiles = Map.copyOf(keyed);
+    }
+
+    /**
+     * Selection key → profile file for every distinct profile referenced by
+     * the routes. Passed to
+     * {@link io.messagexform.core.engine.TransformEngine#reload(List, Path, Map)}.
+     */
+    public Map<String, Path> keyedProfiles() {
+        return keyedProfiles;
+    }
+
+    /** Returns {@code true} if no routes are configured. */
+    public boolean isEmpty() {
+        return routes.isEmpty();
+    }
+
+    /**
+     * Returns the selection key of the first route matching the request, or
+     * {@code null} to use the default profile.
+     *
+     * @param hostHeader the inbound {@code Host} header (may include a port),
+     *                   or null
+     * @param path       the inbound request path
+     * @return the profile selection key, or null
+     */
+    public String select(String hostHeader, String path) {
+        return match(hostHeader, path).profileKey();
+    }
+
+    /**
+     * Returns the profile key, backend group, hedging override and priority
+     * of the first route matching the request; all are {@code null} when no
+     * route matches.
+     *
+     * @param hostHeader the inbound {@code Host} header (may include a port),
+     *                   or null
+     * @param path       the inbound request path
+     * @return the match, never null
+     */
+    public Match match(String hostHeader, String path) {
+        if (routes.isEmpty()) {
+            return Match.NONE;
+        }
+        String host = normalizeHost(hostHeader);
+        for (Route route : routes) {
+            if (route.matches(host, path)) {
+                return route.match();
+            }
+        }
+        return Match.NONE;
+    }
+
+    /**
+     * Outcome of route matching.
+     *
+     * @param routeId      stable identifier of the matched route — its
+     *                     position in {@code engine.profile-routes} — or null
+     *                     when no route matched. Two routes with the same
+     *                     settings still have distinct ids.
+     * @param profileKey   profile selection key, or null for the default
+     *                     profile
+     * @param backendGroup {@code backend.groups} name, or null for
+     *                     {@code backend.host}
+     * @param hedging      the route's hedging override, or null for
+     *                     {@code backend.hedging.enabled}
+     * @param priority     the route's admission priority (FR-004-54), or null
+     *                     for {@code normal}
+     */
+    public record Match(
+            String routeId,
+            String profileKey,
+            String backendGroup,
+            Boolean hedging,
+            AdmissionController.Priority priority) {
+
+        /** No route matched. */
+        public static final Match NONE = new Match(null, null, null, null, null);
+    }
+
+    /** Lowercases the Host header and strips the port (IPv6 literals keep their brackets). */
+    private static String normalizeHost(String hostHeader) {
+        if (hostHeader == null || hostHeader.isEmpty()) {
+            return null;
+        }
+        String host = hostHeader.toLowerCase(Locale.ROOT);
+        int colon = host.lastIndexOf(':');
+        if (colon > 0 && colon > host.lastIndexOf(']')) {
+            host = host.substring(0, colon);
+        }
+        return host;
+    }
+
+    private record Route(String host, String pathPrefix, Match match) {
+
+        boolean matches(String requestHost, String requestPath) {
+            return hostMatches(requestHost) && pathMatches(requestPath);
+        }
+
+        private boolean hostMatches(String requestHost) {
+            if (host == null) {
+                return true;
+            }
+            if (requestHost == null) {
+                return false;
+            }
+            if (host.startsWith("*.")) {
+                return requestHost.endsWith(host.substring(1));
+            }
+            return host.equals(requestHost);
+        }
+
+        private boolean pathMatches(String requestPath) {
+            if (pathPrefix == null) {
+                return true;
+            }
+            if (requestPath == null || !requestPath.startsWith(pathPrefix)) {
+                return false;
+            }
+            // Segment boundary: "/tenant-b" matches "/tenant-b" and "/tenant-b/x", not "/tenant-bx"
+            return requestPath.length() == pathPrefix.length()
+                    || pathPrefix.endsWith("/")
+                    || requestPath.charAt(pathPrefix.length()) == '/';
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.messagexform.standalone.proxy;
 
 import io.javalin.Javalin;
+import io.javalin.compression.CompressionStrategy;
+import io.javalin.compression.Gzip;
 import io.javalin.http.HandlerType;
 import io.messagexform.core.engine.EngineRegistry;
 import io.messagexform.core.engine.TransformEngine;
@@ -10,8 +12,11 @@ import io.messagexform.standalone.adapter.StandaloneAdapter;
 import io.messagexform.standalone.config.ConfigLoader;
 import io.messagexform.standalone.config.ProxyConfig;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,16 +27,20 @@ import org.slf4j.LoggerFactory;
  * Lifecycle:
  * <ol>
  * <li>Load configuration from YAML + env overlay</li>
- * <li>Register expression engines (JSLT by default)</li>
  * <li>Validate TLS configuration</li>
+ * <li>Register expression engines (JSLT by default)</li>
  * <li>Load and compile all specs</li>
- * <li>Load active profile</li>
+ * <li>Load active profile and keyed profiles</li>
  * <li>Initialize the upstream HTTP client</li>
- * <li>Start the Javalin HTTP server</li>
+ * <li>Start the Javalin HTTP server (on virtual threads if enabled)</li>
  * <li>Start the file watcher (if enabled)</li>
  * </ol>
  *
  * <p>
+ * Each step is timed into a {@link StartupMetrics} phase; the breakdown is
+ * logged in the startup summary and exposed via JMX.
+ *
+ * <p>
  * This class is separate from {@link io.messagexform.standalone.StandaloneMain}
  * to allow clean integration testing without going through {@code main()}.
  */
@@ -47,12 +56,43 @@ public final class ProxyApp {
     private final TransformEngine engine;
     private final FileWatcher fileWatcher;
     private final ProxyConfig config;
+    private final StartupMetrics startupMetrics;
+    private final PinningMonitor pinningMonitor;
+    private final TransformExecutor transformExecutor;
+    private final UpstreamMetrics upstreamMetrics;
+    private final BackendGroups backends;
+    private final BackendHealthChecker healthChecker;
+    private final ResponseCache responseCache;
+    private final AdmissionController admission;
+    private final RateLimiter rateLimiter;
 
-    private ProxyApp(Javalin app, TransformEngine engine, FileWatcher fileWatcher, ProxyConfig config) {
+    private ProxyApp(
+            Javalin app,
+            TransformEngine engine,
+            FileWatcher fileWatcher,
+            ProxyConfig config,
+            StartupMetrics startupMetrics,
+            PinningMonitor pinningMonitor,
+            TransformExecutor transformExecutor,
+            UpstreamMetrics upstreamMetrics,
+            BackendGroups backends,
+            BackendHealthChecker healthChecker,
+            ResponseCache responseCache,
+            AdmissionController admission,
+            RateLimiter rateLimiter) {
         this.app = app;
         this.engine = engine;
         this.fileWatcher = fileWatcher;
         this.config = config;
+        this.startupMetrics = startupMetrics;
+        this.pinningMonitor = pinningMonitor;
+        this.transformExecutor = transformExecutor;
+        this.upstreamMetrics = upstreamMetrics;
+        this.backends = backends;
+        this.healthChecker = healthChecker;
+        this.responseCache = responseCache;
+        this.admission = admission;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -64,7 +104,7 @@ public final class ProxyApp {
      * @throws Exception if any startup step fails
      */
     public static ProxyApp start(String[] args) throws Exception {
-        long startTime = System.nanoTime();
+        StartupMetrics startupMetrics = new StartupMetrics();
 
         // 1. Load configuration (FR-004-10, FR-004-11)
         Path configPath = ConfigLoader.resolveConfigPath(args);
@@ -75,14 +115,16 @@ public final class ProxyApp {
 
         LOG.info("Configuration loaded from {}", configPath);
 
+        // 1c. Validate TLS configuration (S-004-43) — counted as config phase
+        TlsConfigValidator.validateInbound(config.proxyTls());
+        TlsConfigValidator.validateOutbound(config.backendTls(), config.backendScheme());
+        startupMetrics.mark(StartupMetrics.Phase.CONFIG);
+
         // 2. Register expression engines (FR-004-27 step 2)
         EngineRegistry registry = new EngineRegistry();
         registry.register(new JsltExpressionEngine());
         LOG.info("Expression engines registered: [jslt]");
-
-        // 3. Validate TLS configuration (S-004-43)
-        TlsConfigValidator.validateInbound(config.proxyTls());
-        TlsConfigValidator.validateOutbound(config.backendTls(), config.backendScheme());
+        startupMetrics.mark(StartupMetrics.Phase.ENGINE_REGISTRY);
 
         // 4. Load and compile specs (FR-004-27 step 3)
         SpecParser specParser = new SpecParser(registry);
@@ -95,6 +137,7 @@ public final class ProxyApp {
         }
         int specCount = specPaths.size();
         LOG.info("Specs loaded: {}", specCount);
+        startupMetrics.mark(StartupMetrics.Phase.SPEC_COMPILE);
 
         // 5. Load active profile (FR-004-27 step 4)
         String profileId = "none";
@@ -104,14 +147,76 @@ public final class ProxyApp {
         }
         LOG.info("Active profile: {}", profileId);
 
-        // 6. Initialize upstream HTTP client (FR-004-27 step 5)
+        // 5b. Load keyed profiles (CFG-004-42) over the same compiled specs
+        ProfileSelector profileSelector = new ProfileSelector(config.profileRoutes());
+        for (Map.Entry<String, Path> keyed : profileSelector.keyedProfiles().entrySet()) {
+            engine.loadProfile(keyed.getKey(), keyed.getValue());
+        }
+        if (!profileSelector.isEmpty()) {
+            LOG.info(
+                    "Keyed profiles loaded: routes={}, profiles={}",
+                    config.profileRoutes().size(),
+                    profileSelector.keyedProfiles().size());
+        }
+        startupMetrics.mark(StartupMetrics.Phase.PROFILE);
+
+        // 6. Initialize upstream HTTP client (FR-004-27 step 5). The JDK
+        // client's pool properties are JVM-global: set once, before any
+        // backend's client exists (T-004-14, FR-004-18)
+        UpstreamClient.configurePoolProperties(config.pool());
         UpstreamClient upstreamClient = new UpstreamClient(config);
+        // Default group plus named backend groups, one pool each (FR-004-45)
+        BackendGroups backends = BackendGroups.create(config, upstreamClient);
+        int prewarm = config.pool().prewarmConnections();
+        if (prewarm > 0) {
+            // Open connections ahead of traffic (FR-004-44, CFG-004-52)
+            for (BackendGroup group : backends.groups()) {
+                for (BackendGroup.Backend backend : group.backends()) {
+                    LOG.info(
+                            "Upstream connections pre-warmed: {}/{} to {}",
+                            backend.client().prewarm(prewarm),
+                            prewarm,
+                            backend.label());
+                }
+            }
+        }
+        // Active health checks (FR-004-46) — first sweep runs before traffic
+        BackendHealthChecker healthChecker = null;
+        if (config.healthCheck().enabled()) {
+            healthChecker = new BackendHealthChecker(backends, config.healthCheck());
+            healthChecker.start();
+        }
         StandaloneAdapter adapter = new StandaloneAdapter();
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        // Non-blocking pipeline with a bounded transform executor (FR-004-42)
+        TransformExecutor transformExecutor = config.async().enabled()
+                ? new TransformExecutor(
+                        config.async().transformThreads(), config.async().queueCapacity())
+                : null;
+        // Transformed-response cache (FR-004-52), dropped on every spec reload
+        ResponseCache responseCache = config.cache().enabled() ? new ResponseCache(config.cache()) : null;
+        // Admission control and load shedding (FR-004-54)
+        AdmissionController admission =
+                config.admission().enabled() ? new AdmissionController(config.admission()) : null;
+        // Per-client / per-route rate limiting (FR-004-55)
+        RateLimiter rateLimiter = config.rateLimit().enabled() ? new RateLimiter(config.rateLimit()) : null;
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .backends(backends)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .profileSelector(profileSelector)
+                .transformExecutor(transformExecutor)
+                .responseCache(responseCache)
+                .admission(admission)
+                .rateLimiter(rateLimiter)
+                .build();
 
         // 7. Start Javalin HTTP server (FR-004-27 step 6)
+        boolean virtualThreads = config.virtualThreads().enabled();
         Javalin app = Javalin.create(javalinConfig -> {
+            // One virtual thread per request instead of Jetty's bounded
+            // platform pool — handlers block on the upstream call (FR-004-41)
+            javalinConfig.useVirtualThreads = virtualThreads;
+
             // Configure Jetty graceful-shutdown drain timeout (CFG-004-39)
             javalinConfig.jetty.modifyServer(server -> {
                 server.setStopTimeout(config.shutdownDrainTimeoutMs());
@@ -122,24 +227,41 @@ public final class ProxyApp {
             if (config.proxyTls().enabled()) {
                 TlsConfigurator.configureInboundTls(javalinConfig, config.proxyTls());
             }
+
+            // Outbound gzip (FR-004-53, CFG-004-85..87) — streamed as the body
+            // is written; responses with a Content-Encoding pass untouched
+            if (config.compression().enabled()) {
+                CompressionStrategy compression = new CompressionStrategy(
+                        null, new Gzip(config.compression().level()));
+                compression.setDefaultMinSizeForCompression(config.compression().minBytes());
+                javalinConfig.http.customCompression(compression);
+            } else {
+                javalinConfig.http.disableCompression();
+            }
         });
 
         // Register health/readiness endpoints (FR-004-21, FR-004-22)
         if (config.healthEnabled()) {
             app.get(config.healthPath(), new HealthHandler());
+            BooleanSupplier engineLoaded = () -> engine.specCount() > 0 || specCount == 0;
             app.get(
                     config.readyPath(),
-                    new ReadinessHandler(
-                            () -> engine.specCount() > 0 || specCount == 0,
-                            config.backendHost(),
-                            config.backendPort(),
-                            config.backendConnectTimeoutMs()));
+                    healthChecker != null
+                            // Answer from the health checks' cached state (FR-004-46)
+                            ? new ReadinessHandler(engineLoaded, backends::ready)
+                            : new ReadinessHandler(
+                                    engineLoaded,
+                                    config.backendHost(),
+                                    config.backendPort(),
+                                    config.backendConnectTimeoutMs()));
         }
 
         // Register admin reload endpoint (FR-004-20)
         Path profilePathObj =
                 config.profilePath() != null && !config.profilePath().isBlank() ? Path.of(config.profilePath()) : null;
-        app.post(config.adminReloadPath(), new AdminReloadHandler(engine, specsDir, profilePathObj));
+        app.post(
+                config.adminReloadPath(),
+                new AdminReloadHandler(engine, specsDir, profilePathObj, profileSelector.keyedProfiles()));
 
         // Register proxy wildcard handler for all allowed methods (FR-004-05)
         app.before("/<path>", ctx -> {
@@ -160,8 +282,17 @@ public final class ProxyApp {
         app.addHttpHandler(HandlerType.HEAD, "/<path>", proxyHandler);
         app.addHttpHandler(HandlerType.OPTIONS, "/<path>", proxyHandler);
 
+        // Pinning diagnostics (CFG-004-44) — running before the first request
+        PinningMonitor pinningMonitor = null;
+        if (virtualThreads && config.virtualThreads().pinnedThresholdMs() > 0) {
+            pinningMonitor =
+                    new PinningMonitor(Duration.ofMillis(config.virtualThreads().pinnedThresholdMs()));
+            pinningMonitor.start();
+        }
+
         app.start(config.proxyPort());
         int actualPort = app.port();
+        startupMetrics.mark(StartupMetrics.Phase.JETTY_START);
 
         // 8. Start file watcher (FR-004-27 step 7, FR-004-19)
         FileWatcher fileWatcher = null;
@@ -169,7 +300,7 @@ public final class ProxyApp {
             Runnable reloadCallback = () -> {
                 try {
                     List<Path> paths = AdminReloadHandler.scanSpecFiles(specsDir);
-                    engine.reload(paths, profilePathObj);
+                    engine.reload(paths, profilePathObj, profileSelector.keyedProfiles());
                     LOG.info("Hot reload complete: {} specs", paths.size());
                 } catch (Exception e) {
                     LOG.error("Hot reload failed: {}", e.getMessage(), e);
@@ -178,20 +309,59 @@ public final class ProxyApp {
             fileWatcher = new FileWatcher(specsDir, config.reloadDebounceMs(), reloadCallback);
             fileWatcher.start();
         }
+        startupMetrics.mark(StartupMetrics.Phase.FILE_WATCHER);
+        startupMetrics.complete();
+        startupMetrics.registerMBean(actualPort);
+        upstreamClient.metrics().registerMBean(actualPort);
+        if (responseCache != null) {
+            responseCache.registerMBean(actualPort);
+        }
+        if (admission != null) {
+            admission.registerMBean(actualPort);
+        }
+        if (rateLimiter != null) {
+            rateLimiter.registerMBean(actualPort);
+        }
+        for (BackendGroup group : backends.groups()) {
+            if (!BackendGroup.DEFAULT.equals(group.name())) {
+                for (BackendGroup.Backend backend : group.backends()) {
+                    backend.client().metrics().registerMBean(actualPort, group.name(), backend.label());
+                }
+            }
+        }
 
         // Log structured startup summary (FR-004-27, S-004-44)
-        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
         LOG.info(
-                "message-xform-proxy started: port={}, backend={}://{}:{}, specs={}, profile={}, engines=[jslt], startupMs={}",
+                "message-xform-proxy started: port={}, backend={}://{}:{}, specs={}, profile={}, engines=[jslt], "
+                        + "upstreamProtocol={}, virtualThreads={}, asyncTransformThreads={}, startupMs={}, jvmUptimeMs={}, phasesMs=[{}], cdsArchive={}",
                 actualPort,
                 config.backendScheme(),
                 config.backendHost(),
                 config.backendPort(),
                 specCount,
                 profileId,
-                elapsedMs);
+                config.upstreamProtocol().protocol(),
+                virtualThreads,
+                transformExecutor != null ? transformExecutor.threads() : 0,
+                startupMetrics.getTotalStartupMs(),
+                startupMetrics.getJvmUptimeAtReadyMs(),
+                startupMetrics.summary(),
+                startupMetrics.getSharedArchiveFile().isEmpty() ? "none" : startupMetrics.getSharedArchiveFile());
 
-        return new ProxyApp(app, engine, fileWatcher, config);
+        return new ProxyApp(
+                app,
+                engine,
+                fileWatcher,
+                config,
+                startupMetrics,
+                pinningMonitor,
+                transformExecutor,
+                upstreamClient.metrics(),
+                backends,
+                healthChecker,
+                responseCache,
+                admission,
+                rateLimiter);
     }
 
     /** Returns the port the proxy is listening on. */
@@ -214,16 +384,79 @@ public final class ProxyApp {
         return config;
     }
 
+    /** Returns the startup-phase breakdown (also exposed via JMX). */
+    public StartupMetrics startupMetrics() {
+        return startupMetrics;
+    }
+
+    /** Returns the live upstream protocol and stream metrics (also exposed via JMX). */
+    public UpstreamMetrics upstreamMetrics() {
+        return upstreamMetrics;
+    }
+
+    /** Returns the default and named backend groups (FR-004-45). */
+    public BackendGroups backends() {
+        return backends;
+    }
+
+    /** Returns the transformed-response cache, or {@code null} if disabled (FR-004-52). */
+    public ResponseCache responseCache() {
+        return responseCache;
+    }
+
+    /** Returns the admission controller, or {@code null} if disabled (FR-004-54). */
+    public AdmissionController admission() {
+        return admission;
+    }
+
+    /** Returns the rate limiter, or {@code null} if disabled (FR-004-55). */
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Returns the number of virtual-thread pins reported so far, or
+     * {@code -1} if pinning diagnostics are off (CFG-004-44).
+     */
+    public long pinnedThreadCount() {
+        return pinningMonitor != null ? pinningMonitor.pinnedCount() : -1;
+    }
+
     /**
      * Stops the proxy: stops file watcher, stops Javalin server.
      */
     public void stop() {
+        startupMetrics.unregisterMBean();
+        upstreamMetrics.unregisterMBean();
+        if (responseCache != null) {
+            responseCache.unregisterMBean();
+        }
+        if (admission != null) {
+            admission.unregisterMBean();
+        }
+        if (rateLimiter != null) {
+            rateLimiter.unregisterMBean();
+        }
+        for (BackendGroup group : backends.groups()) {
+            for (BackendGroup.Backend backend : group.backends()) {
+                backend.client().metrics().unregisterMBean();
+            }
+        }
+        if (healthChecker != null) {
+            healthChecker.close();
+        }
         if (fileWatcher != null) {
             fileWatcher.stop();
         }
         if (app != null) {
             app.stop();
         }
+        if (transformExecutor != null) {
+            transformExecutor.close();
+        }
+        if (pinningMonitor != null) {
+            pinningMonitor.close();
+        }
         LOG.info("message-xform-proxy stopped");
     }
 }
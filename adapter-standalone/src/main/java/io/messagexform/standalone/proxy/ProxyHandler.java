@@ -9,9 +9,18 @@ import io.messagexform.core.model.Message;
 import io.messagexform.core.model.TransformContext;
 import io.messagexform.core.model.TransformResult;
 import io.messagexform.standalone.adapter.StandaloneAdapter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -53,8 +62,57 @@ import org.slf4j.MDC;
  * </ul>
  *
  * <p>
+ * Pre-classification (FR-004-40): before touching a body, the handler asks
+ * {@link TransformEngine#couldMatch} whether any entry of the selected profile
+ * could apply, from method, path, direction and (for responses) status alone.
+ * When none can, that direction skips wrap and transform entirely — its body
+ * is streamed between Jetty and the backend, never parsed or held in memory.
+ * Only routes with a candidate entry pay for buffering and JSON parsing.
+ *
+ * <p>
+ * Asynchronous mode (FR-004-42): with a transform executor the handler
+ * returns a {@code ctx.future()} instead of blocking. The request body is
+ * read on the request thread; wrapping and transforms run on the bounded
+ * executor, and the upstream exchange uses
+ * {@link UpstreamClient#forwardAsync}, so no thread waits on the backend.
+ * Timeouts, the Problem Details mapping and MDC fields are the same as in
+ * blocking mode; a full executor queue answers {@code 503}.
+ *
+ * <p>
+ * Response cache (FR-004-52): with a {@link ResponseCache}, a cacheable
+ * {@code GET} is answered from the cache — status, headers and body as the
+ * response transform left them — without contacting the backend. On a miss,
+ * the response is buffered and, once written, stored if the upstream
+ * {@code Cache-Control} / {@code Expires} allow it. A stale entry within its
+ * {@code stale-while-revalidate} window is served while a background
+ * conditional request revalidates it.
+ *
+ * <p>
+ * Content coding (FR-004-53): a {@code gzip} or {@code deflate} body the
+ * engine is about to wrap — request or response — is decoded first, within
+ * {@code proxy.max-body-bytes}. The transformed request goes upstream
+ * uncompressed; the response is re-compressed for the client by Javalin's
+ * streaming compressor, per {@code Accept-Encoding} (CFG-004-85..87).
+ * Streamed bodies — routes no entry could match — keep their encoding and
+ * bytes untouched.
+ *
+ * <p>
+ * Admission control (FR-004-54): with an {@link AdmissionController}, each
+ * request first takes one of {@code proxy.admission.max-in-flight} slots,
+ * waiting in a bounded priority queue if none is free, and holds it until the
+ * upstream exchange and transforms are done. A request that is not admitted
+ * gets {@code 503} with {@code Retry-After} before its body is read.
+ *
+ * <p>
+ * Rate limiting (FR-004-55): with a {@link RateLimiter}, a request over the
+ * rate of its client or route is answered {@code 429} with
+ * {@code Retry-After} even before admission, so an abusive client neither
+ * holds a slot nor costs transform CPU.
+ *
+ * <p>
  * This class is thread-safe — all state is local to each
- * {@link #handle(Context)} invocation.
+ * {@link #handle(Context)} invocation, except the thread-safe response cache,
+ * admission controller and rate limiter.
  */
 public final class ProxyHandler implements Handler {
 
@@ -62,33 +120,128 @@ public final class ProxyHandler implements Handler {
 
     private final TransformEngine engine;
     private final StandaloneAdapter adapter;
-    private final UpstreamClient upstreamClient;
+    private final BackendGroups backends;
     private final int maxBodyBytes;
     private final boolean forwardedHeadersEnabled;
+    private final ProfileSelector profileSelector;
+    private final TransformExecutor transformExecutor;
+    private final ResponseCache responseCache;
+    private final AdmissionController admission;
+    private final RateLimiter rateLimiter;
+
+    private ProxyHandler(Builder builder) {
+        this.engine = builder.engine;
+        this.adapter = builder.adapter;
+        this.backends = builder.backends;
+        this.maxBodyBytes = builder.maxBodyBytes;
+        this.forwardedHeadersEnabled = builder.forwardedHeadersEnabled;
+        this.profileSelector = builder.profileSelector;
+        this.transformExecutor = builder.transformExecutor;
+        this.responseCache = builder.responseCache;
+        this.admission = builder.admission;
+        this.rateLimiter = builder.rateLimiter;
+    }
 
     /**
-     * Creates a new handler wiring up the engine, adapter, and upstream client.
+     * Returns a builder for a handler wiring up the engine and adapter.
      *
-     * @param engine                  the transform engine (no profile loaded →
-     *                                PASSTHROUGH)
-     * @param adapter                 the Javalin-to-Message adapter
-     * @param upstreamClient          the upstream HTTP client
-     * @param maxBodyBytes            max request body size in bytes (≤ 0 for no
-     *                                limit)
-     * @param forwardedHeadersEnabled whether to inject X-Forwarded-* headers
-     *                                (FR-004-36)
+     * @param engine  the transform engine (no profile loaded → PASSTHROUGH)
+     * @param adapter the Javalin-to-Message adapter
      */
-    public ProxyHandler(
-            TransformEngine engine,
-            StandaloneAdapter adapter,
-            UpstreamClient upstreamClient,
-            int maxBodyBytes,
-            boolean forwardedHeadersEnabled) {
-        this.engine = engine;
-        this.adapter = adapter;
-        this.upstreamClient = upstreamClient;
-        this.maxBodyBytes = maxBodyBytes;
-        this.forwardedHeadersEnabled = forwardedHeadersEnabled;
+    public static Builder builder(TransformEngine engine, StandaloneAdapter adapter) {
+        return new Builder(engine, adapter);
+    }
+
+    /**
+     * Builder for {@link ProxyHandler}. Everything except the upstream is
+     * optional: without a profile selector every request uses the default
+     * profile, and without an executor, cache, admission controller or rate
+     * limiter the handler blocks, never caches, admits every request and
+     * applies no rate limit.
+     */
+    public static final class Builder {
+        private final TransformEngine engine;
+        private final StandaloneAdapter adapter;
+        private BackendGroups backends;
+        private int maxBodyBytes = -1;
+        private boolean forwardedHeadersEnabled = true;
+        private ProfileSelector profileSelector = ProfileSelector.NONE;
+        private TransformExecutor transformExecutor;
+        private ResponseCache responseCache;
+        private AdmissionController admission;
+        private RateLimiter rateLimiter;
+
+        private Builder(TransformEngine engine, StandaloneAdapter adapter) {
+            this.engine = engine;
+            this.adapter = adapter;
+        }
+
+        /** Forwards every request to a single upstream client. */
+        public Builder upstream(UpstreamClient upstreamClient) {
+            this.backends = BackendGroups.of(upstreamClient);
+            return this;
+        }
+
+        /** Forwards each request to a backend of the group its route selects (FR-004-45). */
+        Builder backends(BackendGroups backends) {
+            this.backends = backends;
+            return this;
+        }
+
+        /** Max request body size in bytes; ≤ 0 (the default) for no limit. */
+        public Builder maxBodyBytes(int maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        /** Whether to inject X-Forwarded-* headers (FR-004-36); default {@code true}. */
+        public Builder forwardedHeadersEnabled(boolean forwardedHeadersEnabled) {
+            this.forwardedHeadersEnabled = forwardedHeadersEnabled;
+            return this;
+        }
+
+        /** Host / path-prefix profile, backend group and priority selection (CFG-004-42). */
+        public Builder profileSelector(ProfileSelector profileSelector) {
+            this.profileSelector = profileSelector;
+            return this;
+        }
+
+        /** Executor for transforms (FR-004-42), or {@code null} for the blocking handler. */
+        Builder transformExecutor(TransformExecutor transformExecutor) {
+            this.transformExecutor = transformExecutor;
+            return this;
+        }
+
+        /** Cache of transformed responses (FR-004-52), or {@code null} for none. */
+        Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /** Admission controller (FR-004-54), or {@code null} to admit every request. */
+        Builder admission(AdmissionController admission) {
+            this.admission = admission;
+            return this;
+        }
+
+        /** Rate limiter (FR-004-55), or {@code null} for no rate limit. */
+        Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Builds the handler.
+         *
+         * @throws IllegalStateException if no upstream or backend groups were
+         *                               set
+         */
+        public ProxyHandler build() {
+            if (backends == null) {
+                throw new IllegalStateException("ProxyHandler requires an upstream client or backend groups");
+            }
+            return new ProxyHandler(this);
+        }
     }
 
     private static final String REQUEST_ID_HEADER = "x-request-id";
@@ -106,182 +259,681 @@ public final class ProxyHandler implements Handler {
         MDC.put("requestId", requestId);
         MDC.put("method", ctx.method().name());
         MDC.put("path", ctx.path());
+        // Keyed profile (CFG-004-42) — selected once, used for both directions —
+        // with the route's backend group, hedging override and priority
+        ProfileSelector.Match route = profileSelector.match(ctx.header("Host"), ctx.path());
+
+        // --- Step 0a: Rate limiting (FR-004-55) ---
+        Object rateLimitKey = rateLimiter != null ? rateLimitKey(ctx, route) : null;
+        if (rateLimitKey != null) {
+            long waitNanos = rateLimiter.tryAcquire(rateLimitKey);
+            if (waitNanos > 0) {
+                writeRateLimited(ctx, waitNanos);
+                MDC.clear();
+                return;
+            }
+        }
+
+        // --- Step 0b: Admission control (FR-004-54) ---
+        AdmissionController.Permit permit = null;
+        if (admission != null) {
+            try {
+                permit = admission.acquire(route.priority());
+            } catch (AdmissionController.RejectedException e) {
+                writeNotAdmitted(ctx, e);
+                MDC.clear();
+                return;
+            }
+        }
         try {
+            Inbound inbound = readRequest(ctx, route);
+            if (inbound == null) {
+                return;
+            }
+            if (inbound.cacheRequest() != null && serveCached(ctx, inbound)) {
+                return;
+            }
+            if (transformExecutor != null) {
+                // The pipeline releases the slot when it completes
+                handleAsync(ctx, inbound, permit);
+                permit = null;
+                return;
+            }
 
-            // --- Step 0a: Request body size enforcement (FR-004-13, T-004-29) ---
-            if (maxBodyBytes > 0) {
-                long contentLength = ctx.contentLength();
-                if (contentLength > maxBodyBytes) {
-                    LOG.warn("Request body too large: {} bytes (limit {})", contentLength, maxBodyBytes);
-                    writeProblemResponse(
-                            ctx,
-                            413,
-                            ProblemDetail.bodyTooLarge(
-                                    "Request body exceeds " + maxBodyBytes + " bytes", 413, ctx.path()));
-                    return;
+            Forward forward = transformRequest(ctx, inbound);
+            if (forward == null) {
+                return;
+            }
+
+            // --- Step 5: Forward to backend ---
+            // The response body is buffered only if a response entry could apply
+            // to this route and status (FR-004-40).
+            UpstreamClient upstream = inbound.backend().client();
+            UpstreamStreamingResponse streamedResponse;
+            byte[] responseBody = null;
+            try {
+                streamedResponse = upstream.forwardStreaming(
+                        forward.method(), forward.path(), forward.body(), forward.headers(), inbound.hedge());
+                inbound.group().recordResponse(inbound.backend(), streamedResponse.statusCode());
+                if (transformResponse(ctx, inbound, streamedResponse.statusCode())
+                        || (inbound.cacheRequest() != null
+                                && responseCache.storable(
+                                        inbound.cacheRequest(),
+                                        streamedResponse.statusCode(),
+                                        streamedResponse.headers()))) {
+                    responseBody = upstream.readBody(streamedResponse);
                 }
-                // For chunked requests without Content-Length, check after reading
-                String body = ctx.body();
-                if (body.length() > maxBodyBytes) {
-                    LOG.warn("Request body too large: {} bytes (limit {})", body.length(), maxBodyBytes);
-                    writeProblemResponse(
-                            ctx,
-                            413,
-                            ProblemDetail.bodyTooLarge(
-                                    "Request body exceeds " + maxBodyBytes + " bytes", 413, ctx.path()));
-                    return;
+            } catch (UpstreamException e) {
+                inbound.group().recordFailure(inbound.backend(), e);
+                writeUpstreamFailure(ctx, forward, e);
+                return;
+            }
+
+            writeResponse(ctx, inbound, forward, streamedResponse, responseBody);
+        } finally {
+            if (permit != null) {
+                permit.close();
+            }
+            MDC.clear();
+        }
+    }
+
+    /**
+     * Runs steps 2b–9 as a non-blocking pipeline (FR-004-42): transforms on
+     * the bounded transform executor, the upstream exchange via
+     * {@link UpstreamClient#forwardAsync}. The Jetty thread returns as soon as
+     * the pipeline is scheduled; every stage runs with this request's MDC.
+     *
+     * @param permit the admission slot (FR-004-54) to release when the
+     *               pipeline completes, or {@code null}
+     */
+    private void handleAsync(Context ctx, Inbound inbound, AdmissionController.Permit permit) {
+        Executor executor = transformExecutor.withMdc(MDC.getCopyOfContextMap());
+        ctx.future(() -> submit(executor, () -> transformRequest(ctx, inbound))
+                .thenCompose(forward -> forward == null
+                        ? CompletableFuture.completedFuture(null)
+                        : inbound.backend()
+                                .client()
+                                .forwardAsync(
+                                        forward.method(),
+                                        forward.path(),
+                                        forward.body(),
+                                        forward.headers(),
+                                        status -> bufferResponse(ctx, inbound, status),
+                                        inbound.hedge())
+                                .handle((response, failure) ->
+                                        finishAsync(ctx, executor, inbound, forward, response, failure))
+                                .thenCompose(Function.identity()))
+                .exceptionally(failure -> {
+                    Throwable cause = UpstreamClient.unwrap(failure);
+                    if (cause instanceof RejectedExecutionException) {
+                        // Transform queue full (CFG-004-47) — shed load instead of queueing
+                        LOG.warn("Transform executor saturated, rejecting {}", ctx.path());
+                        writeProblemResponse(
+                                ctx,
+                                503,
+                                ProblemDetail.serviceUnavailable("Proxy is at transform capacity", ctx.path()));
+                        return null;
+                    }
+                    throw new CompletionException(cause);
+                })
+                .whenComplete((ignored, failure) -> {
+                    if (permit != null) {
+                        permit.close();
+                    }
+                }));
+    }
+
+    /**
+     * Steps 5–9 of the asynchronous pipeline, on the transform executor:
+     * writes the upstream response or maps the upstream failure.
+     */
+    private CompletableFuture<Object> finishAsync(
+            Context ctx,
+            Executor executor,
+            Inbound inbound,
+            Forward forward,
+            UpstreamStreamingResponse response,
+            Throwable failure) {
+        // Outlier ejection bookkeeping (FR-004-47)
+        if (failure == null) {
+            inbound.group().recordResponse(inbound.backend(), response.statusCode());
+        } else if (UpstreamClient.unwrap(failure) instanceof UpstreamException e) {
+            inbound.group().recordFailure(inbound.backend(), e);
+        }
+        CompletableFuture<Object> done = submit(executor, () -> {
+            if (failure == null) {
+                writeResponse(ctx, inbound, forward, response, readBufferedBody(inbound, response));
+            } else if (UpstreamClient.unwrap(failure) instanceof UpstreamException e) {
+                writeUpstreamFailure(ctx, forward, e);
+            } else {
+                throw new CompletionException(UpstreamClient.unwrap(failure));
+            }
+            return null;
+        });
+        if (response != null) {
+            // A rejected stage never consumes the body — release the connection
+            done.whenComplete((ignored, e) -> {
+                if (e != null && UpstreamClient.unwrap(e) instanceof RejectedExecutionException) {
+                    closeQuietly(response.body());
+                }
+            });
+        }
+        return done;
+    }
+
+    /**
+     * Runs {@code task} on {@code executor}. Unlike
+     * {@link CompletableFuture#supplyAsync}, a rejected submission fails the
+     * returned future instead of throwing, so a saturated executor can never
+     * leave the request's future incomplete.
+     */
+    private static <T> CompletableFuture<T> submit(Executor executor, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            LOG.debug("Failed to discard upstream response body: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Steps 0a–2: body-size pre-check, transform context and — on routes an
+     * entry could match — reading the request body once as bytes. Runs on the
+     * request thread, where the servlet input stream may block.
+     *
+     * @return the request state, or {@code null} if a response was written
+     */
+    private Inbound readRequest(Context ctx, ProfileSelector.Match route) throws IOException {
+        // The backend that serves the request (FR-004-45)
+        String profileKey = route.profileKey();
+        BackendGroup group = backends.group(route.backendGroup());
+        BackendGroup.Backend backend = group.select(group.hashHeader() != null ? ctx.header(group.hashHeader()) : null);
+        // Hedging: the route's override, else backend.hedging.enabled (FR-004-50)
+        boolean hedge =
+                route.hedging() != null ? route.hedging() : backend.client().hedgingEnabled();
+        // Pre-classify the route: a request no entry could match is streamed,
+        // not buffered or parsed (FR-004-40). Content type is left unknown —
+        // the engine matches on the parsed body's media type, not the header.
+        String method = ctx.method().name();
+        boolean streamRequest = !engine.couldMatch(Direction.REQUEST, profileKey, ctx.path(), method, null, null);
+        // Response cache (FR-004-52) — keyed to the registry snapshot, so a
+        // reload drops every entry, and to the request headers the route's
+        // transforms read, whose output may differ per client.
+        ResponseCache.Request cacheRequest = responseCache != null
+                ? responseCache.request(
+                        method,
+                        ctx.header("Host"),
+                        ctx.path(),
+                        ctx.queryString(),
+                        profileKey,
+                        ctx::header,
+                        engine.headersRead(profileKey, ctx.path(), method),
+                        engine.registry())
+                : null;
+
+        // --- Step 0a: Request body size enforcement (FR-004-13, T-004-29) ---
+        if (maxBodyBytes > 0) {
+            long contentLength = ctx.contentLength();
+            if (contentLength > maxBodyBytes) {
+                LOG.warn("Request body too large: {} bytes (limit {})", contentLength, maxBodyBytes);
+                writeRequestTooLarge(ctx);
+                return null;
+            }
+            // Chunked requests without Content-Length are counted as the body
+            // is read (step 2) or streamed (step 5)
+        }
+
+        // --- Step 1: Build TransformContext from request (cookies, query params) ---
+        TransformContext transformContext = adapter.buildTransformContext(ctx);
+
+        if (streamRequest) {
+            // Steps 2–4 are skipped: the request cannot transform (FR-004-40)
+            BoundedInputStream streamedBody = new BoundedInputStream(ctx.bodyInputStream(), maxBodyBytes);
+            return new Inbound(
+                    profileKey, method, transformContext, null, streamedBody, group, backend, hedge, cacheRequest);
+        }
+
+        // --- Step 2: Read the body once as bytes, pre-sized from Content-Length ---
+        BoundedInputStream requestIn = new BoundedInputStream(ctx.bodyInputStream(), maxBodyBytes);
+        try {
+            byte[] requestBody = requestIn.readAllBytes(ctx.req().getContentLengthLong());
+            return new Inbound(
+                    profileKey, method, transformContext, requestBody, null, group, backend, hedge, cacheRequest);
+        } catch (IOException e) {
+            if (!requestIn.exceeded()) {
+                throw e;
             }
+            LOG.warn("Request body too large: over {} bytes", maxBodyBytes);
+            writeRequestTooLarge(ctx);
+            return null;
+        }
+    }
 
-            // --- Step 1: Build TransformContext from request (cookies, query params) ---
-            TransformContext transformContext = adapter.buildTransformContext(ctx);
+    /**
+     * Steps 2b–4b: wraps and transforms the request and decides what to
+     * forward. A streamed request is forwarded raw.
+     *
+     * @return what to send upstream, or {@code null} if a response was written
+     */
+    private Forward transformRequest(Context ctx, Inbound inbound) {
+        String forwardMethod;
+        String forwardPath;
+        HttpRequest.BodyPublisher forwardBody;
+        Map<String, String> forwardHeaders;
+
+        if (inbound.streamedBody() != null) {
+            // Forward the raw body straight from the servlet input stream.
+            forwardMethod = ctx.method().name();
+            forwardPath = buildForwardPath(ctx.path(), ctx.queryString());
+            forwardBody = UpstreamClient.streamingBody(
+                    inbound.streamedBody(), ctx.req().getContentLengthLong(), ctx.header("Transfer-Encoding") != null);
+            forwardHeaders = adapter.wrapRequestRaw(ctx).headers().toSingleValueMap();
+        } else {
+            byte[] requestBody = inbound.body();
+
+            // --- Step 2a: Decode a gzip / deflate body (FR-004-53) ---
+            // The decoded size is bounded by proxy.max-body-bytes too. A
+            // PASSTHROUGH request is still forwarded with its original encoding.
+            byte[] messageBody = requestBody;
+            String requestEncoding = ctx.header("Content-Encoding");
+            boolean requestDecoded = ContentCoding.decodable(requestEncoding);
+            ContentCoding.DecodeException decodeError = null;
+            if (requestDecoded) {
+                try {
+                    messageBody = ContentCoding.decode(requestEncoding, requestBody, maxBodyBytes);
+                } catch (ContentCoding.DecodeException e) {
+                    decodeError = e;
+                }
+            }
 
-            // --- Step 2: Wrap the inbound request → Message ---
+            // --- Step 2b: Wrap the inbound request → Message ---
             // JSON parse may fail if the body is non-JSON or malformed.
             // FR-004-26: profile-matched routes reject non-JSON; unmatched
             // routes pass through without body parsing.
             Message requestMessage;
-            boolean parseError = false;
-            try {
-                requestMessage = adapter.wrapRequest(ctx);
-            } catch (IllegalArgumentException e) {
-                // Build a minimal Message (NullNode body) for profile matching only.
-                // If the engine returns PASSTHROUGH, forward raw.
-                // If a profile would match (SUCCESS/ERROR), return 400.
-                parseError = true;
+            boolean parseError = decodeError != null;
+            if (parseError) {
                 requestMessage = adapter.wrapRequestRaw(ctx);
+            } else {
+                try {
+                    requestMessage = adapter.wrapRequest(ctx, messageBody);
+                } catch (IllegalArgumentException e) {
+                    // Build a minimal Message (NullNode body) for profile matching only.
+                    // If the engine returns PASSTHROUGH, forward raw.
+                    // If a profile would match (SUCCESS/ERROR), return 400.
+                    parseError = true;
+                    requestMessage = adapter.wrapRequestRaw(ctx);
+                }
             }
 
             // --- Step 3: Transform the request ---
-            TransformResult requestResult = engine.transform(requestMessage, Direction.REQUEST, transformContext);
+            TransformResult requestResult = engine.transform(
+                    requestMessage, Direction.REQUEST, inbound.transformContext(), inbound.profileKey());
 
             // If parse failed, check if a profile matched → 400 Bad Request (FR-004-26)
             if (parseError && !requestResult.isPassthrough()) {
-                LOG.warn("Non-JSON body on profile-matched route: {}", ctx.path());
-                writeProblemResponse(ctx, 400, ProblemDetail.badRequest("Request body is not valid JSON", ctx.path()));
-                return;
+                if (decodeError != null && decodeError.tooLarge()) {
+                    LOG.warn("Decoded request body too large: over {} bytes", maxBodyBytes);
+                    writeRequestTooLarge(ctx);
+                } else if (decodeError != null) {
+                    LOG.warn("Undecodable {} body on profile-matched route: {}", requestEncoding, ctx.path());
+                    writeProblemResponse(
+                            ctx,
+                            400,
+                            ProblemDetail.badRequest(
+                                    "Request body is not valid " + requestEncoding + " data", ctx.path()));
+                } else {
+                    LOG.warn("Non-JSON body on profile-matched route: {}", ctx.path());
+                    writeProblemResponse(
+                            ctx, 400, ProblemDetail.badRequest("Request body is not valid JSON", ctx.path()));
+                }
+                return null;
             }
 
             // --- Step 4: Dispatch on request TransformResult (FR-004-35) ---
-            String forwardMethod;
-            String forwardPath;
-            String forwardBody;
-            Map<String, String> forwardHeaders;
-
             switch (requestResult.type()) {
                 case SUCCESS -> {
                     // Forward the transformed message to backend
                     Message transformed = requestResult.message();
                     forwardMethod = transformed.requestMethod();
                     forwardPath = buildForwardPath(transformed.requestPath(), transformed.queryString());
-                    forwardBody =
-                            transformed.body() != null && !transformed.body().isEmpty()
-                                    ? transformed.body().asString()
-                                    : null;
+                    forwardBody = bufferedBody(
+                            transformed.body() != null ? transformed.body().content() : null);
                     forwardHeaders = transformed.headers().toSingleValueMap();
+                    if (requestDecoded) {
+                        // The transformed body goes upstream uncompressed
+                        forwardHeaders = new LinkedHashMap<>(forwardHeaders);
+                        forwardHeaders.remove("content-encoding");
+                    }
                 }
                 case PASSTHROUGH -> {
                     // Forward the raw request unmodified — no JSON parse round-trip
                     forwardMethod = ctx.method().name();
                     forwardPath = buildForwardPath(ctx.path(), ctx.queryString());
-                    forwardBody = ctx.body();
+                    forwardBody = bufferedBody(requestBody);
                     // Use already-constructed requestMessage headers (avoids re-parsing body)
                     forwardHeaders = requestMessage.headers().toSingleValueMap();
                 }
                 case ERROR -> {
                     // Return error to client immediately — do NOT forward to backend
                     writeErrorResponse(ctx, requestResult);
-                    return;
+                    return null;
                 }
                 default -> throw new IllegalStateException("Unknown TransformResult type: " + requestResult.type());
             }
+        }
 
-            // --- Step 4b: Inject X-Forwarded-* headers (FR-004-36, T-004-31) ---
-            if (forwardedHeadersEnabled) {
-                forwardHeaders = injectForwardedHeaders(forwardHeaders, ctx);
-            }
+        // --- Step 4b: Inject X-Forwarded-* headers (FR-004-36, T-004-31) ---
+        if (forwardedHeadersEnabled) {
+            forwardHeaders = injectForwardedHeaders(forwardHeaders, ctx);
+        }
+        return new Forward(forwardMethod, forwardPath, forwardBody, forwardHeaders, inbound.streamedBody());
+    }
 
-            // --- Step 5: Forward to backend ---
-            UpstreamResponse upstreamResponse;
+    /** Whether a response with this status could transform (FR-004-40). */
+    private boolean transformResponse(Context ctx, Inbound inbound, int statusCode) {
+        return engine.couldMatch(
+                Direction.RESPONSE, inbound.profileKey(), ctx.path(), inbound.method(), null, statusCode);
+    }
+
+    /**
+     * Whether the asynchronous pipeline must buffer a response with this
+     * status: it could transform (FR-004-40), or it could be cached
+     * (FR-004-52). Headers are not known yet, so a cacheable status suffices.
+     */
+    private boolean bufferResponse(Context ctx, Inbound inbound, int statusCode) {
+        return transformResponse(ctx, inbound, statusCode)
+                || (inbound.cacheRequest() != null && ResponseCache.CACHEABLE_STATUSES.contains(statusCode));
+    }
+
+    /**
+     * Answers the request from the response cache (FR-004-52). A stale entry
+     * is served as is and revalidated in the background.
+     *
+     * @return {@code true} if the response was written
+     */
+    private boolean serveCached(Context ctx, Inbound inbound) {
+        ResponseCache.Hit hit = responseCache.lookup(inbound.cacheRequest());
+        if (hit == null) {
+            return false;
+        }
+        ResponseCache.Entry entry = hit.entry();
+        ctx.status(entry.status());
+        entry.headers().forEach(ctx::header);
+        ctx.header("Age", Long.toString(hit.ageSeconds()));
+        ctx.result(entry.body());
+        if (hit.stale() && responseCache.beginRevalidation(hit)) {
+            revalidate(inbound.backend().client(), hit);
+        }
+        return true;
+    }
+
+    /**
+     * Sends the conditional request that revalidates a stale cache entry
+     * (FR-004-52). Never blocks: the answer is handled on the upstream
+     * client's thread.
+     */
+    private void revalidate(UpstreamClient client, ResponseCache.Hit hit) {
+        ResponseCache.Revalidation revalidation = hit.entry().revalidation();
+        LOG.debug("Revalidating cached response for {}", revalidation.path());
+        client.forwardAsync(
+                        revalidation.method(),
+                        revalidation.path(),
+                        HttpRequest.BodyPublishers.noBody(),
+                        responseCache.conditionalHeaders(hit),
+                        status -> true,
+                        false)
+                .whenComplete((response, failure) -> {
+                    if (failure != null) {
+                        LOG.debug(
+                                "Revalidation of {} failed: {}",
+                                revalidation.path(),
+                                UpstreamClient.unwrap(failure).getMessage());
+                        responseCache.revalidationFailed(hit);
+                        return;
+                    }
+                    try {
+                        responseCache.revalidated(
+                                hit, response.statusCode(), response.headers(), client.readBody(response));
+                    } catch (UpstreamException e) {
+                        LOG.debug("Revalidation of {} failed: {}", revalidation.path(), e.getMessage());
+                        responseCache.revalidationFailed(hit);
+                    }
+                });
+    }
+
+    /**
+     * Stores the response just written to {@code ctx} in the response cache,
+     * if the request and the upstream response allow it (FR-004-52).
+     */
+    private void storeResponse(
+            Context ctx,
+            Inbound inbound,
+            Forward forward,
+            UpstreamStreamingResponse upstream,
+            byte[] upstreamBody,
+            byte[] body) {
+        if (inbound.cacheRequest() == null) {
+            return;
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : ctx.res().getHeaderNames()) {
+            headers.putIfAbsent(name, ctx.res().getHeader(name));
+        }
+        responseCache.store(
+                inbound.cacheRequest(),
+                upstream.statusCode(),
+                upstream.headers(),
+                upstreamBody,
+                ctx.statusCode(),
+                headers,
+                body,
+                new ResponseCache.Revalidation(forward.method(), forward.path(), forward.headers()));
+    }
+
+    /** Returns the body {@link UpstreamClient#forwardAsync} buffered, or {@code null} if it streams. */
+    private static byte[] readBufferedBody(Inbound inbound, UpstreamStreamingResponse response) {
+        if (response.body() instanceof BoundedInputStream) {
+            return null;
+        }
+        try {
+            return inbound.backend().client().readBody(response);
+        } catch (UpstreamException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Maps an upstream failure to its RFC 9457 response (FR-004-23..25):
+     * timeout → 504, oversized response → 502, unreachable → 502, no pooled
+     * connection free or adaptive limit reached → 503 (FR-004-44, FR-004-48),
+     * circuit open → 503 with {@code Retry-After} (FR-004-49) — or 413 when a streamed chunked
+     * request ran over the limit (FR-004-13).
+     */
+    private void writeUpstreamFailure(Context ctx, Forward forward, UpstreamException e) {
+        if (e instanceof UpstreamTimeoutException) {
+            LOG.warn("Backend timeout: {}", e.getMessage(), e);
+            writeProblemResponse(ctx, 504, ProblemDetail.gatewayTimeout(e.getMessage(), ctx.path()));
+        } else if (e instanceof UpstreamResponseTooLargeException) {
+            LOG.warn("Backend response too large: {}", e.getMessage());
+            writeProblemResponse(ctx, 502, ProblemDetail.bodyTooLarge(e.getMessage(), 502, ctx.path()));
+        } else if (e instanceof UpstreamCircuitOpenException open) {
+            // Fail fast while the backend recovers (FR-004-49)
+            LOG.warn("Upstream circuit open: {}", e.getMessage());
+            ctx.header("Retry-After", Long.toString(open.retryAfterSeconds()));
+            writeProblemResponse(ctx, 503, ProblemDetail.serviceUnavailable(e.getMessage(), ctx.path()));
+        } else if (e instanceof UpstreamPoolExhaustedException) {
+            LOG.warn("Upstream pool exhausted: {}", e.getMessage());
+            writeProblemResponse(ctx, 503, ProblemDetail.serviceUnavailable(e.getMessage(), ctx.path()));
+        } else if (forward.streamedBody() != null && forward.streamedBody().exceeded()) {
+            // Chunked request body ran over the limit while streaming (FR-004-13)
+            LOG.warn("Request body too large: over {} bytes", maxBodyBytes);
+            writeRequestTooLarge(ctx);
+        } else {
+            LOG.warn("Backend unreachable: {}", e.getMessage(), e);
+            writeProblemResponse(ctx, 502, ProblemDetail.backendUnreachable(e.getMessage(), ctx.path()));
+        }
+    }
+
+    /**
+     * Steps 5b–9: streams an unbuffered response through, or wraps,
+     * transforms and writes a buffered one.
+     *
+     * @param responseBody the buffered body, or {@code null} to stream
+     */
+    private void writeResponse(
+            Context ctx,
+            Inbound inbound,
+            Forward forward,
+            UpstreamStreamingResponse streamedResponse,
+            byte[] responseBody) {
+        // --- Step 5b: Stream the response through (FR-004-40) ---
+        // Steps 7–9 cannot change it; Javalin copies and closes the stream.
+        if (responseBody == null) {
+            ctx.status(streamedResponse.statusCode());
+            copyResponseHeaders(streamedResponse.headers(), ctx);
+            ctx.result(streamedResponse.body());
+            return;
+        }
+
+        // --- Step 6: Populate Javalin context with upstream response (FR-004-06a) ---
+        ctx.result(responseBody);
+        ctx.status(streamedResponse.statusCode());
+        copyResponseHeaders(streamedResponse.headers(), ctx);
+        if (!transformResponse(ctx, inbound, streamedResponse.statusCode())) {
+            // Buffered only to be cached (FR-004-52) — steps 7–9 cannot change it
+            storeResponse(ctx, inbound, forward, streamedResponse, responseBody, responseBody);
+            return;
+        }
+
+        // --- Step 6b: Decode a gzip / deflate body (FR-004-53) ---
+        // The client gets it re-compressed per its Accept-Encoding on the way
+        // out; an undecodable body is treated like a non-JSON one.
+        byte[] upstreamBody = responseBody;
+        boolean responseDecodeError = false;
+        String responseEncoding = streamedResponse.headers().get("content-encoding");
+        if (ContentCoding.decodable(responseEncoding)) {
             try {
-                upstreamResponse = upstreamClient.forward(forwardMethod, forwardPath, forwardBody, forwardHeaders);
-            } catch (UpstreamTimeoutException e) {
-                LOG.warn("Backend timeout: {}", e.getMessage(), e);
-                writeProblemResponse(ctx, 504, ProblemDetail.gatewayTimeout(e.getMessage(), ctx.path()));
-                return;
-            } catch (UpstreamResponseTooLargeException e) {
-                LOG.warn("Backend response too large: {}", e.getMessage());
-                writeProblemResponse(ctx, 502, ProblemDetail.bodyTooLarge(e.getMessage(), 502, ctx.path()));
-                return;
-            } catch (UpstreamConnectException e) {
-                LOG.warn("Backend unreachable: {}", e.getMessage(), e);
-                writeProblemResponse(ctx, 502, ProblemDetail.backendUnreachable(e.getMessage(), ctx.path()));
-                return;
+                responseBody = ContentCoding.decode(responseEncoding, upstreamBody, maxBodyBytes);
+                ctx.removeHeader("Content-Encoding");
+                ctx.result(responseBody);
+            } catch (ContentCoding.DecodeException e) {
+                LOG.debug("Could not decode response body for {}: {}", ctx.path(), e.getMessage());
+                responseDecodeError = true;
             }
+        }
 
-            // --- Step 6: Populate Javalin context with upstream response (FR-004-06a) ---
-            ctx.result(upstreamResponse.body());
-            ctx.status(upstreamResponse.statusCode());
-            // Forward response headers, but skip framing headers (content-length,
-            // transfer-encoding) — Javalin/Jetty manages these based on the actual
-            // body written to ctx.result(). If we forwarded them, a response
-            // transformation that changes the body size would cause truncation.
-            upstreamResponse.headers().forEach((name, value) -> {
-                if (!"content-length".equalsIgnoreCase(name) && !"transfer-encoding".equalsIgnoreCase(name)) {
-                    ctx.header(name, value);
-                }
-            });
-
-            // --- Step 7: Wrap the response → Message ---
-            // Response body may not be JSON (e.g., passthrough text/plain backend).
-            // Same pattern as request: if parse fails and no profile matches
-            // (PASSTHROUGH), the response is already written in step 6.
-            Message responseMessage;
-            boolean responseParseError = false;
+        // --- Step 7: Wrap the response → Message ---
+        // Response body may not be JSON (e.g., passthrough text/plain backend).
+        // Same pattern as request: if parse fails and no profile matches
+        // (PASSTHROUGH), the response is already written in step 6.
+        Message responseMessage;
+        boolean responseParseError = responseDecodeError;
+        if (responseDecodeError) {
+            responseMessage = adapter.wrapResponseRaw(ctx);
+        } else {
             try {
-                responseMessage = adapter.wrapResponse(ctx);
+                responseMessage = adapter.wrapResponse(ctx, responseBody);
             } catch (IllegalArgumentException e) {
                 responseParseError = true;
                 responseMessage = adapter.wrapResponseRaw(ctx);
             }
+        }
 
-            // --- Step 8: Transform the response ---
-            TransformResult responseResult = engine.transform(responseMessage, Direction.RESPONSE, transformContext);
+        // --- Step 8: Transform the response ---
+        TransformResult responseResult =
+                engine.transform(responseMessage, Direction.RESPONSE, inbound.transformContext(), inbound.profileKey());
+
+        // If response parse failed and a profile matched → 502 (can't transform)
+        if (responseParseError && !responseResult.isPassthrough()) {
+            LOG.warn("Non-JSON response body on profile-matched route: {}", ctx.path());
+            writeProblemResponse(
+                    ctx,
+                    502,
+                    ProblemDetail.backendUnreachable(
+                            responseDecodeError
+                                    ? "Backend returned an undecodable " + responseEncoding + " response body"
+                                    : "Backend returned non-JSON response body",
+                            ctx.path()));
+            return;
+        }
 
-            // If response parse failed and a profile matched → 502 (can't transform)
-            if (responseParseError && !responseResult.isPassthrough()) {
-                LOG.warn("Non-JSON response body on profile-matched route: {}", ctx.path());
-                writeProblemResponse(
+        // --- Step 9: Dispatch on response TransformResult (FR-004-35) ---
+        switch (responseResult.type()) {
+            case SUCCESS -> {
+                // Write transformed response to client via applyChanges
+                Message transformed = responseResult.message();
+                adapter.applyChanges(transformed, ctx);
+                storeResponse(
                         ctx,
-                        502,
-                        ProblemDetail.backendUnreachable("Backend returned non-JSON response body", ctx.path()));
-                return;
+                        inbound,
+                        forward,
+                        streamedResponse,
+                        upstreamBody,
+                        transformed.body() != null ? transformed.body().content() : new byte[0]);
             }
-
-            // --- Step 9: Dispatch on response TransformResult (FR-004-35) ---
-            switch (responseResult.type()) {
-                case SUCCESS -> {
-                    // Write transformed response to client via applyChanges
-                    adapter.applyChanges(responseResult.message(), ctx);
-                }
-                case PASSTHROUGH -> {
-                    // Response already written in step 6 — nothing to do.
-                    // Javalin will send the ctx.result() / ctx.status() / headers
-                    // that we set from the upstream response.
-                }
-                case ERROR -> {
-                    // Return error to client
-                    writeErrorResponse(ctx, responseResult);
-                }
+            case PASSTHROUGH -> {
+                // Response already written in step 6 — nothing to do.
+                // Javalin will send the ctx.result() / ctx.status() / headers
+                // that we set from the upstream response.
+                storeResponse(ctx, inbound, forward, streamedResponse, upstreamBody, responseBody);
+            }
+            case ERROR -> {
+                // Return error to client
+                writeErrorResponse(ctx, responseResult);
             }
-        } finally {
-            MDC.clear();
         }
     }
 
+    /**
+     * Request state carried from the request thread into the transform stage.
+     *
+     * @param body         the buffered request body, or {@code null} if it streams
+     * @param streamedBody the counting request stream, or {@code null} if buffered
+     * @param group        the backend group the route selected (FR-004-45)
+     * @param backend      the group member this request is forwarded to
+     * @param hedge        whether the request may be hedged (FR-004-50)
+     * @param cacheRequest the response cache's view of the request
+     *                     (FR-004-52), or {@code null} if not cacheable
+     */
+    private record Inbound(
+            String profileKey,
+            String method,
+            TransformContext transformContext,
+            byte[] body,
+            BoundedInputStream streamedBody,
+            BackendGroup group,
+            BackendGroup.Backend backend,
+            boolean hedge,
+            ResponseCache.Request cacheRequest) {}
+
+    /** What step 5 sends upstream; {@code streamedBody} as in {@link Inbound}. */
+    private record Forward(
+            String method,
+            String path,
+            HttpRequest.BodyPublisher body,
+            Map<String, String> headers,
+            BoundedInputStream streamedBody) {}
+
     /**
      * Builds the forward path including query string for
-     * {@link UpstreamClient#forward}.
+     * {@link UpstreamClient#forwardStreaming}.
      *
      * @param path        the request path (e.g. {@code /api/users})
      * @param queryString the query string without leading {@code ?}
@@ -296,6 +948,31 @@ public final class ProxyHandler implements Handler {
         return path + "?" + queryString;
     }
 
+    /**
+     * Returns a publisher for a buffered request body ({@code noBody()} when
+     * the body is null or empty).
+     */
+    private static HttpRequest.BodyPublisher bufferedBody(byte[] body) {
+        return body != null && body.length > 0
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody();
+    }
+
+    /**
+     * Copies upstream response headers to the client, skipping framing headers
+     * (content-length, transfer-encoding) — Javalin/Jetty manages these based
+     * on the actual body written to {@code ctx.result()}. If we forwarded
+     * them, a response transformation that changes the body size would cause
+     * truncation.
+     */
+    private static void copyResponseHeaders(Map<String, String> headers, Context ctx) {
+        headers.forEach((name, value) -> {
+            if (!"content-length".equalsIgnoreCase(name) && !"transfer-encoding".equalsIgnoreCase(name)) {
+                ctx.header(name, value);
+            }
+        });
+    }
+
     /**
      * Writes a {@link TransformResult#ERROR} response to the client.
      *
@@ -305,11 +982,56 @@ public final class ProxyHandler implements Handler {
     private static void writeErrorResponse(Context ctx, TransformResult result) {
         ctx.status(result.errorStatusCode());
         ctx.contentType("application/problem+json");
-        ctx.result(result.errorResponse().asString());
+        ctx.result(result.errorResponse().content());
 
         LOG.warn("Transform error: status={}, body={}", result.errorStatusCode(), result.errorResponse());
     }
 
+    /**
+     * Writes the 503 for a request the admission controller did not admit
+     * (FR-004-54), with a {@code Retry-After} of the expected queue drain
+     * time.
+     */
+    private static void writeNotAdmitted(Context ctx, AdmissionController.RejectedException e) {
+        LOG.warn("Proxy overloaded, rejecting {}: {}", ctx.path(), e.getMessage());
+        ctx.header("Retry-After", Long.toString(e.retryAfterSeconds()));
+        writeProblemResponse(ctx, 503, ProblemDetail.serviceUnavailable("Proxy is overloaded", ctx.path()));
+    }
+
+    /**
+     * The rate-limit bucket of a request, or {@code null} if it is not
+     * limited: with {@code key: route}, traffic matching no
+     * {@code engine.profile-routes} entry has no route bucket. With
+     * {@code key: header}, header values and the client-IP fallback are
+     * prefixed so a client cannot send another client's IP as its key and
+     * drain that IP's bucket.
+     */
+    private Object rateLimitKey(Context ctx, ProfileSelector.Match route) {
+        return switch (rateLimiter.key()) {
+            case ROUTE -> route.routeId();
+            case HEADER -> {
+                String value = ctx.header(rateLimiter.header());
+                yield value != null ? "hdr:" + value : "ip:" + ctx.ip();
+            }
+            case IP -> ctx.ip();
+        };
+    }
+
+    /** Writes the 429 for a request over its rate limit (FR-004-55). */
+    private static void writeRateLimited(Context ctx, long waitNanos) {
+        LOG.debug("Rate limit exceeded, rejecting {}", ctx.path());
+        ctx.header("Retry-After", Long.toString(RateLimiter.retryAfterSeconds(waitNanos)));
+        writeProblemResponse(ctx, 429, ProblemDetail.tooManyRequests("Rate limit exceeded", ctx.path()));
+    }
+
+    /** Writes the 413 for a request body over {@code proxy.max-body-bytes} (FR-004-13). */
+    private void writeRequestTooLarge(Context ctx) {
+        writeProblemResponse(
+                ctx,
+                413,
+                ProblemDetail.bodyTooLarge("Request body exceeds " + maxBodyBytes + " bytes", 413, ctx.path()));
+    }
+
     /**
      * Writes an RFC 9457 Problem Details response for proxy-level errors
      * (backend failures, body size violations, bad requests).
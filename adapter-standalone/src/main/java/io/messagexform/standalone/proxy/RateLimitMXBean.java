@@ -0,0 +1,45 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * JMX MXBean interface for proxy rate limiting (FR-004-55).
+ *
+ * <p>
+ * Registered under ObjectName
+ * {@code io.messagexform:type=RateLimit,instance=proxy-<port>} once the proxy
+ * is ready, if {@code proxy.rate-limit.enabled} is set. Values are live
+ * counters and gauges.
+ *
+ * @see RateLimiter
+ */
+public interface RateLimitMXBean {
+
+    // --- Limits ---
+
+    /** {@code proxy.rate-limit.requests-per-second}. */
+    int getRequestsPerSecond();
+
+    /** {@code proxy.rate-limit.burst}. */
+    int getBurst();
+
+    // --- Buckets ---
+
+    /** Buckets currently kept, one per key seen and not evicted. */
+    int getTrackedKeys();
+
+    /** {@code proxy.rate-limit.max-keys}. */
+    int getMaxKeys();
+
+    /** Buckets evicted after refilling, to make room for new keys. */
+    long getEvicted();
+
+    /** Requests of new keys charged to the shared overflow bucket because every bucket was in use. */
+    long getOverflowed();
+
+    // --- Outcomes ---
+
+    /** Requests within their rate. */
+    long getAllowed();
+
+    /** Requests rejected with 429. */
+    long getRejected();
+}
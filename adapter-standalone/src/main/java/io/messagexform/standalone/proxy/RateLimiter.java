@@ -0,0 +1,222 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.RateLimitConfig;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.ObjectName;
+
+/**
+ * Token-bucket rate limiting per client or per route (FR-004-55,
+ * CFG-004-93..98).
+ *
+ * <p>
+ * Each key — client IP, the value of a header such as an API key, or the
+ * matched {@code engine.profile-routes} entry, identified by its position —
+ * has a bucket that holds up to {@code burst} requests and refills at
+ * {@code requests-per-second}. A request finding its bucket empty is rejected
+ * and the caller answers {@code 429} with {@code Retry-After}, before the
+ * body is read or any transform runs. Per route, requests matching no entry
+ * are not limited.
+ *
+ * <p>
+ * A bucket is one {@link AtomicLong}: the time at which it would be full
+ * again (the generic cell rate algorithm, equivalent to a token bucket). A
+ * check is a read of the map and a compare-and-set loop — O(1), lock-free,
+ * and allocation-free once the key has a bucket.
+ *
+ * <p>
+ * Buckets live in a {@link ConcurrentHashMap}, whose lookups never lock and
+ * whose inserts lock a single bin. At most about {@code max-keys} are kept:
+ * when the map is full, buckets that have refilled completely are evicted —
+ * they are indistinguishable from a new one, so eviction loses no state —
+ * at most once per second. If none has, the new key is charged to a shared
+ * overflow bucket, so a flood of distinct keys is limited as one client
+ * rather than growing the map.
+ *
+ * <p>
+ * Thread-safe.
+ */
+public final class RateLimiter implements RateLimitMXBean {
+
+    /** Minimum time between two eviction sweeps of a full bucket map. */
+    static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** What a bucket is kept per (CFG-004-94). */
+    enum Key {
+        IP,
+        HEADER,
+        ROUTE
+    }
+
+    /** A bucket: when it is full again, in nanoseconds since the limiter's origin. */
+    private static final class Bucket {
+        final AtomicLong fullAt = new AtomicLong();
+    }
+
+    private final Key key;
+    private final String header;
+    private final int requestsPerSecond;
+    private final int burst;
+    private final int maxKeys;
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    private final ConcurrentHashMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket overflow = new Bucket();
+    private final AtomicLong lastSweep = new AtomicLong(-SWEEP_INTERVAL_NANOS);
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    private ObjectName jmxObjectName;
+
+    /** @param config the configured limits */
+    public RateLimiter(RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    RateLimiter(RateLimitConfig config, LongSupplier nanoClock) {
+        this.key = Key.valueOf(config.key().toUpperCase(Locale.ROOT));
+        this.header = config.header();
+        this.requestsPerSecond = config.requestsPerSecond();
+        this.burst = config.burst();
+        this.maxKeys = config.maxKeys();
+        this.intervalNanos = Math.max(1, TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.capacityNanos = burst * intervalNanos;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /** What buckets are kept per. */
+    Key key() {
+        return key;
+    }
+
+    /** The header holding the client key when {@link #key()} is {@link Key#HEADER}. */
+    String header() {
+        return header;
+    }
+
+    /**
+     * Takes one request from the bucket of {@code bucketKey}.
+     *
+     * @param bucketKey client IP, header value or route id
+     *                  ({@link ProfileSelector.Match#routeId()})
+     * @return {@code 0} if the request is within the rate, otherwise the
+     *         nanoseconds until it would be
+     */
+    long tryAcquire(Object bucketKey) {
+        long now = nanoClock.getAsLong() - origin;
+        Bucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            bucket = bucketFor(bucketKey, now);
+        }
+        while (true) {
+            long fullAt = bucket.fullAt.get();
+            long next = Math.max(fullAt, now) + intervalNanos;
+            long excess = next - now - capacityNanos;
+            if (excess > 0) {
+                rejected.increment();
+                return excess;
+            }
+            if (bucket.fullAt.compareAndSet(fullAt, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    /** {@code Retry-After} for a rejection: whole seconds, at least 1. */
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    private Bucket bucketFor(Object bucketKey, long now) {
+        if (buckets.size() >= maxKeys) {
+            evictRefilled(now);
+            if (buckets.size() >= maxKeys) {
+                overflowed.increment();
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(bucketKey, ignored -> new Bucket());
+    }
+
+    /** Removes buckets that are full again; one thread per sweep interval does the scan. */
+    private void evictRefilled(long now) {
+        long last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        for (Map.Entry<Object, Bucket> entry : buckets.entrySet()) {
+            if (entry.getValue().fullAt.get() <= now && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted.increment();
+            }
+        }
+    }
+
+    // ── RateLimitMXBean ──
+
+    @Override
+    public int getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public int getTrackedKeys() {
+        return buckets.size();
+    }
+
+    @Override
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getOverflowed() {
+        return overflowed.sum();
+    }
+
+    @Override
+    public long getAllowed() {
+        return allowed.sum();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    // ── JMX lifecycle ──
+
+    /** Registers this MBean for the proxy listening on {@code port} (best effort). */
+    void registerMBean(int port) {
+        jmxObjectName = MBeans.register(this, "RateLimit", port);
+    }
+
+    /** Unregisters the MBean if {@link #registerMBean(int)} succeeded. */
+    void unregisterMBean() {
+        MBeans.unregister(jmxObjectName);
+        jmxObjectName = null;
+    }
+}
@@ -21,7 +21,9 @@ import org.slf4j.LoggerFactory;
  * its specs (engine ready).</li>
  * <li>The backend is reachable via a TCP connect to
  * {@code backend.host:backend.port} within the configured connect
- * timeout.</li>
+ * timeout — or, with active health checks enabled (FR-004-46), when the
+ * last checks found a default-group backend healthy, so the probe never
+ * opens a connection of its own.</li>
  * </ol>
  *
  * <p>
@@ -46,9 +48,7 @@ public final class ReadinessHandler implements Handler {
     private static final String NOT_READY_BACKEND = "{\"status\":\"NOT_READY\",\"reason\":\"backend_unreachable\"}";
 
     private final BooleanSupplier engineLoaded;
-    private final String backendHost;
-    private final int backendPort;
-    private final int connectTimeoutMs;
+    private final BooleanSupplier backendReady;
 
     /**
      * Creates a readiness handler.
@@ -60,10 +60,20 @@ public final class ReadinessHandler implements Handler {
      * @param connectTimeoutMs TCP connect timeout in milliseconds
      */
     public ReadinessHandler(BooleanSupplier engineLoaded, String backendHost, int backendPort, int connectTimeoutMs) {
+        this(engineLoaded, () -> isReachable(backendHost, backendPort, connectTimeoutMs));
+    }
+
+    /**
+     * Creates a readiness handler with a custom backend check.
+     *
+     * @param engineLoaded supplier that returns {@code true} when the engine
+     *                     has loaded its specs
+     * @param backendReady supplier that returns {@code true} when the backend
+     *                     can take traffic
+     */
+    public ReadinessHandler(BooleanSupplier engineLoaded, BooleanSupplier backendReady) {
         this.engineLoaded = engineLoaded;
-        this.backendHost = backendHost;
-        this.backendPort = backendPort;
-        this.connectTimeoutMs = connectTimeoutMs;
+        this.backendReady = backendReady;
     }
 
     @Override
@@ -78,9 +88,9 @@ public final class ReadinessHandler implements Handler {
             return;
         }
 
-        // Check 2: Backend reachable via TCP connect?
-        if (!isBackendReachable()) {
-            LOG.debug("Readiness check: backend unreachable at {}:{}", backendHost, backendPort);
+        // Check 2: Backend reachable?
+        if (!backendReady.getAsBoolean()) {
+            LOG.debug("Readiness check: backend unreachable");
             ctx.status(503);
             ctx.result(NOT_READY_BACKEND);
             return;
@@ -91,11 +101,11 @@ public final class ReadinessHandler implements Handler {
     }
 
     /**
-     * Attempts a TCP connect to the backend within the configured timeout.
+     * Attempts a TCP connect to the backend within the given timeout.
      *
      * @return {@code true} if the connection succeeds, {@code false} otherwise
      */
-    private boolean isBackendReachable() {
+    private static boolean isReachable(String backendHost, int backendPort, int connectTimeoutMs) {
         try (Socket socket = new Socket()) {
             socket.connect(new InetSocketAddress(backendHost, backendPort), connectTimeoutMs);
             return true;
@@ -0,0 +1,737 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.ResponseCacheConfig;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory HTTP cache of transformed responses (FR-004-52).
+ *
+ * <p>
+ * Follows the shared-cache rules of RFC 9111 for {@code GET}, driven by the
+ * <em>upstream</em> response's {@code Cache-Control}, {@code Expires},
+ * {@code Date}, {@code Age} and {@code Vary}:
+ * <ul>
+ * <li>Only responses with explicit freshness ({@code s-maxage},
+ * {@code max-age} or {@code Expires}) or a {@code stale-while-revalidate}
+ * window are stored — no heuristic freshness. {@code no-store},
+ * {@code no-cache}, {@code private}, {@code Vary: *} and
+ * {@code Set-Cookie} responses are not.</li>
+ * <li>A request with {@code Authorization} is cached only if the response
+ * says {@code public}, {@code s-maxage} or {@code must-revalidate}.</li>
+ * <li>On a route a transform could apply to, entries are also keyed by the
+ * request's values of the headers the route's transforms read
+ * ({@code $headers}, {@code $cookies}): their output may differ per client
+ * — per tenant, language or user — even when the upstream response does
+ * not. If the engine cannot tell which headers they read, the request
+ * bypasses the cache.</li>
+ * <li>A request with {@code Cache-Control: no-store} bypasses the cache; one
+ * with {@code no-cache}, {@code max-age=0} or {@code Pragma: no-cache} goes
+ * to the backend and refreshes the entry.</li>
+ * <li>Entries are keyed by profile, {@code Host}, path and query, plus the
+ * request's values of the headers the response's {@code Vary} names.</li>
+ * </ul>
+ *
+ * <p>
+ * What is stored is the response the client received — after the response
+ * transform — so a hit skips the upstream call, the parse and the transform.
+ * Within a response's {@code stale-while-revalidate} window a stale entry is
+ * still served while one background request per entry revalidates it: a
+ * {@code 304} to its {@code If-None-Match} / {@code If-Modified-Since}, or an
+ * identical upstream body, renews it; anything else drops it, and the next
+ * request repopulates it through the full pipeline. {@code must-revalidate}
+ * and {@code proxy-revalidate} disable serving stale.
+ *
+ * <p>
+ * Entries are held in a byte-bounded {@link TinyLfuCache}. Every entry is
+ * tied to the {@link io.messagexform.core.engine.TransformRegistry} snapshot
+ * it was transformed with: when the registry is reloaded (FR-004-19,
+ * FR-004-20) the whole cache is dropped, and a response transformed by the
+ * old registry is never stored afterwards. Exposed via JMX under
+ * {@code io.messagexform:type=ResponseCache,instance=proxy-<port>}.
+ *
+ * <p>
+ * Thread-safe.
+ */
+public final class ResponseCache implements ResponseCacheMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCache.class);
+
+    /** Upstream statuses RFC 9110 defines as cacheable by default. */
+    static final Set<Integer> CACHEABLE_STATUSES = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+    /** Bookkeeping charged per entry on top of its body, header and key bytes. */
+    static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    /** Paths whose {@code Vary} header names are remembered; the least recently used are forgotten. */
+    static final int MAX_VARY_PATHS = 10_000;
+
+    /** Response headers never stored: per-request, framing, or recomputed on every hit. */
+    private static final Set<String> UNSTORED_HEADERS =
+            Set.of("x-request-id", "content-length", "transfer-encoding", "connection", "keep-alive", "age");
+
+    /** Upstream headers kept per entry to recompute freshness and build conditional requests. */
+    private static final Set<String> VALIDATION_HEADERS =
+            Set.of("cache-control", "expires", "date", "age", "etag", "last-modified");
+
+    private final int maxEntryBytes;
+    private final TinyLfuCache<String, Entry> entries;
+    private final LongSupplier nanoClock;
+    private final Map<String, List<String>> varyByPath = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > MAX_VARY_PATHS;
+        }
+    };
+    private volatile Object generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong revalidationFailures = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private ObjectName jmxObjectName;
+
+    /** @param config {@code proxy.cache} settings */
+    public ResponseCache(ResponseCacheConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    ResponseCache(ResponseCacheConfig config, LongSupplier nanoClock) {
+        this.maxEntryBytes = config.maxEntryBytes();
+        // Size the frequency sketch for entries of about 2 KiB
+        this.entries = new TinyLfuCache<>(config.maxBytes(), config.maxBytes() / 2048);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Classifies a request.
+     *
+     * @param transformHeaders the lower-case names of the headers read by the
+     *                         transforms that could apply to the request's
+     *                         route — empty if none could — or {@code null}
+     *                         if not known
+     * @param generation       the registry snapshot the request is
+     *                         transformed with; a new one drops every entry
+     * @param header           the request's header values by name
+     * @return the cache's view of the request, or {@code null} if the cache
+     *         does not apply to it
+     */
+    Request request(
+            String method,
+            String host,
+            String path,
+            String query,
+            String profileKey,
+            Function<String, String> header,
+            Set<String> transformHeaders,
+            Object generation) {
+        sync(generation);
+        if (!"GET".equals(method) || transformHeaders == null) {
+            return null;
+        }
+        Directives directives = Directives.parse(header.apply("Cache-Control"));
+        if (directives.noStore) {
+            return null;
+        }
+        boolean useStored = !directives.noCache
+                && directives.maxAge != 0
+                && !"no-cache".equalsIgnoreCase(trim(header.apply("Pragma")));
+        StringBuilder primaryKey = new StringBuilder()
+                .append(profileKey != null ? profileKey : "")
+                .append(' ')
+                .append(host != null ? host.toLowerCase(Locale.ROOT) : "")
+                .append(' ')
+                .append(path)
+                .append(query != null && !query.isEmpty() ? "?" + query : "");
+        if (!transformHeaders.isEmpty()) {
+            // Header values cannot contain a line break, so each one is delimited
+            for (String name : new TreeSet<>(transformHeaders)) {
+                String value = header.apply(name);
+                primaryKey.append('\n').append(name).append(value != null ? "=" + value : "");
+            }
+        }
+        return new Request(primaryKey.toString(), useStored, header.apply("Authorization") != null, header, generation);
+    }
+
+    /**
+     * Looks up a stored response for the request.
+     *
+     * @return a fresh or stale-but-servable entry, or {@code null} on a miss
+     */
+    Hit lookup(Request request) {
+        if (!request.useStored()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        List<String> vary;
+        synchronized (varyByPath) {
+            vary = varyByPath.get(request.primaryKey());
+        }
+        if (vary == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        String key = variantKey(request, vary);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        long now = nanoClock.getAsLong();
+        Freshness freshness = entry.freshness;
+        long ageSeconds = freshness.initialAgeSeconds() + TimeUnit.NANOSECONDS.toSeconds(now - freshness.storedNanos());
+        if (now - freshness.freshUntilNanos() < 0) {
+            hits.incrementAndGet();
+            return new Hit(key, entry, false, ageSeconds);
+        }
+        if (now - freshness.staleUntilNanos() < 0) {
+            staleHits.incrementAndGet();
+            return new Hit(key, entry, true, ageSeconds);
+        }
+        entries.remove(key, entry);
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Cheap pre-check on the upstream response before its body is read: can
+     * a response with this status and these headers be stored?
+     */
+    boolean storable(Request request, int upstreamStatus, Map<String, String> upstreamHeaders) {
+        return request.generation() == generation
+                && CACHEABLE_STATUSES.contains(upstreamStatus)
+                && freshness(request.authorized(), upstreamHeaders, nanoClock.getAsLong()) != null;
+    }
+
+    /**
+     * Stores the response the client is about to receive, if the upstream
+     * response allows it.
+     *
+     * @param upstreamStatus  status the backend answered with
+     * @param upstreamHeaders the backend's headers (lowercase names)
+     * @param upstreamBody    the backend's body, fingerprinted for revalidation
+     * @param status          status sent to the client
+     * @param headers         headers sent to the client
+     * @param body            body sent to the client
+     * @param revalidation    the request forwarded upstream, replayed to
+     *                        revalidate the entry
+     * @return {@code true} if the response was stored
+     */
+    boolean store(
+            Request request,
+            int upstreamStatus,
+            Map<String, String> upstreamHeaders,
+            byte[] upstreamBody,
+            int status,
+            Map<String, String> headers,
+            byte[] body,
+            Revalidation revalidation) {
+        if (body.length > maxEntryBytes || !CACHEABLE_STATUSES.contains(upstreamStatus)) {
+            return false;
+        }
+        long now = nanoClock.getAsLong();
+        Freshness freshness = freshness(request.authorized(), upstreamHeaders, now);
+        if (freshness == null) {
+            return false;
+        }
+        List<String> vary = headerList(upstreamHeaders.get("vary"));
+        Map<String, String> stored = new LinkedHashMap<>();
+        int weight = ENTRY_OVERHEAD_BYTES + body.length;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (!UNSTORED_HEADERS.contains(name) && header.getValue() != null) {
+                stored.putIfAbsent(name, header.getValue());
+                weight += name.length() + header.getValue().length();
+            }
+        }
+        String key = variantKey(request, vary);
+        weight += 2 * key.length();
+        Entry entry = new Entry(
+                status,
+                Map.copyOf(stored),
+                body,
+                upstreamStatus,
+                crc(upstreamBody),
+                validationHeaders(upstreamHeaders),
+                request.authorized(),
+                revalidation,
+                freshness);
+        // Registry reloaded while this response was being transformed
+        if (request.generation() != generation) {
+            return false;
+        }
+        synchronized (varyByPath) {
+            varyByPath.put(request.primaryKey(), vary);
+        }
+        if (!entries.put(key, entry, weight)) {
+            return false;
+        }
+        stores.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Claims the background revalidation of a stale entry; only one runs per
+     * entry at a time.
+     *
+     * @return {@code true} if the caller should revalidate
+     */
+    boolean beginRevalidation(Hit hit) {
+        return hit.entry().revalidating.compareAndSet(false, true);
+    }
+
+    /**
+     * Returns the headers to revalidate {@code hit} with: the originally
+     * forwarded headers, with its validators as {@code If-None-Match} /
+     * {@code If-Modified-Since}.
+     */
+    Map<String, String> conditionalHeaders(Hit hit) {
+        Entry entry = hit.entry();
+        Map<String, String> headers = new LinkedHashMap<>();
+        entry.revalidation.headers().forEach((name, value) -> {
+            if (!name.equalsIgnoreCase("if-none-match") && !name.equalsIgnoreCase("if-modified-since")) {
+                headers.put(name, value);
+            }
+        });
+        String etag = entry.validation.get("etag");
+        if (etag != null) {
+            headers.put("if-none-match", etag);
+        }
+        String lastModified = entry.validation.get("last-modified");
+        if (lastModified != null) {
+            headers.put("if-modified-since", lastModified);
+        }
+        return headers;
+    }
+
+    /**
+     * Completes a background revalidation with the backend's answer: a
+     * {@code 304} or an unchanged body renews the entry's freshness from the
+     * new headers; any other answer drops it.
+     */
+    void revalidated(Hit hit, int status, Map<String, String> headers, byte[] body) {
+        Entry entry = hit.entry();
+        try {
+            Map<String, String> merged;
+            if (status == 304) {
+                merged = new LinkedHashMap<>(entry.validation);
+                merged.putAll(validationHeaders(headers));
+            } else if (status == entry.upstreamStatus && crc(body) == entry.upstreamCrc) {
+                merged = validationHeaders(headers);
+            } else {
+                entries.remove(hit.key(), entry);
+                revalidationFailures.incrementAndGet();
+                LOG.debug("Cached response for {} changed upstream (status {}), dropped", hit.key(), status);
+                return;
+            }
+            Freshness freshness = freshness(entry.authorized, merged, nanoClock.getAsLong());
+            if (freshness == null) {
+                entries.remove(hit.key(), entry);
+                revalidationFailures.incrementAndGet();
+                return;
+            }
+            entry.validation = Map.copyOf(merged);
+            entry.freshness = freshness;
+            revalidations.incrementAndGet();
+        } finally {
+            entry.revalidating.set(false);
+        }
+    }
+
+    /** Completes a background revalidation the backend did not answer; the stale entry stays. */
+    void revalidationFailed(Hit hit) {
+        revalidationFailures.incrementAndGet();
+        hit.entry().revalidating.set(false);
+    }
+
+    /** Drops every entry. */
+    public void invalidate() {
+        synchronized (varyByPath) {
+            varyByPath.clear();
+            entries.clear();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    /** Drops every entry if {@code current} is not the registry snapshot the entries were built with. */
+    private void sync(Object current) {
+        if (current == generation) {
+            return;
+        }
+        synchronized (varyByPath) {
+            if (current == generation) {
+                return;
+            }
+            boolean reload = generation != null;
+            generation = current;
+            if (reload) {
+                varyByPath.clear();
+                entries.clear();
+                invalidations.incrementAndGet();
+                LOG.info("Spec registry reloaded, response cache cleared");
+            }
+        }
+    }
+
+    /**
+     * Computes when a response becomes stale and when it may no longer be
+     * served stale, or returns {@code null} if it must not be stored.
+     */
+    private Freshness freshness(boolean authorized, Map<String, String> headers, long now) {
+        Directives directives = Directives.parse(headers.get("cache-control"));
+        if (directives.noStore || directives.noCache || directives.isPrivate) {
+            return null;
+        }
+        if (headers.containsKey("set-cookie") || headerList(headers.get("vary")).contains("*")) {
+            return null;
+        }
+        if (authorized && !directives.isPublic && directives.sMaxAge < 0 && !directives.mustRevalidate) {
+            return null;
+        }
+        long lifetime;
+        if (directives.sMaxAge >= 0) {
+            lifetime = directives.sMaxAge;
+        } else if (directives.maxAge >= 0) {
+            lifetime = directives.maxAge;
+        } else if (headers.containsKey("expires")) {
+            long expires = epochSeconds(headers.get("expires"));
+            long date = headers.containsKey("date")
+                    ? epochSeconds(headers.get("date"))
+                    : TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+            // An unparseable Expires means already expired (RFC 9111 §5.3)
+            lifetime = expires >= 0 && date >= 0 ? Math.max(0, expires - date) : 0;
+        } else {
+            return null;
+        }
+        long staleWindow =
+                directives.mustRevalidate || directives.proxyRevalidate ? 0 : directives.staleWhileRevalidate;
+        if (lifetime <= 0 && staleWindow <= 0) {
+            return null;
+        }
+        long age = Math.max(0, parseSeconds(headers.get("age")));
+        long freshUntil = now + TimeUnit.SECONDS.toNanos(lifetime - age);
+        long staleUntil = freshUntil + TimeUnit.SECONDS.toNanos(staleWindow);
+        return new Freshness(now, age, freshUntil, staleUntil);
+    }
+
+    private static String variantKey(Request request, List<String> vary) {
+        if (vary.isEmpty()) {
+            return request.primaryKey();
+        }
+        StringBuilder key = new StringBuilder(request.primaryKey());
+        for (String name : vary) {
+            String value = request.header().apply(name);
+            key.append('\n').append(name).append('=').append(value != null ? value.trim() : "");
+        }
+        return key.toString();
+    }
+
+    private static Map<String, String> validationHeaders(Map<String, String> headers) {
+        Map<String, String> validation = new LinkedHashMap<>();
+        headers.forEach((name, value) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (VALIDATION_HEADERS.contains(lower)) {
+                validation.put(lower, value);
+            }
+        });
+        return validation;
+    }
+
+    /** Splits a comma-separated header into lowercase, sorted, de-duplicated tokens. */
+    private static List<String> headerList(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (String token : value.split(",")) {
+            String name = token.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && !names.contains(name)) {
+                names.add(name);
+            }
+        }
+        names.sort(null);
+        return List.copyOf(names);
+    }
+
+    private static long crc(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return crc.getValue();
+    }
+
+    /** Parses an HTTP-date, or returns {@code -1}. */
+    private static long epochSeconds(String httpDate) {
+        try {
+            return ZonedDateTime.parse(httpDate.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /** Parses delta-seconds, or returns {@code -1}; values beyond an int saturate. */
+    private static long parseSeconds(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Math.min(Long.parseLong(value.trim()), Integer.MAX_VALUE);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    // ── JMX lifecycle ──
+
+    /** Registers this MBean for the proxy listening on {@code port} (best effort). */
+    void registerMBean(int port) {
+        jmxObjectName = MBeans.register(this, "ResponseCache", port);
+    }
+
+    /** Unregisters the MBean if {@link #registerMBean(int)} succeeded. */
+    void unregisterMBean() {
+        MBeans.unregister(jmxObjectName);
+        jmxObjectName = null;
+    }
+
+    // ── ResponseCacheMXBean ──
+
+    @Override
+    public int getEntries() {
+        return entries.size();
+    }
+
+    @Override
+    public long getBytes() {
+        return entries.weight();
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return entries.maxWeight();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public long getStores() {
+        return stores.get();
+    }
+
+    @Override
+    public long getEvictions() {
+        return entries.evictions();
+    }
+
+    @Override
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    @Override
+    public long getRevalidationFailures() {
+        return revalidationFailures.get();
+    }
+
+    @Override
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * A request the cache applies to.
+     *
+     * @param primaryKey profile, host, path and query
+     * @param useStored  {@code false} if the request asked for a response
+     *                   from the backend ({@code no-cache}); its response
+     *                   is still stored
+     * @param authorized whether the request carried {@code Authorization}
+     * @param header     the request's header values by name
+     * @param generation the registry snapshot the request is transformed with
+     */
+    record Request(
+            String primaryKey,
+            boolean useStored,
+            boolean authorized,
+            Function<String, String> header,
+            Object generation) {}
+
+    /**
+     * A stored entry found for a request.
+     *
+     * @param stale      whether it is past its freshness lifetime and needs
+     *                   revalidating
+     * @param ageSeconds its current age, sent as {@code Age}
+     */
+    record Hit(String key, Entry entry, boolean stale, long ageSeconds) {}
+
+    /** The request forwarded upstream when the entry was stored. */
+    record Revalidation(String method, String path, Map<String, String> headers) {}
+
+    /** Freshness of an entry, in {@link System#nanoTime()} terms. */
+    private record Freshness(long storedNanos, long initialAgeSeconds, long freshUntilNanos, long staleUntilNanos) {}
+
+    /** A stored response. Its freshness is renewed in place by revalidation. */
+    static final class Entry {
+
+        private final int status;
+        private final Map<String, String> headers;
+        private final byte[] body;
+        private final int upstreamStatus;
+        private final long upstreamCrc;
+        private final boolean authorized;
+        private final Revalidation revalidation;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+        private volatile Map<String, String> validation;
+        private volatile Freshness freshness;
+
+        private Entry(
+                int status,
+                Map<String, String> headers,
+                byte[] body,
+                int upstreamStatus,
+                long upstreamCrc,
+                Map<String, String> validation,
+                boolean authorized,
+                Revalidation revalidation,
+                Freshness freshness) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.upstreamStatus = upstreamStatus;
+            this.upstreamCrc = upstreamCrc;
+            this.validation = Map.copyOf(validation);
+            this.authorized = authorized;
+            this.revalidation = revalidation;
+            this.freshness = freshness;
+        }
+
+        /** Status sent to the client. */
+        int status() {
+            return status;
+        }
+
+        /** Headers sent to the client (lowercase names). */
+        Map<String, String> headers() {
+            return headers;
+        }
+
+        /** Body sent to the client. Not to be modified. */
+        byte[] body() {
+            return body;
+        }
+
+        /** The request forwarded upstream when the entry was stored. */
+        Revalidation revalidation() {
+            return revalidation;
+        }
+    }
+
+    /** The {@code Cache-Control} directives the cache acts on. */
+    private static final class Directives {
+
+        boolean noStore;
+        boolean noCache;
+        boolean isPrivate;
+        boolean isPublic;
+        boolean mustRevalidate;
+        boolean proxyRevalidate;
+        long maxAge = -1;
+        long sMaxAge = -1;
+        long staleWhileRevalidate;
+
+        static Directives parse(String cacheControl) {
+            Directives directives = new Directives();
+            if (cacheControl == null) {
+                return directives;
+            }
+            for (String directive : splitDirectives(cacheControl)) {
+                int eq = directive.indexOf('=');
+                String name =
+                        (eq < 0 ? directive : directive.substring(0, eq)).trim().toLowerCase(Locale.ROOT);
+                String argument =
+                        eq < 0 ? null : unquote(directive.substring(eq + 1).trim());
+                switch (name) {
+                    case "no-store" -> directives.noStore = true;
+                    // The field-name forms restrict only some headers; treat them as the whole response
+                    case "no-cache" -> directives.noCache = true;
+                    case "private" -> directives.isPrivate = true;
+                    case "public" -> directives.isPublic = true;
+                    case "must-revalidate" -> directives.mustRevalidate = true;
+                    case "proxy-revalidate" -> directives.proxyRevalidate = true;
+                    // An invalid delta-seconds means stale (RFC 9111 §1.2.2)
+                    case "max-age" -> directives.maxAge = Math.max(0, parseSeconds(argument));
+                    case "s-maxage" -> directives.sMaxAge = Math.max(0, parseSeconds(argument));
+                    case "stale-while-revalidate" ->
+                        directives.staleWhileRevalidate = Math.max(0, parseSeconds(argument));
+                    default -> {
+                        // Other directives do not affect a proxy cache
+                    }
+                }
+            }
+            return directives;
+        }
+
+        /** Splits on commas outside quoted strings. */
+        private static List<String> splitDirectives(String value) {
+            List<String> parts = new ArrayList<>();
+            boolean quoted = false;
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    parts.add(value.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            parts.add(value.substring(start));
+            return parts;
+        }
+
+        private static String unquote(String value) {
+            return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                    ? value.substring(1, value.length() - 1)
+                    : value;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * JMX MXBean interface for the transformed-response cache (FR-004-52).
+ *
+ * <p>
+ * Registered under ObjectName
+ * {@code io.messagexform:type=ResponseCache,instance=proxy-<port>} once the
+ * proxy is ready, if {@code proxy.cache.enabled} is set. Values are live
+ * counters and gauges.
+ *
+ * @see ResponseCache
+ */
+public interface ResponseCacheMXBean {
+
+    // --- Size ---
+
+    /** Cached responses. */
+    int getEntries();
+
+    /** Bytes held by the cached responses — bodies, headers and keys. */
+    long getBytes();
+
+    /** {@code proxy.cache.max-bytes}. */
+    long getMaxBytes();
+
+    // --- Lookups ---
+
+    /** Requests answered with a fresh cached response. */
+    long getHits();
+
+    /** Requests answered with a stale response while it was revalidated (stale-while-revalidate). */
+    long getStaleHits();
+
+    /** Cacheable requests that went to the backend. */
+    long getMisses();
+
+    // --- Maintenance ---
+
+    /** Responses stored. */
+    long getStores();
+
+    /** Entries evicted, or refused admission, to stay within {@code max-bytes}. */
+    long getEvictions();
+
+    /** Background revalidations that kept the stale entry — a {@code 304} or an unchanged body. */
+    long getRevalidations();
+
+    /**
+     * Background revalidations that could not renew the entry: the backend
+     * failed, or its response had changed (the entry is then dropped).
+     */
+    long getRevalidationFailures();
+
+    /** Times the whole cache was dropped because the spec registry was reloaded. */
+    long getInvalidations();
+}
@@ -0,0 +1,113 @@
+package io.messagexform.standalone.proxy;
+
+import io.messagexform.standalone.config.RetryConfig;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that caps the extra requests retries and hedges send to one
+ * backend (FR-004-50, FR-004-51).
+ *
+ * <p>
+ * Balances are kept in hundredths of a token. Every request deposits
+ * {@code backend.retry.budget-percent} hundredths, and elapsed time adds
+ * {@code budget-min-per-second} tokens per second; a retry or hedge spends a
+ * whole token. The bucket holds at most {@link #BURST_SECONDS} seconds' worth
+ * of the minimum rate (and at least {@link #BURST_SECONDS} tokens), which
+ * bounds the burst of retries when a backend goes down after a quiet period.
+ *
+ * <p>
+ * Thread-safe and lock-free: deposits, refills and spends are CAS loops on
+ * the balance.
+ */
+final class RetryBudget {
+
+    /** Seconds of minimum-rate refill the bucket can hold. */
+    static final int BURST_SECONDS = 10;
+
+    private static final long UNITS_PER_TOKEN = 100;
+
+    private final long depositUnits;
+    private final long refillUnitsPerSecond;
+    private final long capacityUnits;
+    private final LongSupplier nanoClock;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefillNanos;
+    private final AtomicLong spent = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    /** @param config the configured budget percentage and minimum rate */
+    RetryBudget(RetryConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    RetryBudget(RetryConfig config, LongSupplier nanoClock) {
+        this.depositUnits = config.budgetPercent();
+        this.refillUnitsPerSecond = config.budgetMinPerSecond() * UNITS_PER_TOKEN;
+        this.capacityUnits = Math.max(1, config.budgetMinPerSecond()) * BURST_SECONDS * UNITS_PER_TOKEN;
+        this.nanoClock = nanoClock;
+        this.balance = new AtomicLong(capacityUnits);
+        this.lastRefillNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /** Credits one original request. */
+    void deposit() {
+        if (depositUnits > 0) {
+            add(depositUnits);
+        }
+    }
+
+    /**
+     * Spends one token for a retry or hedge.
+     *
+     * @return {@code true} if the budget allowed it
+     */
+    boolean trySpend() {
+        refill();
+        while (true) {
+            long current = balance.get();
+            if (current < UNITS_PER_TOKEN) {
+                exhausted.incrementAndGet();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNITS_PER_TOKEN)) {
+                spent.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    private void refill() {
+        if (refillUnitsPerSecond == 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long last = lastRefillNanos.get();
+        long units = refillUnitsPerSecond * (now - last) / TimeUnit.SECONDS.toNanos(1);
+        // Only the thread that advances the refill mark adds the elapsed time's tokens
+        if (units > 0 && lastRefillNanos.compareAndSet(last, now)) {
+            add(units);
+        }
+    }
+
+    private void add(long units) {
+        balance.accumulateAndGet(units, (current, delta) -> Math.min(capacityUnits, current + delta));
+    }
+
+    /** Returns the whole tokens available. */
+    long available() {
+        return balance.get() / UNITS_PER_TOKEN;
+    }
+
+    /** Returns the retries and hedges the budget allowed. */
+    long spent() {
+        return spent.get();
+    }
+
+    /** Returns the retries and hedges the budget refused. */
+    long exhausted() {
+        return exhausted.get();
+    }
+}
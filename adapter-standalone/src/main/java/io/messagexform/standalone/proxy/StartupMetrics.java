@@ -0,0 +1,155 @@
+package io.messagexform.standalone.proxy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.management.ObjectName;
+
+/**
+ * Startup-phase timings for {@link ProxyApp} (FR-004-27, NFR-004-01).
+ *
+ * <p>
+ * {@link ProxyApp#start(String[])} calls {@link #mark(Phase)} at the end of
+ * each startup step. Each mark records the time elapsed since the previous
+ * mark, so the phases add up to {@link #getTotalStartupMs()}. After
+ * {@link #complete()} the values are immutable and exposed via JMX under
+ * {@code io.messagexform:type=StartupMetrics,instance=proxy-<port>}.
+ *
+ * <p>
+ * Thread safety: written only by the startup thread; published to JMX
+ * readers through MBean registration, which happens after {@link #complete()}.
+ */
+public final class StartupMetrics implements StartupMetricsMXBean {
+
+    private static final String SHARED_ARCHIVE_FLAG = "-XX:SharedArchiveFile=";
+
+    /** Startup phases in execution order. */
+    public enum Phase {
+        CONFIG,
+        ENGINE_REGISTRY,
+        SPEC_COMPILE,
+        PROFILE,
+        JETTY_START,
+        FILE_WATCHER
+    }
+
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private final long startNanos;
+    private long lastMarkNanos;
+    private long totalNanos;
+    private long jvmUptimeAtReadyMs;
+    private String sharedArchiveFile = "";
+    private ObjectName jmxObjectName;
+
+    /** Starts the clock — call first thing in the startup sequence. */
+    StartupMetrics() {
+        this.startNanos = System.nanoTime();
+        this.lastMarkNanos = startNanos;
+    }
+
+    /**
+     * Records the end of {@code phase}: the time since the previous mark is
+     * attributed to it.
+     */
+    void mark(Phase phase) {
+        long now = System.nanoTime();
+        phaseNanos.put(phase, now - lastMarkNanos);
+        lastMarkNanos = now;
+    }
+
+    /** Stops the clock and captures JVM-level figures (uptime, CDS archive). */
+    void complete() {
+        totalNanos = lastMarkNanos - startNanos;
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        jvmUptimeAtReadyMs = runtime.getUptime();
+        for (String arg : runtime.getInputArguments()) {
+            if (arg.startsWith(SHARED_ARCHIVE_FLAG)) {
+                sharedArchiveFile = arg.substring(SHARED_ARCHIVE_FLAG.length());
+            }
+        }
+    }
+
+    /** Returns the duration of {@code phase} in milliseconds (0 if never marked). */
+    public long phaseMs(Phase phase) {
+        return phaseNanos.getOrDefault(phase, 0L) / 1_000_000;
+    }
+
+    /**
+     * Renders the phase breakdown for the startup summary log line, e.g.
+     * {@code config=12, engineRegistry=3, specCompile=140, ...}.
+     */
+    String summary() {
+        return "config=" + getConfigLoadMs()
+                + ", engineRegistry=" + getEngineRegistryMs()
+                + ", specCompile=" + getSpecCompileMs()
+                + ", profile=" + getProfileLoadMs()
+                + ", jettyStart=" + getJettyStartMs()
+                + ", watcher=" + getFileWatcherMs();
+    }
+
+    // ── JMX lifecycle ──
+
+    /** Registers this MBean for the proxy listening on {@code port} (best effort). */
+    void registerMBean(int port) {
+        jmxObjectName = MBeans.register(this, "StartupMetrics", port);
+    }
+
+    /** Unregisters the MBean if {@link #registerMBean(int)} succeeded. */
+    void unregisterMBean() {
+        MBeans.unregister(jmxObjectName);
+        jmxObjectName = null;
+    }
+
+    /** Returns the registered ObjectName, or {@code null} if not registered. */
+    ObjectName jmxObjectName() {
+        return jmxObjectName;
+    }
+
+    // ── StartupMetricsMXBean ──
+
+    @Override
+    public long getConfigLoadMs() {
+        return phaseMs(Phase.CONFIG);
+    }
+
+    @Override
+    public long getEngineRegistryMs() {
+        return phaseMs(Phase.ENGINE_REGISTRY);
+    }
+
+    @Override
+    public long getSpecCompileMs() {
+        return phaseMs(Phase.SPEC_COMPILE);
+    }
+
+    @Override
+    public long getProfileLoadMs() {
+        return phaseMs(Phase.PROFILE);
+    }
+
+    @Override
+    public long getJettyStartMs() {
+        return phaseMs(Phase.JETTY_START);
+    }
+
+    @Override
+    public long getFileWatcherMs() {
+        return phaseMs(Phase.FILE_WATCHER);
+    }
+
+    @Override
+    public long getTotalStartupMs() {
+        return totalNanos / 1_000_000;
+    }
+
+    @Override
+    public long getJvmUptimeAtReadyMs() {
+        return jvmUptimeAtReadyMs;
+    }
+
+    @Override
+    public String getSharedArchiveFile() {
+        return sharedArchiveFile;
+    }
+}
@@ -0,0 +1,49 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * JMX MXBean interface for the proxy startup-phase breakdown (FR-004-27,
+ * NFR-004-01).
+ *
+ * <p>
+ * Registered under ObjectName
+ * {@code io.messagexform:type=StartupMetrics,instance=proxy-<port>} once the
+ * proxy is ready. Values are fixed after startup — they describe where the
+ * cold-start time went, so AppCDS and other startup work can be measured.
+ *
+ * @see StartupMetrics
+ */
+public interface StartupMetricsMXBean {
+
+    // --- Phases (milliseconds) ---
+
+    /** Configuration load, Logback setup and TLS validation. */
+    long getConfigLoadMs();
+
+    /** Expression engine registration. */
+    long getEngineRegistryMs();
+
+    /** Spec file scan, parse and compile. */
+    long getSpecCompileMs();
+
+    /** Active profile load. */
+    long getProfileLoadMs();
+
+    /** Upstream client init, route registration and Jetty start. */
+    long getJettyStartMs();
+
+    /** File watcher start (0 when hot reload is disabled). */
+    long getFileWatcherMs();
+
+    // --- Totals ---
+
+    /** Sum of all phases — time spent inside {@code ProxyApp.start}. */
+    long getTotalStartupMs();
+
+    /** JVM uptime when the proxy became ready (includes JVM boot + class loading). */
+    long getJvmUptimeAtReadyMs();
+
+    // --- Class data sharing ---
+
+    /** {@code -XX:SharedArchiveFile} passed to the JVM, or empty when none. */
+    String getSharedArchiveFile();
+}
@@ -0,0 +1,434 @@
+package io.messagexform.standalone.proxy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-bounded map with W-TinyLFU eviction, backing the response cache
+ * (FR-004-52).
+ *
+ * <p>
+ * New entries enter a small LRU <em>window</em> (1% of the capacity). An
+ * entry pushed out of the window is a candidate for the <em>main</em> space,
+ * a segmented LRU whose <em>probation</em> segment holds entries seen once
+ * since admission and whose <em>protected</em> segment (80% of main) holds
+ * those hit again. When main is full, the candidate is admitted only if a
+ * {@link FrequencySketch} estimates it has been requested more often than
+ * the probation victim it would replace; otherwise the candidate is dropped.
+ * One-off requests therefore never displace the entries that earn their
+ * keep, while the window still gives a new entry time to build up a count.
+ *
+ * <p>
+ * Weights are in bytes. An entry heavier than the main space is never
+ * stored. A candidate that must evict several victims to fit is compared
+ * against each in turn.
+ *
+ * <p>
+ * Thread-safe. Lookups read a {@link ConcurrentHashMap} and never block:
+ * {@link #get} only appends the key to a bounded, lossy read buffer. The
+ * sketch and segment bookkeeping for buffered reads is replayed under the
+ * policy lock — by whichever reader fills the buffer past
+ * {@link #READ_DRAIN_THRESHOLD} and wins {@code tryLock}, and before every
+ * write. When readers outpace the drain, further reads are not recorded;
+ * that only blurs frequencies and recency, never the stored data.
+ */
+final class TinyLfuCache<K, V> {
+
+    /** Share of the capacity given to the admission window, in percent. */
+    static final int WINDOW_PERCENT = 1;
+
+    /** Share of the main space given to the protected segment, in percent. */
+    static final int PROTECTED_PERCENT = 80;
+
+    /** Slots in the read buffer; a power of two. */
+    static final int READ_BUFFER_SIZE = 128;
+
+    /** Buffered reads at which a reader tries to drain the buffer. */
+    static final int READ_DRAIN_THRESHOLD = 32;
+
+    private final long maxWeight;
+    private final long windowMax;
+    private final long mainMax;
+    private final long protectedMax;
+    private final FrequencySketch sketch;
+
+    private final ConcurrentHashMap<K, Node<V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Read buffer: a ring written by any thread, drained under the lock
+    private final AtomicReferenceArray<K> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readsWritten = new AtomicLong();
+    private volatile long readsDrained;
+
+    // Guarded by lock. Insertion-ordered: the first entry is the least recently used
+    private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<V>> protectedSegment = new LinkedHashMap<>();
+
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    private long evictions;
+
+    /**
+     * @param maxWeight        total weight, in bytes
+     * @param expectedEntries  rough number of entries the capacity holds,
+     *                         which sizes the frequency sketch
+     */
+    TinyLfuCache(long maxWeight, int expectedEntries) {
+        this.maxWeight = maxWeight;
+        this.windowMax = Math.max(1, maxWeight * WINDOW_PERCENT / 100);
+        this.mainMax = maxWeight - windowMax;
+        this.protectedMax = mainMax * PROTECTED_PERCENT / 100;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    /** Returns the value for {@code key} and records the access, or {@code null}. */
+    V get(K key) {
+        Node<V> node = data.get(key);
+        recordRead(key);
+        return node != null ? node.value : null;
+    }
+
+    /** Returns the value for {@code key} without recording an access, or {@code null}. */
+    V peek(K key) {
+        Node<V> node = data.get(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Stores {@code value}, replacing any previous value for {@code key}, then
+     * evicts down to the capacity.
+     *
+     * @return {@code false} if the value is too heavy to be stored at all
+     */
+    boolean put(K key, V value, int weight) {
+        lock.lock();
+        try {
+            drainReads();
+            removeLocked(key);
+            if (weight > mainMax) {
+                return false;
+            }
+            sketch.increment(key.hashCode());
+            Node<V> node = new Node<>(value, weight);
+            window.put(key, node);
+            data.put(key, node);
+            windowWeight += weight;
+            while (windowWeight > windowMax) {
+                Map.Entry<K, Node<V>> candidate = removeEldest(window);
+                windowWeight -= candidate.getValue().weight;
+                admit(candidate.getKey(), candidate.getValue());
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes {@code key}; returns the value it had, or {@code null}. */
+    V remove(K key) {
+        lock.lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes {@code key} only while it still maps to {@code value}. */
+    boolean remove(K key, V value) {
+        lock.lock();
+        try {
+            Node<V> node = data.get(key);
+            if (node == null || node.value != value) {
+                return false;
+            }
+            removeLocked(key);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes every entry. Access frequencies are kept. */
+    void clear() {
+        lock.lock();
+        try {
+            drainReads();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            data.clear();
+            windowWeight = 0;
+            probationWeight = 0;
+            protectedWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns the number of entries. */
+    int size() {
+        return data.size();
+    }
+
+    /** Returns the total weight of the entries, in bytes. */
+    long weight() {
+        lock.lock();
+        try {
+            return windowWeight + probationWeight + protectedWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns the capacity, in bytes. */
+    long maxWeight() {
+        return maxWeight;
+    }
+
+    /** Returns the number of entries evicted or refused admission for lack of room. */
+    long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns the sketch's estimate of how often {@code key} was requested (0..15). */
+    int frequency(K key) {
+        lock.lock();
+        try {
+            drainReads();
+            return sketch.frequency(key.hashCode());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a read to the buffer, dropping it if the buffer is full or
+     * another reader won the slot, and drains the buffer once it holds
+     * {@link #READ_DRAIN_THRESHOLD} reads and the lock is free.
+     */
+    private void recordRead(K key) {
+        long written = readsWritten.get();
+        long pending = written - readsDrained;
+        if (pending < READ_BUFFER_SIZE && readsWritten.compareAndSet(written, written + 1)) {
+            readBuffer.lazySet((int) written & (READ_BUFFER_SIZE - 1), key);
+            pending++;
+        }
+        if (pending >= READ_DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Replays buffered reads against the sketch and the segments. Caller holds the lock. */
+    private void drainReads() {
+        long drained = readsDrained;
+        long written = readsWritten.get();
+        while (drained < written) {
+            int slot = (int) drained & (READ_BUFFER_SIZE - 1);
+            K key = readBuffer.get(slot);
+            if (key == null) {
+                // Slot claimed but not yet published — pick it up next drain
+                break;
+            }
+            readBuffer.lazySet(slot, null);
+            drained++;
+            onAccess(key);
+        }
+        readsDrained = drained;
+    }
+
+    /** Counts an access and refreshes the key's recency. Caller holds the lock. */
+    private void onAccess(K key) {
+        sketch.increment(key.hashCode());
+        Node<V> node = window.get(key);
+        if (node != null) {
+            moveToTail(window, key, node);
+            return;
+        }
+        node = probation.remove(key);
+        if (node != null) {
+            // Hit on probation — promote, demoting protected LRU entries if needed
+            probationWeight -= node.weight;
+            protectedSegment.put(key, node);
+            protectedWeight += node.weight;
+            while (protectedWeight > protectedMax && protectedSegment.size() > 1) {
+                Map.Entry<K, Node<V>> eldest = removeEldest(protectedSegment);
+                protectedWeight -= eldest.getValue().weight;
+                probation.put(eldest.getKey(), eldest.getValue());
+                probationWeight += eldest.getValue().weight;
+            }
+            return;
+        }
+        node = protectedSegment.get(key);
+        if (node != null) {
+            moveToTail(protectedSegment, key, node);
+        }
+    }
+
+    private V removeLocked(K key) {
+        if (data.remove(key) == null) {
+            return null;
+        }
+        Node<V> node = window.remove(key);
+        if (node != null) {
+            windowWeight -= node.weight;
+            return node.value;
+        }
+        node = probation.remove(key);
+        if (node != null) {
+            probationWeight -= node.weight;
+            return node.value;
+        }
+        node = protectedSegment.remove(key);
+        protectedWeight -= node.weight;
+        return node.value;
+    }
+
+    /**
+     * Moves a window candidate into probation, evicting lower-frequency
+     * probation (then protected) victims to make room, or drops it.
+     */
+    private void admit(K key, Node<V> candidate) {
+        int candidateFrequency = sketch.frequency(key.hashCode());
+        while (probationWeight + protectedWeight + candidate.weight > mainMax) {
+            LinkedHashMap<K, Node<V>> segment = !probation.isEmpty() ? probation : protectedSegment;
+            Map.Entry<K, Node<V>> victim = segment.firstEntry();
+            if (candidateFrequency <= sketch.frequency(victim.getKey().hashCode())) {
+                // The resident is at least as popular — the candidate loses
+                data.remove(key);
+                evictions++;
+                return;
+            }
+            segment.remove(victim.getKey());
+            data.remove(victim.getKey());
+            if (segment == probation) {
+                probationWeight -= victim.getValue().weight;
+            } else {
+                protectedWeight -= victim.getValue().weight;
+            }
+            evictions++;
+        }
+        probation.put(key, candidate);
+        probationWeight += candidate.weight;
+    }
+
+    private void moveToTail(LinkedHashMap<K, Node<V>> segment, K key, Node<V> node) {
+        segment.remove(key);
+        segment.put(key, node);
+    }
+
+    private Map.Entry<K, Node<V>> removeEldest(LinkedHashMap<K, Node<V>> segment) {
+        return segment.pollFirstEntry();
+    }
+
+    private record Node<V>(V value, int weight) {}
+
+    /**
+     * Count-min sketch of access frequencies with 4-bit counters. Each key increments one counter in
+     * each of four rows; its estimate is the smallest of the four. After
+     * {@code 10 × width} increments every counter is halved, so the sketch
+     * favours recent popularity over all-time totals.
+     *
+     * <p>
+     * Adapted from {@code com.github.benmanes.caffeine.cache.FrequencySketch}
+     * in Caffeine (Copyright 2015 Ben Manes), licensed under the Apache
+     * License, Version 2.0: the hash seeds, the counter layout, and the
+     * {@code RESET_MASK} / {@code ONE_MASK} halving come from it. See
+     * {@code NOTICE}.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final long ONE_MASK = 0x1111111111111111L;
+        private static final int MAX_TABLE_SIZE = 1 << 22;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        /** @param expectedEntries number of distinct keys to track with good accuracy */
+        FrequencySketch(int expectedEntries) {
+            int capacity = Integer.highestOneBit(Math.max(16, Math.min(expectedEntries, MAX_TABLE_SIZE)) - 1) << 1;
+            this.table = new long[capacity];
+            this.tableMask = capacity - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        /** Returns the estimated frequency of the element, 0..15. */
+        int frequency(int element) {
+            int hash = spread(element);
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        /** Counts one access to the element, ageing the sketch when the sample fills. */
+        void increment(int element) {
+            int hash = spread(element);
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added && ++size == sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int i, int j) {
+            int offset = j << 2;
+            long mask = 0xfL << offset;
+            if ((table[i] & mask) != mask) {
+                table[i] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        /** Halves every counter. */
+        private void reset() {
+            int odd = 0;
+            for (int i = 0; i < table.length; i++) {
+                odd += Long.bitCount(table[i] & ONE_MASK);
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            size = (size - (odd >>> 2)) >>> 1;
+        }
+
+        private int indexOf(int item, int i) {
+            long hash = (item + SEEDS[i]) * SEEDS[i];
+            hash += hash >>> 32;
+            return ((int) hash) & tableMask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.messagexform.standalone.proxy;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.MDC;
+
+/**
+ * Bounded, dedicated executor for the CPU-bound stages of the asynchronous
+ * pipeline — body parsing, request and response transforms (FR-004-42,
+ * CFG-004-46..47).
+ *
+ * <p>
+ * A fixed number of threads drain a bounded queue. When the queue is full a
+ * submission fails with {@link java.util.concurrent.RejectedExecutionException}
+ * instead of growing without limit; the handler answers {@code 503}. I/O waits
+ * never occupy these threads — they only run work that is ready to compute.
+ *
+ * <p>
+ * SLF4J's MDC is thread-bound, so {@link #withMdc(Map)} returns a view that
+ * installs the submitting request's MDC fields around each task and clears
+ * them afterwards (NFR-004-07).
+ */
+final class TransformExecutor implements AutoCloseable {
+
+    private final ThreadPoolExecutor pool;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    /**
+     * @param threads       pool size; 0 sizes it to the available processors
+     * @param queueCapacity max queued tasks before submissions are rejected
+     */
+    TransformExecutor(int threads, int queueCapacity) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.pool = new ThreadPoolExecutor(
+                size,
+                size,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread t = new Thread(runnable, "transform-worker-" + threadCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (task, executor) -> {
+                    rejected.incrementAndGet();
+                    new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, executor);
+                });
+    }
+
+    /**
+     * Returns an executor that runs tasks on this pool with {@code mdc}
+     * installed as the MDC context.
+     *
+     * @param mdc the MDC fields to propagate (null for none)
+     * @return an MDC-propagating view of this executor
+     */
+    Executor withMdc(Map<String, String> mdc) {
+        return task -> pool.execute(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                task.run();
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    /** Returns the number of pool threads. */
+    int threads() {
+        return pool.getMaximumPoolSize();
+    }
+
+    /** Returns the number of tasks waiting for a thread. */
+    int queueDepth() {
+        return pool.getQueue().size();
+    }
+
+    /** Returns the number of submissions rejected because the queue was full. */
+    long rejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,33 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * Thrown when the backend's circuit breaker is open and the request is
+ * failed fast without contacting it (FR-004-49). Mapped to
+ * {@code 503 Service Unavailable} with a {@code Retry-After} header.
+ */
+public class UpstreamCircuitOpenException extends UpstreamException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterMillis;
+
+    /**
+     * @param message          human-readable description
+     * @param retryAfterMillis time until the breaker lets a request through
+     *                         again
+     */
+    public UpstreamCircuitOpenException(String message, long retryAfterMillis) {
+        super(message, null);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /** Returns the time until the breaker lets a request through again, in ms. */
+    public long retryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /** Returns {@link #retryAfterMillis()} as whole seconds for {@code Retry-After}, at least 1. */
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
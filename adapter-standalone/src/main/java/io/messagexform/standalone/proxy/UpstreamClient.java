@@ -1,21 +1,43 @@
 package io.messagexform.standalone.proxy;
 
 import io.messagexform.standalone.config.BackendTlsConfig;
+import io.messagexform.standalone.config.HedgingConfig;
 import io.messagexform.standalone.config.PoolConfig;
 import io.messagexform.standalone.config.ProxyConfig;
+import io.messagexform.standalone.config.UpstreamProtocolConfig;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
@@ -28,11 +50,29 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Forwards HTTP requests to the configured backend and returns the
  * response with status, headers, and body intact. Uses HTTP/1.1 for all
- * upstream connections (FR-004-33).
+ * upstream connections by default (FR-004-33); {@code backend.protocol}
+ * selects HTTP/2 instead (FR-004-43) — {@code h2} negotiated via ALPN on a
+ * TLS connection, {@code h2c} via the HTTP/1.1 {@code Upgrade} handshake on
+ * a cleartext one. Either falls back to HTTP/1.1 if the backend declines.
+ * Every exchange leases an {@link UpstreamPool} slot until its response body
+ * is read or closed, which caps the connections to the backend at
+ * {@code backend.pool.max-connections} — or, over HTTP/2, the streams
+ * multiplexed onto the backend connection at
+ * {@code backend.http2.max-concurrent-streams} (FR-004-44).
+ *
+ * <p>
+ * Idempotent requests whose body can be sent again may be retried after a
+ * connect failure (FR-004-51) and hedged — sent a second time when the first
+ * response is slow (FR-004-50). Both spend tokens from a {@link RetryBudget},
+ * so neither can multiply the load on a backend that is already failing.
  *
  * <p>
  * This class is thread-safe — the underlying {@link HttpClient} is
- * thread-safe and designed for concurrent use.
+ * thread-safe and designed for concurrent use. With
+ * {@code proxy.virtual-threads.enabled} the client's own asynchronous work
+ * also runs on virtual threads (FR-004-41), so a blocking
+ * {@link #forwardStreaming} parks the calling virtual thread instead of
+ * holding a platform thread for the upstream round-trip.
  */
 public final class UpstreamClient {
 
@@ -52,10 +92,25 @@ public final class UpstreamClient {
             "trailer",
             "upgrade");
 
+    /** Methods that may be sent more than once (RFC 9110 §9.2.2) — the only ones retried or hedged. */
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+
     private final HttpClient httpClient;
+    private final String backendHost;
+    private final int backendPort;
     private final String backendBaseUrl;
     private final Duration readTimeout;
+    private final Duration connectTimeout;
     private final int maxBodyBytes;
+    private final Duration acquireTimeout;
+    private final UpstreamPool pool;
+    private final AdaptiveLimiter limiter;
+    private final CircuitBreaker breaker;
+    private final HedgingConfig hedging;
+    private final int maxRetries;
+    private final RetryBudget retryBudget;
+    private final LatencyWindow latency = new LatencyWindow();
+    private final UpstreamMetrics metrics;
 
     /**
      * Creates an {@code UpstreamClient} for the given proxy configuration.
@@ -64,17 +119,40 @@ public final class UpstreamClient {
      *               and timeout settings
      */
     public UpstreamClient(ProxyConfig config) {
+        this.backendHost = config.backendHost();
+        this.backendPort = config.backendPort();
         this.backendBaseUrl = config.backendScheme() + "://" + config.backendHost() + ":" + config.backendPort();
         this.readTimeout = Duration.ofMillis(config.backendReadTimeoutMs());
+        this.connectTimeout = Duration.ofMillis(config.backendConnectTimeoutMs());
         this.maxBodyBytes = config.maxBodyBytes();
 
-        // Configure connection pool via JVM system properties (T-004-14, FR-004-18)
-        configurePoolProperties(config.pool());
+        // Upstream protocol and connection pool (FR-004-43, FR-004-44, CFG-004-48..52)
+        UpstreamProtocolConfig protocol = config.upstreamProtocol();
+        PoolConfig poolConfig = config.pool();
+        this.acquireTimeout = Duration.ofMillis(poolConfig.acquireTimeoutMs());
+        this.pool = new UpstreamPool(
+                protocol.http2() ? protocol.maxConcurrentStreams() : poolConfig.maxConnections(),
+                poolConfig.maxPending(),
+                protocol.http2());
+        // Adaptive concurrency limit and circuit breaker (FR-004-48, FR-004-49)
+        this.limiter =
+                config.adaptiveConcurrency().enabled() ? new AdaptiveLimiter(config.adaptiveConcurrency()) : null;
+        this.breaker = config.circuitBreaker().enabled()
+                ? new CircuitBreaker(config.backendHost() + ":" + config.backendPort(), config.circuitBreaker())
+                : null;
+        // Hedging and connect-failure retries (FR-004-50, FR-004-51)
+        this.hedging = config.hedging();
+        this.maxRetries = config.retry().maxRetries();
+        this.retryBudget = new RetryBudget(config.retry());
+        this.metrics = new UpstreamMetrics(protocol.protocol(), pool, limiter, breaker, retryBudget, latency);
 
         HttpClient.Builder clientBuilder = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_1_1)
-                .connectTimeout(Duration.ofMillis(config.backendConnectTimeoutMs()))
+                .version(protocol.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
                 .followRedirects(HttpClient.Redirect.NEVER);
+        if (config.virtualThreads().enabled()) {
+            clientBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
 
         // Outbound TLS configuration (FR-004-16, FR-004-17)
         BackendTlsConfig backendTls = config.backendTls();
@@ -92,7 +170,12 @@ public final class UpstreamClient {
 
         this.httpClient = clientBuilder.build();
 
-        LOG.debug("UpstreamClient initialized: backend={}", backendBaseUrl);
+        LOG.debug(
+                "UpstreamClient initialized: backend={}, protocol={}, poolLimit={}, maxPending={}",
+                backendBaseUrl,
+                protocol.protocol(),
+                pool.limit(),
+                pool.maxPending());
     }
 
     /**
@@ -112,17 +195,541 @@ public final class UpstreamClient {
      */
     public UpstreamResponse forward(String method, String path, String body, Map<String, String> headers)
             throws UpstreamException, InterruptedException {
+        UpstreamStreamingResponse response = forwardStreaming(
+                method,
+                path,
+                body != null && !body.isEmpty()
+                        ? HttpRequest.BodyPublishers.ofByteArray(body.getBytes(StandardCharsets.UTF_8))
+                        : HttpRequest.BodyPublishers.noBody(),
+                headers);
+        byte[] responseBody = readBody(response);
+        return new UpstreamResponse(
+                response.statusCode(),
+                response.headers(),
+                new String(responseBody, charsetOf(response.headers().get("content-type"))));
+    }
+
+    /**
+     * Forwards an HTTP request to the configured backend and returns as soon
+     * as the response status and headers arrive, leaving the body unread
+     * (FR-004-40).
+     *
+     * <p>
+     * Neither body is held in memory: the request body is pulled from
+     * {@code body} as the connection accepts it, and the response body is
+     * handed back as a stream bounded by {@code proxy.max-body-bytes}. A
+     * response whose {@code Content-Length} already exceeds the limit is
+     * rejected before any of it is read; a chunked response that runs over
+     * fails mid-stream.
+     *
+     * @param method  the HTTP method
+     * @param path    the request path including optional query string
+     * @param body    the request body publisher — see
+     *                {@link #streamingBody(InputStream, long, boolean)}; null
+     *                for bodyless requests
+     * @param headers request headers to forward (lowercase keys); may be null
+     * @return the upstream status, headers and unread body stream
+     * @throws UpstreamConnectException          if the backend is unreachable,
+     *                                           or the request body could not
+     *                                           be sent
+     * @throws UpstreamTimeoutException          if the backend does not respond
+     *                                           within the read timeout
+     * @throws UpstreamResponseTooLargeException if the declared response
+     *                                           length exceeds the limit
+     * @throws InterruptedException              if the thread is interrupted
+     *                                           while waiting
+     */
+    public UpstreamStreamingResponse forwardStreaming(
+            String method, String path, HttpRequest.BodyPublisher body, Map<String, String> headers)
+            throws UpstreamException, InterruptedException {
+        return forwardStreaming(method, path, body, headers, hedging.enabled());
+    }
+
+    /**
+     * {@link #forwardStreaming(String, String, HttpRequest.BodyPublisher, Map)}
+     * with an explicit hedging choice — a route's override of
+     * {@code backend.hedging.enabled} (FR-004-50). A hedged or retried
+     * exchange runs on the asynchronous path; this thread waits for its
+     * outcome.
+     *
+     * @param hedge whether an idempotent request may be hedged
+     */
+    public UpstreamStreamingResponse forwardStreaming(
+            String method, String path, HttpRequest.BodyPublisher body, Map<String, String> headers, boolean hedge)
+            throws UpstreamException, InterruptedException {
+
+        URI targetUri = URI.create(backendBaseUrl + path);
+        HttpRequest request =
+                buildRequest(targetUri, method, body != null ? body : HttpRequest.BodyPublishers.noBody(), headers);
+
+        LOG.debug("Forwarding {} {} to {}", method, path, targetUri);
+
+        retryBudget.deposit();
+        if ((hedge || maxRetries > 0) && replayable(method, body)) {
+            return await(resilientExchange(request, targetUri, status -> false, hedge), targetUri);
+        }
+
+        Admission admission = admit(targetUri);
+        Runnable releaseSlot;
+        try {
+            releaseSlot = acquireSlot(targetUri);
+        } catch (UpstreamException | InterruptedException e) {
+            admission.abandon();
+            throw e;
+        }
+        HttpResponse<InputStream> response;
+        long sentNanos = System.nanoTime();
+        try {
+            response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (UpstreamException e) {
+            releaseSlot.run();
+            admission.failed(e);
+            throw e;
+        } catch (InterruptedException | RuntimeException e) {
+            releaseSlot.run();
+            admission.abandon();
+            throw e;
+        }
+        long rttNanos = System.nanoTime() - sentNanos;
+        admission.completed(response.statusCode(), rttNanos);
+        latency.record(rttNanos);
+        metrics.recordResponse(response.version());
+        Map<String, String> responseHeaders = normalizeHeaders(response);
+        // The pool slot is held until the body is read or closed
+        BoundedInputStream responseBody = new BoundedInputStream(response.body(), maxBodyBytes, releaseSlot);
+
+        // Reject an oversized response up front while a 502 can still be sent
+        // (FR-004-13, T-004-30)
+        long declaredLength =
+                response.headers().firstValueAsLong("content-length").orElse(-1L);
+        if (maxBodyBytes > 0 && declaredLength > maxBodyBytes) {
+            closeQuietly(responseBody);
+            throw new UpstreamResponseTooLargeException("Response body from " + targetUri + " exceeds " + maxBodyBytes
+                    + " bytes (" + declaredLength + " declared)");
+        }
+
+        LOG.debug("Backend responded: {} {} → {}", method, path, response.statusCode());
+
+        return new UpstreamStreamingResponse(response.statusCode(), responseHeaders, responseBody);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #forwardStreaming} built on
+     * {@link HttpClient#sendAsync} (FR-004-42): no thread waits for the
+     * backend.
+     *
+     * <p>
+     * Once the status line arrives, {@code bufferBody} decides how the body
+     * is received. An accepted status has its body collected in full,
+     * without blocking and bounded by {@code proxy.max-body-bytes}, before
+     * the future completes; {@link #readBody} then returns it without another
+     * copy. Any other status completes the future immediately with the body
+     * left unread as a bounded stream, exactly as {@link #forwardStreaming}
+     * would.
+     *
+     * @param method     the HTTP method
+     * @param path       the request path including optional query string
+     * @param body       the request body publisher; null for bodyless
+     *                   requests
+     * @param headers    request headers to forward (lowercase keys); may be
+     *                   null
+     * @param bufferBody whether to receive the body of a response with the
+     *                   given status in full
+     * @return a future of the upstream response; it fails with a
+     *         {@link CompletionException} whose cause is the
+     *         {@link UpstreamException} {@link #forwardStreaming} would have
+     *         thrown
+     */
+    public CompletableFuture<UpstreamStreamingResponse> forwardAsync(
+            String method,
+            String path,
+            HttpRequest.BodyPublisher body,
+            Map<String, String> headers,
+            IntPredicate bufferBody) {
+        return forwardAsync(method, path, body, headers, bufferBody, hedging.enabled());
+    }
+
+    /**
+     * {@link #forwardAsync(String, String, HttpRequest.BodyPublisher, Map, IntPredicate)}
+     * with an explicit hedging choice — a route's override of
+     * {@code backend.hedging.enabled} (FR-004-50).
+     *
+     * @param hedge whether an idempotent request may be hedged
+     */
+    public CompletableFuture<UpstreamStreamingResponse> forwardAsync(
+            String method,
+            String path,
+            HttpRequest.BodyPublisher body,
+            Map<String, String> headers,
+            IntPredicate bufferBody,
+            boolean hedge) {
 
         URI targetUri = URI.create(backendBaseUrl + path);
+        HttpRequest request =
+                buildRequest(targetUri, method, body != null ? body : HttpRequest.BodyPublishers.noBody(), headers);
+
+        LOG.debug("Forwarding {} {} to {} (async)", method, path, targetUri);
+
+        retryBudget.deposit();
+        if ((hedge || maxRetries > 0) && replayable(method, body)) {
+            return resilientExchange(request, targetUri, bufferBody, hedge);
+        }
+        Admission admission;
+        try {
+            admission = admit(targetUri);
+        } catch (UpstreamException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return exchangeAsync(request, targetUri, bufferBody, admission);
+    }
+
+    /**
+     * An exchange retried after connect failures (FR-004-51) and, if
+     * {@code hedge} is set and a delay is known, hedged (FR-004-50).
+     */
+    private CompletableFuture<UpstreamStreamingResponse> resilientExchange(
+            HttpRequest request, URI targetUri, IntPredicate bufferBody, boolean hedge) {
+        CompletableFuture<UpstreamStreamingResponse> primary = attempt(request, targetUri, bufferBody, maxRetries);
+        long delayMs = hedge ? hedgeDelayMs() : -1;
+        if (delayMs < 0) {
+            return primary;
+        }
+        HedgedExchange hedged = new HedgedExchange(primary);
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS)
+                .execute(() -> hedged.hedge(() -> attempt(request, targetUri, bufferBody, 0)));
+        return hedged.result;
+    }
+
+    /**
+     * One admitted exchange, sent again while it fails to connect, retries
+     * remain and the budget allows.
+     */
+    private CompletableFuture<UpstreamStreamingResponse> attempt(
+            HttpRequest request, URI targetUri, IntPredicate bufferBody, int retriesLeft) {
+        CompletableFuture<UpstreamStreamingResponse> exchange;
+        try {
+            exchange = exchangeAsync(request, targetUri, bufferBody, admit(targetUri));
+        } catch (UpstreamException e) {
+            exchange = CompletableFuture.failedFuture(e);
+        }
+        if (retriesLeft == 0) {
+            return exchange;
+        }
+        CompletableFuture<UpstreamStreamingResponse> first = exchange;
+        return first.handle((response, failure) -> {
+                    if (failure != null
+                            && unwrap(failure) instanceof UpstreamConnectException
+                            && retryBudget.trySpend()) {
+                        LOG.debug(
+                                "Retrying {} {}: {}",
+                                request.method(),
+                                targetUri,
+                                unwrap(failure).getMessage());
+                        metrics.recordRetry();
+                        return attempt(request, targetUri, bufferBody, retriesLeft - 1);
+                    }
+                    return first;
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Returns the hedging delay: {@code backend.hedging.delay-ms}, or the
+     * observed p95 latency when that is 0 — {@code -1} while too few
+     * exchanges have been seen to know it.
+     */
+    private long hedgeDelayMs() {
+        if (hedging.delayMs() > 0) {
+            return hedging.delayMs();
+        }
+        long p95Nanos = latency.p95Nanos();
+        return p95Nanos < 0 ? -1 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(p95Nanos));
+    }
+
+    /**
+     * A primary exchange and the hedge sent if it is slow (FR-004-50): the
+     * first response wins and the other is discarded, releasing its
+     * connection. The request fails only once every attempt has failed, with
+     * the primary's failure.
+     */
+    private final class HedgedExchange {
+
+        private final CompletableFuture<UpstreamStreamingResponse> result = new CompletableFuture<>();
+
+        /** Attempts not yet settled; 0 once the outcome is final. */
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private final AtomicBoolean answered = new AtomicBoolean();
+
+        private volatile Throwable primaryFailure;
+        private volatile Throwable hedgeFailure;
+
+        HedgedExchange(CompletableFuture<UpstreamStreamingResponse> primary) {
+            primary.whenComplete((response, failure) -> settle(response, failure, false));
+        }
+
+        /** Sends the hedge, unless the primary has settled or the budget is spent. */
+        void hedge(Supplier<CompletableFuture<UpstreamStreamingResponse>> attempt) {
+            if (result.isDone() || !retryBudget.trySpend()) {
+                return;
+            }
+            if (pending.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+                return;
+            }
+            LOG.debug("Hedging request to {}", backendBaseUrl);
+            metrics.recordHedge();
+            attempt.get().whenComplete((response, failure) -> settle(response, failure, true));
+        }
+
+        private void settle(UpstreamStreamingResponse response, Throwable failure, boolean hedge) {
+            if (failure == null) {
+                if (answered.compareAndSet(false, true)) {
+                    // Counted before completing, so a caller that sees the response sees the count
+                    if (hedge) {
+                        metrics.recordHedgeWin();
+                    }
+                    result.complete(response);
+                } else {
+                    // The other attempt answered first
+                    closeQuietly(response.body());
+                }
+            } else if (hedge) {
+                hedgeFailure = failure;
+            } else {
+                primaryFailure = failure;
+            }
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(primaryFailure != null ? primaryFailure : hedgeFailure);
+            }
+        }
+    }
+
+    /** Steps of {@link #forwardAsync} after admission: pool lease, send, response checks. */
+    private CompletableFuture<UpstreamStreamingResponse> exchangeAsync(
+            HttpRequest request, URI targetUri, IntPredicate bufferBody, Admission admission) {
+        return pool.acquire(acquireTimeout)
+                .handle((releaseSlot, waitFailure) -> {
+                    if (waitFailure != null) {
+                        admission.abandon();
+                        throw new CompletionException(poolExhausted(targetUri, waitFailure));
+                    }
+                    return releaseSlot;
+                })
+                .thenCompose(releaseSlot -> {
+                    long sentNanos = System.nanoTime();
+                    return sendAsync(request, targetUri, bufferBody, releaseSlot)
+                            .handle((response, failure) -> {
+                                if (failure != null) {
+                                    releaseSlot.run();
+                                    UpstreamException upstream = translate(unwrap(failure), targetUri);
+                                    admission.failed(upstream);
+                                    throw new CompletionException(upstream);
+                                }
+                                long rttNanos = System.nanoTime() - sentNanos;
+                                admission.completed(response.statusCode(), rttNanos);
+                                latency.record(rttNanos);
+                                metrics.recordResponse(response.version());
+                                if (response.body() instanceof BufferedBody) {
+                                    // Body fully received — the exchange is done
+                                    releaseSlot.run();
+                                }
+                                // Reject an oversized streamed response up front (FR-004-13)
+                                long declaredLength = response.headers()
+                                        .firstValueAsLong("content-length")
+                                        .orElse(-1L);
+                                if (!(response.body() instanceof BufferedBody)
+                                        && maxBodyBytes > 0
+                                        && declaredLength > maxBodyBytes) {
+                                    closeQuietly(response.body());
+                                    throw new CompletionException(new UpstreamResponseTooLargeException(
+                                            "Response body from " + targetUri + " exceeds " + maxBodyBytes + " bytes ("
+                                                    + declaredLength + " declared)"));
+                                }
+                                LOG.debug(
+                                        "Backend responded: {} {} → {}",
+                                        request.method(),
+                                        targetUri,
+                                        response.statusCode());
+                                return new UpstreamStreamingResponse(
+                                        response.statusCode(), normalizeHeaders(response), response.body());
+                            });
+                });
+    }
+
+    /**
+     * Opens up to {@code connections} upstream connections ahead of traffic
+     * by sending that many concurrent {@code HEAD /} requests
+     * ({@code backend.pool.prewarm-connections}, FR-004-44). Over HTTP/2 a
+     * single request suffices — every exchange shares one connection. The
+     * responses' status codes are irrelevant; only transport failures count.
+     *
+     * @param connections number of connections to open
+     * @return how many warm-up requests reached the backend within the
+     *         connect timeout
+     */
+    public int prewarm(int connections) {
+        int requests = pool.multiplexed() ? Math.min(connections, 1) : connections;
+        List<CompletableFuture<UpstreamStreamingResponse>> warmups = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            // Streamed, so every warm-up holds its connection until all are done
+            // Bypasses the breaker and adaptive limit — no traffic has been measured yet
+            URI targetUri = URI.create(backendBaseUrl + "/");
+            warmups.add(exchangeAsync(
+                    buildRequest(targetUri, "HEAD", HttpRequest.BodyPublishers.noBody(), null),
+                    targetUri,
+                    status -> false,
+                    Admission.NONE));
+        }
+        int warmed = 0;
+        for (CompletableFuture<UpstreamStreamingResponse> warmup : warmups) {
+            boolean reached = warmup.thenApply(response -> true)
+                    .exceptionally(failure -> {
+                        LOG.debug(
+                                "Upstream pre-warm request failed: {}",
+                                unwrap(failure).getMessage());
+                        return false;
+                    })
+                    .completeOnTimeout(false, connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+            if (reached) {
+                warmed++;
+            }
+        }
+        // Return the connections — including late ones that outlived the wait
+        warmups.forEach(warmup -> warmup.thenAccept(response -> closeQuietly(response.body())));
+        return warmed;
+    }
+
+    /**
+     * Sends {@code request} asynchronously. A buffered body is collected in
+     * full; a streamed one releases the pool slot when it is closed.
+     */
+    private CompletableFuture<HttpResponse<InputStream>> sendAsync(
+            HttpRequest request, URI targetUri, IntPredicate bufferBody, Runnable releaseSlot) {
+        HttpResponse.BodyHandler<InputStream> handler = info -> {
+            long declaredLength =
+                    info.headers().firstValueAsLong("content-length").orElse(-1L);
+            if (bufferBody.test(info.statusCode())) {
+                return HttpResponse.BodySubscribers.mapping(
+                        new BoundedBodySubscriber(maxBodyBytes, declaredLength, targetUri.toString()),
+                        BufferedBody::new);
+            }
+            return HttpResponse.BodySubscribers.mapping(
+                    HttpResponse.BodySubscribers.ofInputStream(),
+                    in -> new BoundedInputStream(in, maxBodyBytes, releaseSlot));
+        };
+        try {
+            return httpClient.sendAsync(request, handler);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Reads a streamed upstream response body fully, so that it can be wrapped
+     * and transformed. The array is pre-sized from the response
+     * {@code Content-Length} when present; the limit is enforced on bytes, not
+     * decoded characters (FR-004-13).
+     *
+     * @param response the streamed response from {@link #forwardStreaming}
+     * @return the raw body bytes (empty for no-body responses)
+     * @throws UpstreamResponseTooLargeException if the body exceeds
+     *                                           {@code proxy.max-body-bytes}
+     * @throws UpstreamConnectException          if the body cannot be read
+     */
+    public byte[] readBody(UpstreamStreamingResponse response) throws UpstreamException {
+        if (response.body() instanceof BufferedBody buffered) {
+            // Already received in full by forwardAsync
+            return buffered.bytes();
+        }
+        long declaredLength = parseLength(response.headers().get("content-length"));
+        InputStream body = response.body();
+        BoundedInputStream bounded =
+                body instanceof BoundedInputStream b ? b : new BoundedInputStream(body, maxBodyBytes);
+        try (bounded) {
+            return bounded.readAllBytes(declaredLength);
+        } catch (IOException e) {
+            if (bounded.exceeded()) {
+                throw new UpstreamResponseTooLargeException("Response body from " + backendBaseUrl + " exceeds "
+                        + bounded.limit() + " bytes (" + bounded.count() + " received)");
+            }
+            throw new UpstreamConnectException("Failed to read response body from " + backendBaseUrl, e);
+        }
+    }
+
+    /**
+     * Returns a request body publisher that streams {@code body} to the
+     * backend without buffering it. A known {@code contentLength} is sent as
+     * {@code Content-Length}; otherwise the body goes out chunked.
+     *
+     * @param body          the inbound body stream
+     * @param contentLength the declared body length, or a negative value if
+     *                      unknown
+     * @param chunked       whether the inbound request carried a body without
+     *                      a length ({@code Transfer-Encoding: chunked})
+     * @return the publisher, or {@code noBody()} if there is no body; a
+     *         streamed body can be sent only once, so such a request is never
+     *         retried or hedged
+     */
+    public static HttpRequest.BodyPublisher streamingBody(InputStream body, long contentLength, boolean chunked) {
+        if (contentLength > 0) {
+            return new StreamedBody(HttpRequest.BodyPublishers.fromPublisher(
+                    HttpRequest.BodyPublishers.ofInputStream(() -> body), contentLength));
+        }
+        if (contentLength < 0 && chunked) {
+            return new StreamedBody(HttpRequest.BodyPublishers.ofInputStream(() -> body));
+        }
+        return HttpRequest.BodyPublishers.noBody();
+    }
+
+    /** A request body read from a stream: it can be sent only once. */
+    private record StreamedBody(HttpRequest.BodyPublisher publisher) implements HttpRequest.BodyPublisher {
+
+        @Override
+        public long contentLength() {
+            return publisher.contentLength();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            publisher.subscribe(subscriber);
+        }
+    }
+
+    /** Whether a request may be sent more than once: an idempotent method and a body that can be replayed. */
+    private static boolean replayable(String method, HttpRequest.BodyPublisher body) {
+        return IDEMPOTENT_METHODS.contains(method.toUpperCase(Locale.ROOT)) && !(body instanceof StreamedBody);
+    }
+
+    /**
+     * Waits for an asynchronous exchange on behalf of a blocking caller,
+     * rethrowing its {@link UpstreamException}.
+     */
+    private static UpstreamStreamingResponse await(CompletableFuture<UpstreamStreamingResponse> exchange, URI targetUri)
+            throws UpstreamException, InterruptedException {
+        try {
+            return exchange.get();
+        } catch (InterruptedException e) {
+            // Give back the connection of a response that arrives anyway
+            exchange.thenAccept(response -> closeQuietly(response.body()));
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof UpstreamException upstream) {
+                throw upstream;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new UpstreamConnectException("Failed to forward to " + targetUri, cause);
+        }
+    }
 
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                .uri(targetUri)
-                .timeout(readTimeout)
-                .method(
-                        method,
-                        body != null && !body.isEmpty()
-                                ? HttpRequest.BodyPublishers.ofString(body)
-                                : HttpRequest.BodyPublishers.noBody());
+    /** Builds the upstream request, skipping restricted and hop-by-hop headers. */
+    private HttpRequest buildRequest(
+            URI targetUri, String method, HttpRequest.BodyPublisher body, Map<String, String> headers) {
+        HttpRequest.Builder requestBuilder =
+                HttpRequest.newBuilder().uri(targetUri).timeout(readTimeout).method(method, body);
 
         // Forward headers
         if (headers != null) {
@@ -136,25 +743,170 @@ public final class UpstreamClient {
             }
         }
 
-        HttpRequest request = requestBuilder.build();
+        return requestBuilder.build();
+    }
 
-        LOG.debug("Forwarding {} {} to {}", method, path, targetUri);
+    /**
+     * Passes an exchange through the circuit breaker (FR-004-49) and the
+     * adaptive concurrency limit (FR-004-48), before any pool slot is leased.
+     *
+     * @throws UpstreamCircuitOpenException   if the breaker is open
+     * @throws UpstreamPoolExhaustedException if the adaptive limit is reached
+     */
+    private Admission admit(URI targetUri) throws UpstreamException {
+        if (breaker == null && limiter == null) {
+            return Admission.NONE;
+        }
+        CircuitBreaker.Permit permit = null;
+        if (breaker != null) {
+            permit = breaker.tryAcquire();
+            if (permit == null) {
+                throw new UpstreamCircuitOpenException(
+                        "Circuit breaker open for " + backendBaseUrl, breaker.retryAfterMillis());
+            }
+        }
+        int inFlight = 0;
+        if (limiter != null) {
+            inFlight = limiter.tryAcquire();
+            if (inFlight < 0) {
+                if (breaker != null) {
+                    breaker.release(permit);
+                }
+                throw new UpstreamPoolExhaustedException(
+                        "Adaptive concurrency limit (" + limiter.limit() + ") reached for " + targetUri, null);
+            }
+        }
+        return new Admission(breaker, permit, limiter, inFlight);
+    }
+
+    /**
+     * One exchange's passage through the circuit breaker and adaptive limiter,
+     * settled exactly once: {@link #completed} with the response status,
+     * {@link #failed} with the transport failure, or {@link #abandon} if the
+     * backend was never reached.
+     */
+    private static final class Admission {
+
+        /** No breaker and no limiter — settling is a no-op. */
+        static final Admission NONE = new Admission(null, null, null, 0);
+
+        private final CircuitBreaker breaker;
+        private final CircuitBreaker.Permit permit;
+        private final AdaptiveLimiter limiter;
+        private final int inFlight;
+
+        Admission(CircuitBreaker breaker, CircuitBreaker.Permit permit, AdaptiveLimiter limiter, int inFlight) {
+            this.breaker = breaker;
+            this.permit = permit;
+            this.limiter = limiter;
+            this.inFlight = inFlight;
+        }
+
+        /** Settles with a response: {@code 502}, {@code 503} and {@code 504} count as failures. */
+        void completed(int statusCode, long rttNanos) {
+            settle(statusCode < 502 || statusCode > 504, rttNanos);
+        }
+
+        /** Settles with a transport failure; only connect failures and timeouts count against the backend. */
+        void failed(UpstreamException e) {
+            if (e instanceof UpstreamConnectException || e instanceof UpstreamTimeoutException) {
+                settle(false, 0);
+            } else {
+                abandon();
+            }
+        }
+
+        /** Settles without an outcome — the backend was not reached. */
+        void abandon() {
+            if (breaker != null) {
+                breaker.release(permit);
+            }
+            if (limiter != null) {
+                limiter.release();
+            }
+        }
 
-        HttpResponse<String> response;
+        private void settle(boolean success, long rttNanos) {
+            if (breaker != null) {
+                breaker.record(permit, success);
+            }
+            if (limiter != null) {
+                limiter.complete(rttNanos, inFlight, !success);
+            }
+        }
+    }
+
+    /**
+     * Leases a pool slot for a blocking exchange, waiting at most
+     * {@code backend.pool.acquire-timeout-ms} for one to free up (FR-004-44).
+     *
+     * @return the slot's idempotent release action
+     */
+    private Runnable acquireSlot(URI targetUri) throws UpstreamException, InterruptedException {
+        CompletableFuture<Runnable> slot = pool.acquire(acquireTimeout);
         try {
-            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (java.net.http.HttpConnectTimeoutException e) {
-            throw new UpstreamConnectException("Connect timeout to " + targetUri, e);
-        } catch (java.net.http.HttpTimeoutException e) {
-            throw new UpstreamTimeoutException("Read timeout from " + targetUri, e);
-        } catch (java.net.ConnectException e) {
-            throw new UpstreamConnectException("Connection refused by " + targetUri, e);
-        } catch (java.io.IOException e) {
-            throw new UpstreamConnectException("Failed to connect to " + targetUri, e);
-        }
-
-        // Normalize response headers to lowercase, first-value semantics,
-        // stripping hop-by-hop headers (FR-004-04)
+            return slot.get();
+        } catch (InterruptedException e) {
+            // Withdraw the wait — or give back a slot granted meanwhile
+            slot.cancel(false);
+            slot.thenAccept(Runnable::run);
+            throw e;
+        } catch (ExecutionException e) {
+            throw poolExhausted(targetUri, e.getCause());
+        }
+    }
+
+    private UpstreamPoolExhaustedException poolExhausted(URI targetUri, Throwable cause) {
+        Throwable reason = unwrap(cause);
+        String detail = reason instanceof RejectedExecutionException
+                ? reason.getMessage()
+                : "none free within " + acquireTimeout.toMillis() + " ms";
+        return new UpstreamPoolExhaustedException(
+                "No upstream connection available for " + targetUri + ": " + detail, reason);
+    }
+
+    /** Sends the request, translating transport failures into {@link UpstreamException}s. */
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws UpstreamException, InterruptedException {
+        try {
+            return httpClient.send(request, bodyHandler);
+        } catch (IOException e) {
+            throw translate(e, request.uri());
+        }
+    }
+
+    /** Maps a transport failure to the {@link UpstreamException} the proxy reports. */
+    private static UpstreamException translate(Throwable failure, URI targetUri) {
+        if (failure instanceof UpstreamException upstream) {
+            return upstream;
+        }
+        if (failure instanceof java.net.http.HttpConnectTimeoutException) {
+            return new UpstreamConnectException("Connect timeout to " + targetUri, failure);
+        }
+        if (failure instanceof java.net.http.HttpTimeoutException) {
+            return new UpstreamTimeoutException("Read timeout from " + targetUri, failure);
+        }
+        if (failure instanceof java.net.ConnectException) {
+            return new UpstreamConnectException("Connection refused by " + targetUri, failure);
+        }
+        return new UpstreamConnectException("Failed to connect to " + targetUri, failure);
+    }
+
+    /** Strips the {@link CompletionException} wrapper an async stage adds. */
+    static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Normalizes response headers to lowercase, first-value semantics,
+     * stripping hop-by-hop headers (FR-004-04).
+     */
+    private static Map<String, String> normalizeHeaders(HttpResponse<?> response) {
         Map<String, String> responseHeaders = new LinkedHashMap<>();
         response.headers().map().forEach((name, values) -> {
             String lowerName = name.toLowerCase();
@@ -162,18 +914,120 @@ public final class UpstreamClient {
                 responseHeaders.put(lowerName, values.getFirst());
             }
         });
+        return responseHeaders;
+    }
 
-        String responseBody = response.body() != null ? response.body() : "";
+    /** Returns the {@code charset} parameter of a Content-Type, defaulting to UTF-8. */
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            for (String param : contentType.split(";")) {
+                String trimmed = param.trim();
+                if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                    try {
+                        return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                    } catch (IllegalArgumentException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
 
-        // Response body size enforcement (FR-004-13, T-004-30)
-        if (maxBodyBytes > 0 && responseBody.length() > maxBodyBytes) {
-            throw new UpstreamResponseTooLargeException("Response body from " + targetUri + " exceeds " + maxBodyBytes
-                    + " bytes (" + responseBody.length() + " received)");
+    /** Parses a Content-Length value, returning -1 if absent or malformed. */
+    private static long parseLength(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
         }
+    }
 
-        LOG.debug("Backend responded: {} {} → {}", method, path, response.statusCode());
+    /** A response body {@link #forwardAsync} has already received in full. */
+    private static final class BufferedBody extends ByteArrayInputStream {
 
-        return new UpstreamResponse(response.statusCode(), responseHeaders, responseBody);
+        BufferedBody(byte[] bytes) {
+            super(bytes);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            LOG.debug("Failed to discard upstream response body: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sends a health-check {@code GET} to {@code path} (FR-004-46). The probe
+     * bypasses the connection pool's lease gate — it is not traffic, and must
+     * not queue behind it. A {@code 2xx} or {@code 3xx} answer within
+     * {@code timeout} is healthy; anything else, including a connect failure,
+     * is not.
+     *
+     * @param path    request path, starting with {@code /}
+     * @param timeout deadline for the response headers
+     * @return {@code true} if the backend answered healthy
+     */
+    boolean probe(String path, Duration timeout) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(backendBaseUrl + path))
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            int status = httpClient
+                    .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join()
+                    .statusCode();
+            return status >= 200 && status < 400;
+        } catch (CompletionException e) {
+            LOG.debug("Health check of {}{} failed: {}", backendBaseUrl, path, String.valueOf(unwrap(e)));
+            return false;
+        }
+    }
+
+    /** Returns the backend hostname this client forwards to. */
+    String host() {
+        return backendHost;
+    }
+
+    /** Returns the backend port this client forwards to. */
+    int port() {
+        return backendPort;
+    }
+
+    /** Returns the number of requests currently holding a pool slot — outstanding at the backend. */
+    int inFlight() {
+        return pool.active();
+    }
+
+    /** Returns {@code false} while the circuit breaker is open and would reject requests (FR-004-49). */
+    boolean acceptingRequests() {
+        return breaker == null || breaker.allowsRequests();
+    }
+
+    /** Returns {@code backend.hedging.enabled} — whether requests are hedged unless their route says otherwise. */
+    boolean hedgingEnabled() {
+        return hedging.enabled();
+    }
+
+    /** Returns the connection pool — package-private for testing. */
+    UpstreamPool pool() {
+        return pool;
+    }
+
+    /** Returns the live upstream metrics (FR-004-43). */
+    UpstreamMetrics metrics() {
+        return metrics;
     }
 
     /**
@@ -207,8 +1061,16 @@ public final class UpstreamClient {
      * <p>
      * When {@code keepAlive} is disabled, the idle timeout is set to 0
      * to close connections immediately after use.
+     *
+     * <p>
+     * These properties are JVM-global and read once, when the JDK client
+     * first initialises its pool, so they only size the client's idle
+     * connection cache and are shared by every backend. {@link ProxyApp}
+     * sets them once from {@code backend.pool}, before any client is
+     * created; the per-backend limits are enforced by the
+     * {@link UpstreamPool} lease gate (FR-004-44).
      */
-    private static void configurePoolProperties(PoolConfig pool) {
+    static void configurePoolProperties(PoolConfig pool) {
         System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(pool.maxConnections()));
         int keepAliveSeconds = pool.keepAlive() ? pool.idleTimeoutMs() / 1000 : 0;
         System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSeconds));
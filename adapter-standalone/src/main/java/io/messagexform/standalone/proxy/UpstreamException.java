@@ -8,6 +8,9 @@ package io.messagexform.standalone.proxy;
  * <ul>
  * <li>{@link UpstreamConnectException} — connection refused, host unreachable
  * <li>{@link UpstreamTimeoutException} — read timeout exceeded
+ * <li>{@link UpstreamPoolExhaustedException} — no pooled connection or stream
+ * free in time, or the adaptive concurrency limit reached
+ * <li>{@link UpstreamCircuitOpenException} — backend's circuit breaker open
  * </ul>
  */
 public abstract class UpstreamException extends Exception {
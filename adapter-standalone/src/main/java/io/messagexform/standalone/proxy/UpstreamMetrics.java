@@ -0,0 +1,255 @@
+package io.messagexform.standalone.proxy;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.ObjectName;
+
+/**
+ * Live upstream connection metrics for {@link UpstreamClient} (FR-004-43,
+ * FR-004-44).
+ *
+ * <p>
+ * Counts responses by the HTTP version actually negotiated — an {@code h2}
+ * or {@code h2c} backend that declines HTTP/2 shows up as HTTP/1.1 — and
+ * reports what the {@link UpstreamPool} observes: leased connections (or
+ * streams, under HTTP/2), the wait queue, and an acquire-wait histogram.
+ * The JDK client does not expose its sockets, so idle, opened and closed
+ * connections are not reported. With adaptive concurrency (FR-004-48) or the circuit breaker
+ * (FR-004-49) enabled, their limit, state and rejections are reported too,
+ * as are hedges, retries and the retry budget (FR-004-50, FR-004-51). Exposed via JMX under
+ * {@code io.messagexform:type=UpstreamMetrics,instance=proxy-<port>}.
+ *
+ * <p>
+ * Thread-safe — updated concurrently by request threads.
+ */
+public final class UpstreamMetrics implements UpstreamMetricsMXBean {
+
+    private final String protocol;
+    private final UpstreamPool pool;
+    private final AdaptiveLimiter limiter;
+    private final CircuitBreaker breaker;
+    private final RetryBudget retryBudget;
+    private final LatencyWindow latency;
+    private final AtomicLong http1Responses = new AtomicLong();
+    private final AtomicLong http2Responses = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private ObjectName jmxObjectName;
+
+    /**
+     * @param protocol configured upstream protocol
+     * @param pool     the client's connection pool
+     * @param limiter  adaptive concurrency limiter, or {@code null} if off
+     * @param breaker     circuit breaker, or {@code null} if off
+     * @param retryBudget budget shared by retries and hedges
+     * @param latency     recent exchange latencies
+     */
+    UpstreamMetrics(
+            String protocol,
+            UpstreamPool pool,
+            AdaptiveLimiter limiter,
+            CircuitBreaker breaker,
+            RetryBudget retryBudget,
+            LatencyWindow latency) {
+        this.protocol = protocol;
+        this.pool = pool;
+        this.limiter = limiter;
+        this.breaker = breaker;
+        this.retryBudget = retryBudget;
+        this.latency = latency;
+    }
+
+    /** Counts one response received over {@code version}. */
+    void recordResponse(HttpClient.Version version) {
+        if (version == HttpClient.Version.HTTP_2) {
+            http2Responses.incrementAndGet();
+        } else {
+            http1Responses.incrementAndGet();
+        }
+    }
+
+    /** Counts one retry after a connect failure. */
+    void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    /** Counts one hedge sent. */
+    void recordHedge() {
+        hedges.incrementAndGet();
+    }
+
+    /** Counts one hedge that answered before its primary. */
+    void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    // ── JMX lifecycle ──
+
+    /** Registers this MBean for the proxy listening on {@code port} (best effort). */
+    void registerMBean(int port) {
+        jmxObjectName = MBeans.register(this, "UpstreamMetrics", port);
+    }
+
+    /**
+     * Registers this MBean for one member of a backend group (FR-004-45),
+     * keyed additionally by {@code group} and {@code backend} (best effort).
+     */
+    void registerMBean(int port, String group, String backend) {
+        jmxObjectName = MBeans.register(
+                this,
+                "UpstreamMetrics",
+                port,
+                ",group=" + ObjectName.quote(group) + ",backend=" + ObjectName.quote(backend));
+    }
+
+    /** Unregisters the MBean if {@link #registerMBean(int)} succeeded. */
+    void unregisterMBean() {
+        MBeans.unregister(jmxObjectName);
+        jmxObjectName = null;
+    }
+
+    /** Returns the registered ObjectName, or {@code null} if not registered. */
+    ObjectName jmxObjectName() {
+        return jmxObjectName;
+    }
+
+    // ── UpstreamMetricsMXBean ──
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public long getHttp1Responses() {
+        return http1Responses.get();
+    }
+
+    @Override
+    public long getHttp2Responses() {
+        return http2Responses.get();
+    }
+
+    @Override
+    public int getMaxActive() {
+        return pool.limit();
+    }
+
+    @Override
+    public int getActive() {
+        return pool.active();
+    }
+
+    @Override
+    public int getPeakActive() {
+        return pool.peak();
+    }
+
+    @Override
+    public int getPending() {
+        return pool.pending();
+    }
+
+    @Override
+    public int getMaxPending() {
+        return pool.maxPending();
+    }
+
+    @Override
+    public long getAcquireWaits() {
+        return pool.waits();
+    }
+
+    @Override
+    public long getAcquireTimeouts() {
+        return pool.waitTimeouts();
+    }
+
+    @Override
+    public long getAcquireRejections() {
+        return pool.rejections();
+    }
+
+    @Override
+    public long[] getAcquireWaitBucketsMs() {
+        return UpstreamPool.WAIT_BUCKETS_MS.clone();
+    }
+
+    @Override
+    public long[] getAcquireWaitHistogram() {
+        return pool.waitHistogram();
+    }
+
+    @Override
+    public long getAcquireWaitMaxMs() {
+        return pool.maxWaitMs();
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        return limiter != null ? limiter.limit() : -1;
+    }
+
+    @Override
+    public int getConcurrencyLimitInFlight() {
+        return limiter != null ? limiter.inFlight() : 0;
+    }
+
+    @Override
+    public long getConcurrencyLimitRejections() {
+        return limiter != null ? limiter.rejections() : 0;
+    }
+
+    @Override
+    public String getCircuitState() {
+        return breaker != null ? breaker.state().name() : "DISABLED";
+    }
+
+    @Override
+    public int getCircuitFailureRatePercent() {
+        return breaker != null ? breaker.failureRatePercent() : 0;
+    }
+
+    @Override
+    public long getCircuitOpenings() {
+        return breaker != null ? breaker.openings() : 0;
+    }
+
+    @Override
+    public long getCircuitRejections() {
+        return breaker != null ? breaker.rejections() : 0;
+    }
+
+    @Override
+    public long getLatencyP95Ms() {
+        long p95Nanos = latency.p95Nanos();
+        return p95Nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(p95Nanos);
+    }
+
+    @Override
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    @Override
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    @Override
+    public long getRetries() {
+        return retries.get();
+    }
+
+    @Override
+    public long getRetryBudgetAvailable() {
+        return retryBudget.available();
+    }
+
+    @Override
+    public long getRetryBudgetExhausted() {
+        return retryBudget.exhausted();
+    }
+}
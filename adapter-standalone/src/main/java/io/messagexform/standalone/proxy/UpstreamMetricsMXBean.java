@@ -0,0 +1,116 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * JMX MXBean interface for upstream connection metrics (FR-004-43,
+ * FR-004-44, FR-004-48..51).
+ *
+ * <p>
+ * Registered under ObjectName
+ * {@code io.messagexform:type=UpstreamMetrics,instance=proxy-<port>} once the
+ * proxy is ready. Values are live counters and gauges.
+ *
+ * @see UpstreamMetrics
+ */
+public interface UpstreamMetricsMXBean {
+
+    // --- Protocol ---
+
+    /** Configured upstream protocol: {@code http/1.1}, {@code h2} or {@code h2c}. */
+    String getProtocol();
+
+    /** Responses received over HTTP/1.1 — includes HTTP/2 attempts the backend declined. */
+    long getHttp1Responses();
+
+    /** Responses received over HTTP/2. */
+    long getHttp2Responses();
+
+    // --- Pool ---
+
+    /**
+     * Max exchanges in flight: {@code backend.pool.max-connections} over
+     * HTTP/1.1, {@code backend.http2.max-concurrent-streams} over HTTP/2
+     * (0 = backend's limit).
+     */
+    int getMaxActive();
+
+    /** Upstream exchanges in flight — connections in use, or streams under HTTP/2. */
+    int getActive();
+
+    /** Highest number of exchanges in flight at once since startup. */
+    int getPeakActive();
+
+    /** Requests waiting for a connection or stream. */
+    int getPending();
+
+    /** Configured max requests waiting ({@code backend.pool.max-pending}). */
+    int getMaxPending();
+
+    // --- Acquire waits ---
+
+    /** Requests that had to wait for a connection or stream. */
+    long getAcquireWaits();
+
+    /** Requests that gave up waiting (answered 503). */
+    long getAcquireTimeouts();
+
+    /** Requests turned away because the wait queue was full (answered 503). */
+    long getAcquireRejections();
+
+    /** Inclusive upper bounds (ms) of the acquire-wait histogram buckets. */
+    long[] getAcquireWaitBucketsMs();
+
+    /**
+     * Acquires per wait bucket — one entry per {@link #getAcquireWaitBucketsMs()}
+     * bound plus a last one for longer waits. Includes acquires that did not
+     * wait.
+     */
+    long[] getAcquireWaitHistogram();
+
+    /** Longest acquire wait since startup, in ms. */
+    long getAcquireWaitMaxMs();
+
+    // --- Adaptive concurrency (FR-004-48) ---
+
+    /** Current adaptive concurrency limit, or -1 if adaptive concurrency is off. */
+    int getConcurrencyLimit();
+
+    /** Exchanges admitted by the adaptive limiter and awaiting their response. */
+    int getConcurrencyLimitInFlight();
+
+    /** Requests rejected at the adaptive limit (answered 503). */
+    long getConcurrencyLimitRejections();
+
+    // --- Circuit breaker (FR-004-49) ---
+
+    /** {@code CLOSED}, {@code OPEN}, {@code HALF_OPEN}, or {@code DISABLED}. */
+    String getCircuitState();
+
+    /** Failure percentage over the breaker's current window. */
+    int getCircuitFailureRatePercent();
+
+    /** Times the breaker has opened since startup. */
+    long getCircuitOpenings();
+
+    /** Requests failed fast by the breaker (answered 503 with Retry-After). */
+    long getCircuitRejections();
+
+    // --- Hedging and retries (FR-004-50, FR-004-51) ---
+
+    /** 95th percentile latency of recent exchanges in ms, or -1 until enough are seen. */
+    long getLatencyP95Ms();
+
+    /** Hedge requests sent. */
+    long getHedges();
+
+    /** Hedges whose response arrived before the primary's. */
+    long getHedgeWins();
+
+    /** Retries sent after connect failures. */
+    long getRetries();
+
+    /** Whole tokens currently in the retry budget. */
+    long getRetryBudgetAvailable();
+
+    /** Retries and hedges not sent because the budget was empty. */
+    long getRetryBudgetExhausted();
+}
@@ -0,0 +1,253 @@
+package io.messagexform.standalone.proxy;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Managed lease pool in front of the upstream {@link java.net.http.HttpClient}
+ * (FR-004-18, FR-004-43, FR-004-44).
+ *
+ * <p>
+ * The JDK client owns its sockets and only takes JVM-global, read-once pool
+ * properties, so the real limits are enforced here: every upstream exchange
+ * leases a slot before it is sent and returns it once its response body has
+ * been fully read or closed. Over HTTP/1.1 an exchange occupies a connection
+ * for its whole duration, so a slot is a connection and the limit is
+ * {@code backend.pool.max-connections}; over HTTP/2 every exchange is a
+ * stream multiplexed onto a shared connection and the limit is
+ * {@code backend.http2.max-concurrent-streams}.
+ *
+ * <p>
+ * {@link #acquire(Duration)} never blocks — a request that finds every slot
+ * taken waits on a future, which suits both the blocking and the
+ * asynchronous pipeline (FR-004-42). Waiters are served in arrival order and
+ * bounded by {@code backend.pool.max-pending}; one that gives up is skipped
+ * when a slot frees.
+ *
+ * <p>
+ * Only what the pool itself observes is counted — leases, waits, timeouts
+ * and rejections. Which socket an exchange runs on, and when the JDK client
+ * opens or closes one, is not visible here, so no connection counts are
+ * kept.
+ */
+final class UpstreamPool {
+
+    /** Upper bounds (ms, inclusive) of the acquire-wait histogram buckets; a last bucket catches the rest. */
+    static final long[] WAIT_BUCKETS_MS = {0, 1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    private final int limit;
+    private final int maxPending;
+    private final boolean multiplexed;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+    private int active;
+    private int peak;
+
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitTimeouts = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLongArray waitHistogram = new AtomicLongArray(WAIT_BUCKETS_MS.length + 1);
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param limit         max slots leased at once; 0 for no limit
+     * @param maxPending    max acquires waiting for a slot; beyond it new
+     *                      acquires fail at once
+     * @param multiplexed   {@code true} for HTTP/2 — slots are streams
+     */
+    UpstreamPool(int limit, int maxPending, boolean multiplexed) {
+        this(limit, maxPending, multiplexed, System::nanoTime);
+    }
+
+    /** Test seam: {@code nanoClock} replaces {@link System#nanoTime()}. */
+    UpstreamPool(int limit, int maxPending, boolean multiplexed, LongSupplier nanoClock) {
+        this.limit = limit;
+        this.maxPending = maxPending;
+        this.multiplexed = multiplexed;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Leases a slot, waiting at most {@code maxWait} for one to free up.
+     *
+     * @param maxWait how long to wait when every slot is taken
+     * @return a future of the slot's release action — idempotent, so it may be
+     *         run from every path that ends the exchange; the future fails with
+     *         a {@link TimeoutException} if no slot freed up in time, or a
+     *         {@link RejectedExecutionException} if too many requests are
+     *         already waiting
+     */
+    CompletableFuture<Runnable> acquire(Duration maxWait) {
+        Waiter waiter;
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (limit <= 0 || active < limit) {
+                recordWait(0);
+                return CompletableFuture.completedFuture(take());
+            }
+            if (waiters.size() >= maxPending) {
+                rejections.incrementAndGet();
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "All " + limit + " upstream slots in use and " + maxPending + " requests waiting"));
+            }
+            waiter = new Waiter(new CompletableFuture<>(), now);
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        waits.incrementAndGet();
+        waiter.future().orTimeout(maxWait.toMillis(), TimeUnit.MILLISECONDS).whenComplete((slot, failure) -> {
+            if (failure instanceof TimeoutException) {
+                waitTimeouts.incrementAndGet();
+            }
+            if (failure != null) {
+                // Timed out or withdrawn — stop holding it in the queue
+                lock.lock();
+                try {
+                    waiters.remove(waiter);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+        return waiter.future();
+    }
+
+    /** Returns the configured limit (0 for none). */
+    int limit() {
+        return limit;
+    }
+
+    /** Returns {@code true} if slots are HTTP/2 streams rather than connections. */
+    boolean multiplexed() {
+        return multiplexed;
+    }
+
+    /** Returns the configured max number of waiting acquires. */
+    int maxPending() {
+        return maxPending;
+    }
+
+    /** Returns the number of slots leased. */
+    int active() {
+        return locked(() -> active);
+    }
+
+    /** Returns the highest number of slots leased at once so far. */
+    int peak() {
+        return locked(() -> peak);
+    }
+
+    /** Returns the number of acquires waiting for a slot. */
+    int pending() {
+        return locked(waiters::size);
+    }
+
+    /** Returns the number of acquires that had to wait for a slot. */
+    long waits() {
+        return waits.get();
+    }
+
+    /** Returns the number of waits that gave up before a slot freed. */
+    long waitTimeouts() {
+        return waitTimeouts.get();
+    }
+
+    /** Returns the number of acquires rejected because the wait queue was full. */
+    long rejections() {
+        return rejections.get();
+    }
+
+    /**
+     * Returns the acquire-wait histogram: one count per bucket of
+     * {@link #WAIT_BUCKETS_MS}, plus a last one for longer waits. Every
+     * granted acquire is counted, including those that did not wait.
+     */
+    long[] waitHistogram() {
+        long[] counts = new long[waitHistogram.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = waitHistogram.get(i);
+        }
+        return counts;
+    }
+
+    /** Returns the longest wait for a slot so far, in ms. */
+    long maxWaitMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    /** Leases a slot; caller holds the lock. */
+    private Runnable take() {
+        active++;
+        peak = Math.max(peak, active);
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        };
+    }
+
+    /** Hands the slot to the oldest live waiter, or returns it to the pool. */
+    private void release() {
+        while (true) {
+            Waiter next;
+            Runnable slot;
+            long now;
+            lock.lock();
+            try {
+                now = nanoClock.getAsLong();
+                active--;
+                next = waiters.poll();
+                if (next == null) {
+                    return;
+                }
+                slot = take();
+            } finally {
+                lock.unlock();
+            }
+            // Complete outside the lock — the waiter's continuation sends the request
+            if (next.future().complete(slot)) {
+                recordWait(now - next.enqueuedNanos());
+                return;
+            }
+            // That waiter gave up meanwhile; the slot goes to the next one
+        }
+    }
+
+    private void recordWait(long nanos) {
+        long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < WAIT_BUCKETS_MS.length && ms > WAIT_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        waitHistogram.incrementAndGet(bucket);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private <T> T locked(Supplier<T> read) {
+        lock.lock();
+        try {
+            return read.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** An acquire waiting for a slot, and when it started waiting. */
+    private record Waiter(CompletableFuture<Runnable> future, long enqueuedNanos) {}
+}
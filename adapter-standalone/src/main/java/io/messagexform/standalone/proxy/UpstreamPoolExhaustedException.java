@@ -0,0 +1,27 @@
+package io.messagexform.standalone.proxy;
+
+/**
+ * Thrown when no upstream connection or stream can be leased from the
+ * {@link UpstreamPool} — every slot stayed in use for
+ * {@code backend.pool.acquire-timeout-ms}, or {@code backend.pool.max-pending}
+ * requests were already waiting (FR-004-44, S-004-79) — or when the backend's
+ * adaptive concurrency limit is reached (FR-004-48).
+ *
+ * <p>
+ * Callers should translate this into a {@code 503 Service Unavailable}
+ * response with an RFC 9457 Problem Details body — the backend was never
+ * contacted, so the proxy itself is the bottleneck.
+ */
+public class UpstreamPoolExhaustedException extends UpstreamException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message human-readable error description including the pool
+     *                limit and wait
+     * @param cause   the underlying timeout or rejection
+     */
+    public UpstreamPoolExhaustedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package io.messagexform.standalone.proxy;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Upstream backend response whose body has not been read yet.
+ *
+ * <p>
+ * Returned by {@link UpstreamClient#forwardStreaming} once the status line
+ * and headers have arrived. The body stream is bounded by
+ * {@code proxy.max-body-bytes} and must be consumed or closed by the caller —
+ * either by copying it to the client (streaming passthrough) or via
+ * {@link UpstreamClient#readBody(UpstreamStreamingResponse)}.
+ *
+ * @param statusCode the HTTP status code from the backend
+ * @param headers    single-value header map (lowercase keys, first value wins)
+ * @param body       the unread response body (empty for no-body responses)
+ */
+public record UpstreamStreamingResponse(int statusCode, Map<String, String> headers, InputStream body) {}
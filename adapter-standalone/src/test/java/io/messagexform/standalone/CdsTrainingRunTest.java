@@ -0,0 +1,74 @@
+package io.messagexform.standalone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link CdsTrainingRun} — the AppCDS training mode used to build
+ * the dynamic class-data archive (NFR-004-01).
+ */
+class CdsTrainingRunTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("--cds-training flag is detected anywhere in the argument list")
+    void flagDetection() {
+        assertThat(CdsTrainingRun.requested(new String[] {"--config", "x.yaml", "--cds-training"}))
+                .isTrue();
+        assertThat(CdsTrainingRun.requested(new String[] {"--config", "x.yaml"}))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Training run loads the training spec, survives an unreachable backend, and releases the port")
+    void trainingRunStartsAndStops() throws Exception {
+        Path trainingDir = Path.of("docker/cds-training");
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        Path configFile = tempDir.resolve("config.yaml");
+        Files.writeString(configFile, """
+            proxy:
+              host: "127.0.0.1"
+              port: %d
+            backend:
+              host: "127.0.0.1"
+              port: 9
+              connect-timeout-ms: 500
+            engine:
+              specs-dir: "%s"
+              profile: "%s"
+            reload:
+              enabled: false
+            """.formatted(
+                                port, path(trainingDir.resolve("specs")), path(trainingDir.resolve("profile.yaml"))));
+
+        List<String> responses = CdsTrainingRun.run(new String[] {"--config", configFile.toString(), "--cds-training"});
+
+        // health, transformed, rejected by the training spec, streamed
+        assertThat(responses).hasSize(4).doesNotContainNull();
+        assertThat(responses.get(2)).contains("id is required");
+
+        // The proxy was stopped — the port can be bound again
+        try (ServerSocket rebind = new ServerSocket()) {
+            assertThatCode(() -> rebind.bind(new InetSocketAddress("127.0.0.1", port)))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    private static String path(Path path) {
+        return path.toAbsolutePath().toString().replace("\\", "/");
+    }
+}
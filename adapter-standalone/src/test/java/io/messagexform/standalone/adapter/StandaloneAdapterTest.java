@@ -14,6 +14,8 @@ import io.messagexform.core.model.Message;
 import io.messagexform.core.model.MessageBody;
 import io.messagexform.core.model.SessionContext;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -288,11 +290,11 @@ class StandaloneAdapterTest {
                     SessionContext.empty());
 
             Context ctx = mock(Context.class);
-            when(ctx.result("{\"result\":\"ok\"}")).thenReturn(ctx);
 
             adapter.applyChanges(msg, ctx);
 
-            verify(ctx).result("{\"result\":\"ok\"}");
+            // Body bytes are written as-is — no String round-trip
+            verify(ctx).result("{\"result\":\"ok\"}".getBytes(StandardCharsets.UTF_8));
         }
 
         @Test
@@ -348,12 +350,11 @@ class StandaloneAdapterTest {
                     MessageBody.empty(), HttpHeaders.empty(), 204, "/api/data", "DELETE", null, SessionContext.empty());
 
             Context ctx = mock(Context.class);
-            when(ctx.result("")).thenReturn(ctx);
             when(ctx.status(204)).thenReturn(ctx);
 
             adapter.applyChanges(msg, ctx);
 
-            verify(ctx).result("");
+            verify(ctx).result(new byte[0]);
             verify(ctx).status(204);
         }
     }
@@ -372,6 +373,7 @@ class StandaloneAdapterTest {
         when(ctx.method()).thenReturn(method);
         when(ctx.path()).thenReturn(path);
         when(ctx.body()).thenReturn(body != null ? body : "");
+        when(ctx.bodyAsBytes()).thenReturn(body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0]);
         when(ctx.queryString()).thenReturn(queryString);
         when(ctx.headerMap()).thenReturn(headers);
         when(ctx.contentType())
@@ -408,6 +410,8 @@ class StandaloneAdapterTest {
 
         // Response body (set by ProxyHandler via ctx.result())
         when(ctx.result()).thenReturn(body);
+        when(ctx.resultInputStream())
+                .thenReturn(body != null ? new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)) : null);
 
         // Response status (set by ProxyHandler via ctx.status())
         when(ctx.statusCode()).thenReturn(statusCode);
@@ -0,0 +1,177 @@
+package io.messagexform.standalone.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.messagexform.core.engine.EvalBudget;
+import io.messagexform.core.model.Direction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the offline bulk transformer — {@link BulkOptions},
+ * {@link BulkTransformRun} and {@link BulkTransformer} (FR-004-56).
+ */
+class BulkTransformRunTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path specsDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        specsDir = tempDir.resolve("specs");
+        Files.createDirectories(specsDir);
+        Files.writeString(
+                specsDir.resolve("orders.yaml"),
+                """
+                id: orders
+                version: "1.0.0"
+                input:
+                  schema:
+                    type: object
+                output:
+                  schema:
+                    type: object
+                transform:
+                  lang: jslt
+                  expr: |
+                    if (.fail) error("rejected") else { "orderId": .id, "migrated": true }
+                """);
+    }
+
+    private String[] args(String... extra) {
+        List<String> args = new ArrayList<>(List.of(
+                "--bulk",
+                "--specs",
+                specsDir.toString(),
+                "--in",
+                tempDir.resolve("in.ndjson").toString(),
+                "--out",
+                tempDir.resolve("out.ndjson").toString()));
+        args.addAll(List.of(extra));
+        return args.toArray(String[]::new);
+    }
+
+    @Test
+    @DisplayName("Options: defaults, overrides, and validation")
+    void options() {
+        BulkOptions defaults = BulkOptions.parse(args());
+        assertThat(defaults.format()).isEqualTo(RecordFormat.NDJSON);
+        assertThat(defaults.direction()).isEqualTo(Direction.REQUEST);
+        assertThat(defaults.batchSize()).isEqualTo(BulkOptions.DEFAULT_BATCH_SIZE);
+        assertThat(defaults.threads()).isPositive();
+        assertThat(defaults.budget()).isEqualTo(EvalBudget.DEFAULT);
+
+        BulkOptions custom = BulkOptions.parse(
+                args("--format", "json-seq", "--direction", "response", "--method", "get", "--threads", "3"));
+        assertThat(custom.format()).isEqualTo(RecordFormat.JSON_SEQ);
+        assertThat(custom.direction()).isEqualTo(Direction.RESPONSE);
+        assertThat(custom.method()).isEqualTo("GET");
+        assertThat(custom.threads()).isEqualTo(3);
+        assertThat(BulkOptions.parse(args("--max-eval-ms", "5000")).budget().maxEvalMs())
+                .isEqualTo(5000);
+
+        assertThat(RecordFormat.forPath(Path.of("dump.json-seq"))).isEqualTo(RecordFormat.JSON_SEQ);
+        assertThat(BulkOptions.requested(args())).isTrue();
+        assertThat(BulkOptions.requested(new String[] {"--config", "x.yaml"})).isFalse();
+
+        assertThatThrownBy(() -> BulkOptions.parse(new String[] {"--bulk", "--in", "a"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("required");
+        assertThatThrownBy(() -> BulkOptions.parse(args("--threads", "0")))
+                .hasMessageContaining("--threads must be a positive integer");
+        assertThatThrownBy(() -> BulkOptions.parse(args("--nope", "x"))).hasMessageContaining("Unknown option");
+        assertThatThrownBy(() -> BulkOptions.parse(args("--batch-size"))).hasMessageContaining("requires a value");
+    }
+
+    @Test
+    @DisplayName("Records are transformed in parallel and written in input order")
+    void transformsInOrder() throws Exception {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            input.append("{\"id\":").append(i).append("}\n");
+        }
+        Files.writeString(tempDir.resolve("in.ndjson"), input);
+
+        // Generous budget: the default 50 ms wall-clock limit trips on a loaded machine
+        BulkTransformer.Report report =
+                BulkTransformRun.run(args("--threads", "4", "--batch-size", "100", "--max-eval-ms", "60000"));
+
+        List<String> output = Files.readAllLines(tempDir.resolve("out.ndjson"));
+        assertThat(output).hasSize(2500);
+        for (int i = 0; i < output.size(); i++) {
+            assertThat(output.get(i)).isEqualTo("{\"orderId\":" + i + ",\"migrated\":true}");
+        }
+        assertThat(report.records()).isEqualTo(2500);
+        assertThat(report.transformed()).isEqualTo(2500);
+        assertThat(report.failed()).isZero();
+        assertThat(report.bytesOut()).isEqualTo(Files.size(tempDir.resolve("out.ndjson")));
+        assertThat(report.recordsPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Failed and non-JSON records are counted and written to the rejects file")
+    void failuresGoToRejects() throws Exception {
+        Files.writeString(
+                tempDir.resolve("in.ndjson"),
+                """
+                {"id":1}
+                {"id":2,"fail":true}
+                not json
+                {"id":4}
+                """);
+        Path rejects = tempDir.resolve("rejects.ndjson");
+
+        BulkTransformer.Report report = BulkTransformRun.run(args("--rejects", rejects.toString()));
+
+        assertThat(Files.readAllLines(tempDir.resolve("out.ndjson")))
+                .containsExactly("{\"orderId\":1,\"migrated\":true}", "{\"orderId\":4,\"migrated\":true}");
+        assertThat(Files.readAllLines(rejects)).containsExactly("{\"id\":2,\"fail\":true}", "not json");
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.transformed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JSON-seq framing is kept; records no profile entry matches pass through unchanged")
+    void jsonSeqPassthrough() throws Exception {
+        Path profile = tempDir.resolve("profile.yaml");
+        Files.writeString(profile, """
+                profile: migrate
+                version: "1.0.0"
+                transforms:
+                  - spec: orders@1.0.0
+                    direction: request
+                    match:
+                      path: "/orders"
+                """);
+        String input = "\u001e{\"id\":1}\n\u001e{\"id\":2}\n";
+        Path in = tempDir.resolve("in.json-seq");
+        Files.writeString(in, input);
+        Path out = tempDir.resolve("out.json-seq");
+        String[] base = {"--bulk", "--specs", specsDir.toString(), "--profile", profile.toString()};
+
+        BulkTransformer.Report passthrough = BulkTransformRun.run(
+                concat(base, "--in", in.toString(), "--out", out.toString(), "--path", "/invoices"));
+        assertThat(Files.readString(out, StandardCharsets.UTF_8)).isEqualTo(input);
+        assertThat(passthrough.passthrough()).isEqualTo(2);
+
+        BulkTransformRun.run(concat(base, "--in", in.toString(), "--out", out.toString(), "--path", "/orders"));
+        assertThat(Files.readString(out, StandardCharsets.UTF_8))
+                .isEqualTo("\u001e{\"orderId\":1,\"migrated\":true}\n\u001e{\"orderId\":2,\"migrated\":true}\n");
+    }
+
+    private static String[] concat(String[] base, String... extra) {
+        List<String> all = new ArrayList<>(List.of(base));
+        all.addAll(List.of(extra));
+        return all.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,77 @@
+package io.messagexform.standalone.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link MappedRecordReader} — memory-mapped record splitting (FR-004-56). */
+class MappedRecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> readAll(String content, RecordFormat format, int regionBytes) throws IOException {
+        Path file = tempDir.resolve("input");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        List<String> records = new ArrayList<>();
+        try (MappedRecordReader reader = new MappedRecordReader(file, format, regionBytes)) {
+            byte[] record;
+            while ((record = reader.next()) != null) {
+                records.add(new String(record, StandardCharsets.UTF_8));
+            }
+            assertThat(reader.bytesRead()).isEqualTo(reader.size());
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("NDJSON: lines are records; CRLF, blank lines and a missing final LF are tolerated")
+    void ndjson() throws Exception {
+        assertThat(readAll("{\"a\":1}\r\n\n  {\"b\":2}  \n{\"c\":3}", RecordFormat.NDJSON, 1 << 20))
+                .containsExactly("{\"a\":1}", "{\"b\":2}", "{\"c\":3}");
+    }
+
+    @Test
+    @DisplayName("JSON-seq: records are split on RS, and may span lines")
+    void jsonSeq() throws Exception {
+        assertThat(readAll("\u001e{\"a\":1}\n\u001e{\n  \"b\": 2\n}\n", RecordFormat.JSON_SEQ, 1 << 20))
+                .containsExactly("{\"a\":1}", "{\n  \"b\": 2\n}");
+    }
+
+    @Test
+    @DisplayName("Records crossing a region boundary are read whole from the next mapping")
+    void recordsCrossRegions() throws Exception {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String record = "{\"n\":" + i + "}";
+            expected.add(record);
+            content.append(record).append('\n');
+        }
+
+        assertThat(readAll(content.toString(), RecordFormat.NDJSON, 16)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Empty file has no records")
+    void emptyFile() throws Exception {
+        assertThat(readAll("", RecordFormat.NDJSON, 16)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A record larger than a region is rejected")
+    void oversizedRecord() {
+        assertThatThrownBy(() -> readAll("{\"long\":\"abcdefghijklmnopqrstuvwxyz\"}\n{}\n", RecordFormat.NDJSON, 16))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("larger than 16 bytes");
+    }
+}
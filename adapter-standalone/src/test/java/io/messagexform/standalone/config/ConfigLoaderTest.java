@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -60,7 +61,21 @@ class ConfigLoaderTest {
             // Nested defaults
             assertThat(config.proxyTls().enabled()).isFalse();
             assertThat(config.backendTls().verifyHostname()).isTrue();
-            assertThat(config.pool().maxConnections()).isEqualTo(100);
+            assertThat(config.pool()).isEqualTo(PoolConfig.DEFAULT);
+            assertThat(config.virtualThreads()).isEqualTo(VirtualThreadsConfig.DISABLED);
+            assertThat(config.async()).isEqualTo(AsyncConfig.DISABLED);
+            assertThat(config.upstreamProtocol()).isEqualTo(UpstreamProtocolConfig.DEFAULT);
+            assertThat(config.backendGroups()).isEmpty();
+            assertThat(config.healthCheck()).isEqualTo(HealthCheckConfig.DISABLED);
+            assertThat(config.outlierEjection()).isEqualTo(OutlierEjectionConfig.DEFAULT);
+            assertThat(config.adaptiveConcurrency()).isEqualTo(AdaptiveConcurrencyConfig.DISABLED);
+            assertThat(config.circuitBreaker()).isEqualTo(CircuitBreakerConfig.DISABLED);
+            assertThat(config.hedging()).isEqualTo(HedgingConfig.DISABLED);
+            assertThat(config.retry()).isEqualTo(RetryConfig.DEFAULT);
+            assertThat(config.cache()).isEqualTo(ResponseCacheConfig.DISABLED);
+            assertThat(config.compression()).isEqualTo(CompressionConfig.DEFAULT);
+            assertThat(config.admission()).isEqualTo(AdmissionConfig.DISABLED);
+            assertThat(config.rateLimit()).isEqualTo(RateLimitConfig.DISABLED);
         }
     }
 
@@ -133,10 +148,56 @@ class ConfigLoaderTest {
             assertThat(config.backendTls().keystorePassword()).isEqualTo("clientpass");
             assertThat(config.backendTls().keystoreType()).isEqualTo("PKCS12");
 
+            // Upstream protocol
+            assertThat(config.upstreamProtocol()).isEqualTo(new UpstreamProtocolConfig("h2", 64));
+
             // Pool
             assertThat(config.pool().maxConnections()).isEqualTo(200);
             assertThat(config.pool().keepAlive()).isFalse();
             assertThat(config.pool().idleTimeoutMs()).isEqualTo(30000);
+            assertThat(config.pool().maxPending()).isEqualTo(50);
+            assertThat(config.pool().acquireTimeoutMs()).isEqualTo(2000);
+            assertThat(config.pool().prewarmConnections()).isEqualTo(10);
+
+            // Backend groups, health checks, outlier ejection
+            assertThat(config.backendGroups())
+                    .containsExactly(new BackendGroupConfig(
+                            "orders",
+                            BackendGroupConfig.CONSISTENT_HASH,
+                            "X-User-Id",
+                            List.of(
+                                    new BackendGroupConfig.Member("orders-1.internal", 8443),
+                                    new BackendGroupConfig.Member("orders-2.internal", 8443))));
+            assertThat(config.healthCheck()).isEqualTo(new HealthCheckConfig(true, "/healthz", 2000, 500, 3, 4));
+            assertThat(config.outlierEjection()).isEqualTo(new OutlierEjectionConfig(7, 10000, 25));
+
+            // Adaptive concurrency, circuit breaker
+            assertThat(config.adaptiveConcurrency()).isEqualTo(new AdaptiveConcurrencyConfig(true, 50, 10, 400));
+            assertThat(config.circuitBreaker()).isEqualTo(new CircuitBreakerConfig(true, 40, 10, 50, 15000, 3));
+
+            // Hedging, retries
+            assertThat(config.hedging()).isEqualTo(new HedgingConfig(true, 75));
+            assertThat(config.retry()).isEqualTo(new RetryConfig(2, 10, 5));
+
+            // Response cache
+            assertThat(config.cache()).isEqualTo(new ResponseCacheConfig(true, 33_554_432, 262_144));
+
+            // Response compression
+            assertThat(config.compression()).isEqualTo(new CompressionConfig(false, 4096, 3));
+
+            // Admission control
+            assertThat(config.admission()).isEqualTo(new AdmissionConfig(true, 64, 128, 250));
+
+            // Rate limiting
+            assertThat(config.rateLimit())
+                    .isEqualTo(new RateLimitConfig(true, "header", "X-Client-Id", 50, 75, 10_000));
+
+            // Virtual threads
+            assertThat(config.virtualThreads().enabled()).isTrue();
+            assertThat(config.virtualThreads().pinnedThresholdMs()).isEqualTo(50);
+
+            // Async pipeline
+            assertThat(config.async()).isEqualTo(new AsyncConfig(true, 4, 256));
         }
     }
 
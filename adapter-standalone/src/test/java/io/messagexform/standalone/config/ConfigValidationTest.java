@@ -106,6 +106,84 @@ class ConfigValidationTest {
                     .hasMessageContaining("ftp");
         }
 
+        @Test
+        @DisplayName("Invalid backend.protocol → ConfigLoadException")
+        void invalidBackendProtocol_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            protocol: http/3
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.protocol")
+                    .hasMessageContaining("http/3");
+        }
+
+        @Test
+        @DisplayName("backend.protocol h2 with scheme http → ConfigLoadException (ALPN needs TLS)")
+        void h2OverCleartext_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            scheme: http
+            protocol: h2
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("h2c");
+        }
+
+        @Test
+        @DisplayName("backend.protocol h2c with scheme https → ConfigLoadException")
+        void h2cOverTls_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            scheme: https
+            protocol: h2c
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.scheme");
+        }
+
+        @Test
+        @DisplayName("backend.pool.prewarm-connections above max-connections → ConfigLoadException")
+        void prewarmAboveMaxConnections_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            pool:
+              max-connections: 4
+              prewarm-connections: 8
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.pool.prewarm-connections")
+                    .hasMessageContaining("backend.pool.max-connections");
+        }
+
+        @Test
+        @DisplayName("Zero backend.pool.acquire-timeout-ms → ConfigLoadException")
+        void zeroAcquireTimeout_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            pool:
+              acquire-timeout-ms: 0
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.pool.acquire-timeout-ms")
+                    .hasMessageContaining("positive");
+        }
+
         @Test
         @DisplayName("Invalid proxy.tls.client-auth → ConfigLoadException")
         void invalidClientAuth_throwsConfigLoadException() throws Exception {
@@ -362,5 +440,609 @@ class ConfigValidationTest {
                     .hasMessageContaining("backend.connect-timeout-ms")
                     .hasMessageContaining("positive");
         }
+
+        @Test
+        @DisplayName("Negative proxy.virtual-threads.pinned-threshold-ms → ConfigLoadException")
+        void negativePinnedThreshold_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          proxy:
+            virtual-threads:
+              enabled: true
+              pinned-threshold-ms: -1
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.virtual-threads.pinned-threshold-ms")
+                    .hasMessageContaining("non-negative");
+        }
+
+        @Test
+        @DisplayName("Zero proxy.async.queue-capacity → ConfigLoadException")
+        void zeroAsyncQueueCapacity_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          proxy:
+            async:
+              enabled: true
+              queue-capacity: 0
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.async.queue-capacity")
+                    .hasMessageContaining("positive");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Keyed profile routes (CFG-004-42)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Profile routes")
+    class ProfileRoutes {
+
+        @Test
+        @DisplayName("engine.profile-routes → parsed in declaration order")
+        void profileRoutes_parsed() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - host: a.example.com
+                profile: ./profiles/a.yaml
+              - path-prefix: /tenant-b
+                profile: ./profiles/b.yaml
+          """);
+
+            ProxyConfig result = ConfigLoader.load(config);
+            assertThat(result.profileRoutes())
+                    .containsExactly(
+                            new ProfileRoute("a.example.com", null, "./profiles/a.yaml"),
+                            new ProfileRoute(null, "/tenant-b", "./profiles/b.yaml"));
+        }
+
+        @Test
+        @DisplayName("No engine.profile-routes → empty list")
+        void profileRoutes_defaultEmpty() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          """);
+
+            assertThat(ConfigLoader.load(config).profileRoutes()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Route without profile → ConfigLoadException")
+        void routeWithoutProfile_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - host: a.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("engine.profile-routes[0].profile");
+        }
+
+        @Test
+        @DisplayName("Route without host or path-prefix → ConfigLoadException")
+        void routeWithoutSelector_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - profile: ./profiles/a.yaml
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("engine.profile-routes[0]")
+                    .hasMessageContaining("path-prefix");
+        }
+
+        @Test
+        @DisplayName("Route with backend-group only → parsed, profile null")
+        void routeWithBackendGroupOnly_parsed() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            groups:
+              orders:
+                members:
+                  - host: orders-1.internal
+                    port: 8080
+          engine:
+            profile-routes:
+              - path-prefix: /orders
+                backend-group: orders
+          """);
+
+            assertThat(ConfigLoader.load(config).profileRoutes())
+                    .containsExactly(new ProfileRoute(null, "/orders", null, "orders"));
+        }
+
+        @Test
+        @DisplayName("Route referencing an unknown backend-group → ConfigLoadException")
+        void routeWithUnknownBackendGroup_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - path-prefix: /orders
+                backend-group: orders
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("engine.profile-routes[0].backend-group")
+                    .hasMessageContaining("orders");
+        }
+
+        @Test
+        @DisplayName("Relative path-prefix → ConfigLoadException")
+        void relativePathPrefix_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - path-prefix: tenant-b
+                profile: ./profiles/b.yaml
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("must start with '/'");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Backend groups, health checks, outlier ejection (CFG-004-53..65)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Backend groups")
+    class BackendGroups {
+
+        @Test
+        @DisplayName("Unknown backend.groups.*.policy → ConfigLoadException")
+        void invalidPolicy_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            groups:
+              orders:
+                policy: random
+                members:
+                  - host: orders-1.internal
+                    port: 8080
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.groups.orders.policy")
+                    .hasMessageContaining("random");
+        }
+
+        @Test
+        @DisplayName("consistent-hash without hash-header → ConfigLoadException")
+        void consistentHashWithoutHeader_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            groups:
+              orders:
+                policy: consistent-hash
+                members:
+                  - host: orders-1.internal
+                    port: 8080
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.groups.orders.hash-header");
+        }
+
+        @Test
+        @DisplayName("Group member without port → ConfigLoadException")
+        void memberWithoutPort_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            groups:
+              orders:
+                members:
+                  - host: orders-1.internal
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.groups.orders.members[0].port");
+        }
+
+        @Test
+        @DisplayName("Relative backend.health-check.path → ConfigLoadException")
+        void relativeHealthCheckPath_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            health-check:
+              enabled: true
+              path: healthz
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.health-check.path");
+        }
+
+        @Test
+        @DisplayName("max-ejection-percent above 100 → ConfigLoadException")
+        void maxEjectionPercentAbove100_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            outlier-ejection:
+              max-ejection-percent: 150
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.outlier-ejection.max-ejection-percent");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Adaptive concurrency, circuit breaker (CFG-004-66..75)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Adaptive concurrency and circuit breaker")
+    class UpstreamResilience {
+
+        @Test
+        @DisplayName("initial-limit above max-limit → ConfigLoadException")
+        void initialLimitAboveMax_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            adaptive-concurrency:
+              enabled: true
+              initial-limit: 500
+              max-limit: 100
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.adaptive-concurrency.initial-limit");
+        }
+
+        @Test
+        @DisplayName("failure-rate-threshold of 0 → ConfigLoadException")
+        void zeroFailureRateThreshold_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            circuit-breaker:
+              enabled: true
+              failure-rate-threshold: 0
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.circuit-breaker.failure-rate-threshold");
+        }
+
+        @Test
+        @DisplayName("minimum-calls above window-size → ConfigLoadException")
+        void minimumCallsAboveWindow_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            circuit-breaker:
+              minimum-calls: 200
+              window-size: 100
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.circuit-breaker.minimum-calls");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Hedging and retries (CFG-004-76..81)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Hedging and retries")
+    class HedgingAndRetries {
+
+        @Test
+        @DisplayName("engine.profile-routes[].hedging → per-route override, absent = null")
+        void routeHedging_parsed() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - path-prefix: /search
+                profile: ./profiles/search.yaml
+                hedging: true
+              - path-prefix: /orders
+                profile: ./profiles/orders.yaml
+          """);
+
+            ProxyConfig loaded = ConfigLoader.load(config);
+
+            assertThat(loaded.profileRoutes())
+                    .containsExactly(
+                            new ProfileRoute(null, "/search", "./profiles/search.yaml", null, true),
+                            new ProfileRoute(null, "/orders", "./profiles/orders.yaml"));
+        }
+
+        @Test
+        @DisplayName("Negative backend.hedging.delay-ms → ConfigLoadException")
+        void negativeHedgingDelay_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            hedging:
+              enabled: true
+              delay-ms: -5
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.hedging.delay-ms");
+        }
+
+        @Test
+        @DisplayName("budget-percent above 100 → ConfigLoadException")
+        void budgetPercentAbove100_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+            retry:
+              max-retries: 2
+              budget-percent: 150
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("backend.retry.budget-percent");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Response cache (CFG-004-82..84)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Response cache")
+    class ResponseCacheSettings {
+
+        @Test
+        @DisplayName("proxy.cache.max-bytes: 0 → ConfigLoadException")
+        void zeroMaxBytes_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            cache:
+              enabled: true
+              max-bytes: 0
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.cache.max-bytes");
+        }
+
+        @Test
+        @DisplayName("max-entry-bytes above max-bytes → ConfigLoadException")
+        void entryLargerThanCache_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            cache:
+              enabled: true
+              max-bytes: 1024
+              max-entry-bytes: 2048
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.cache.max-entry-bytes");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Response compression (CFG-004-85..87)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Response compression")
+    class CompressionSettings {
+
+        @Test
+        @DisplayName("proxy.compression.min-bytes: -1 → ConfigLoadException")
+        void negativeMinBytes_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            compression:
+              min-bytes: -1
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.compression.min-bytes");
+        }
+
+        @Test
+        @DisplayName("proxy.compression.level: 10 → ConfigLoadException")
+        void levelOutOfRange_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            compression:
+              level: 10
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.compression.level");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Admission control (CFG-004-88..92)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Admission control")
+    class AdmissionSettings {
+
+        @Test
+        @DisplayName("proxy.admission.max-in-flight: 0 → ConfigLoadException")
+        void zeroMaxInFlight_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            admission:
+              enabled: true
+              max-in-flight: 0
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.admission.max-in-flight");
+        }
+
+        @Test
+        @DisplayName("proxy.admission.queue-timeout-ms: -1 → ConfigLoadException")
+        void negativeQueueTimeout_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            admission:
+              queue-timeout-ms: -1
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.admission.queue-timeout-ms");
+        }
+
+        @Test
+        @DisplayName("engine.profile-routes[].priority only → parsed, profile null")
+        void routeWithPriorityOnly_parsed() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - path-prefix: /payments
+                priority: critical
+          """);
+
+            assertThat(ConfigLoader.load(config).profileRoutes())
+                    .containsExactly(new ProfileRoute(null, "/payments", null, null, null, "critical"));
+        }
+
+        @Test
+        @DisplayName("Unknown engine.profile-routes[].priority → ConfigLoadException")
+        void unknownPriority_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          backend:
+            host: api.example.com
+          engine:
+            profile-routes:
+              - path-prefix: /payments
+                priority: urgent
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("engine.profile-routes[0].priority")
+                    .hasMessageContaining("urgent");
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    // Rate limiting (CFG-004-93..98)
+    // -----------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Rate limiting")
+    class RateLimitSettings {
+
+        @Test
+        @DisplayName("proxy.rate-limit.key: user → ConfigLoadException")
+        void unknownKey_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            rate-limit:
+              key: user
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.rate-limit.key")
+                    .hasMessageContaining("user");
+        }
+
+        @Test
+        @DisplayName("key: header with a blank header → ConfigLoadException")
+        void headerKeyWithoutHeader_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            rate-limit:
+              key: header
+              header: " "
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.rate-limit.header");
+        }
+
+        @Test
+        @DisplayName("proxy.rate-limit.requests-per-second: 0 → ConfigLoadException")
+        void zeroRate_throwsConfigLoadException() throws Exception {
+            Path config = writeConfig("""
+          proxy:
+            rate-limit:
+              requests-per-second: 0
+          backend:
+            host: api.example.com
+          """);
+
+            assertThatThrownBy(() -> ConfigLoader.load(config))
+                    .isInstanceOf(ConfigLoadException.class)
+                    .hasMessageContaining("proxy.rate-limit.requests-per-second");
+        }
     }
 }
@@ -223,6 +223,24 @@ class EnvVarOverlayTest {
             ProxyConfig config = ConfigLoader.load(minimalConfigPath, envLookup());
             assertThat(config.shutdownDrainTimeoutMs()).isEqualTo(60000);
         }
+
+        @Test
+        @DisplayName(
+                "PROXY_VIRTUAL_THREADS_PINNED_THRESHOLD_MS overrides YAML proxy.virtual-threads.pinned-threshold-ms")
+        void virtualThreadsPinnedThresholdMs_overriddenByEnvVar() {
+            envVars.put("PROXY_VIRTUAL_THREADS_PINNED_THRESHOLD_MS", "0");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.virtualThreads().pinnedThresholdMs()).isZero();
+        }
+
+        @Test
+        @DisplayName("PROXY_ASYNC_QUEUE_CAPACITY overrides YAML proxy.async.queue-capacity")
+        void asyncQueueCapacity_overriddenByEnvVar() {
+            envVars.put("PROXY_ASYNC_QUEUE_CAPACITY", "32");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.async().queueCapacity()).isEqualTo(32);
+            assertThat(config.async().transformThreads()).isEqualTo(4);
+        }
     }
 
     // -----------------------------------------------------------------------
@@ -280,6 +298,22 @@ class EnvVarOverlayTest {
             ProxyConfig config = ConfigLoader.load(minimalConfigPath, envLookup());
             assertThat(config.pool().keepAlive()).isFalse();
         }
+
+        @Test
+        @DisplayName("PROXY_VIRTUAL_THREADS_ENABLED=true overrides YAML proxy.virtual-threads.enabled")
+        void virtualThreadsEnabled_overriddenByEnvVar() {
+            envVars.put("PROXY_VIRTUAL_THREADS_ENABLED", "true");
+            ProxyConfig config = ConfigLoader.load(minimalConfigPath, envLookup());
+            assertThat(config.virtualThreads().enabled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("PROXY_ASYNC_ENABLED=true overrides YAML proxy.async.enabled")
+        void asyncEnabled_overriddenByEnvVar() {
+            envVars.put("PROXY_ASYNC_ENABLED", "true");
+            ProxyConfig config = ConfigLoader.load(minimalConfigPath, envLookup());
+            assertThat(config.async().enabled()).isTrue();
+        }
     }
 
     // -----------------------------------------------------------------------
@@ -418,6 +452,150 @@ class EnvVarOverlayTest {
             ProxyConfig config = ConfigLoader.load(minimalConfigPath, envLookup());
             assertThat(config.pool().idleTimeoutMs()).isEqualTo(30000);
         }
+
+        @Test
+        @DisplayName("BACKEND_POOL_MAX_PENDING overrides YAML backend.pool.max-pending")
+        void poolMaxPending_overriddenByEnvVar() {
+            envVars.put("BACKEND_POOL_MAX_PENDING", "5");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.pool().maxPending()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("BACKEND_POOL_ACQUIRE_TIMEOUT_MS overrides YAML backend.pool.acquire-timeout-ms")
+        void poolAcquireTimeout_overriddenByEnvVar() {
+            envVars.put("BACKEND_POOL_ACQUIRE_TIMEOUT_MS", "250");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.pool().acquireTimeoutMs()).isEqualTo(250);
+        }
+
+        @Test
+        @DisplayName("BACKEND_POOL_PREWARM_CONNECTIONS overrides YAML backend.pool.prewarm-connections")
+        void poolPrewarmConnections_overriddenByEnvVar() {
+            envVars.put("BACKEND_POOL_PREWARM_CONNECTIONS", "2");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.pool().prewarmConnections()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("BACKEND_PROTOCOL overrides YAML backend.protocol")
+        void backendProtocol_overriddenByEnvVar() {
+            envVars.put("BACKEND_PROTOCOL", "h2c");
+            ProxyConfig config = ConfigLoader.load(minimalConfigPath, envLookup());
+            assertThat(config.upstreamProtocol().protocol()).isEqualTo("h2c");
+        }
+
+        @Test
+        @DisplayName("BACKEND_HTTP2_MAX_CONCURRENT_STREAMS overrides YAML backend.http2.max-concurrent-streams")
+        void http2MaxConcurrentStreams_overriddenByEnvVar() {
+            envVars.put("BACKEND_HTTP2_MAX_CONCURRENT_STREAMS", "16");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.upstreamProtocol().maxConcurrentStreams()).isEqualTo(16);
+        }
+
+        @Test
+        @DisplayName("BACKEND_HEALTH_CHECK_* overrides YAML backend.health-check")
+        void healthCheck_overriddenByEnvVars() {
+            envVars.put("BACKEND_HEALTH_CHECK_ENABLED", "false");
+            envVars.put("BACKEND_HEALTH_CHECK_PATH", "/status");
+            envVars.put("BACKEND_HEALTH_CHECK_INTERVAL_MS", "750");
+            envVars.put("BACKEND_HEALTH_CHECK_TIMEOUT_MS", "200");
+            envVars.put("BACKEND_HEALTH_CHECK_HEALTHY_THRESHOLD", "1");
+            envVars.put("BACKEND_HEALTH_CHECK_UNHEALTHY_THRESHOLD", "2");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.healthCheck()).isEqualTo(new HealthCheckConfig(false, "/status", 750, 200, 1, 2));
+        }
+
+        @Test
+        @DisplayName("BACKEND_OUTLIER_* overrides YAML backend.outlier-ejection")
+        void outlierEjection_overriddenByEnvVars() {
+            envVars.put("BACKEND_OUTLIER_CONSECUTIVE_FAILURES", "0");
+            envVars.put("BACKEND_OUTLIER_BASE_EJECTION_MS", "5000");
+            envVars.put("BACKEND_OUTLIER_MAX_EJECTION_PERCENT", "100");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.outlierEjection()).isEqualTo(new OutlierEjectionConfig(0, 5000, 100));
+        }
+
+        @Test
+        @DisplayName("BACKEND_ADAPTIVE_CONCURRENCY_* overrides YAML backend.adaptive-concurrency")
+        void adaptiveConcurrency_overriddenByEnvVars() {
+            envVars.put("BACKEND_ADAPTIVE_CONCURRENCY_ENABLED", "false");
+            envVars.put("BACKEND_ADAPTIVE_CONCURRENCY_INITIAL_LIMIT", "8");
+            envVars.put("BACKEND_ADAPTIVE_CONCURRENCY_MIN_LIMIT", "2");
+            envVars.put("BACKEND_ADAPTIVE_CONCURRENCY_MAX_LIMIT", "64");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.adaptiveConcurrency()).isEqualTo(new AdaptiveConcurrencyConfig(false, 8, 2, 64));
+        }
+
+        @Test
+        @DisplayName("BACKEND_CIRCUIT_BREAKER_* overrides YAML backend.circuit-breaker")
+        void circuitBreaker_overriddenByEnvVars() {
+            envVars.put("BACKEND_CIRCUIT_BREAKER_ENABLED", "false");
+            envVars.put("BACKEND_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD", "75");
+            envVars.put("BACKEND_CIRCUIT_BREAKER_MINIMUM_CALLS", "5");
+            envVars.put("BACKEND_CIRCUIT_BREAKER_WINDOW_SIZE", "20");
+            envVars.put("BACKEND_CIRCUIT_BREAKER_OPEN_DURATION_MS", "1000");
+            envVars.put("BACKEND_CIRCUIT_BREAKER_HALF_OPEN_CALLS", "1");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.circuitBreaker()).isEqualTo(new CircuitBreakerConfig(false, 75, 5, 20, 1000, 1));
+        }
+
+        @Test
+        @DisplayName("BACKEND_HEDGING_* and BACKEND_RETRY_* override YAML backend.hedging / backend.retry")
+        void hedgingAndRetry_overriddenByEnvVars() {
+            envVars.put("BACKEND_HEDGING_ENABLED", "false");
+            envVars.put("BACKEND_HEDGING_DELAY_MS", "0");
+            envVars.put("BACKEND_RETRY_MAX_RETRIES", "1");
+            envVars.put("BACKEND_RETRY_BUDGET_PERCENT", "50");
+            envVars.put("BACKEND_RETRY_BUDGET_MIN_PER_SECOND", "0");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.hedging()).isEqualTo(new HedgingConfig(false, 0));
+            assertThat(config.retry()).isEqualTo(new RetryConfig(1, 50, 0));
+        }
+
+        @Test
+        @DisplayName("PROXY_CACHE_* override YAML proxy.cache")
+        void cache_overriddenByEnvVars() {
+            envVars.put("PROXY_CACHE_ENABLED", "false");
+            envVars.put("PROXY_CACHE_MAX_BYTES", "1048576");
+            envVars.put("PROXY_CACHE_MAX_ENTRY_BYTES", "4096");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.cache()).isEqualTo(new ResponseCacheConfig(false, 1_048_576, 4096));
+        }
+
+        @Test
+        @DisplayName("PROXY_COMPRESSION_* override YAML proxy.compression")
+        void compression_overriddenByEnvVars() {
+            envVars.put("PROXY_COMPRESSION_ENABLED", "true");
+            envVars.put("PROXY_COMPRESSION_MIN_BYTES", "512");
+            envVars.put("PROXY_COMPRESSION_LEVEL", "9");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.compression()).isEqualTo(new CompressionConfig(true, 512, 9));
+        }
+
+        @Test
+        @DisplayName("PROXY_ADMISSION_* override YAML proxy.admission")
+        void admission_overriddenByEnvVars() {
+            envVars.put("PROXY_ADMISSION_ENABLED", "false");
+            envVars.put("PROXY_ADMISSION_MAX_IN_FLIGHT", "8");
+            envVars.put("PROXY_ADMISSION_QUEUE_CAPACITY", "0");
+            envVars.put("PROXY_ADMISSION_QUEUE_TIMEOUT_MS", "2000");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.admission()).isEqualTo(new AdmissionConfig(false, 8, 0, 2000));
+        }
+
+        @Test
+        @DisplayName("PROXY_RATE_LIMIT_* override YAML proxy.rate-limit")
+        void rateLimit_overriddenByEnvVars() {
+            envVars.put("PROXY_RATE_LIMIT_ENABLED", "false");
+            envVars.put("PROXY_RATE_LIMIT_KEY", "ip");
+            envVars.put("PROXY_RATE_LIMIT_HEADER", "X-Tenant");
+            envVars.put("PROXY_RATE_LIMIT_REQUESTS_PER_SECOND", "5");
+            envVars.put("PROXY_RATE_LIMIT_BURST", "10");
+            envVars.put("PROXY_RATE_LIMIT_MAX_KEYS", "500");
+            ProxyConfig config = ConfigLoader.load(fullConfigPath, envLookup());
+            assertThat(config.rateLimit()).isEqualTo(new RateLimitConfig(false, "ip", "X-Tenant", 5, 10, 500));
+        }
     }
 
     // -----------------------------------------------------------------------
@@ -143,7 +143,7 @@ class ProxyConfigTest {
                             "PKCS12"))
                     .backendTls(new BackendTlsConfig(
                             "/path/to/ca.p12", "capass", "PKCS12", true, "/path/to/client.p12", "clientpass", "PKCS12"))
-                    .pool(new PoolConfig(200, false, 30000))
+                    .pool(new PoolConfig(200, false, 30000, 1000, 5000, 0))
                     .build();
 
             assertThat(config.proxyHost()).isEqualTo("127.0.0.1");
@@ -0,0 +1,98 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.AdaptiveConcurrencyConfig;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AdaptiveLimiter} — the RTT-driven upstream concurrency
+ * limit (FR-004-48). Samples are fed directly; no time passes.
+ */
+@DisplayName("AdaptiveLimiter — RTT-driven concurrency limit")
+class AdaptiveLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Completes {@code count} exchanges at {@code rtt}, each seen with the limit fully used. */
+    private static void feed(AdaptiveLimiter limiter, int count, long rtt) {
+        for (int i = 0; i < count; i++) {
+            int inFlight = limiter.tryAcquire();
+            limiter.complete(rtt, Math.max(inFlight, limiter.limit()), false);
+        }
+    }
+
+    @Test
+    @DisplayName("Admits up to the limit, then rejects and counts")
+    void rejectsAtLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(new AdaptiveConcurrencyConfig(true, 2, 1, 10));
+
+        assertThat(limiter.tryAcquire()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isEqualTo(-1);
+        assertThat(limiter.rejections()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Steady latency at full use → limit grows, up to max-limit")
+    void steadyLatency_grows() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(new AdaptiveConcurrencyConfig(true, 10, 4, 50));
+
+        feed(limiter, 20, FAST);
+        assertThat(limiter.limit()).isGreaterThan(10);
+
+        feed(limiter, 500, FAST);
+        assertThat(limiter.limit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Latency inflates → limit shrinks, down to min-limit")
+    void inflatedLatency_shrinks() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(new AdaptiveConcurrencyConfig(true, 40, 4, 100));
+        feed(limiter, AdaptiveLimiter.BASELINE_WINDOW, FAST);
+        int before = limiter.limit();
+
+        feed(limiter, 10, SLOW);
+        assertThat(limiter.limit()).isLessThan(before);
+
+        feed(limiter, 200, SLOW * 10);
+        assertThat(limiter.limit()).isLessThan(before / 2);
+    }
+
+    @Test
+    @DisplayName("Dropped exchanges back off multiplicatively, never below min-limit")
+    void dropped_backsOff() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(new AdaptiveConcurrencyConfig(true, 100, 5, 100));
+
+        limiter.tryAcquire();
+        limiter.complete(0, 1, true);
+        assertThat(limiter.limit()).isEqualTo(90);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.complete(0, 1, true);
+        }
+        assertThat(limiter.limit()).isEqualTo(5);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Mostly idle backend → limit does not grow")
+    void underused_doesNotGrow() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(new AdaptiveConcurrencyConfig(true, 20, 4, 100));
+
+        for (int i = 0; i < 50; i++) {
+            int inFlight = limiter.tryAcquire();
+            limiter.complete(FAST, inFlight, false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+}
@@ -51,7 +51,10 @@ class AdminReloadTest extends ProxyTestHarness {
     @Test
     void postAdminReload_reloadsEngine_returns200() throws Exception {
         // Write a spec to the specs directory
-        writeSpec(specsDir, "test-spec.yaml", """
+        writeSpec(
+                specsDir,
+                "test-spec.yaml",
+                """
                 id: test-spec
                 version: "1.0.0"
                 description: "Test spec for admin reload"
@@ -87,7 +90,10 @@ class AdminReloadTest extends ProxyTestHarness {
      */
     @Test
     void postAdminReload_withProfile_returnsProfileId() throws Exception {
-        writeSpec(specsDir, "identity.yaml", """
+        writeSpec(
+                specsDir,
+                "identity.yaml",
+                """
                 id: identity-transform
                 version: "1.0.0"
                 description: "Identity transform"
@@ -133,7 +139,10 @@ class AdminReloadTest extends ProxyTestHarness {
     @Test
     void postAdminReload_brokenSpec_returns500_preservesOldRegistry() throws Exception {
         // Start with a valid spec
-        writeSpec(specsDir, "good-spec.yaml", """
+        writeSpec(
+                specsDir,
+                "good-spec.yaml",
+                """
                 id: good-spec
                 version: "1.0.0"
                 description: "Good spec"
@@ -155,7 +164,10 @@ class AdminReloadTest extends ProxyTestHarness {
         assertEquals(200, firstReload.statusCode());
 
         // Now add a broken spec
-        writeSpec(specsDir, "broken-spec.yaml", """
+        writeSpec(
+                specsDir,
+                "broken-spec.yaml",
+                """
                 id: broken-spec
                 version: "1.0.0"
                 transform:
@@ -215,7 +227,10 @@ class AdminReloadTest extends ProxyTestHarness {
         assertEquals(0, firstBody.get("specs").asInt());
 
         // Add a new spec
-        writeSpec(specsDir, "new-spec.yaml", """
+        writeSpec(
+                specsDir,
+                "new-spec.yaml",
+                """
                 id: new-spec
                 version: "1.0.0"
                 description: "New spec"
@@ -267,8 +282,11 @@ class AdminReloadTest extends ProxyTestHarness {
                 .backendPort(backendPort)
                 .build();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .upstream(upstreamClient)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .build();
 
         AdminReloadHandler reloadHandler = new AdminReloadHandler(engine, specsDir, profileFile);
 
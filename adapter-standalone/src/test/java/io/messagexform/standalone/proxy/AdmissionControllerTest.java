@@ -0,0 +1,193 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.messagexform.standalone.config.AdmissionConfig;
+import io.messagexform.standalone.proxy.AdmissionController.Priority;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AdmissionController} — bounded in-flight work, priority
+ * queueing and load shedding (FR-004-54).
+ */
+@DisplayName("AdmissionController — admission, priority queueing and shedding")
+class AdmissionControllerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Priority> admittedOrder = new CopyOnWriteArrayList<>();
+
+    private AdmissionController controller(int maxInFlight, int queueCapacity, int queueTimeoutMs) {
+        return new AdmissionController(
+                new AdmissionConfig(true, maxInFlight, queueCapacity, queueTimeoutMs), clock::get);
+    }
+
+    /** Acquires on another thread, records the admission order, then releases. */
+    private CompletableFuture<Void> acquireAsync(AdmissionController admission, Priority priority) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                AdmissionController.Permit permit = admission.acquire(priority);
+                admittedOrder.add(priority);
+                permit.close();
+            } catch (AdmissionController.RejectedException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void await(IntSupplier value, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (value.getAsInt() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(value.getAsInt()).isEqualTo(expected);
+    }
+
+    private static AdmissionController.Reason reason(CompletableFuture<Void> future) {
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class);
+        try {
+            future.get();
+            throw new AssertionError("not rejected");
+        } catch (ExecutionException | InterruptedException e) {
+            return ((AdmissionController.RejectedException) e.getCause().getCause()).reason();
+        }
+    }
+
+    @Test
+    @DisplayName("Up to max-in-flight requests are admitted at once; closing a permit frees its slot once")
+    void admitsUpToLimit() throws Exception {
+        AdmissionController admission = controller(2, 0, 1000);
+
+        AdmissionController.Permit first = admission.acquire(Priority.NORMAL);
+        AdmissionController.Permit second = admission.acquire(null);
+        assertThat(admission.getInFlight()).isEqualTo(2);
+        assertThatThrownBy(() -> admission.acquire(Priority.CRITICAL))
+                .isInstanceOf(AdmissionController.RejectedException.class)
+                .satisfies(e -> assertThat(((AdmissionController.RejectedException) e).reason())
+                        .isEqualTo(AdmissionController.Reason.QUEUE_FULL));
+
+        first.close();
+        first.close();
+        assertThat(admission.getInFlight()).isEqualTo(1);
+        second.close();
+        assertThat(admission.getInFlight()).isZero();
+        assertThat(admission.getAdmitted()).isEqualTo(2);
+        assertThat(admission.getRejectedQueueFull()).isEqualTo(1);
+        assertThat(admission.getRejectedCritical()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A freed slot goes to the highest-priority waiter, FIFO within a priority")
+    void priorityOrder() throws Exception {
+        AdmissionController admission = controller(1, 10, 5000);
+        AdmissionController.Permit held = admission.acquire(Priority.NORMAL);
+
+        CompletableFuture<Void> low = acquireAsync(admission, Priority.LOW);
+        await(admission::getQueued, 1);
+        CompletableFuture<Void> normal = acquireAsync(admission, Priority.NORMAL);
+        await(admission::getQueued, 2);
+        CompletableFuture<Void> critical = acquireAsync(admission, Priority.CRITICAL);
+        await(admission::getQueued, 3);
+
+        held.close();
+        CompletableFuture.allOf(low, normal, critical).get(5, TimeUnit.SECONDS);
+
+        assertThat(admittedOrder).containsExactly(Priority.CRITICAL, Priority.NORMAL, Priority.LOW);
+        assertThat(admission.getAdmittedAfterWait()).isEqualTo(3);
+        assertThat(admission.getInFlight()).isZero();
+        assertThat(admission.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("Full queue → a higher-priority arrival sheds the youngest low waiter; an equal one is rejected")
+    void fullQueueShedsLowerPriority() throws Exception {
+        AdmissionController admission = controller(1, 1, 5000);
+        AdmissionController.Permit held = admission.acquire(Priority.NORMAL);
+
+        CompletableFuture<Void> low = acquireAsync(admission, Priority.LOW);
+        await(admission::getQueued, 1);
+        CompletableFuture<Void> critical = acquireAsync(admission, Priority.CRITICAL);
+
+        assertThat(reason(low)).isEqualTo(AdmissionController.Reason.SHED);
+        await(admission::getQueued, 1);
+        assertThatThrownBy(() -> admission.acquire(Priority.CRITICAL))
+                .isInstanceOf(AdmissionController.RejectedException.class);
+
+        held.close();
+        critical.get(5, TimeUnit.SECONDS);
+        assertThat(admittedOrder).containsExactly(Priority.CRITICAL);
+        assertThat(admission.getShed()).isEqualTo(1);
+        assertThat(admission.getRejectedLow()).isEqualTo(1);
+        assertThat(admission.getRejectedQueueFull()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A low arrival never sheds a waiter of higher priority")
+    void lowArrivalRejectedWhenFull() throws Exception {
+        AdmissionController admission = controller(1, 1, 5000);
+        AdmissionController.Permit held = admission.acquire(Priority.NORMAL);
+        CompletableFuture<Void> normal = acquireAsync(admission, Priority.NORMAL);
+        await(admission::getQueued, 1);
+
+        assertThatThrownBy(() -> admission.acquire(Priority.LOW))
+                .isInstanceOf(AdmissionController.RejectedException.class);
+
+        held.close();
+        normal.get(5, TimeUnit.SECONDS);
+        assertThat(admission.getShed()).isZero();
+    }
+
+    @Test
+    @DisplayName("No slot within queue-timeout-ms → TIMEOUT, and the waiter leaves the queue")
+    void queueTimeout() throws Exception {
+        AdmissionController admission = controller(1, 10, 50);
+        AdmissionController.Permit held = admission.acquire(Priority.NORMAL);
+
+        CompletableFuture<Void> waiter = acquireAsync(admission, Priority.NORMAL);
+
+        assertThat(reason(waiter)).isEqualTo(AdmissionController.Reason.TIMEOUT);
+        assertThat(admission.getQueued()).isZero();
+        assertThat(admission.getRejectedTimeout()).isEqualTo(1);
+        held.close();
+        assertThat(admission.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Predicted wait over queue-timeout-ms → rejected at once, Retry-After from the drain time")
+    void predictedWait() throws Exception {
+        AdmissionController admission = controller(1, 10, 1000);
+        // One request held its slot for 10 s — the observed service time
+        AdmissionController.Permit slow = admission.acquire(Priority.NORMAL);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        slow.close();
+        assertThat(admission.getAverageServiceMillis()).isEqualTo(10_000.0);
+
+        AdmissionController.Permit held = admission.acquire(Priority.NORMAL);
+        assertThatThrownBy(() -> admission.acquire(Priority.NORMAL))
+                .isInstanceOf(AdmissionController.RejectedException.class)
+                .satisfies(e -> {
+                    AdmissionController.RejectedException rejected = (AdmissionController.RejectedException) e;
+                    assertThat(rejected.reason()).isEqualTo(AdmissionController.Reason.PREDICTED_WAIT);
+                    assertThat(rejected.retryAfterSeconds()).isEqualTo(10);
+                });
+        assertThat(admission.getQueued()).isZero();
+        assertThat(admission.getRejectedPredictedWait()).isEqualTo(1);
+        held.close();
+    }
+
+    @Test
+    @DisplayName("Priority.of parses route values case-insensitively; null stays null")
+    void parsePriority() {
+        assertThat(Priority.of("critical")).isEqualTo(Priority.CRITICAL);
+        assertThat(Priority.of("Low")).isEqualTo(Priority.LOW);
+        assertThat(Priority.of(null)).isNull();
+    }
+}
@@ -0,0 +1,139 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Integration tests for admission control (FR-004-54, CFG-004-88..92,
+ * S-004-94..96): with the single slot held by a slow request, a critical
+ * arrival sheds a queued low-priority request, which gets 503 with
+ * {@code Retry-After}; health checks are never queued.
+ */
+@DisplayName("FR-004-54: Admission control")
+class AdmissionIntegrationTest extends ProxyTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private final CountDownLatch slowEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        startMockBackend(this::backend);
+        startProxyApp(
+                tempDir,
+                new String[] {"test-specs/request-body-transform.yaml", "test-specs/response-body-transform.yaml"},
+                "test-profiles/bidirectional-profile.yaml",
+                """
+                admission:
+                  enabled: true
+                  max-in-flight: 1
+                  queue-capacity: 1
+                  queue-timeout-ms: 10000
+                """,
+                """
+                profile-routes:
+                  - path-prefix: /critical
+                    priority: critical
+                  - path-prefix: /bulk
+                    priority: low
+                """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        stopInfrastructure();
+    }
+
+    /** {@code /slow…} holds its slot until released. */
+    private void backend(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if (exchange.getRequestURI().getPath().startsWith("/slow")) {
+            slowEntered.countDown();
+            try {
+                releaseSlow.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        respond(exchange, 200, "application/json", "{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Critical arrival sheds a queued low request → 503 + Retry-After; critical admitted after")
+    void criticalShedsLow() throws Exception {
+        CompletableFuture<HttpResponse<String>> slow = sendAsync("/slow");
+        assertThat(slowEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<HttpResponse<String>> bulk = sendAsync("/bulk/export");
+        awaitQueued(1);
+        CompletableFuture<HttpResponse<String>> critical = sendAsync("/critical/pay");
+
+        HttpResponse<String> shed = bulk.get(5, TimeUnit.SECONDS);
+        assertThat(shed.statusCode()).isEqualTo(503);
+        assertThat(shed.headers().firstValue("retry-after")).isPresent();
+        assertThat(MAPPER.readTree(shed.body()).get("detail").asText()).contains("overloaded");
+
+        releaseSlow.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        assertThat(critical.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+
+        AdmissionController admission = proxyApp.admission();
+        assertThat(admission.getShed()).isEqualTo(1);
+        assertThat(admission.getRejectedLow()).isEqualTo(1);
+        assertThat(admission.getAdmitted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Health endpoint answers while every slot is taken")
+    void healthNotQueued() throws Exception {
+        CompletableFuture<HttpResponse<String>> slow = sendAsync("/slow");
+        assertThat(slowEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        HttpResponse<String> health = testClient.send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + proxyPort + "/health"))
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(health.statusCode()).isEqualTo(200);
+        assertThat(proxyApp.admission().getQueued()).isZero();
+        releaseSlow.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .GET()
+                .build();
+        return testClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (proxyApp.admission().getQueued() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(proxyApp.admission().getQueued()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,223 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.javalin.Javalin;
+import io.javalin.http.HandlerType;
+import io.messagexform.core.engine.EngineRegistry;
+import io.messagexform.core.engine.TransformEngine;
+import io.messagexform.core.engine.jslt.JsltExpressionEngine;
+import io.messagexform.core.spec.SpecParser;
+import io.messagexform.standalone.adapter.StandaloneAdapter;
+import io.messagexform.standalone.config.ProxyConfig;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Integration tests for the asynchronous proxy pipeline (FR-004-42): the
+ * same transforms, Problem Details mapping, timeouts and MDC fields as the
+ * blocking handler, with transforms on the bounded transform executor.
+ */
+@DisplayName("FR-004-42: Asynchronous proxy pipeline")
+class AsyncPipelineTest extends ProxyTestHarness {
+
+    private static final AsyncPipelineTest INSTANCE = new AsyncPipelineTest();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final int THREADS = 2;
+    private static final int QUEUE_CAPACITY = 2;
+
+    @BeforeAll
+    static void startInfrastructure() throws Exception {
+        INSTANCE.transformExecutor = new TransformExecutor(THREADS, QUEUE_CAPACITY);
+        INSTANCE.startWithSpecs(
+                new String[] {"test-specs/request-body-transform.yaml", "test-specs/response-body-transform.yaml"},
+                "test-profiles/bidirectional-profile.yaml");
+        INSTANCE.registerBackendHandler("/api/bidi", 200, "application/json", "{\"name\":\"Result\",\"value\":100}");
+    }
+
+    @AfterAll
+    static void stopAll() {
+        INSTANCE.stopInfrastructure();
+    }
+
+    private static HttpResponse<String> post(String path, String body, String requestId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + INSTANCE.proxyPort + path))
+                .header("Content-Type", "application/json")
+                .header("X-Request-ID", requestId)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Request and response are both transformed")
+    void bidirectional_bothTransformed() throws Exception {
+        HttpResponse<String> response =
+                post("/api/bidi", "{\"order_id\":\"ORD-ASYNC\",\"customer_name\":\"Ann\",\"total\":5}", "async-1");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("x-request-id")).hasValue("async-1");
+        assertThat(INSTANCE.receivedRequests.get("/api/bidi").body()).contains("\"orderId\":\"ORD-ASYNC\"");
+        assertThat(response.body()).contains("\"success\":true").contains("\"name\":\"Result\"");
+    }
+
+    @Test
+    @DisplayName("Unmatched route streams through unchanged")
+    void unmatchedRoute_passthrough() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + INSTANCE.proxyPort + "/api/other?x=1"))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(INSTANCE.receivedRequests.get("/api/other?x=1").query()).isEqualTo("x=1");
+    }
+
+    @Test
+    @DisplayName("Transform-stage logs carry the request's MDC fields")
+    void transformStageLogs_carryMdc() throws Exception {
+        Logger logger = (Logger) LoggerFactory.getLogger(ProxyHandler.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                // Snapshot the MDC on the logging thread — it is read lazily otherwise.
+                event.prepareForDeferredProcessing();
+                super.append(event);
+            }
+        };
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            HttpResponse<String> response = post("/api/bidi", "not json", "async-mdc");
+
+            assertThat(response.statusCode()).isEqualTo(400);
+            ILoggingEvent event = appender.list.stream()
+                    .filter(e -> e.getFormattedMessage().startsWith("Non-JSON body"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(event.getThreadName()).startsWith("transform-worker-");
+            // requestId is owned by the engine's own MDC handling around transform()
+            assertThat(event.getMDCPropertyMap())
+                    .containsEntry("method", "POST")
+                    .containsEntry("path", "/api/bidi");
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("Saturated transform executor → 503 RFC 9457")
+    void saturatedExecutor_returns503() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(THREADS);
+        Executor executor = INSTANCE.transformExecutor.withMdc(null);
+        Runnable blocker = () -> {
+            running.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            // Block both workers, then fill every queue slot left
+            fill(executor, blocker);
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            fill(executor, blocker);
+
+            HttpResponse<String> response = post("/api/bidi", "{\"order_id\":\"X\"}", "async-503");
+
+            assertThat(response.statusCode()).isEqualTo(503);
+            assertThat(response.headers().firstValue("content-type"))
+                    .hasValueSatisfying(ct -> assertThat(ct).contains("application/problem+json"));
+            JsonNode body = MAPPER.readTree(response.body());
+            assertThat(body.get("type").asText()).isEqualTo(ProblemDetail.URN_SERVICE_UNAVAILABLE);
+            assertThat(INSTANCE.transformExecutor.rejectedCount()).isPositive();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /** Submits {@code task} until the executor rejects it. */
+    private static void fill(Executor executor, Runnable task) {
+        try {
+            while (true) {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            // queue full
+        }
+    }
+
+    @Test
+    @DisplayName("Backend read timeout → 504 RFC 9457, as in blocking mode")
+    void backendTimeout_returns504() throws Exception {
+        HttpServer slowBackend = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        slowBackend.createContext("/", exchange -> {
+            try {
+                Thread.sleep(3_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        slowBackend.start();
+
+        ProxyConfig config = ProxyConfig.builder()
+                .backendHost("127.0.0.1")
+                .backendPort(slowBackend.getAddress().getPort())
+                .backendReadTimeoutMs(300)
+                .build();
+        EngineRegistry registry = new EngineRegistry();
+        registry.register(new JsltExpressionEngine());
+        TransformExecutor executor = new TransformExecutor(1, 8);
+        ProxyHandler handler = ProxyHandler.builder(
+                        new TransformEngine(new SpecParser(registry)), new StandaloneAdapter())
+                .upstream(new UpstreamClient(config))
+                .transformExecutor(executor)
+                .build();
+        Javalin app = Javalin.create()
+                .addHttpHandler(HandlerType.GET, "/<path>", handler)
+                .start(0);
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create("http://127.0.0.1:" + app.port() + "/api/slow"))
+                    .GET()
+                    .build();
+
+            HttpResponse<String> response = INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(504);
+            JsonNode body = MAPPER.readTree(response.body());
+            assertThat(body.get("type").asText()).isEqualTo(ProblemDetail.URN_GATEWAY_TIMEOUT);
+            assertThat(body.get("instance").asText()).isEqualTo("/api/slow");
+        } finally {
+            app.stop();
+            slowBackend.stop(0);
+            executor.close();
+        }
+    }
+}
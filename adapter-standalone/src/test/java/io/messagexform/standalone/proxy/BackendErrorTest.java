@@ -199,7 +199,8 @@ class BackendErrorTest {
 
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(engine, adapter, upstreamClient, -1, true);
+        ProxyHandler proxyHandler =
+                ProxyHandler.builder(engine, adapter).upstream(upstreamClient).build();
 
         return Javalin.create()
                 .addHttpHandler(HandlerType.GET, "/<path>", proxyHandler)
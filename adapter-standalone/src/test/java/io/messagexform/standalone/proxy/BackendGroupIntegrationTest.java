@@ -0,0 +1,131 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpHandler;
+import io.messagexform.standalone.config.BackendGroupConfig;
+import io.messagexform.standalone.config.HealthCheckConfig;
+import io.messagexform.standalone.config.ProfileRoute;
+import io.messagexform.standalone.config.ProxyConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for backend groups (FR-004-45, FR-004-46, S-004-80..81):
+ * a route forwards to a group whose members share the traffic, and a member
+ * failing its health checks leaves rotation until it recovers.
+ */
+@DisplayName("FR-004-45/46: Load-balanced backend groups")
+class BackendGroupIntegrationTest extends ProxyTestHarness {
+
+    private final AtomicBoolean secondHealthy = new AtomicBoolean(true);
+    private BackendGroups backends;
+    private BackendHealthChecker healthChecker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        startMockBackend(named("default", new AtomicBoolean(true)));
+        int firstPort = startExtraBackend(named("first", new AtomicBoolean(true)));
+        int secondPort = startExtraBackend(named("second", secondHealthy));
+
+        ProxyConfig config = backendConfig()
+                .profileRoutes(List.of(new ProfileRoute(null, "/api", null, "api")))
+                .backendGroups(List.of(new BackendGroupConfig(
+                        "api",
+                        BackendGroupConfig.ROUND_ROBIN,
+                        null,
+                        List.of(
+                                new BackendGroupConfig.Member("127.0.0.1", firstPort),
+                                new BackendGroupConfig.Member("127.0.0.1", secondPort)))))
+                .healthCheck(new HealthCheckConfig(true, "/health", 60_000, 1000, 1, 2))
+                .build();
+        backends = BackendGroups.create(config, new UpstreamClient(config));
+        healthChecker = new BackendHealthChecker(backends, config.healthCheck());
+
+        startProxy(handlerBuilder(new String[0], null)
+                .backends(backends)
+                .profileSelector(new ProfileSelector(config.profileRoutes())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        healthChecker.close();
+        stopInfrastructure();
+    }
+
+    /** A backend answering its name, and {@code /health} with 200 or 503 per {@code healthy}. */
+    private static HttpHandler named(String name, AtomicBoolean healthy) {
+        return exchange -> {
+            boolean health = exchange.getRequestURI().getPath().equals("/health");
+            int status = health && !healthy.get() ? 503 : 200;
+            respond(exchange, status, null, name.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private String get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .GET()
+                .build();
+        HttpResponse<String> response = testClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    @Test
+    @DisplayName("Routed requests alternate between group members; others go to backend.host")
+    void routedRequests_roundRobin() throws Exception {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            answers.add(get("/api/items"));
+        }
+
+        assertThat(answers).containsExactly("first", "second", "first", "second");
+        assertThat(get("/other")).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("Member failing unhealthy-threshold checks leaves rotation until healthy again")
+    void unhealthyMember_skippedUntilRecovered() throws Exception {
+        secondHealthy.set(false);
+        healthChecker.checkAll();
+        assertThat(get("/api/items")).isEqualTo("first");
+        assertThat(get("/api/items")).isEqualTo("second"); // one failure is below the threshold
+
+        healthChecker.checkAll();
+        for (int i = 0; i < 4; i++) {
+            assertThat(get("/api/items")).isEqualTo("first");
+        }
+        assertThat(backends.ready()).isTrue();
+
+        secondHealthy.set(true);
+        healthChecker.checkAll();
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            answers.add(get("/api/items"));
+        }
+        assertThat(answers).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    @DisplayName("Default backend down → readiness reports not ready from the cached check")
+    void defaultBackendDown_notReady() {
+        assertThat(backends.ready()).isTrue();
+        mockBackend.stop(0);
+
+        healthChecker.checkAll();
+        healthChecker.checkAll();
+
+        assertThat(backends.ready()).isFalse();
+    }
+}
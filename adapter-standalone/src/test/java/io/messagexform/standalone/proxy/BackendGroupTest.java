@@ -0,0 +1,234 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.BackendGroupConfig;
+import io.messagexform.standalone.config.OutlierEjectionConfig;
+import io.messagexform.standalone.config.ProxyConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BackendGroup} — load-balancing policies and outlier
+ * ejection (FR-004-45, FR-004-47). No traffic is sent: members point at
+ * unused ports and in-flight counts are pool leases taken by the test.
+ */
+@DisplayName("BackendGroup — load balancing and outlier ejection")
+class BackendGroupTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private static List<BackendGroup.Backend> members(int count) {
+        List<BackendGroup.Backend> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add(new BackendGroup.Backend(new UpstreamClient(ProxyConfig.builder()
+                    .backendHost("10.0.0." + (i + 1))
+                    .backendPort(8080)
+                    .build())));
+        }
+        return members;
+    }
+
+    private BackendGroup group(String policy, List<BackendGroup.Backend> members, OutlierEjectionConfig ejection) {
+        return new BackendGroup("api", policy, "X-User", members, ejection, clock::get);
+    }
+
+    private BackendGroup group(String policy, List<BackendGroup.Backend> members) {
+        return group(policy, members, OutlierEjectionConfig.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("round-robin → members in turn")
+    void roundRobin_cyclesThroughMembers() {
+        List<BackendGroup.Backend> members = members(3);
+        BackendGroup group = group(BackendGroupConfig.ROUND_ROBIN, members);
+
+        List<BackendGroup.Backend> picked = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            picked.add(group.select(null));
+        }
+
+        assertThat(picked)
+                .containsExactly(
+                        members.get(0), members.get(1), members.get(2), members.get(0), members.get(1), members.get(2));
+    }
+
+    @Test
+    @DisplayName("least-outstanding → member with fewest in-flight requests")
+    void leastOutstanding_picksIdlestMember() {
+        List<BackendGroup.Backend> members = members(3);
+        BackendGroup group = group(BackendGroupConfig.LEAST_OUTSTANDING, members);
+        members.get(0).client().pool().acquire(Duration.ZERO).join();
+        members.get(0).client().pool().acquire(Duration.ZERO).join();
+        members.get(2).client().pool().acquire(Duration.ZERO).join();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(group.select(null)).isSameAs(members.get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("least-outstanding ties → spread over the tied members")
+    void leastOutstanding_tiesRotate() {
+        List<BackendGroup.Backend> members = members(3);
+        BackendGroup group = group(BackendGroupConfig.LEAST_OUTSTANDING, members);
+
+        Set<BackendGroup.Backend> picked = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            picked.add(group.select(null));
+        }
+
+        assertThat(picked).containsExactlyInAnyOrderElementsOf(members);
+    }
+
+    @Test
+    @DisplayName("power-of-two → never the busier of the two sampled members")
+    void powerOfTwo_avoidsBusyMember() {
+        List<BackendGroup.Backend> members = members(2);
+        BackendGroup group = group(BackendGroupConfig.POWER_OF_TWO, members);
+        members.get(0).client().pool().acquire(Duration.ZERO).join();
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(group.select(null)).isSameAs(members.get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("consistent-hash → same key, same member; keys spread over all members")
+    void consistentHash_isSticky() {
+        List<BackendGroup.Backend> members = members(3);
+        BackendGroup group = group(BackendGroupConfig.CONSISTENT_HASH, members);
+
+        Map<String, BackendGroup.Backend> owners = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            owners.put("user-" + i, group.select("user-" + i));
+        }
+
+        owners.forEach((key, owner) -> assertThat(group.select(key)).isSameAs(owner));
+        assertThat(new HashSet<>(owners.values())).containsExactlyInAnyOrderElementsOf(members);
+    }
+
+    @Test
+    @DisplayName("consistent-hash → an unhealthy owner moves only its own keys")
+    void consistentHash_unhealthyOwnerMovesItsKeys() {
+        List<BackendGroup.Backend> members = members(3);
+        BackendGroup group = group(BackendGroupConfig.CONSISTENT_HASH, members);
+        Map<String, BackendGroup.Backend> before = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            before.put("user-" + i, group.select("user-" + i));
+        }
+
+        members.get(0).healthy(false);
+
+        before.forEach((key, owner) -> {
+            BackendGroup.Backend now = group.select(key);
+            if (owner == members.get(0)) {
+                assertThat(now).isNotSameAs(members.get(0));
+            } else {
+                assertThat(now).isSameAs(owner);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Unhealthy members are skipped; all unhealthy → panic over every member")
+    void unhealthyMembersSkipped() {
+        List<BackendGroup.Backend> members = members(3);
+        BackendGroup group = group(BackendGroupConfig.ROUND_ROBIN, members);
+        members.get(1).healthy(false);
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(group.select(null)).isNotSameAs(members.get(1));
+        }
+        assertThat(group.available()).isTrue();
+
+        members.get(0).healthy(false);
+        members.get(2).healthy(false);
+        assertThat(group.available()).isFalse();
+        Set<BackendGroup.Backend> picked = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            picked.add(group.select(null));
+        }
+        assertThat(picked).containsExactlyInAnyOrderElementsOf(members);
+    }
+
+    @Test
+    @DisplayName("Consecutive failures → ejected for base × count, then back in rotation")
+    void outlier_ejectedThenRestored() {
+        List<BackendGroup.Backend> members = members(2);
+        BackendGroup group = group(BackendGroupConfig.ROUND_ROBIN, members, new OutlierEjectionConfig(3, 1000, 50));
+        BackendGroup.Backend bad = members.get(0);
+
+        group.recordResponse(bad, 503);
+        group.recordResponse(bad, 502);
+        assertThat(bad.ejected(clock.get())).isFalse();
+        group.recordFailure(bad, new UpstreamConnectException("refused", null));
+        assertThat(bad.ejected(clock.get())).isTrue();
+        for (int i = 0; i < 4; i++) {
+            assertThat(group.select(null)).isSameAs(members.get(1));
+        }
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(bad.ejected(clock.get())).isFalse();
+
+        // Second ejection in a row lasts twice as long
+        for (int i = 0; i < 3; i++) {
+            group.recordResponse(bad, 500);
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1999));
+        assertThat(bad.ejected(clock.get())).isTrue();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(bad.ejected(clock.get())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Success resets the count; pool exhaustion and 4xx are not failures")
+    void outlier_onlyBackendFailuresCount() {
+        List<BackendGroup.Backend> members = members(2);
+        BackendGroup group = group(BackendGroupConfig.ROUND_ROBIN, members, new OutlierEjectionConfig(2, 1000, 50));
+        BackendGroup.Backend backend = members.get(0);
+
+        group.recordResponse(backend, 500);
+        group.recordResponse(backend, 200);
+        group.recordResponse(backend, 500);
+        group.recordResponse(backend, 404);
+        group.recordFailure(backend, new UpstreamPoolExhaustedException("full", null));
+        group.recordFailure(backend, new UpstreamResponseTooLargeException("big"));
+
+        assertThat(backend.ejected(clock.get())).isFalse();
+    }
+
+    @Test
+    @DisplayName("max-ejection-percent caps how many members are out at once")
+    void outlier_maxEjectionPercent() {
+        List<BackendGroup.Backend> members = members(2);
+        BackendGroup group = group(BackendGroupConfig.ROUND_ROBIN, members, new OutlierEjectionConfig(1, 1000, 50));
+
+        group.recordFailure(members.get(0), new UpstreamTimeoutException("slow", null));
+        group.recordFailure(members.get(1), new UpstreamTimeoutException("slow", null));
+
+        assertThat(members.get(0).ejected(clock.get())).isTrue();
+        assertThat(members.get(1).ejected(clock.get())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Single-member group → never ejected")
+    void outlier_singleMemberNeverEjected() {
+        List<BackendGroup.Backend> members = members(1);
+        BackendGroup group = group(BackendGroupConfig.ROUND_ROBIN, members, new OutlierEjectionConfig(1, 1000, 50));
+
+        group.recordResponse(members.get(0), 503);
+
+        assertThat(members.get(0).ejected(clock.get())).isFalse();
+        assertThat(group.available()).isTrue();
+    }
+}
@@ -0,0 +1,72 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for the byte-native buffered path (FR-004-13): bodies
+ * are read once as bytes and {@code proxy.max-body-bytes} counts bytes, not
+ * decoded characters.
+ */
+@DisplayName("Byte-native bodies — limits count bytes, content survives intact")
+class ByteNativeBodyTest extends ProxyTestHarness {
+
+    private static final ByteNativeBodyTest INSTANCE = new ByteNativeBodyTest();
+
+    private static final int MAX_BODY_BYTES = 1024;
+
+    @BeforeAll
+    static void startInfrastructure() throws Exception {
+        INSTANCE.startWithSpecs(
+                new String[] {"test-specs/request-body-transform.yaml", "test-specs/request-header-transform.yaml"},
+                "test-profiles/request-transform-profile.yaml",
+                MAX_BODY_BYTES);
+    }
+
+    @AfterAll
+    static void stopAll() {
+        INSTANCE.stopInfrastructure();
+    }
+
+    /** Sends a chunked POST (no Content-Length) to {@code /api/orders}. */
+    private static HttpResponse<String> postChunked(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + INSTANCE.proxyPort + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(body.getBytes(StandardCharsets.UTF_8))))
+                .build();
+        return INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Multi-byte body under the char count but over the byte limit → 413")
+    void multiByteBodyOverByteLimit_returns413() throws Exception {
+        // 600 chars of 'é' = 1200 UTF-8 bytes — fewer chars than the limit, more bytes
+        String body = "{\"customer_name\":\"" + "é".repeat(600) + "\"}";
+        assertThat(body.length()).isLessThan(MAX_BODY_BYTES);
+
+        HttpResponse<String> response = postChunked(body);
+
+        assertThat(response.statusCode()).isEqualTo(413);
+    }
+
+    @Test
+    @DisplayName("Non-ASCII content is transformed and forwarded byte-exact")
+    void nonAsciiBody_transformedIntact() throws Exception {
+        HttpResponse<String> response =
+                postChunked("{\"order_id\":\"ORD-7\",\"customer_name\":\"Zoë Ångström 東京\",\"total\":1}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        ReceivedRequest received = INSTANCE.receivedRequests.get("/api/orders");
+        assertThat(received.body()).contains("\"customerName\":\"Zoë Ångström 東京\"");
+    }
+}
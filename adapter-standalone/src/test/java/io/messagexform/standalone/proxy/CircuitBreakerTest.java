@@ -0,0 +1,128 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.CircuitBreakerConfig;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link CircuitBreaker} — closed, open and half-open transitions (FR-004-49). */
+@DisplayName("CircuitBreaker — per-backend fail-fast")
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /** 50 % over a window of 10, judged after 4 calls, open 1 s, 2 trials. */
+    private final CircuitBreaker breaker =
+            new CircuitBreaker("backend:80", new CircuitBreakerConfig(true, 50, 4, 10, 1000, 2), clock::get);
+
+    private void call(boolean success) {
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        assertThat(permit).isEqualTo(CircuitBreaker.Permit.CALL);
+        breaker.record(permit, success);
+    }
+
+    private void advanceMs(long ms) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    @Test
+    @DisplayName("Failure rate below threshold or too few calls → stays closed")
+    void staysClosedUntilThresholdAndMinimumCalls() {
+        CircuitBreaker fresh =
+                new CircuitBreaker("backend:80", new CircuitBreakerConfig(true, 50, 4, 10, 1000, 2), clock::get);
+        for (int i = 0; i < 3; i++) {
+            fresh.record(fresh.tryAcquire(), false);
+        }
+        assertThat(fresh.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        call(false);
+        call(false);
+        call(false);
+        assertThat(breaker.failureRatePercent()).isEqualTo(42);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Threshold reached → open, rejects with the remaining open time")
+    void opensAndRejects() {
+        call(true);
+        call(true);
+        call(false);
+        call(false);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.openings()).isEqualTo(1);
+        advanceMs(400);
+        assertThat(breaker.tryAcquire()).isNull();
+        assertThat(breaker.retryAfterMillis()).isEqualTo(600);
+        assertThat(breaker.allowsRequests()).isFalse();
+        assertThat(breaker.rejections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Open period over → half-open trials; all succeed → closed with an empty window")
+    void halfOpenTrialsClose() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        advanceMs(1000);
+        assertThat(breaker.allowsRequests()).isTrue();
+
+        CircuitBreaker.Permit first = breaker.tryAcquire();
+        CircuitBreaker.Permit second = breaker.tryAcquire();
+        assertThat(first).isEqualTo(CircuitBreaker.Permit.TRIAL);
+        assertThat(second).isEqualTo(CircuitBreaker.Permit.TRIAL);
+        assertThat(breaker.tryAcquire()).isNull();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.record(first, true);
+        breaker.record(second, true);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRatePercent()).isZero();
+    }
+
+    @Test
+    @DisplayName("Failed trial → open again for another period")
+    void failedTrialReopens() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        advanceMs(1000);
+        CircuitBreaker.Permit trial = breaker.tryAcquire();
+
+        breaker.record(trial, false);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.openings()).isEqualTo(2);
+        assertThat(breaker.retryAfterMillis()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Released trial frees its slot; late closed-state outcomes do not settle trials")
+    void releasedAndStalePermits() {
+        CircuitBreaker.Permit early = breaker.tryAcquire();
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        advanceMs(1000);
+        CircuitBreaker.Permit first = breaker.tryAcquire();
+        CircuitBreaker.Permit second = breaker.tryAcquire();
+        breaker.release(second);
+        CircuitBreaker.Permit third = breaker.tryAcquire();
+        assertThat(third).isEqualTo(CircuitBreaker.Permit.TRIAL);
+
+        breaker.record(early, false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.record(first, true);
+        breaker.record(third, true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
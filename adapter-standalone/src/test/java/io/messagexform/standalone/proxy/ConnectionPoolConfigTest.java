@@ -13,7 +13,8 @@ import org.junit.jupiter.api.Test;
  *
  * <p>
  * Verifies that JVM system properties for connection pool tuning are set
- * from {@link PoolConfig} values when the {@link UpstreamClient} is created.
+ * from {@link PoolConfig} values once at startup, and that creating an
+ * {@link UpstreamClient} — one per backend — leaves them alone.
  */
 @DisplayName("UpstreamClient — connection pool configuration")
 class ConnectionPoolConfigTest {
@@ -30,7 +31,7 @@ class ConnectionPoolConfigTest {
     void defaultPoolConfig_systemPropertiesSet() {
         ProxyConfig config = ProxyConfig.builder().backendHost("127.0.0.1").build();
 
-        new UpstreamClient(config);
+        UpstreamClient.configurePoolProperties(config.pool());
 
         // Default: maxConnections=100, idleTimeoutMs=60000
         assertThat(System.getProperty("jdk.httpclient.connectionPoolSize")).isEqualTo("100");
@@ -41,11 +42,11 @@ class ConnectionPoolConfigTest {
     @Test
     @DisplayName("Custom PoolConfig → system properties reflect custom values")
     void customPoolConfig_systemPropertiesReflectCustom() {
-        PoolConfig custom = new PoolConfig(200, true, 120_000);
+        PoolConfig custom = new PoolConfig(200, true, 120_000, 1000, 5000, 0);
         ProxyConfig config =
                 ProxyConfig.builder().backendHost("127.0.0.1").pool(custom).build();
 
-        new UpstreamClient(config);
+        UpstreamClient.configurePoolProperties(config.pool());
 
         assertThat(System.getProperty("jdk.httpclient.connectionPoolSize")).isEqualTo("200");
         assertThat(System.getProperty("jdk.httpclient.keepalive.timeout")).isEqualTo("120");
@@ -54,15 +55,28 @@ class ConnectionPoolConfigTest {
     @Test
     @DisplayName("PoolConfig with keepAlive=false → keepalive timeout set to 0")
     void keepAliveFalse_timeoutZero() {
-        PoolConfig noKeepAlive = new PoolConfig(50, false, 30_000);
+        PoolConfig noKeepAlive = new PoolConfig(50, false, 30_000, 1000, 5000, 0);
         ProxyConfig config =
                 ProxyConfig.builder().backendHost("127.0.0.1").pool(noKeepAlive).build();
 
-        new UpstreamClient(config);
+        UpstreamClient.configurePoolProperties(config.pool());
 
         assertThat(System.getProperty("jdk.httpclient.connectionPoolSize")).isEqualTo("50");
         // When keep-alive is disabled, set timeout to 0 to close idle connections
         // immediately
         assertThat(System.getProperty("jdk.httpclient.keepalive.timeout")).isEqualTo("0");
     }
+
+    @Test
+    @DisplayName("Creating an UpstreamClient does not touch the JVM-global properties")
+    void clientCreation_leavesPropertiesAlone() {
+        UpstreamClient.configurePoolProperties(PoolConfig.DEFAULT);
+        PoolConfig other = new PoolConfig(7, false, 30_000, 1000, 5000, 0);
+
+        new UpstreamClient(
+                ProxyConfig.builder().backendHost("127.0.0.1").pool(other).build());
+
+        assertThat(System.getProperty("jdk.httpclient.connectionPoolSize")).isEqualTo("100");
+        assertThat(System.getProperty("jdk.httpclient.keepalive.timeout")).isEqualTo("60");
+    }
 }
@@ -0,0 +1,161 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Integration tests for content coding (FR-004-53, CFG-004-85..87,
+ * S-004-90..93): compressed bodies on transformed routes are decoded before
+ * the transform and re-compressed for the client; streamed routes pass the
+ * encoded bytes through untouched.
+ */
+@DisplayName("FR-004-53: Content coding")
+class ContentCodingIntegrationTest extends ProxyTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final byte[] BACKEND_JSON = "{\"name\":\"item\",\"value\":42}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicReference<byte[]> received = new AtomicReference<>();
+    private final AtomicReference<String> receivedEncoding = new AtomicReference<>();
+
+    @AfterEach
+    void cleanup() {
+        stopInfrastructure();
+    }
+
+    private void start(boolean compression) throws Exception {
+        startMockBackend(this::backend);
+        startProxyApp(
+                tempDir,
+                new String[] {"test-specs/request-body-transform.yaml", "test-specs/response-body-transform.yaml"},
+                "test-profiles/bidirectional-profile.yaml",
+                """
+                compression:
+                  enabled: %s
+                  min-bytes: 16
+                  level: 9
+                """.formatted(compression),
+                "");
+    }
+
+    /** Records the request body and its encoding; always answers gzip-encoded JSON. */
+    private void backend(HttpExchange exchange) throws IOException {
+        received.set(exchange.getRequestBody().readAllBytes());
+        receivedEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        respond(exchange, 200, "application/json", ContentCodingTest.gzip(BACKEND_JSON));
+    }
+
+    @Test
+    @DisplayName("gzip request and response on a transformed route → decoded, transformed, re-compressed")
+    void transformedRoute_decodedAndRecompressed() throws Exception {
+        start(true);
+        byte[] requestJson =
+                "{\"order_id\":7,\"customer_name\":\"Ada\",\"total\":12.5}".getBytes(StandardCharsets.UTF_8);
+
+        HttpResponse<byte[]> response = post(
+                "/api/bidi",
+                ContentCodingTest.gzip(requestJson),
+                Map.of("Content-Encoding", "gzip", "Accept-Encoding", "gzip"));
+
+        // Upstream gets the transformed request, uncompressed
+        assertThat(receivedEncoding.get()).isNull();
+        JsonNode forwarded = MAPPER.readTree(received.get());
+        assertThat(forwarded.get("orderId").asInt()).isEqualTo(7);
+        assertThat(forwarded.get("customerName").asText()).isEqualTo("Ada");
+
+        // The client gets the transformed response, gzip-compressed again
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("content-encoding")).hasValue("gzip");
+        JsonNode body = MAPPER.readTree(gunzip(response.body()));
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.at("/data/value").asInt()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Client without Accept-Encoding → transformed response sent uncompressed")
+    void noAcceptEncoding_identity() throws Exception {
+        start(true);
+
+        HttpResponse<byte[]> response = post("/api/resp-only", "{}".getBytes(StandardCharsets.UTF_8), Map.of());
+
+        assertThat(response.headers().firstValue("content-encoding")).isEmpty();
+        assertThat(MAPPER.readTree(response.body()).at("/data/name").asText()).isEqualTo("item");
+    }
+
+    @Test
+    @DisplayName("Compression disabled → transformed response sent uncompressed")
+    void compressionDisabled_identity() throws Exception {
+        start(false);
+
+        HttpResponse<byte[]> response =
+                post("/api/resp-only", "{}".getBytes(StandardCharsets.UTF_8), Map.of("Accept-Encoding", "gzip"));
+
+        assertThat(response.headers().firstValue("content-encoding")).isEmpty();
+        assertThat(MAPPER.readTree(response.body()).at("/data/value").asInt()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Unmatched route → encoded request and response bytes pass through untouched")
+    void unmatchedRoute_untouched() throws Exception {
+        start(true);
+        byte[] gzippedRequest = ContentCodingTest.gzip("{\"raw\":true}".getBytes(StandardCharsets.UTF_8));
+
+        HttpResponse<byte[]> response =
+                post("/api/other", gzippedRequest, Map.of("Content-Encoding", "gzip", "Accept-Encoding", "gzip"));
+
+        assertThat(received.get()).isEqualTo(gzippedRequest);
+        assertThat(receivedEncoding.get()).isEqualTo("gzip");
+        assertThat(response.headers().firstValue("content-encoding")).hasValue("gzip");
+        assertThat(response.body()).isEqualTo(ContentCodingTest.gzip(BACKEND_JSON));
+    }
+
+    @Test
+    @DisplayName("Corrupt gzip request body on a transformed route → 400, not forwarded")
+    void corruptRequest_badRequest() throws Exception {
+        start(true);
+
+        HttpResponse<byte[]> response = post(
+                "/api/bidi", "{\"order_id\":7}".getBytes(StandardCharsets.UTF_8), Map.of("Content-Encoding", "gzip"));
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(MAPPER.readTree(response.body()).get("detail").asText()).contains("gzip");
+        assertThat(received.get()).isNull();
+    }
+
+    private HttpResponse<byte[]> post(String path, byte[] body, Map<String, String> headers)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach(request::header);
+        return testClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
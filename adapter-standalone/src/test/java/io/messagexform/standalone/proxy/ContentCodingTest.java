@@ -0,0 +1,95 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ContentCoding} — bounded gzip / deflate decoding (FR-004-53). */
+@DisplayName("ContentCoding — gzip / deflate body decoding")
+class ContentCodingTest {
+
+    private static final byte[] JSON = "{\"name\":\"item\",\"value\":42}".getBytes(StandardCharsets.UTF_8);
+
+    static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] body, boolean nowrap) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+        try (DeflaterOutputStream stream = new DeflaterOutputStream(out, deflater)) {
+            stream.write(body);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("gzip, x-gzip and deflate are decodable; identity, br and none are not")
+    void decodable() {
+        assertThat(ContentCoding.decodable("gzip")).isTrue();
+        assertThat(ContentCoding.decodable(" GZIP ")).isTrue();
+        assertThat(ContentCoding.decodable("x-gzip")).isTrue();
+        assertThat(ContentCoding.decodable("deflate")).isTrue();
+        assertThat(ContentCoding.decodable("identity")).isFalse();
+        assertThat(ContentCoding.decodable("br")).isFalse();
+        assertThat(ContentCoding.decodable(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("gzip body → original bytes")
+    void gzipRoundTrip() throws Exception {
+        assertThat(ContentCoding.decode("gzip", gzip(JSON), 0)).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("deflate body → original bytes, zlib-wrapped or raw")
+    void deflateRoundTrip() throws Exception {
+        assertThat(ContentCoding.decode("deflate", deflate(JSON, false), 0)).isEqualTo(JSON);
+        assertThat(ContentCoding.decode("deflate", deflate(JSON, true), 0)).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("Empty body → returned as is")
+    void emptyBody() throws Exception {
+        assertThat(ContentCoding.decode("gzip", new byte[0], 0)).isEmpty();
+        assertThat(ContentCoding.decode("gzip", null, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("Decoded size over the limit → tooLarge, even if the encoded body is small")
+    void decodedLimit() throws Exception {
+        byte[] bomb = gzip(new byte[1_000_000]);
+        assertThat(bomb.length).isLessThan(10_000);
+
+        assertThatThrownBy(() -> ContentCoding.decode("gzip", bomb, 64 * 1024))
+                .isInstanceOf(ContentCoding.DecodeException.class)
+                .satisfies(e -> assertThat(((ContentCoding.DecodeException) e).tooLarge())
+                        .isTrue());
+    }
+
+    @Test
+    @DisplayName("Corrupt body → DecodeException, not tooLarge")
+    void corrupt() {
+        assertThatThrownBy(() -> ContentCoding.decode("gzip", JSON, 0))
+                .isInstanceOf(ContentCoding.DecodeException.class)
+                .hasMessageContaining("Malformed gzip body")
+                .satisfies(e -> assertThat(((ContentCoding.DecodeException) e).tooLarge())
+                        .isFalse());
+        assertThatThrownBy(() -> ContentCoding.decode("deflate", JSON, 0))
+                .isInstanceOf(ContentCoding.DecodeException.class);
+    }
+}
@@ -101,7 +101,8 @@ class EndpointPriorityTest {
 
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(engine, adapter, upstreamClient, -1, true);
+        ProxyHandler proxyHandler =
+                ProxyHandler.builder(engine, adapter).upstream(upstreamClient).build();
 
         // Health + readiness handlers
         HealthHandler healthHandler = new HealthHandler();
@@ -78,7 +78,8 @@ class HealthEndpointTest {
         TransformEngine engine = new TransformEngine(specParser);
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(engine, adapter, upstreamClient, -1, true);
+        ProxyHandler proxyHandler =
+                ProxyHandler.builder(engine, adapter).upstream(upstreamClient).build();
 
         // Register health handler BEFORE the proxy wildcard
         HealthHandler healthHandler = new HealthHandler();
@@ -54,7 +54,9 @@ class HotReloadIntegrationTest extends ProxyTestHarness {
     @Test
     void fileWatcher_detectsNewSpec_reloadsEngine() throws Exception {
         // Start with an identity spec
-        writeSpec("identity.yaml", """
+        writeSpec(
+                "identity.yaml",
+                """
                 id: identity-transform
                 version: "1.0.0"
                 description: "Identity"
@@ -90,7 +92,9 @@ class HotReloadIntegrationTest extends ProxyTestHarness {
         assertEquals("original", initialBody.get("key").asText());
 
         // Now write a new version of the spec that transforms the body
-        writeSpec("body-transform.yaml", """
+        writeSpec(
+                "body-transform.yaml",
+                """
                 id: body-transform
                 version: "1.0.0"
                 description: "Adds a field"
@@ -143,7 +147,9 @@ class HotReloadIntegrationTest extends ProxyTestHarness {
     @Test
     void reloadFailure_oldRegistryPreserved() throws Exception {
         // Start with a working spec
-        writeSpec("good-spec.yaml", """
+        writeSpec(
+                "good-spec.yaml",
+                """
                 id: good-spec
                 version: "1.0.0"
                 description: "Good spec"
@@ -165,7 +171,9 @@ class HotReloadIntegrationTest extends ProxyTestHarness {
         assertEquals(200, firstReload.statusCode());
 
         // Write a broken spec
-        writeSpec("broken.yaml", """
+        writeSpec(
+                "broken.yaml",
+                """
                 id: broken
                 version: "1.0.0"
                 transform:
@@ -209,8 +217,11 @@ class HotReloadIntegrationTest extends ProxyTestHarness {
                 .backendPort(backendPort)
                 .build();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .upstream(upstreamClient)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .build();
         AdminReloadHandler reloadHandler = new AdminReloadHandler(engine, specsDir, profileFile);
 
         // Wire FileWatcher → engine reload
@@ -166,8 +166,11 @@ class InboundMtlsTest {
 
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .upstream(upstreamClient)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .build();
 
         app = Javalin.create(javalinConfig -> {
                     TlsConfigurator.configureInboundTls(javalinConfig, tlsConfig);
@@ -175,8 +175,11 @@ class InboundTlsTest {
 
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .upstream(upstreamClient)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .build();
 
         app = Javalin.create(javalinConfig -> {
                     if (config.proxyTls().enabled()) {
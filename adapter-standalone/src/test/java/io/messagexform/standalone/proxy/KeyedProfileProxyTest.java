@@ -0,0 +1,160 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * End-to-end tests for keyed profiles selected by path prefix (CFG-004-42):
+ * two tenants share one compiled spec set but route through different
+ * profiles.
+ */
+class KeyedProfileProxyTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HttpServer backend;
+    private ProxyApp proxyApp;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Echo backend — returns the request body it received
+        backend = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        backend.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        backend.start();
+
+        Path specsDir = Files.createDirectories(tempDir.resolve("specs"));
+        writeSpec(specsDir, "tag-a", "a");
+        writeSpec(specsDir, "tag-b", "b");
+        Path profilesDir = Files.createDirectories(tempDir.resolve("profiles"));
+        Path profileA = writeProfile(profilesDir, "tenant-a", "tag-a", "/tenant-a/orders");
+        Path profileB = writeProfile(profilesDir, "tenant-b", "tag-b", "/tenant-b/orders");
+        Path defaultProfile = writeProfile(profilesDir, "default", "tag-b", "/orders");
+
+        Path configFile = tempDir.resolve("config.yaml");
+        Files.writeString(configFile, """
+            proxy:
+              host: "127.0.0.1"
+              port: 0
+            backend:
+              host: "127.0.0.1"
+              port: %d
+            engine:
+              specs-dir: "%s"
+              profile: "%s"
+              profile-routes:
+                - path-prefix: /tenant-a
+                  profile: "%s"
+                - path-prefix: /tenant-b
+                  profile: "%s"
+            reload:
+              enabled: false
+            """.formatted(
+                        backend.getAddress().getPort(),
+                        unix(specsDir),
+                        unix(defaultProfile),
+                        unix(profileA),
+                        unix(profileB)));
+
+        proxyApp = ProxyApp.start(new String[] {"--config", configFile.toString()});
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (proxyApp != null) {
+            proxyApp.stop();
+        }
+        if (backend != null) {
+            backend.stop(0);
+        }
+    }
+
+    private static String unix(Path path) {
+        return path.toString().replace("\\", "/");
+    }
+
+    private static void writeSpec(Path dir, String id, String tag) throws Exception {
+        Files.writeString(dir.resolve(id + ".yaml"), """
+            id: %s
+            version: "1.0.0"
+            input:
+              schema:
+                type: object
+            output:
+              schema:
+                type: object
+            transform:
+              lang: jslt
+              expr: |
+                { "tenant": "%s", "item": .item }
+            """.formatted(id, tag));
+    }
+
+    private static Path writeProfile(Path dir, String id, String specId, String path) throws Exception {
+        Path file = dir.resolve(id + ".yaml");
+        Files.writeString(file, """
+            profile: %s
+            version: "1.0.0"
+            transforms:
+              - spec: %s@1.0.0
+                direction: request
+                match:
+                  path: "%s"
+                  method: POST
+            """.formatted(id, specId, path));
+        return file;
+    }
+
+    private JsonNode post(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + proxyApp.port() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"item\":\"book\"}", StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return MAPPER.readTree(response.body());
+    }
+
+    @Test
+    @DisplayName("Path prefix selects the tenant profile; both share the compiled specs")
+    void pathPrefixSelectsProfile() throws Exception {
+        assertThat(post("/tenant-a/orders").get("tenant").asText()).isEqualTo("a");
+        assertThat(post("/tenant-b/orders").get("tenant").asText()).isEqualTo("b");
+        assertThat(proxyApp.engine().registry().profiles()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Unrouted paths use the default profile")
+    void unroutedPathUsesDefaultProfile() throws Exception {
+        assertThat(post("/orders").get("tenant").asText()).isEqualTo("b");
+        // Tenant A's profile is not consulted outside its prefix
+        assertThat(post("/tenant-a-other/orders").has("tenant")).isFalse();
+    }
+}
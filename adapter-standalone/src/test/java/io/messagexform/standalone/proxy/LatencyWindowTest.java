@@ -0,0 +1,47 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link LatencyWindow} — the observed p95 behind the default hedging delay (FR-004-50). */
+@DisplayName("LatencyWindow — recent latency percentile")
+class LatencyWindowTest {
+
+    @Test
+    @DisplayName("Fewer than MIN_SAMPLES samples → no percentile")
+    void tooFewSamples() {
+        LatencyWindow window = new LatencyWindow();
+        for (int i = 0; i < LatencyWindow.MIN_SAMPLES - 1; i++) {
+            window.record(1_000);
+        }
+
+        assertThat(window.p95Nanos()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("1..100 → p95 is 95")
+    void p95OfFirstSamples() {
+        LatencyWindow window = new LatencyWindow();
+        for (int i = 1; i <= 100; i++) {
+            window.record(i);
+        }
+
+        assertThat(window.p95Nanos()).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("Old samples age out of the window")
+    void oldSamplesAgeOut() {
+        LatencyWindow window = new LatencyWindow();
+        for (int i = 0; i < LatencyWindow.CAPACITY; i++) {
+            window.record(1_000_000);
+        }
+        for (int i = 0; i < LatencyWindow.CAPACITY; i++) {
+            window.record(10);
+        }
+
+        assertThat(window.p95Nanos()).isEqualTo(10);
+    }
+}
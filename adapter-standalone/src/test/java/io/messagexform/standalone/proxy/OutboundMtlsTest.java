@@ -191,8 +191,11 @@ class OutboundMtlsTest {
 
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .upstream(upstreamClient)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .build();
 
         proxyApp = Javalin.create()
                 .addHttpHandler(HandlerType.GET, "/<path>", proxyHandler)
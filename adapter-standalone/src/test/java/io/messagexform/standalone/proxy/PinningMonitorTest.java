@@ -0,0 +1,64 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PinningMonitor} — JFR-based virtual-thread pinning
+ * diagnostics (FR-004-41, CFG-004-44).
+ */
+class PinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    @DisplayName("A virtual thread blocking inside synchronized is counted as pinned")
+    void blockingInsideSynchronized_isReported() throws Exception {
+        try (PinningMonitor monitor = new PinningMonitor(Duration.ofMillis(10))) {
+            monitor.start();
+
+            Thread pinned = Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            pinned.join();
+
+            // JFR streams flush about once a second
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (monitor.pinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(monitor.pinnedCount()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("A pin shorter than the threshold is not counted")
+    void shortPin_belowThreshold_notReported() throws Exception {
+        try (PinningMonitor monitor = new PinningMonitor(Duration.ofSeconds(5))) {
+            monitor.start();
+
+            Thread pinned = Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            pinned.join();
+            Thread.sleep(1500);
+
+            assertThat(monitor.pinnedCount()).isZero();
+        }
+    }
+}
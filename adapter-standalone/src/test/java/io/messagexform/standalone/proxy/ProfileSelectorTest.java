@@ -0,0 +1,116 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.ProfileRoute;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ProfileSelector} — Host / path-prefix profile selection
+ * (CFG-004-42).
+ */
+class ProfileSelectorTest {
+
+    private static final String TENANT_A = Path.of("profiles/tenant-a.yaml").toString();
+    private static final String TENANT_B = Path.of("profiles/tenant-b.yaml").toString();
+    private static final String WILDCARD = Path.of("profiles/wildcard.yaml").toString();
+
+    private final ProfileSelector selector = new ProfileSelector(List.of(
+            new ProfileRoute("A.Example.com", null, "profiles/tenant-a.yaml"),
+            new ProfileRoute(null, "/tenant-b", "profiles/./tenant-b.yaml"),
+            new ProfileRoute("api.example.com", "/v2/", "profiles/tenant-a.yaml"),
+            new ProfileRoute("*.tenants.example.com", null, "profiles/wildcard.yaml")));
+
+    @Test
+    @DisplayName("Host match is case-insensitive and ignores the port")
+    void hostMatch() {
+        assertThat(selector.select("a.example.com", "/x")).isEqualTo(TENANT_A);
+        assertThat(selector.select("A.EXAMPLE.COM:8443", "/x")).isEqualTo(TENANT_A);
+        assertThat(selector.select("b.example.com", "/x")).isNull();
+        assertThat(selector.select(null, "/x")).isNull();
+    }
+
+    @Test
+    @DisplayName("Path prefix matches on a segment boundary")
+    void pathPrefixMatch() {
+        assertThat(selector.select("any", "/tenant-b")).isEqualTo(TENANT_B);
+        assertThat(selector.select("any", "/tenant-b/users")).isEqualTo(TENANT_B);
+        assertThat(selector.select("any", "/tenant-bx")).isNull();
+    }
+
+    @Test
+    @DisplayName("Routes with host and path-prefix require both")
+    void hostAndPathPrefix() {
+        assertThat(selector.select("api.example.com", "/v2/users")).isEqualTo(TENANT_A);
+        assertThat(selector.select("api.example.com", "/v1/users")).isNull();
+        assertThat(selector.select("other.example.com", "/v2/users")).isNull();
+    }
+
+    @Test
+    @DisplayName("*.domain matches subdomains only")
+    void wildcardHost() {
+        assertThat(selector.select("acme.tenants.example.com", "/")).isEqualTo(WILDCARD);
+        assertThat(selector.select("tenants.example.com", "/")).isNull();
+    }
+
+    @Test
+    @DisplayName("First matching route wins")
+    void firstMatchWins() {
+        assertThat(selector.select("a.example.com", "/tenant-b/users")).isEqualTo(TENANT_A);
+    }
+
+    @Test
+    @DisplayName("Routes sharing a profile file share one selection key")
+    void keyedProfilesAreDeduplicated() {
+        assertThat(selector.keyedProfiles()).containsOnlyKeys(TENANT_A, TENANT_B, WILDCARD);
+        assertThat(selector.keyedProfiles().get(TENANT_B)).isEqualTo(Path.of("profiles/tenant-b.yaml"));
+        assertThat(ProfileSelector.NONE.select("a.example.com", "/tenant-b")).isNull();
+        assertThat(ProfileSelector.NONE.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("match → profile key and backend group; group-only routes add no profile")
+    void matchReturnsBackendGroup() {
+        ProfileSelector routed = new ProfileSelector(List.of(
+                new ProfileRoute(null, "/orders", null, "orders"),
+                new ProfileRoute(null, "/billing", "profiles/tenant-a.yaml", "billing")));
+
+        assertThat(routed.match("any", "/orders/1"))
+                .isEqualTo(new ProfileSelector.Match("engine.profile-routes[0]", null, "orders", null, null));
+        assertThat(routed.match("any", "/billing"))
+                .isEqualTo(new ProfileSelector.Match("engine.profile-routes[1]", TENANT_A, "billing", null, null));
+        assertThat(routed.match("any", "/other")).isSameAs(ProfileSelector.Match.NONE);
+        assertThat(routed.keyedProfiles()).containsOnlyKeys(TENANT_A);
+    }
+
+    @Test
+    @DisplayName("match → the route's hedging override, null when the route sets none")
+    void matchReturnsHedgingOverride() {
+        ProfileSelector routed = new ProfileSelector(List.of(
+                new ProfileRoute(null, "/search", null, "search", true),
+                new ProfileRoute(null, "/orders", null, "orders", false),
+                new ProfileRoute(null, "/billing", null, "billing")));
+
+        assertThat(routed.match("any", "/search").hedging()).isTrue();
+        assertThat(routed.match("any", "/orders").hedging()).isFalse();
+        assertThat(routed.match("any", "/billing").hedging()).isNull();
+        assertThat(ProfileSelector.Match.NONE.hedging()).isNull();
+    }
+
+    @Test
+    @DisplayName("match → the route's admission priority, null when the route sets none")
+    void matchReturnsPriority() {
+        ProfileSelector routed = new ProfileSelector(List.of(
+                new ProfileRoute(null, "/payments", null, null, null, "critical"),
+                new ProfileRoute(null, "/export", null, null, null, "low"),
+                new ProfileRoute(null, "/billing", null, "billing")));
+
+        assertThat(routed.match("any", "/payments/1").priority()).isEqualTo(AdmissionController.Priority.CRITICAL);
+        assertThat(routed.match("any", "/export").priority()).isEqualTo(AdmissionController.Priority.LOW);
+        assertThat(routed.match("any", "/billing").priority()).isNull();
+        assertThat(ProfileSelector.Match.NONE.priority()).isNull();
+    }
+}
@@ -124,7 +124,8 @@ class ProxyHandlerPassthroughTest {
         TransformEngine engine = new TransformEngine(specParser);
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(engine, adapter, upstreamClient, -1, true);
+        ProxyHandler proxyHandler =
+                ProxyHandler.builder(engine, adapter).upstream(upstreamClient).build();
 
         app = Javalin.create()
                 .addHttpHandler(HandlerType.GET, "/<path>", proxyHandler)
@@ -1,5 +1,7 @@
 package io.messagexform.standalone.proxy;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import io.javalin.Javalin;
 import io.javalin.http.HandlerType;
@@ -12,14 +14,19 @@ import io.messagexform.standalone.config.ProxyConfig;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Shared test infrastructure for ProxyHandler integration tests.
@@ -27,29 +34,45 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * Provides:
  * <ul>
- * <li>A mock backend (JDK {@link HttpServer}) that echoes request details</li>
- * <li>A Javalin server with {@link ProxyHandler}</li>
+ * <li>A mock backend (JDK {@link HttpServer}) that echoes request details, or
+ * runs a custom handler</li>
+ * <li>A Javalin server with {@link ProxyHandler}, or the full
+ * {@link ProxyApp} started from a generated config file</li>
  * <li>A JDK {@link HttpClient} for sending test requests</li>
  * <li>Captured request tracking for backend verification</li>
  * </ul>
  *
  * <p>
  * Subclasses call {@link #startWithSpecs(String[], String)} to start
- * infrastructure with specific spec/profile YAML fixtures.
+ * infrastructure with specific spec/profile YAML fixtures. Tests that need
+ * their own upstream wiring (pool, circuit breaker, backend groups, response
+ * cache) call {@link #startMockBackend(HttpHandler)}, then
+ * {@link #startProxy(ProxyHandler.Builder)} with a builder from
+ * {@link #handlerBuilder(String[], String)}; tests of features wired by
+ * {@code ProxyApp} call {@link #startProxyApp}.
  */
 abstract class ProxyTestHarness {
 
     protected HttpServer mockBackend;
     protected int backendPort;
     protected Javalin app;
+    /** Set instead of {@link #app} by {@link #startProxyApp}. */
+    protected ProxyApp proxyApp;
+
     protected int proxyPort;
     protected HttpClient testClient;
     protected TransformEngine engine;
 
+    /** When set before start, the proxy runs as the async pipeline (FR-004-42). */
+    protected TransformExecutor transformExecutor;
+
     /** HTTP methods accepted by the proxy (FR-004-05). */
     private static final Set<String> ALLOWED_METHODS =
             Set.of("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS");
 
+    private final List<HttpServer> extraBackends = new ArrayList<>();
+    private ExecutorService backendExecutor;
+
     /** Records the last request received by the mock backend for each key. */
     protected final Map<String, ReceivedRequest> receivedRequests = new ConcurrentHashMap<>();
 
@@ -88,20 +111,45 @@ abstract class ProxyTestHarness {
     protected void startWithSpecs(
             String[] specResourcePaths, String profileResourcePath, int maxBodyBytes, boolean forwardedHeadersEnabled)
             throws IOException {
-        startMockBackend();
+        if (mockBackend == null) {
+            startMockBackend(this::echo);
+        }
 
-        ProxyConfig.Builder configBuilder = ProxyConfig.builder()
-                .backendScheme("http")
-                .backendHost("127.0.0.1")
-                .backendPort(backendPort)
-                .backendConnectTimeoutMs(5000)
-                .backendReadTimeoutMs(5000)
-                .forwardedHeadersEnabled(forwardedHeadersEnabled);
+        ProxyConfig.Builder configBuilder = backendConfig().forwardedHeadersEnabled(forwardedHeadersEnabled);
         if (maxBodyBytes > 0) {
             configBuilder.maxBodyBytes(maxBodyBytes);
         }
         ProxyConfig config = configBuilder.build();
 
+        startProxy(handlerBuilder(specResourcePaths, profileResourcePath)
+                .upstream(new UpstreamClient(config))
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled()));
+    }
+
+    /**
+     * Returns a config builder pointing at the mock backend, for tests that
+     * build their own {@link UpstreamClient} or {@link BackendGroups}.
+     */
+    protected ProxyConfig.Builder backendConfig() {
+        return ProxyConfig.builder()
+                .backendScheme("http")
+                .backendHost("127.0.0.1")
+                .backendPort(backendPort)
+                .backendConnectTimeoutMs(5000)
+                .backendReadTimeoutMs(5000);
+    }
+
+    /**
+     * Loads the given specs and profile into a new {@link #engine} and returns
+     * a handler builder for it. Callers add the upstream side and pass the
+     * builder to {@link #startProxy(ProxyHandler.Builder)}.
+     *
+     * @param specResourcePaths   classpath resource paths to spec YAML files
+     * @param profileResourcePath classpath resource path to the profile YAML
+     *                            file (null for no profile)
+     */
+    protected ProxyHandler.Builder handlerBuilder(String[] specResourcePaths, String profileResourcePath) {
         EngineRegistry registry = new EngineRegistry();
         registry.register(new JsltExpressionEngine());
         SpecParser specParser = new SpecParser(registry);
@@ -109,23 +157,20 @@ abstract class ProxyTestHarness {
 
         // Load specs
         for (String specResource : specResourcePaths) {
-            Path specPath = Path.of(
-                    getClass().getClassLoader().getResource(specResource).getPath());
-            engine.loadSpec(specPath);
+            engine.loadSpec(resource(specResource));
         }
 
         // Load profile
         if (profileResourcePath != null) {
-            Path profilePath = Path.of(
-                    getClass().getClassLoader().getResource(profileResourcePath).getPath());
-            engine.loadProfile(profilePath);
+            engine.loadProfile(resource(profileResourcePath));
         }
 
-        StandaloneAdapter adapter = new StandaloneAdapter();
-        UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        return ProxyHandler.builder(engine, new StandaloneAdapter()).transformExecutor(transformExecutor);
+    }
 
+    /** Starts the Javalin proxy around the handler built from {@code handler}. */
+    protected void startProxy(ProxyHandler.Builder handler) {
+        ProxyHandler proxyHandler = handler.build();
         app = Javalin.create()
                 .before("/<path>", ctx -> {
                     String method = ctx.method().name();
@@ -153,6 +198,61 @@ abstract class ProxyTestHarness {
                 HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
     }
 
+    /**
+     * Starts the mock backend (echo, unless one was started already) and the
+     * full {@link ProxyApp} from a config file written to {@code workDir}, for
+     * tests of features wired by {@code ProxyApp} itself (admission, rate
+     * limiting, compression).
+     *
+     * <p>
+     * The specs are copied into {@code workDir/specs}. {@code proxySettings}
+     * and {@code engineSettings} are YAML lines added under {@code proxy:} and
+     * {@code engine:} respectively, written without the section indent; either
+     * may be empty.
+     */
+    protected void startProxyApp(
+            Path workDir,
+            String[] specResourcePaths,
+            String profileResourcePath,
+            String proxySettings,
+            String engineSettings)
+            throws Exception {
+        if (mockBackend == null) {
+            startMockBackend(this::echo);
+        }
+
+        Path specsDir = Files.createDirectories(workDir.resolve("specs"));
+        for (String specResource : specResourcePaths) {
+            Path spec = resource(specResource);
+            Files.copy(spec, specsDir.resolve(spec.getFileName()));
+        }
+        String profileLine = "";
+        if (profileResourcePath != null) {
+            Path profile = workDir.resolve(resource(profileResourcePath).getFileName());
+            Files.copy(resource(profileResourcePath), profile);
+            profileLine = "profile: \"" + yamlPath(profile) + "\"\n";
+        }
+        Path configFile = workDir.resolve("config.yaml");
+        Files.writeString(
+                configFile,
+                "proxy:\n"
+                        + "  host: \"127.0.0.1\"\n"
+                        + "  port: 0\n"
+                        + proxySettings.indent(2)
+                        + "backend:\n"
+                        + "  host: \"127.0.0.1\"\n"
+                        + "  port: " + backendPort + "\n"
+                        + "engine:\n"
+                        + ("specs-dir: \"" + yamlPath(specsDir) + "\"\n" + profileLine + engineSettings).indent(2)
+                        + "reload:\n"
+                        + "  enabled: false\n");
+
+        proxyApp = ProxyApp.start(new String[] {"--config", configFile.toString()});
+        proxyPort = proxyApp.port();
+        testClient =
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
     /** Starts infrastructure with no specs/profile (passthrough mode). */
     protected void startPassthrough() throws IOException {
         startWithSpecs(new String[0], null);
@@ -168,46 +268,82 @@ abstract class ProxyTestHarness {
         startWithSpecs(new String[0], null, -1, enabled);
     }
 
-    private void startMockBackend() throws IOException {
-        mockBackend = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    /**
+     * Starts the mock backend with a custom handler for every path, instead of
+     * the default echo. Call before starting the proxy.
+     */
+    protected void startMockBackend(HttpHandler handler) throws IOException {
+        mockBackend = createBackend(handler);
         backendPort = mockBackend.getAddress().getPort();
+    }
 
-        mockBackend.createContext("/", exchange -> {
-            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
-            String path = exchange.getRequestURI().getPath();
-            String query = exchange.getRequestURI().getRawQuery();
-            String requestKey = path + (query != null ? "?" + query : "");
+    /**
+     * Starts a further backend (e.g. a backend group member) and returns its
+     * port; it is stopped with the rest of the infrastructure.
+     */
+    protected int startExtraBackend(HttpHandler handler) throws IOException {
+        HttpServer server = createBackend(handler);
+        extraBackends.add(server);
+        return server.getAddress().getPort();
+    }
 
-            receivedRequests.put(
-                    requestKey,
-                    new ReceivedRequest(
-                            exchange.getRequestMethod(), path, query, exchange.getRequestHeaders(), requestBody));
+    private HttpServer createBackend(HttpHandler handler) throws IOException {
+        if (backendExecutor == null) {
+            // Handlers may block (slow backends), so each exchange gets its own thread
+            backendExecutor = Executors.newCachedThreadPool();
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(backendExecutor);
+        server.createContext("/", handler);
+        server.start();
+        return server;
+    }
 
-            String method = exchange.getRequestMethod();
-            if ("HEAD".equalsIgnoreCase(method)) {
-                exchange.getResponseHeaders().set("Content-Type", "application/json");
-                exchange.getResponseHeaders().set("X-Backend-Method", method);
-                exchange.sendResponseHeaders(200, -1);
-                exchange.close();
-                return;
-            }
+    /** Default backend: records the request and echoes it back as JSON. */
+    private void echo(HttpExchange exchange) throws IOException {
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getRawQuery();
+        String requestKey = path + (query != null ? "?" + query : "");
 
-            String responseBody = String.format(
-                    "{\"method\":\"%s\",\"path\":\"%s\",\"query\":%s,\"body\":%s}",
-                    method,
-                    path,
-                    query != null ? "\"" + query + "\"" : "null",
-                    requestBody.isEmpty() ? "null" : requestBody);
+        receivedRequests.put(
+                requestKey,
+                new ReceivedRequest(
+                        exchange.getRequestMethod(), path, query, exchange.getRequestHeaders(), requestBody));
 
-            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+        String method = exchange.getRequestMethod();
+        if ("HEAD".equalsIgnoreCase(method)) {
             exchange.getResponseHeaders().set("Content-Type", "application/json");
             exchange.getResponseHeaders().set("X-Backend-Method", method);
-            exchange.sendResponseHeaders(200, bytes.length);
-            try (OutputStream os = exchange.getResponseBody()) {
-                os.write(bytes);
-            }
-        });
-        mockBackend.start();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        String responseBody = String.format(
+                "{\"method\":\"%s\",\"path\":\"%s\",\"query\":%s,\"body\":%s}",
+                method,
+                path,
+                query != null ? "\"" + query + "\"" : "null",
+                requestBody.isEmpty() ? "null" : requestBody);
+
+        exchange.getResponseHeaders().set("X-Backend-Method", method);
+        respond(exchange, 200, "application/json", responseBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends {@code body} as the complete response of a custom backend
+     * handler; a {@code null} content type leaves the header unset.
+     */
+    protected static void respond(HttpExchange exchange, int statusCode, String contentType, byte[] body)
+            throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
     }
 
     /** Registers a custom response for a specific path on the mock backend. */
@@ -232,12 +368,7 @@ abstract class ProxyTestHarness {
                 return;
             }
 
-            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
-            exchange.getResponseHeaders().set("Content-Type", contentType);
-            exchange.sendResponseHeaders(statusCode, bytes.length);
-            try (OutputStream os = exchange.getResponseBody()) {
-                os.write(bytes);
-            }
+            respond(exchange, statusCode, contentType, responseBody.getBytes(StandardCharsets.UTF_8));
         });
     }
 
@@ -245,9 +376,19 @@ abstract class ProxyTestHarness {
         if (app != null) {
             app.stop();
         }
+        if (proxyApp != null) {
+            proxyApp.stop();
+        }
         if (mockBackend != null) {
             mockBackend.stop(0);
         }
+        extraBackends.forEach(server -> server.stop(0));
+        if (backendExecutor != null) {
+            backendExecutor.shutdownNow();
+        }
+        if (transformExecutor != null) {
+            transformExecutor.close();
+        }
     }
 
     /**
@@ -265,6 +406,19 @@ abstract class ProxyTestHarness {
         return Collections.emptyList();
     }
 
+    /** Resolves a classpath resource to a file path. */
+    protected Path resource(String name) {
+        try {
+            return Path.of(getClass().getClassLoader().getResource(name).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Bad resource URI: " + name, e);
+        }
+    }
+
+    private static String yamlPath(Path path) {
+        return path.toString().replace("\\", "/");
+    }
+
     private static String capitalize(String s) {
         if (s == null || s.isEmpty()) return s;
         // Capitalize each segment after '-'
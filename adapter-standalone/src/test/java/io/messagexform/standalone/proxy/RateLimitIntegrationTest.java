@@ -0,0 +1,126 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Integration tests for rate limiting (FR-004-55, CFG-004-93..98,
+ * S-004-97..98): requests over a client's rate get a 429 problem detail with
+ * {@code Retry-After} and never reach the backend.
+ */
+@DisplayName("FR-004-55: Rate limiting")
+class RateLimitIntegrationTest extends ProxyTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger backendHits = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        stopInfrastructure();
+    }
+
+    private void start(String key) throws Exception {
+        startMockBackend(exchange -> {
+            backendHits.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, "application/json", "{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+        });
+        startProxyApp(
+                tempDir,
+                new String[0],
+                null,
+                """
+                rate-limit:
+                  enabled: true
+                  key: %s
+                  header: X-API-Key
+                  requests-per-second: 1
+                  burst: 2
+                """.formatted(key),
+                """
+                profile-routes:
+                  - path-prefix: /bulk
+                    priority: low
+                  - path-prefix: /batch
+                    priority: low
+                """);
+    }
+
+    @Test
+    @DisplayName("Per API key: third request in a burst of 2 → 429 + Retry-After; another key is unaffected")
+    void perApiKey() throws Exception {
+        start("header");
+
+        assertThat(get("/api/a", "key-1").statusCode()).isEqualTo(200);
+        assertThat(get("/api/a", "key-1").statusCode()).isEqualTo(200);
+        HttpResponse<String> limited = get("/api/a", "key-1");
+
+        assertThat(limited.statusCode()).isEqualTo(429);
+        assertThat(limited.headers().firstValue("retry-after")).hasValue("1");
+        assertThat(limited.headers().firstValue("content-type"))
+                .hasValueSatisfying(ct -> assertThat(ct).startsWith("application/problem+json"));
+        JsonNode problem = MAPPER.readTree(limited.body());
+        assertThat(problem.get("type").asText()).isEqualTo("urn:message-xform:proxy:too-many-requests");
+        assertThat(problem.get("status").asInt()).isEqualTo(429);
+        assertThat(backendHits.get()).isEqualTo(2);
+
+        assertThat(get("/api/a", "key-2").statusCode()).isEqualTo(200);
+        assertThat(proxyApp.rateLimiter().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Per API key: a key equal to a client IP does not drain that IP's keyless bucket")
+    void apiKeySeparateFromIpFallback() throws Exception {
+        start("header");
+
+        assertThat(get("/api/a", "127.0.0.1").statusCode()).isEqualTo(200);
+        assertThat(get("/api/a", "127.0.0.1").statusCode()).isEqualTo(200);
+        assertThat(get("/api/a", "127.0.0.1").statusCode()).isEqualTo(429);
+
+        assertThat(get("/api/a", null).statusCode()).isEqualTo(200);
+        assertThat(proxyApp.rateLimiter().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Per route: the bucket is shared by all clients of the route, other routes are unaffected")
+    void perRoute() throws Exception {
+        start("route");
+
+        assertThat(get("/bulk/1", "key-1").statusCode()).isEqualTo(200);
+        assertThat(get("/bulk/2", "key-2").statusCode()).isEqualTo(200);
+        assertThat(get("/bulk/3", "key-3").statusCode()).isEqualTo(429);
+        // /batch has the same settings as /bulk but its own bucket
+        assertThat(get("/batch/1", "key-1").statusCode()).isEqualTo(200);
+        assertThat(get("/batch/2", "key-1").statusCode()).isEqualTo(200);
+        // Unrouted traffic is not route-limited
+        for (int i = 0; i < 4; i++) {
+            assertThat(get("/api/" + i, "key-1").statusCode()).isEqualTo(200);
+        }
+        assertThat(proxyApp.rateLimiter().getRejected()).isEqualTo(1);
+    }
+
+    private HttpResponse<String> get(String path, String apiKey) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .GET();
+        if (apiKey != null) {
+            request.header("X-API-Key", apiKey);
+        }
+        return testClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
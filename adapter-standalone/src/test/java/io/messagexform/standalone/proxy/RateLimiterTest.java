@@ -0,0 +1,130 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.RateLimitConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link RateLimiter} — lock-free token buckets in a bounded map (FR-004-55). */
+@DisplayName("RateLimiter — token buckets per key")
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    private RateLimiter limiter(int requestsPerSecond, int burst, int maxKeys) {
+        return new RateLimiter(
+                new RateLimitConfig(true, RateLimitConfig.KEY_IP, "X-API-Key", requestsPerSecond, burst, maxKeys),
+                clock::get);
+    }
+
+    @Test
+    @DisplayName("A full bucket admits burst requests at once, then rejects with the time to the next token")
+    void burstThenReject() {
+        RateLimiter limiter = limiter(10, 3, 100);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(SECOND / 10);
+
+        assertThat(limiter.getAllowed()).isEqualTo(3);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("The bucket refills at requests-per-second, never beyond burst")
+    void refill() {
+        RateLimiter limiter = limiter(10, 2, 100);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        clock.addAndGet(SECOND / 10);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        clock.addAndGet(60 * SECOND);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Keys have independent buckets")
+    void independentKeys() {
+        RateLimiter limiter = limiter(1, 1, 100);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+        assertThat(limiter.getTrackedKeys()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Full map → refilled buckets are evicted; if none is, new keys share the overflow bucket")
+    void boundedMap() {
+        RateLimiter limiter = limiter(1, 1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // Both buckets drained: "c" and "d" share the overflow bucket
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("d")).isPositive();
+        assertThat(limiter.getOverflowed()).isEqualTo(2);
+        assertThat(limiter.getTrackedKeys()).isEqualTo(2);
+
+        // After refilling, "a" and "b" are evicted to make room
+        clock.addAndGet(2 * SECOND);
+        assertThat(limiter.tryAcquire("e")).isZero();
+        assertThat(limiter.getEvicted()).isEqualTo(2);
+        assertThat(limiter.getTrackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Concurrent requests for one key never admit more than the bucket holds")
+    void concurrentAcquire() throws Exception {
+        RateLimiter limiter = limiter(1, 500, 100);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 200; i++) {
+                    if (limiter.tryAcquire("shared") == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(admitted.get()).isEqualTo(500);
+        assertThat(limiter.getRejected()).isEqualTo(8 * 200 - 500);
+    }
+
+    @Test
+    @DisplayName("Retry-After rounds the wait up to whole seconds, at least 1")
+    void retryAfter() {
+        assertThat(RateLimiter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimiter.retryAfterSeconds(SECOND)).isEqualTo(1);
+        assertThat(RateLimiter.retryAfterSeconds(SECOND + 1)).isEqualTo(2);
+    }
+}
@@ -174,7 +174,8 @@ class ReadinessEndpointTest {
         TransformEngine engine = new TransformEngine(specParser);
         StandaloneAdapter adapter = new StandaloneAdapter();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(engine, adapter, upstreamClient, -1, true);
+        ProxyHandler proxyHandler =
+                ProxyHandler.builder(engine, adapter).upstream(upstreamClient).build();
 
         // The ReadinessHandler needs to check:
         // 1. Engine loaded → engine.isLoaded()
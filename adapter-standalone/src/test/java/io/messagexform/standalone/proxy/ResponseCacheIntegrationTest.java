@@ -0,0 +1,277 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import io.messagexform.standalone.config.ResponseCacheConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Integration tests for the transformed-response cache (FR-004-52,
+ * CFG-004-82..84, S-004-87..89): a hit skips the backend and the transform,
+ * {@code Vary} splits entries, stale entries are revalidated in the
+ * background, a spec reload empties the cache, and transformed responses
+ * are never shared between clients whose headers the transform reads
+ * differently.
+ */
+@DisplayName("FR-004-52: Transformed-response cache")
+class ResponseCacheIntegrationTest extends ProxyTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** The specs {@code response-transform-profile} references. */
+    private static final String[] SPECS = {
+        "test-specs/response-body-transform.yaml",
+        "test-specs/response-header-transform.yaml",
+        "test-specs/response-status-override.yaml"
+    };
+
+    private ResponseCache cache;
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeEach
+    void start() throws IOException {
+        startMockBackend(this::backend);
+        UpstreamClient upstreamClient = new UpstreamClient(backendConfig().build());
+        cache = new ResponseCache(new ResponseCacheConfig(true, 1_048_576, 65_536), clock::get);
+        startProxy(handlerBuilder(SPECS, "test-profiles/response-transform-profile.yaml")
+                .upstream(upstreamClient)
+                .responseCache(cache));
+    }
+
+    @AfterEach
+    void stop() {
+        stopInfrastructure();
+    }
+
+    /**
+     * Counts calls per path, sets {@code Cache-Control} per path, and answers
+     * {@code If-None-Match: "v1"} with 304.
+     */
+    private void backend(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int call = calls.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=10, stale-while-revalidate=60");
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        String cacheControl =
+                switch (path) {
+                    case "/api/items", "/api/greeting" -> "max-age=60";
+                    case "/api/swr" -> "max-age=10, stale-while-revalidate=60";
+                    case "/api/vary" -> "public, max-age=60";
+                    default -> "no-store";
+                };
+        String language = exchange.getRequestHeaders().getFirst("Accept-Language");
+        exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        exchange.getResponseHeaders().set("ETag", "\"v1\"");
+        if (path.equals("/api/vary")) {
+            exchange.getResponseHeaders().set("Vary", "Accept-Language");
+        }
+        respond(
+                exchange,
+                200,
+                "application/json",
+                ("{\"name\":\"" + (language != null ? language : "item") + "\",\"value\":" + call + "}")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Second GET is served from the cache: transformed body, Age header, no backend call")
+    void hitSkipsBackendAndTransform() throws Exception {
+        HttpResponse<String> first = get("/api/items", Map.of());
+        HttpResponse<String> second = get("/api/items", Map.of());
+
+        assertThat(calls.get("/api/items").get()).isEqualTo(1);
+        JsonNode body = MAPPER.readTree(second.body());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.at("/data/value").asInt()).isEqualTo(1);
+        assertThat(second.body()).isEqualTo(first.body());
+        assertThat(second.headers().firstValue("age")).hasValue("0");
+        assertThat(second.headers().firstValue("content-type"))
+                .hasValueSatisfying(ct -> assertThat(ct).contains("application/json"));
+        assertThat(second.headers().firstValue("x-request-id")).isPresent();
+        assertThat(second.headers().firstValue("x-request-id"))
+                .isNotEqualTo(first.headers().firstValue("x-request-id"));
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getStores()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Passthrough route with no-store → every GET reaches the backend")
+    void noStoreNotCached() throws Exception {
+        get("/api/other", Map.of());
+        HttpResponse<String> second = get("/api/other", Map.of());
+
+        assertThat(calls.get("/api/other").get()).isEqualTo(2);
+        assertThat(MAPPER.readTree(second.body()).get("value").asInt()).isEqualTo(2);
+        assertThat(cache.getEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Vary: Accept-Language → one backend call per language")
+    void varySplitsEntries() throws Exception {
+        get("/api/vary", Map.of("Accept-Language", "en"));
+        get("/api/vary", Map.of("Accept-Language", "de"));
+        HttpResponse<String> english = get("/api/vary", Map.of("Accept-Language", "en"));
+        HttpResponse<String> german = get("/api/vary", Map.of("Accept-Language", "de"));
+
+        assertThat(calls.get("/api/vary").get()).isEqualTo(2);
+        assertThat(MAPPER.readTree(english.body()).get("name").asText()).isEqualTo("en");
+        assertThat(MAPPER.readTree(german.body()).get("name").asText()).isEqualTo("de");
+    }
+
+    @Test
+    @DisplayName(
+            "Stale within stale-while-revalidate → served at once, revalidated with If-None-Match in the background")
+    void staleWhileRevalidate() throws Exception {
+        get("/api/swr", Map.of());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(15));
+
+        HttpResponse<String> stale = get("/api/swr", Map.of());
+        assertThat(stale.statusCode()).isEqualTo(200);
+        assertThat(stale.headers().firstValue("age")).hasValue("15");
+        assertThat(MAPPER.readTree(stale.body()).get("value").asInt()).isEqualTo(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.getRevalidations() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.getRevalidations()).isEqualTo(1);
+        assertThat(notModified.get()).isEqualTo(1);
+
+        HttpResponse<String> renewed = get("/api/swr", Map.of());
+        assertThat(renewed.headers().firstValue("age")).hasValue("0");
+        assertThat(calls.get("/api/swr").get()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Spec reload → the cache is emptied and the next GET reaches the backend")
+    void reloadInvalidates() throws Exception {
+        get("/api/items", Map.of());
+        get("/api/items", Map.of());
+        assertThat(calls.get("/api/items").get()).isEqualTo(1);
+
+        engine.reload(specs(), resource("test-profiles/response-transform-profile.yaml"));
+        HttpResponse<String> afterReload = get("/api/items", Map.of());
+
+        assertThat(calls.get("/api/items").get()).isEqualTo(2);
+        assertThat(MAPPER.readTree(afterReload.body()).at("/data/value").asInt())
+                .isEqualTo(2);
+        assertThat(cache.getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Transform reads $headers.x-tenant → each tenant gets its own cached body")
+    void tenantHeaderSplitsEntries(@TempDir Path tempDir) throws Exception {
+        reloadWithGreeting(tempDir, "{ \"greeting\": \"hello \" + $headers.x-tenant }");
+
+        HttpResponse<String> first = get("/api/greeting", Map.of("X-Tenant", "acme"));
+        HttpResponse<String> second = get("/api/greeting", Map.of("X-Tenant", "globex"));
+        HttpResponse<String> again = get("/api/greeting", Map.of("X-Tenant", "acme"));
+
+        assertThat(MAPPER.readTree(first.body()).get("greeting").asText()).isEqualTo("hello acme");
+        assertThat(MAPPER.readTree(second.body()).get("greeting").asText()).isEqualTo("hello globex");
+        assertThat(again.body()).isEqualTo(first.body());
+        assertThat(calls.get("/api/greeting").get()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Transform reads $cookies → clients with different cookies get their own transformed body")
+    void cookiesSplitEntries(@TempDir Path tempDir) throws Exception {
+        reloadWithGreeting(tempDir, "{ \"greeting\": \"hello \" + $cookies.user }");
+
+        HttpResponse<String> alice = get("/api/greeting", Map.of("Cookie", "user=alice"));
+        HttpResponse<String> bob = get("/api/greeting", Map.of("Cookie", "user=bob"));
+        HttpResponse<String> aliceAgain = get("/api/greeting", Map.of("Cookie", "user=alice"));
+
+        assertThat(MAPPER.readTree(alice.body()).get("greeting").asText()).isEqualTo("hello alice");
+        assertThat(MAPPER.readTree(bob.body()).get("greeting").asText()).isEqualTo("hello bob");
+        assertThat(aliceAgain.body()).isEqualTo(alice.body());
+        assertThat(calls.get("/api/greeting").get()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Transform uses $headers as a whole → the route bypasses the cache")
+    void unknownHeaderReadsBypass(@TempDir Path tempDir) throws Exception {
+        reloadWithGreeting(tempDir, "{ \"greeting\": \"hello\", \"headers\": size($headers) }");
+
+        get("/api/greeting", Map.of());
+        get("/api/greeting", Map.of());
+
+        assertThat(calls.get("/api/greeting").get()).isEqualTo(2);
+        assertThat(cache.getEntries()).isZero();
+    }
+
+    /** Reloads the engine with one response spec on {@code /api/greeting} running {@code expr}. */
+    private void reloadWithGreeting(Path tempDir, String expr) throws IOException {
+        Path greetingSpec = tempDir.resolve("greeting.yaml");
+        Files.writeString(greetingSpec, """
+                id: greeting
+                version: "1.0.0"
+                input:
+                  schema:
+                    type: object
+                output:
+                  schema:
+                    type: object
+                transform:
+                  lang: jslt
+                  expr: |
+                    %s
+                """.formatted(expr));
+        Path profile = tempDir.resolve("greeting-profile.yaml");
+        Files.writeString(profile, """
+                profile: greeting-profile
+                version: "1.0.0"
+                transforms:
+                  - spec: greeting@1.0.0
+                    direction: response
+                    match:
+                      path: "/api/greeting"
+                """);
+        engine.reload(List.of(greetingSpec), profile);
+    }
+
+    private HttpResponse<String> get(String path, Map<String, String> headers)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .GET();
+        headers.forEach(request::header);
+        return testClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<Path> specs() {
+        return Stream.of(SPECS).map(this::resource).toList();
+    }
+}
@@ -0,0 +1,297 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.ResponseCacheConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResponseCache} — RFC 9111 storage, freshness, {@code Vary}
+ * keying, stale-while-revalidate and reload invalidation (FR-004-52).
+ */
+@DisplayName("ResponseCache — transformed-response cache semantics")
+class ResponseCacheTest {
+
+    private static final byte[] UPSTREAM = "{\"v\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRANSFORMED = "{\"data\":{\"v\":1}}".getBytes(StandardCharsets.UTF_8);
+    private static final Object GENERATION = new Object();
+    private static final ResponseCache.Revalidation REVALIDATION =
+            new ResponseCache.Revalidation("GET", "/api/items", Map.of("accept", "application/json"));
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ResponseCache cache =
+            new ResponseCache(new ResponseCacheConfig(true, 1_000_000, 100_000), clock::get);
+
+    private ResponseCache.Request request(Map<String, String> headers) {
+        return request("/api/items", headers, GENERATION);
+    }
+
+    private ResponseCache.Request request(String path, Map<String, String> headers, Object generation) {
+        return request(path, headers, Set.of(), generation);
+    }
+
+    private ResponseCache.Request request(
+            String path, Map<String, String> headers, Set<String> transformHeaders, Object generation) {
+        Map<String, String> lower = new HashMap<>();
+        headers.forEach((name, value) -> lower.put(name.toLowerCase(), value));
+        return cache.request(
+                "GET",
+                "example.com",
+                path,
+                null,
+                null,
+                name -> lower.get(name.toLowerCase()),
+                transformHeaders,
+                generation);
+    }
+
+    private boolean store(ResponseCache.Request request, Map<String, String> upstreamHeaders) {
+        return cache.store(
+                request,
+                200,
+                upstreamHeaders,
+                UPSTREAM,
+                200,
+                Map.of("content-type", "application/json", "x-request-id", "abc"),
+                TRANSFORMED,
+                REVALIDATION);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("max-age → served fresh until it elapses, with the transformed body and an Age")
+    void maxAge() {
+        assertThat(store(request(Map.of()), Map.of("cache-control", "max-age=60")))
+                .isTrue();
+
+        advanceSeconds(10);
+        ResponseCache.Hit hit = cache.lookup(request(Map.of()));
+        assertThat(hit).isNotNull();
+        assertThat(hit.stale()).isFalse();
+        assertThat(hit.ageSeconds()).isEqualTo(10);
+        assertThat(hit.entry().body()).isEqualTo(TRANSFORMED);
+        assertThat(hit.entry().headers())
+                .containsEntry("content-type", "application/json")
+                .doesNotContainKey("x-request-id");
+
+        advanceSeconds(51);
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("s-maxage wins over max-age; the upstream Age counts against the lifetime")
+    void sMaxAgeAndAge() {
+        store(request(Map.of()), Map.of("cache-control", "max-age=600, s-maxage=30", "age", "20"));
+
+        advanceSeconds(9);
+        ResponseCache.Hit hit = cache.lookup(request(Map.of()));
+        assertThat(hit).isNotNull();
+        assertThat(hit.ageSeconds()).isEqualTo(29);
+
+        advanceSeconds(2);
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("Expires − Date is the lifetime when Cache-Control has none")
+    void expires() {
+        store(
+                request(Map.of()),
+                Map.of("date", "Sun, 18 Oct 2026 10:00:00 GMT", "expires", "Sun, 18 Oct 2026 10:01:00 GMT"));
+
+        advanceSeconds(59);
+        assertThat(cache.lookup(request(Map.of()))).isNotNull();
+        advanceSeconds(2);
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("No explicit freshness, no-store, no-cache, private, Set-Cookie or Vary: * → not stored")
+    void notStorable() {
+        assertThat(store(request(Map.of()), Map.of())).isFalse();
+        assertThat(store(request(Map.of()), Map.of("cache-control", "no-store, max-age=60")))
+                .isFalse();
+        assertThat(store(request(Map.of()), Map.of("cache-control", "no-cache, max-age=60")))
+                .isFalse();
+        assertThat(store(request(Map.of()), Map.of("cache-control", "private, max-age=60")))
+                .isFalse();
+        assertThat(store(request(Map.of()), Map.of("cache-control", "max-age=60", "set-cookie", "s=1")))
+                .isFalse();
+        assertThat(store(request(Map.of()), Map.of("cache-control", "max-age=60", "vary", "*")))
+                .isFalse();
+        assertThat(store(request(Map.of()), Map.of("cache-control", "max-age=0")))
+                .isFalse();
+        assertThat(store(request(Map.of()), Map.of("expires", "0"))).isFalse();
+        assertThat(cache.getStores()).isZero();
+    }
+
+    @Test
+    @DisplayName("Non-cacheable upstream status or a body over max-entry-bytes → not stored")
+    void statusAndSize() {
+        ResponseCache.Request request = request(Map.of());
+        Map<String, String> headers = Map.of("cache-control", "max-age=60");
+
+        assertThat(cache.store(request, 500, headers, UPSTREAM, 500, Map.of(), TRANSFORMED, REVALIDATION))
+                .isFalse();
+        assertThat(cache.store(request, 200, headers, UPSTREAM, 200, Map.of(), new byte[100_001], REVALIDATION))
+                .isFalse();
+        assertThat(cache.storable(request, 200, headers)).isTrue();
+        assertThat(cache.storable(request, 500, headers)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Authorization → stored only if the response is public, s-maxage or must-revalidate")
+    void authorization() {
+        Map<String, String> authorized = Map.of("Authorization", "Bearer t");
+
+        assertThat(store(request(authorized), Map.of("cache-control", "max-age=60")))
+                .isFalse();
+        assertThat(store(request(authorized), Map.of("cache-control", "public, max-age=60")))
+                .isTrue();
+        assertThat(cache.lookup(request(authorized))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Transformed route → keyed by the headers its transforms read; unknown reads bypass the cache")
+    void transformHeadersSplitEntries() {
+        Set<String> read = Set.of("x-tenant", "cookie");
+        Map<String, String> upstream = Map.of("cache-control", "max-age=60");
+        store(request("/api/items", Map.of("X-Tenant", "a", "Cookie", "user=alice"), read, GENERATION), upstream);
+
+        assertThat(cache.lookup(
+                        request("/api/items", Map.of("X-Tenant", "a", "Cookie", "user=alice"), read, GENERATION)))
+                .isNotNull();
+        assertThat(cache.lookup(
+                        request("/api/items", Map.of("X-Tenant", "b", "Cookie", "user=alice"), read, GENERATION)))
+                .isNull();
+        assertThat(cache.lookup(request("/api/items", Map.of("X-Tenant", "a", "Cookie", "user=bob"), read, GENERATION)))
+                .isNull();
+        assertThat(cache.lookup(request("/api/items", Map.of("X-Tenant", "a"), read, GENERATION)))
+                .isNull();
+        // Headers no transform reads do not split entries
+        assertThat(cache.lookup(request(
+                        "/api/items",
+                        Map.of("X-Tenant", "a", "Cookie", "user=alice", "Accept-Language", "de"),
+                        read,
+                        GENERATION)))
+                .isNotNull();
+
+        assertThat(request("/api/items", Map.of(), null, GENERATION)).isNull();
+    }
+
+    @Test
+    @DisplayName("Vary → one entry per value of the named request headers")
+    void vary() {
+        Map<String, String> upstream = Map.of("cache-control", "max-age=60", "vary", "Accept-Language");
+        store(request(Map.of("Accept-Language", "en")), upstream);
+
+        assertThat(cache.lookup(request(Map.of("Accept-Language", "en")))).isNotNull();
+        assertThat(cache.lookup(request(Map.of("Accept-Language", "de")))).isNull();
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+
+        store(request(Map.of("Accept-Language", "de")), upstream);
+        assertThat(cache.lookup(request(Map.of("Accept-Language", "de")))).isNotNull();
+        assertThat(cache.lookup(request(Map.of("Accept-Language", "en")))).isNotNull();
+        assertThat(cache.getEntries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Request no-store bypasses the cache; no-cache skips the lookup but refreshes the entry")
+    void requestDirectives() {
+        assertThat(request(Map.of("Cache-Control", "no-store"))).isNull();
+        assertThat(cache.request("POST", "example.com", "/api/items", null, null, name -> null, Set.of(), GENERATION))
+                .isNull();
+
+        store(request(Map.of()), Map.of("cache-control", "max-age=60"));
+        ResponseCache.Request noCache = request(Map.of("Cache-Control", "no-cache"));
+        assertThat(cache.lookup(noCache)).isNull();
+        assertThat(cache.lookup(request(Map.of("Pragma", "no-cache")))).isNull();
+        assertThat(store(noCache, Map.of("cache-control", "max-age=60"))).isTrue();
+        assertThat(cache.lookup(request(Map.of()))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("stale-while-revalidate → served stale during the window, one revalidation at a time")
+    void staleWhileRevalidate() {
+        store(request(Map.of()), Map.of("cache-control", "max-age=10, stale-while-revalidate=30", "etag", "\"v1\""));
+
+        advanceSeconds(15);
+        ResponseCache.Hit hit = cache.lookup(request(Map.of()));
+        assertThat(hit).isNotNull();
+        assertThat(hit.stale()).isTrue();
+        assertThat(cache.beginRevalidation(hit)).isTrue();
+        assertThat(cache.beginRevalidation(cache.lookup(request(Map.of())))).isFalse();
+        assertThat(cache.conditionalHeaders(hit))
+                .containsEntry("if-none-match", "\"v1\"")
+                .containsEntry("accept", "application/json");
+        assertThat(cache.getStaleHits()).isEqualTo(2);
+
+        // 304 renews the lifetime from now
+        cache.revalidated(hit, 304, Map.of("cache-control", "max-age=10, stale-while-revalidate=30"), new byte[0]);
+        ResponseCache.Hit renewed = cache.lookup(request(Map.of()));
+        assertThat(renewed.stale()).isFalse();
+        assertThat(renewed.ageSeconds()).isZero();
+        assertThat(cache.getRevalidations()).isEqualTo(1);
+
+        advanceSeconds(41);
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("must-revalidate → never served stale")
+    void mustRevalidate() {
+        store(request(Map.of()), Map.of("cache-control", "max-age=10, stale-while-revalidate=30, must-revalidate"));
+
+        advanceSeconds(11);
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("Revalidation with an unchanged body renews; a changed body drops the entry")
+    void revalidationByBody() {
+        Map<String, String> upstream = Map.of("cache-control", "max-age=10, stale-while-revalidate=30");
+        store(request(Map.of()), upstream);
+        advanceSeconds(15);
+        ResponseCache.Hit hit = cache.lookup(request(Map.of()));
+        cache.beginRevalidation(hit);
+
+        cache.revalidated(hit, 200, upstream, UPSTREAM.clone());
+        assertThat(cache.lookup(request(Map.of())).stale()).isFalse();
+
+        advanceSeconds(15);
+        hit = cache.lookup(request(Map.of()));
+        cache.beginRevalidation(hit);
+        cache.revalidated(hit, 200, upstream, "{\"v\":2}".getBytes(StandardCharsets.UTF_8));
+        assertThat(cache.lookup(request(Map.of()))).isNull();
+        assertThat(cache.getRevalidationFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A new registry snapshot drops every entry and refuses responses built with the old one")
+    void registryReload() {
+        store(request(Map.of()), Map.of("cache-control", "max-age=60"));
+        ResponseCache.Request inFlight = request(Map.of());
+        Object reloaded = new Object();
+
+        assertThat(cache.lookup(request("/api/items", Map.of(), reloaded))).isNull();
+        assertThat(cache.getInvalidations()).isEqualTo(1);
+        assertThat(cache.getEntries()).isZero();
+
+        assertThat(store(inFlight, Map.of("cache-control", "max-age=60"))).isFalse();
+        assertThat(store(request("/api/items", Map.of(), reloaded), Map.of("cache-control", "max-age=60")))
+                .isTrue();
+    }
+}
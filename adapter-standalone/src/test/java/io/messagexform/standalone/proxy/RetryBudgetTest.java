@@ -0,0 +1,78 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.messagexform.standalone.config.RetryConfig;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link RetryBudget} — the token bucket behind retries and hedges (FR-004-51). */
+@DisplayName("RetryBudget — token bucket for retries and hedges")
+class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private static void drain(RetryBudget budget) {
+        while (budget.trySpend()) {
+            // spend every token
+        }
+    }
+
+    @Test
+    @DisplayName("Starts full: ten seconds of the minimum rate")
+    void startsAtCapacity() {
+        RetryBudget budget = new RetryBudget(new RetryConfig(1, 20, 3), clock::get);
+
+        assertThat(budget.available()).isEqualTo(3 * RetryBudget.BURST_SECONDS);
+    }
+
+    @Test
+    @DisplayName("Each request deposits budget-percent hundredths of a token")
+    void depositsPerRequest() {
+        RetryBudget budget = new RetryBudget(new RetryConfig(1, 20, 0), clock::get);
+        drain(budget);
+
+        for (int i = 0; i < 4; i++) {
+            budget.deposit();
+        }
+        assertThat(budget.trySpend()).isFalse();
+        budget.deposit();
+        assertThat(budget.trySpend()).isTrue();
+        assertThat(budget.trySpend()).isFalse();
+
+        assertThat(budget.spent()).isEqualTo(RetryBudget.BURST_SECONDS + 1);
+        assertThat(budget.exhausted()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Time refills budget-min-per-second tokens, up to capacity")
+    void refillsOverTime() {
+        RetryBudget budget = new RetryBudget(new RetryConfig(1, 0, 2), clock::get);
+        drain(budget);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertThat(budget.trySpend()).isTrue();
+        assertThat(budget.trySpend()).isTrue();
+        assertThat(budget.trySpend()).isTrue();
+        assertThat(budget.trySpend()).isFalse();
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(budget.trySpend()).isTrue();
+        assertThat(budget.available()).isEqualTo(2 * RetryBudget.BURST_SECONDS - 1);
+    }
+
+    @Test
+    @DisplayName("Zero percent and zero rate → only the initial burst is ever spent")
+    void noRefill() {
+        RetryBudget budget = new RetryBudget(new RetryConfig(1, 0, 0), clock::get);
+        drain(budget);
+
+        budget.deposit();
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        assertThat(budget.trySpend()).isFalse();
+        assertThat(budget.spent()).isEqualTo(RetryBudget.BURST_SECONDS);
+    }
+}
@@ -0,0 +1,107 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link StartupMetrics} — startup-phase breakdown and its JMX
+ * exposure (FR-004-27, NFR-004-01).
+ */
+class StartupMetricsTest {
+
+    private ProxyApp proxyApp;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void cleanup() {
+        if (proxyApp != null) {
+            proxyApp.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("mark() attributes elapsed time to each phase; phases sum to total")
+    void phasesSumToTotal() throws Exception {
+        StartupMetrics metrics = new StartupMetrics();
+        metrics.mark(StartupMetrics.Phase.CONFIG);
+        Thread.sleep(20);
+        metrics.mark(StartupMetrics.Phase.SPEC_COMPILE);
+        metrics.complete();
+
+        assertThat(metrics.getSpecCompileMs()).isGreaterThanOrEqualTo(20);
+        assertThat(metrics.getProfileLoadMs()).isZero();
+        long sum = 0;
+        for (StartupMetrics.Phase phase : StartupMetrics.Phase.values()) {
+            sum += metrics.phaseMs(phase);
+        }
+        // Each phase is truncated to whole ms, so the sum may trail the total slightly
+        assertThat(metrics.getTotalStartupMs()).isBetween(sum, sum + StartupMetrics.Phase.values().length);
+        assertThat(metrics.getJvmUptimeAtReadyMs()).isPositive();
+        assertThat(metrics.summary())
+                .startsWith("config=")
+                .contains("specCompile=")
+                .contains("watcher=");
+    }
+
+    @Test
+    @DisplayName("ProxyApp records all phases and registers the StartupMetrics MBean until stop()")
+    void proxyAppExposesStartupMetricsViaJmx() throws Exception {
+        Path specsDir = tempDir.resolve("specs");
+        Files.createDirectories(specsDir);
+        Files.writeString(specsDir.resolve("spec.yaml"), """
+            id: startup-spec
+            version: "1.0.0"
+            input:
+              schema:
+                type: object
+            output:
+              schema:
+                type: object
+            transform:
+              lang: jslt
+              expr: .
+            """);
+        Path configFile = tempDir.resolve("config.yaml");
+        Files.writeString(configFile, """
+            proxy:
+              host: "127.0.0.1"
+              port: 0
+            backend:
+              host: "127.0.0.1"
+              port: 9
+            engine:
+              specs-dir: "%s"
+            reload:
+              enabled: true
+            """.formatted(specsDir.toString().replace("\\", "/")));
+
+        proxyApp = ProxyApp.start(new String[] {"--config", configFile.toString()});
+
+        StartupMetrics metrics = proxyApp.startupMetrics();
+        assertThat(metrics.getTotalStartupMs()).isPositive();
+        assertThat(metrics.getJettyStartMs()).isPositive();
+        assertThat(metrics.getJvmUptimeAtReadyMs()).isGreaterThanOrEqualTo(metrics.getTotalStartupMs());
+
+        ObjectName name = new ObjectName("io.messagexform:type=StartupMetrics,instance=proxy-" + proxyApp.port());
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        assertThat(metrics.jmxObjectName()).isEqualTo(name);
+        assertThat(mbs.isRegistered(name)).isTrue();
+        assertThat((Long) mbs.getAttribute(name, "TotalStartupMs")).isEqualTo(metrics.getTotalStartupMs());
+        assertThat((Long) mbs.getAttribute(name, "SpecCompileMs")).isEqualTo(metrics.getSpecCompileMs());
+
+        proxyApp.stop();
+        proxyApp = null;
+        assertThat(mbs.isRegistered(name)).isFalse();
+    }
+}
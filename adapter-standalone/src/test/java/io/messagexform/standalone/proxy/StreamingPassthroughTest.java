@@ -0,0 +1,142 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for streaming passthrough (FR-004-40): with no profile
+ * entry for a direction, bodies flow between Jetty and the backend without
+ * being buffered, and {@code proxy.max-body-bytes} is enforced on the bytes
+ * as they stream.
+ */
+@DisplayName("Streaming passthrough — unmatched directions are not buffered")
+class StreamingPassthroughTest extends ProxyTestHarness {
+
+    private static final StreamingPassthroughTest INSTANCE = new StreamingPassthroughTest();
+
+    /** 8 MB — below the 10 MB default limit, far above any buffer size. */
+    private static final int LARGE_BODY_BYTES = 8 * 1024 * 1024;
+
+    @BeforeAll
+    static void startInfrastructure() throws Exception {
+        INSTANCE.startPassthrough();
+
+        // Echoes the request body, reporting the Content-Length it arrived with.
+        // Reads the whole body first: the JDK client only reads the response
+        // once the request body is sent, so a full-duplex echo could stall.
+        INSTANCE.mockBackend.createContext("/stream/echo", exchange -> {
+            String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.getResponseHeaders().set("X-Received-Content-Length", String.valueOf(contentLength));
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+
+        // Chunked response (no Content-Length) larger than the limit
+        INSTANCE.mockBackend.createContext("/stream/oversized", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, 0);
+            byte[] chunk = new byte[64 * 1024];
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int written = 0; written <= 11 * 1024 * 1024; written += chunk.length) {
+                    out.write(chunk);
+                }
+            } catch (IOException e) {
+                // Proxy aborted the stream — expected
+            }
+        });
+    }
+
+    @AfterAll
+    static void stopAll() {
+        INSTANCE.stopInfrastructure();
+    }
+
+    private static byte[] sha256(byte[] bytes) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(bytes);
+    }
+
+    @Test
+    @DisplayName("Large body streams both ways intact, with its Content-Length")
+    void largeBody_streamedIntact() throws Exception {
+        byte[] payload = new byte[LARGE_BODY_BYTES];
+        new Random(42).nextBytes(payload);
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + INSTANCE.proxyPort + "/stream/echo"))
+                .header("Content-Type", "application/octet-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+
+        HttpResponse<byte[]> response = INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        // Sized upstream request, not re-chunked
+        assertThat(response.headers().firstValue("x-received-content-length"))
+                .hasValue(String.valueOf(LARGE_BODY_BYTES));
+        assertThat(response.body()).hasSize(LARGE_BODY_BYTES);
+        assertThat(Arrays.equals(sha256(response.body()), sha256(payload))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Chunked request body streams through and is re-sent chunked")
+    void chunkedRequest_streamedIntact() throws Exception {
+        byte[] first = "{\"part\":".getBytes();
+        byte[] second = "\"two\"}".getBytes();
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + INSTANCE.proxyPort + "/api/chunked"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(first, second)))
+                .build();
+
+        HttpResponse<String> response = INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        ReceivedRequest received = INSTANCE.receivedRequests.get("/api/chunked");
+        assertThat(received.body()).isEqualTo("{\"part\":\"two\"}");
+    }
+
+    @Test
+    @DisplayName("Chunked response over the limit is cut off, never delivered whole")
+    void chunkedResponseOverLimit_isAborted() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + INSTANCE.proxyPort + "/stream/oversized"))
+                .GET()
+                .build();
+
+        long received;
+        try {
+            HttpResponse<InputStream> response =
+                    INSTANCE.testClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream in = response.body()) {
+                received = in.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IOException e) {
+            // Connection aborted once the limit was reached
+            received = -1;
+        }
+
+        assertThat(received).isLessThanOrEqualTo(10L * 1024 * 1024);
+    }
+}
@@ -0,0 +1,183 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link TinyLfuCache} — the byte-bounded W-TinyLFU map behind the response cache (FR-004-52). */
+@DisplayName("TinyLfuCache — W-TinyLFU eviction by bytes")
+class TinyLfuCacheTest {
+
+    @Test
+    @DisplayName("Total weight never exceeds the capacity")
+    void staysWithinCapacity() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("key-" + i, "value", 100 + i % 7);
+            assertThat(cache.weight()).isLessThanOrEqualTo(10_000);
+        }
+        assertThat(cache.evictions()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Entries requested often survive a scan of one-off entries")
+    void frequentEntriesSurviveScan() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+        for (int i = 0; i < 20; i++) {
+            cache.put("hot-" + i, "value", 200);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 20; i++) {
+                assertThat(cache.get("hot-" + i)).isEqualTo("value");
+            }
+        }
+
+        // 500 distinct keys, each seen once — ten times the capacity
+        for (int i = 0; i < 500; i++) {
+            cache.put("scan-" + i, "value", 100);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(cache.peek("hot-" + i)).as("hot-" + i).isEqualTo("value");
+        }
+    }
+
+    @Test
+    @DisplayName("A plain LRU workload still admits new entries once main space is free")
+    void admitsWhileRoom() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.put("key-" + i, "value-" + i, 100)).isTrue();
+        }
+
+        assertThat(cache.size()).isEqualTo(50);
+        assertThat(cache.weight()).isEqualTo(5_000);
+        assertThat(cache.get("key-0")).isEqualTo("value-0");
+    }
+
+    @Test
+    @DisplayName("A value heavier than the main space is refused")
+    void refusesOversized() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(1_000, 16);
+
+        assertThat(cache.put("big", "value", 995)).isFalse();
+        assertThat(cache.peek("big")).isNull();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("put replaces the previous value and its weight")
+    void putReplaces() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+        cache.put("key", "old", 300);
+
+        cache.put("key", "new", 100);
+
+        assertThat(cache.get("key")).isEqualTo("new");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("remove(key, value) removes only the expected value")
+    void conditionalRemove() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+        String value = new String("value");
+        cache.put("key", value, 100);
+
+        assertThat(cache.remove("key", new String("value"))).isFalse();
+        assertThat(cache.remove("key", value)).isTrue();
+        assertThat(cache.peek("key")).isNull();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("clear drops every entry but keeps the capacity")
+    void clear() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+        for (int i = 0; i < 10; i++) {
+            cache.put("key-" + i, "value", 100);
+        }
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+        assertThat(cache.maxWeight()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Buffered reads are counted once drained")
+    void bufferedReadsAreCounted() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10_000, 100);
+        cache.put("key", "value", 100);
+
+        for (int i = 0; i < 5; i++) {
+            cache.get("key");
+        }
+
+        // put counted one access; frequency() drains the five buffered reads
+        assertThat(cache.frequency("key")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Concurrent reads and writes keep every entry readable and the weight within capacity")
+    void concurrentAccess() throws Exception {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(20_000, 200);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        String key = "key-" + ((i * 31 + seed) % 500);
+                        if (i % 10 == 0) {
+                            cache.put(key, key, 100);
+                        } else {
+                            String value = cache.get(key);
+                            assertThat(value == null || value.equals(key)).isTrue();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.weight()).isLessThanOrEqualTo(20_000);
+        assertThat(cache.weight()).isEqualTo(cache.size() * 100L);
+    }
+
+    @Test
+    @DisplayName("Frequency sketch counts up to 15 and halves when its sample fills")
+    void sketchCountsAndAges() {
+        TinyLfuCache.FrequencySketch sketch = new TinyLfuCache.FrequencySketch(1_024);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(42);
+        }
+        assertThat(sketch.frequency(42)).isEqualTo(15);
+        assertThat(sketch.frequency(43)).isLessThan(15);
+
+        // Fill the sample (10 × 1024 counted increments) with other keys
+        for (int i = 0; i < 12_000; i++) {
+            sketch.increment(100_000 + i);
+        }
+
+        assertThat(sketch.frequency(42)).isLessThan(15);
+    }
+}
@@ -0,0 +1,156 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.messagexform.standalone.config.HedgingConfig;
+import io.messagexform.standalone.config.RetryConfig;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for hedged requests and budgeted retries (FR-004-50,
+ * FR-004-51, S-004-85, S-004-86). The backend stalls the first request to
+ * {@code /api/tail} until the test ends; later ones answer at once.
+ */
+@DisplayName("FR-004-50/51: Hedged requests and budgeted retries")
+class UpstreamHedgingIntegrationTest extends ProxyTestHarness {
+
+    private final AtomicInteger tailRequests = new AtomicInteger();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final CountDownLatch stalledRelease = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        startMockBackend(this::backend);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stalledRelease.countDown();
+        stopInfrastructure();
+    }
+
+    /** First {@code /api/tail} stalls until the test ends; {@code /api/slow} takes 300 ms. */
+    private void backend(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String path = exchange.getRequestURI().getPath();
+        int n = 0;
+        try {
+            if (path.equals("/api/tail")) {
+                n = tailRequests.incrementAndGet();
+                if (n == 1) {
+                    stalledRelease.await(10, TimeUnit.SECONDS);
+                }
+            } else if (path.equals("/api/slow")) {
+                n = slowRequests.incrementAndGet();
+                Thread.sleep(300);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, 200, "application/json", ("{\"n\":" + n + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UpstreamClient client(int port, HedgingConfig hedging, RetryConfig retry) {
+        return new UpstreamClient(backendConfig()
+                .backendPort(port)
+                .backendConnectTimeoutMs(1000)
+                .hedging(hedging)
+                .retry(retry)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Slow GET → hedge sent after delay-ms, its response wins")
+    void slowGet_hedgeWins() throws Exception {
+        UpstreamClient upstream = client(backendPort, new HedgingConfig(true, 50), RetryConfig.DEFAULT);
+
+        UpstreamStreamingResponse response = upstream.forwardStreaming("GET", "/api/tail", null, null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(new String(upstream.readBody(response), StandardCharsets.UTF_8))
+                .isEqualTo("{\"n\":2}");
+        assertThat(upstream.metrics().getHedges()).isEqualTo(1);
+        assertThat(upstream.metrics().getHedgeWins()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Non-idempotent POST → never hedged")
+    void post_notHedged() throws Exception {
+        UpstreamClient upstream = client(backendPort, new HedgingConfig(true, 20), RetryConfig.DEFAULT);
+        int before = slowRequests.get();
+
+        UpstreamStreamingResponse response =
+                upstream.forwardStreaming("POST", "/api/slow", HttpRequest.BodyPublishers.ofString("{}"), null, true);
+        upstream.readBody(response);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(slowRequests.get() - before).isEqualTo(1);
+        assertThat(upstream.metrics().getHedges()).isZero();
+    }
+
+    @Test
+    @DisplayName("Route override off, or no p95 known yet → GET not hedged")
+    void hedgingOffOrNoDelay_notHedged() throws Exception {
+        UpstreamClient overridden = client(backendPort, new HedgingConfig(true, 20), RetryConfig.DEFAULT);
+        UpstreamClient noSamples = client(backendPort, new HedgingConfig(true, 0), RetryConfig.DEFAULT);
+        int before = slowRequests.get();
+
+        overridden.readBody(overridden.forwardStreaming("GET", "/api/slow", null, null, false));
+        noSamples.readBody(noSamples.forwardStreaming("GET", "/api/slow", null, null));
+
+        assertThat(slowRequests.get() - before).isEqualTo(2);
+        assertThat(overridden.metrics().getHedges()).isZero();
+        assertThat(noSamples.metrics().getHedges()).isZero();
+        assertThat(noSamples.metrics().getLatencyP95Ms()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Connect failure on GET → retried up to max-retries, then 502-mapped failure")
+    void connectFailure_retried() {
+        UpstreamClient upstream = client(1, HedgingConfig.DISABLED, new RetryConfig(2, 20, 10));
+
+        assertThatThrownBy(() -> upstream.forwardStreaming("GET", "/api/x", null, null))
+                .isInstanceOf(UpstreamConnectException.class);
+
+        assertThat(upstream.metrics().getRetries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Connect failure on POST → not retried")
+    void connectFailure_postNotRetried() {
+        UpstreamClient upstream = client(1, HedgingConfig.DISABLED, new RetryConfig(2, 20, 10));
+
+        assertThatThrownBy(() -> upstream.forwardAsync(
+                                "POST", "/api/x", HttpRequest.BodyPublishers.ofString("{}"), null, status -> true)
+                        .join())
+                .hasCauseInstanceOf(UpstreamConnectException.class);
+
+        assertThat(upstream.metrics().getRetries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Budget spent → further retries refused and counted")
+    void budgetExhausted_stopsRetries() {
+        UpstreamClient upstream = client(1, HedgingConfig.DISABLED, new RetryConfig(3, 0, 0));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> upstream.forwardStreaming("GET", "/api/x", null, null))
+                    .isInstanceOf(UpstreamConnectException.class);
+        }
+
+        assertThat(upstream.metrics().getRetries()).isEqualTo(RetryBudget.BURST_SECONDS);
+        assertThat(upstream.metrics().getRetryBudgetAvailable()).isZero();
+        assertThat(upstream.metrics().getRetryBudgetExhausted()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,125 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import io.messagexform.standalone.config.PoolConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for the managed upstream connection pool (FR-004-44,
+ * CFG-004-50..52, S-004-79): an exhausted pool answers {@code 503} without
+ * contacting the backend, and pre-warming opens connections ahead of traffic.
+ */
+@DisplayName("FR-004-44: Upstream connection pool")
+class UpstreamPoolIntegrationTest extends ProxyTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final CountDownLatch slowArrived = new CountDownLatch(1);
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+    private final AtomicInteger headRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        startMockBackend(this::backend);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        stopInfrastructure();
+    }
+
+    /** HEAD (pre-warm) → 404; {@code /api/slow} blocks until released. */
+    private void backend(HttpExchange exchange) throws IOException {
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            headRequests.incrementAndGet();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        if (exchange.getRequestURI().getPath().equals("/api/slow")) {
+            slowArrived.countDown();
+            try {
+                slowRelease.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        respond(exchange, 200, "application/json", "{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Every connection in use and no room to wait → 503 RFC 9457, counted as a rejection")
+    void exhaustedPool_returns503() throws Exception {
+        UpstreamClient upstreamClient = new UpstreamClient(backendConfig()
+                .pool(new PoolConfig(1, true, 60_000, 0, 5000, 0))
+                .build());
+        startProxy(handlerBuilder(new String[0], null).upstream(upstreamClient));
+
+        CompletableFuture<HttpResponse<String>> slow =
+                testClient.sendAsync(get("/api/slow"), HttpResponse.BodyHandlers.ofString());
+        assertThat(slowArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        HttpResponse<String> response = testClient.send(get("/api/fast"), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(response.headers().firstValue("content-type"))
+                .hasValueSatisfying(ct -> assertThat(ct).contains("application/problem+json"));
+        JsonNode body = MAPPER.readTree(response.body());
+        assertThat(body.get("type").asText()).isEqualTo(ProblemDetail.URN_SERVICE_UNAVAILABLE);
+        assertThat(body.get("instance").asText()).isEqualTo("/api/fast");
+        assertThat(upstreamClient.metrics().getAcquireRejections()).isEqualTo(1);
+
+        slowRelease.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Pre-warm → one concurrent HEAD per connection, all slots returned")
+    void prewarm_opensConnections() {
+        UpstreamClient upstreamClient = new UpstreamClient(backendConfig()
+                .pool(new PoolConfig(10, true, 60_000, 100, 5000, 3))
+                .build());
+
+        int warmed = upstreamClient.prewarm(3);
+
+        assertThat(warmed).isEqualTo(3);
+        assertThat(headRequests.get()).isEqualTo(3);
+        UpstreamMetrics metrics = upstreamClient.metrics();
+        assertThat(metrics.getPeakActive()).isEqualTo(3);
+        assertThat(metrics.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pre-warm against an unreachable backend → reports zero, does not throw")
+    void prewarm_unreachableBackend() {
+        UpstreamClient upstreamClient = new UpstreamClient(
+                backendConfig().backendPort(1).backendConnectTimeoutMs(500).build());
+
+        assertThat(upstreamClient.prewarm(2)).isZero();
+        assertThat(upstreamClient.metrics().getActive()).isZero();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link UpstreamPool} — the upstream connection and stream lease pool (FR-004-43, FR-004-44). */
+@DisplayName("UpstreamPool — upstream connection and stream slots")
+class UpstreamPoolTest {
+
+    private static final Duration LONG_WAIT = Duration.ofSeconds(30);
+
+    /** A stream pool — no connection modelling — with room for 100 waiters. */
+    private static UpstreamPool streams(int limit) {
+        return new UpstreamPool(limit, 100, true);
+    }
+
+    @Test
+    @DisplayName("Limit 0 → every acquire succeeds and is counted")
+    void noLimit_countsOnly() {
+        UpstreamPool limiter = streams(0);
+
+        Runnable first = limiter.acquire(LONG_WAIT).join();
+        Runnable second = limiter.acquire(LONG_WAIT).join();
+
+        assertThat(limiter.active()).isEqualTo(2);
+        first.run();
+        second.run();
+        assertThat(limiter.active()).isZero();
+        assertThat(limiter.peak()).isEqualTo(2);
+        assertThat(limiter.waits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Full limiter → waiters get freed slots in arrival order")
+    void full_waitersServedInOrder() {
+        UpstreamPool limiter = streams(1);
+        Runnable held = limiter.acquire(LONG_WAIT).join();
+
+        CompletableFuture<Runnable> first = limiter.acquire(LONG_WAIT);
+        CompletableFuture<Runnable> second = limiter.acquire(LONG_WAIT);
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        held.run();
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        assertThat(limiter.active()).isEqualTo(1);
+
+        first.join().run();
+        assertThat(second).isCompleted();
+        second.join().run();
+        assertThat(limiter.active()).isZero();
+        assertThat(limiter.peak()).isEqualTo(1);
+        assertThat(limiter.waits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Release is idempotent — a slot is returned once")
+    void release_idempotent() {
+        UpstreamPool limiter = streams(2);
+        Runnable slot = limiter.acquire(LONG_WAIT).join();
+        limiter.acquire(LONG_WAIT).join();
+
+        slot.run();
+        slot.run();
+
+        assertThat(limiter.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Wait past maxWait → TimeoutException, counted, and skipped on release")
+    void waitTimeout_failsAndIsSkipped() {
+        UpstreamPool limiter = streams(1);
+        Runnable held = limiter.acquire(LONG_WAIT).join();
+
+        CompletableFuture<Runnable> expired = limiter.acquire(Duration.ofMillis(20));
+        assertThatThrownBy(expired::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(limiter.waitTimeouts()).isEqualTo(1);
+
+        CompletableFuture<Runnable> live = limiter.acquire(LONG_WAIT);
+        held.run();
+
+        assertThat(live).isCompleted();
+        assertThat(limiter.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Withdrawn wait → slot goes to the next waiter")
+    void cancelledWaiter_skipped() {
+        UpstreamPool limiter = streams(1);
+        Runnable held = limiter.acquire(LONG_WAIT).join();
+        CompletableFuture<Runnable> withdrawn = limiter.acquire(LONG_WAIT);
+        CompletableFuture<Runnable> live = limiter.acquire(LONG_WAIT);
+
+        withdrawn.cancel(false);
+        held.run();
+
+        assertThat(live).isCompleted();
+        assertThat(limiter.active()).isEqualTo(1);
+        assertThat(limiter.waitTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Wait queue full → further acquires are rejected at once")
+    void maxPending_rejects() {
+        UpstreamPool pool = new UpstreamPool(1, 1, false);
+        Runnable held = pool.acquire(LONG_WAIT).join();
+        CompletableFuture<Runnable> queued = pool.acquire(LONG_WAIT);
+
+        CompletableFuture<Runnable> rejected = pool.acquire(LONG_WAIT);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(pool.rejections()).isEqualTo(1);
+        assertThat(pool.pending()).isEqualTo(1);
+
+        held.run();
+        assertThat(queued).isCompleted();
+        assertThat(pool.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Acquire waits → recorded in the histogram by wait time")
+    void waitHistogram_bucketsWaits() {
+        AtomicLong now = new AtomicLong();
+        UpstreamPool pool = new UpstreamPool(1, 100, false, now::get);
+        Runnable held = pool.acquire(LONG_WAIT).join();
+        CompletableFuture<Runnable> queued = pool.acquire(LONG_WAIT);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+        held.run();
+        queued.join().run();
+
+        long[] histogram = pool.waitHistogram();
+        assertThat(histogram).hasSize(UpstreamPool.WAIT_BUCKETS_MS.length + 1);
+        // Immediate acquire → 0 ms bucket; the 40 ms wait → the ≤ 50 ms bucket
+        assertThat(histogram[0]).isEqualTo(1);
+        assertThat(histogram[5]).isEqualTo(1);
+        assertThat(pool.maxWaitMs()).isEqualTo(40);
+    }
+}
@@ -0,0 +1,167 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import io.messagexform.standalone.config.PoolConfig;
+import io.messagexform.standalone.config.ProxyConfig;
+import io.messagexform.standalone.config.UpstreamProtocolConfig;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the configurable upstream protocol and stream limit (FR-004-43,
+ * CFG-004-48..49).
+ *
+ * <p>
+ * The mock backend is the JDK's HTTP/1.1-only {@code HttpServer}, so HTTP/2
+ * configurations exercise the client's fallback path and the stream gate;
+ * the negotiated version shows up in {@link UpstreamMetrics}.
+ */
+@DisplayName("UpstreamClient — protocol and stream limits")
+class UpstreamProtocolTest {
+
+    private static final String BODY = "{\"ok\":true}";
+
+    private static HttpServer mockBackend;
+    private static int backendPort;
+
+    @BeforeAll
+    static void startMockBackend() throws IOException {
+        mockBackend = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        backendPort = mockBackend.getAddress().getPort();
+        mockBackend.createContext("/", exchange -> {
+            byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        mockBackend.start();
+    }
+
+    @AfterAll
+    static void stopMockBackend() {
+        if (mockBackend != null) {
+            mockBackend.stop(0);
+        }
+    }
+
+    private static UpstreamClient client(String protocol, int maxConcurrentStreams) {
+        return new UpstreamClient(ProxyConfig.builder()
+                .backendHost("127.0.0.1")
+                .backendPort(backendPort)
+                .backendConnectTimeoutMs(300)
+                .backendReadTimeoutMs(5000)
+                .pool(new PoolConfig(100, true, 60000, 1000, 300, 0))
+                .upstreamProtocol(new UpstreamProtocolConfig(protocol, maxConcurrentStreams))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Default → HTTP/1.1, responses counted as HTTP/1.1")
+    void defaultProtocol_http11() throws Exception {
+        UpstreamClient client = new UpstreamClient(ProxyConfig.builder()
+                .backendHost("127.0.0.1")
+                .backendPort(backendPort)
+                .build());
+
+        client.forward("GET", "/api/a", null, null);
+
+        assertThat(client.httpClient().version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+        assertThat(client.metrics().getProtocol()).isEqualTo("http/1.1");
+        assertThat(client.metrics().getHttp1Responses()).isEqualTo(1);
+        assertThat(client.metrics().getMaxActive()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("h2c → HTTP/2 client; an HTTP/1.1-only backend falls back and is counted as HTTP/1.1")
+    void h2c_fallsBackToHttp11() throws Exception {
+        UpstreamClient client = client(UpstreamProtocolConfig.H2C, 0);
+
+        UpstreamResponse response = client.forward("POST", "/api/b", BODY, null);
+
+        assertThat(client.httpClient().version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(BODY);
+        assertThat(client.metrics().getHttp1Responses()).isEqualTo(1);
+        assertThat(client.metrics().getHttp2Responses()).isZero();
+    }
+
+    @Test
+    @DisplayName("Stream limit → slot held until the body is closed; a waiter gives up after the acquire timeout")
+    void streamLimit_heldUntilBodyClosed() throws Exception {
+        UpstreamClient client = client(UpstreamProtocolConfig.H2C, 1);
+        UpstreamMetrics metrics = client.metrics();
+
+        UpstreamStreamingResponse open = client.forwardStreaming("GET", "/api/c", null, null);
+        assertThat(metrics.getActive()).isEqualTo(1);
+
+        assertThatThrownBy(() -> client.forwardStreaming("GET", "/api/d", null, null))
+                .isInstanceOf(UpstreamPoolExhaustedException.class)
+                .hasMessageContaining("No upstream connection available");
+        assertThat(metrics.getAcquireWaits()).isEqualTo(1);
+        assertThat(metrics.getAcquireTimeouts()).isEqualTo(1);
+
+        open.body().close();
+        assertThat(metrics.getActive()).isZero();
+
+        UpstreamResponse next = client.forward("GET", "/api/e", null, null);
+        assertThat(next.statusCode()).isEqualTo(200);
+        assertThat(metrics.getActive()).isZero();
+        assertThat(metrics.getPeakActive()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Stream limit, async → the queued exchange is sent once the slot frees")
+    void streamLimit_asyncWaiterProceeds() throws Exception {
+        UpstreamClient client = new UpstreamClient(ProxyConfig.builder()
+                .backendHost("127.0.0.1")
+                .backendPort(backendPort)
+                .pool(new PoolConfig(100, true, 60000, 1000, 30_000, 0))
+                .upstreamProtocol(new UpstreamProtocolConfig(UpstreamProtocolConfig.H2C, 1))
+                .build());
+
+        UpstreamStreamingResponse open = client.forwardStreaming("GET", "/api/f", null, null);
+        CompletableFuture<UpstreamStreamingResponse> queued =
+                client.forwardAsync("GET", "/api/g", null, null, status -> true);
+        assertThat(queued).isNotDone();
+
+        open.body().close();
+
+        UpstreamStreamingResponse response = queued.join();
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(client.readBody(response)).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8));
+        // A buffered body frees its stream as soon as it has been received
+        assertThat(client.metrics().getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Stream limit, async → a wait past the acquire timeout fails with UpstreamPoolExhaustedException")
+    void streamLimit_asyncWaitTimesOut() throws Exception {
+        UpstreamClient client = client(UpstreamProtocolConfig.H2C, 1);
+        UpstreamStreamingResponse open = client.forwardStreaming("GET", "/api/h", null, null);
+        try {
+            CompletableFuture<UpstreamStreamingResponse> queued =
+                    client.forwardAsync("GET", "/api/i", null, null, status -> false);
+
+            assertThatThrownBy(queued::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(UpstreamPoolExhaustedException.class);
+        } finally {
+            open.body().close();
+        }
+        assertThat(client.metrics().getActive()).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import io.messagexform.standalone.config.AdaptiveConcurrencyConfig;
+import io.messagexform.standalone.config.CircuitBreakerConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for upstream overload protection (FR-004-48, FR-004-49,
+ * S-004-83, S-004-84): an open circuit and a reached concurrency limit both
+ * answer {@code 503} without contacting the backend.
+ */
+@DisplayName("FR-004-48/49: Adaptive concurrency limit and circuit breaker")
+class UpstreamResilienceIntegrationTest extends ProxyTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AtomicInteger failingRequests = new AtomicInteger();
+    private final CountDownLatch slowArrived = new CountDownLatch(1);
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        startMockBackend(this::backend);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        stopInfrastructure();
+    }
+
+    /** {@code /api/failing} → 503; {@code /api/slow} blocks until released. */
+    private void backend(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int status = 200;
+        if (path.equals("/api/failing")) {
+            failingRequests.incrementAndGet();
+            status = 503;
+        } else if (path.equals("/api/slow")) {
+            slowArrived.countDown();
+            try {
+                slowRelease.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        respond(exchange, status, "application/json", "{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Backend keeps failing → circuit opens, 503 with Retry-After, backend not contacted")
+    void openCircuit_failsFast() throws Exception {
+        UpstreamClient upstreamClient = new UpstreamClient(backendConfig()
+                .circuitBreaker(new CircuitBreakerConfig(true, 50, 2, 10, 60_000, 1))
+                .build());
+        startProxy(handlerBuilder(new String[0], null).upstream(upstreamClient));
+
+        for (int i = 0; i < 2; i++) {
+            HttpResponse<String> passedThrough =
+                    testClient.send(get("/api/failing"), HttpResponse.BodyHandlers.ofString());
+            assertThat(passedThrough.statusCode()).isEqualTo(503);
+            assertThat(passedThrough.headers().firstValue("retry-after")).isEmpty();
+        }
+        assertThat(upstreamClient.metrics().getCircuitState()).isEqualTo("OPEN");
+
+        HttpResponse<String> response = testClient.send(get("/api/failing"), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(response.headers().firstValue("retry-after")).hasValue("60");
+        assertThat(response.headers().firstValue("content-type"))
+                .hasValueSatisfying(ct -> assertThat(ct).contains("application/problem+json"));
+        JsonNode body = MAPPER.readTree(response.body());
+        assertThat(body.get("type").asText()).isEqualTo(ProblemDetail.URN_SERVICE_UNAVAILABLE);
+        assertThat(failingRequests.get()).isEqualTo(2);
+        assertThat(upstreamClient.metrics().getCircuitRejections()).isEqualTo(1);
+        assertThat(upstreamClient.metrics().getCircuitOpenings()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Concurrency limit reached → 503 RFC 9457, counted as a limit rejection")
+    void concurrencyLimitReached_returns503() throws Exception {
+        UpstreamClient upstreamClient = new UpstreamClient(backendConfig()
+                .adaptiveConcurrency(new AdaptiveConcurrencyConfig(true, 1, 1, 1))
+                .build());
+        startProxy(handlerBuilder(new String[0], null).upstream(upstreamClient));
+
+        CompletableFuture<HttpResponse<String>> slow =
+                testClient.sendAsync(get("/api/slow"), HttpResponse.BodyHandlers.ofString());
+        assertThat(slowArrived.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(upstreamClient.metrics().getConcurrencyLimitInFlight()).isEqualTo(1);
+
+        HttpResponse<String> response = testClient.send(get("/api/fast"), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        JsonNode body = MAPPER.readTree(response.body());
+        assertThat(body.get("type").asText()).isEqualTo(ProblemDetail.URN_SERVICE_UNAVAILABLE);
+        assertThat(upstreamClient.metrics().getConcurrencyLimit()).isEqualTo(1);
+        assertThat(upstreamClient.metrics().getConcurrencyLimitRejections()).isEqualTo(1);
+
+        slowRelease.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        assertThat(upstreamClient.metrics().getConcurrencyLimitInFlight()).isZero();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + proxyPort + path))
+                .GET()
+                .build();
+    }
+}
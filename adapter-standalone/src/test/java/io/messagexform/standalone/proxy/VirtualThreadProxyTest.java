@@ -0,0 +1,145 @@
+package io.messagexform.standalone.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Integration tests for virtual-thread execution (FR-004-41, CFG-004-43..44):
+ * with {@code proxy.virtual-threads.enabled}, concurrency against a slow
+ * backend is no longer capped by Jetty's platform-thread pool.
+ */
+@DisplayName("FR-004-41: Virtual-thread execution")
+class VirtualThreadProxyTest {
+
+    /** Above Jetty's default 250-thread platform pool. */
+    private static final int CONCURRENT_REQUESTS = 400;
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer slowBackend;
+    private CountDownLatch allInFlight;
+    private ProxyApp proxyApp;
+
+    @AfterEach
+    void cleanup() {
+        if (proxyApp != null) {
+            proxyApp.stop();
+        }
+        if (slowBackend != null) {
+            slowBackend.stop(0);
+        }
+    }
+
+    private ProxyApp startProxy(boolean virtualThreads, int pinnedThresholdMs) throws Exception {
+        slowBackend = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENT_REQUESTS);
+        slowBackend.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        // Holds every request until all of them are in flight at once — only
+        // possible if the proxy is not capped by a bounded thread pool
+        allInFlight = new CountDownLatch(CONCURRENT_REQUESTS);
+        slowBackend.createContext("/slow", exchange -> {
+            allInFlight.countDown();
+            boolean reached;
+            try {
+                reached = allInFlight.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reached = false;
+            }
+            byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(reached ? 200 : 503, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        slowBackend.start();
+
+        Path specsDir = Files.createDirectories(tempDir.resolve("specs"));
+        Path configFile = tempDir.resolve("config.yaml");
+        Files.writeString(configFile, """
+            proxy:
+              host: "127.0.0.1"
+              port: 0
+              virtual-threads:
+                enabled: %s
+                pinned-threshold-ms: %d
+            backend:
+              host: "127.0.0.1"
+              port: %d
+              pool:
+                max-connections: 500
+            engine:
+              specs-dir: "%s"
+            reload:
+              enabled: false
+            """.formatted(
+                                virtualThreads,
+                                pinnedThresholdMs,
+                                slowBackend.getAddress().getPort(),
+                                specsDir.toString().replace("\\", "/")));
+        return ProxyApp.start(new String[] {"--config", configFile.toString()});
+    }
+
+    @Test
+    @DisplayName("400 slow-backend requests are all in flight at once")
+    void concurrentSlowRequests_notCappedByPlatformPool() throws Exception {
+        proxyApp = startProxy(true, 20);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + proxyApp.port() + "/slow"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertThat(response.join().statusCode()).isEqualTo(200);
+        }
+        assertThat(allInFlight.getCount()).isZero();
+        assertThat(proxyApp.config().virtualThreads().enabled()).isTrue();
+        assertThat(proxyApp.pinnedThreadCount()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Pinning diagnostics are off with platform threads or a zero threshold")
+    void pinningDiagnosticsOff() throws Exception {
+        proxyApp = startProxy(false, 20);
+        assertThat(proxyApp.pinnedThreadCount()).isEqualTo(-1);
+        proxyApp.stop();
+        slowBackend.stop(0);
+
+        proxyApp = startProxy(true, 0);
+        assertThat(proxyApp.pinnedThreadCount()).isEqualTo(-1);
+    }
+}
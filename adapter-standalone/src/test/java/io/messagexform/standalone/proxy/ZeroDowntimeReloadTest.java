@@ -62,7 +62,9 @@ class ZeroDowntimeReloadTest extends ProxyTestHarness {
     @Test
     void concurrentRequests_duringReload_noFailures() throws Exception {
         // Start with an identity spec
-        writeSpec("identity.yaml", """
+        writeSpec(
+                "identity.yaml",
+                """
                 id: identity-transform
                 version: "1.0.0"
                 description: "Identity"
@@ -111,7 +113,9 @@ class ZeroDowntimeReloadTest extends ProxyTestHarness {
             assertTrue(readyLatch.await(10, TimeUnit.SECONDS), "All threads should reach ready state");
 
             // Write a new spec to trigger reload on the same thread as the requests
-            writeSpec("second.yaml", """
+            writeSpec(
+                    "second.yaml",
+                    """
                     id: second-spec
                     version: "1.0.0"
                     description: "Second"
@@ -157,7 +161,9 @@ class ZeroDowntimeReloadTest extends ProxyTestHarness {
     @Test
     void inFlightRequest_duringReload_consistentResponse() throws Exception {
         // Start with spec A
-        writeSpec("spec-a.yaml", """
+        writeSpec(
+                "spec-a.yaml",
+                """
                 id: spec-a
                 version: "1.0.0"
                 description: "Spec A"
@@ -227,8 +233,11 @@ class ZeroDowntimeReloadTest extends ProxyTestHarness {
                 .backendPort(backendPort)
                 .build();
         UpstreamClient upstreamClient = new UpstreamClient(config);
-        ProxyHandler proxyHandler = new ProxyHandler(
-                engine, adapter, upstreamClient, config.maxBodyBytes(), config.forwardedHeadersEnabled());
+        ProxyHandler proxyHandler = ProxyHandler.builder(engine, adapter)
+                .upstream(upstreamClient)
+                .maxBodyBytes(config.maxBodyBytes())
+                .forwardedHeadersEnabled(config.forwardedHeadersEnabled())
+                .build();
         AdminReloadHandler reloadHandler = new AdminReloadHandler(engine, specsDir, profileFile);
 
         app = io.javalin.Javalin.create()
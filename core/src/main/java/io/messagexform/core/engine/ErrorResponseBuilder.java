@@ -29,7 +29,7 @@ import io.messagexform.core.model.MessageBody;
  */
 public final class ErrorResponseBuilder {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectMapper MAPPER = JsonMappers.newJsonMapper();
     private static final int DEFAULT_STATUS = 502;
     private static final String DEFAULT_TITLE = "Transform Failed";
 
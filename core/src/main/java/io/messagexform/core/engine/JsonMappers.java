@@ -0,0 +1,35 @@
+package io.messagexform.core.engine;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Factory for the JSON {@link ObjectMapper}s used on the per-message path.
+ *
+ * <p>
+ * Jackson's default buffer recycler is pooled per thread. That suits a fixed
+ * worker pool, but under virtual threads (FR-004-41) every request runs on a
+ * fresh thread, so each parse allocates new buffers and leaves a dead
+ * thread-local behind. Mappers built here share one lock-free pool across
+ * all threads instead, which recycles equally well on platform and virtual
+ * threads.
+ *
+ * <p>
+ * Package-private: Jackson is relocated in the shaded core JAR, so no Jackson
+ * type may appear in core's public API. Mappers are thread-safe once
+ * configured; callers hold them in {@code static final} fields.
+ */
+final class JsonMappers {
+
+    private JsonMappers() {}
+
+    /** Creates a JSON mapper backed by the shared, thread-agnostic recycler pool. */
+    static ObjectMapper newJsonMapper() {
+        JsonFactory factory = JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build();
+        return JsonMapper.builder(factory).build();
+    }
+}
@@ -0,0 +1,415 @@
+package io.messagexform.core.engine;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable hash map with structural sharing — a compressed hash-array mapped
+ * prefix trie (CHAMP variant of a HAMT) backing {@link TransformRegistry}.
+ *
+ * <p>
+ * {@link #plus(Object, Object)} returns a new map that shares every untouched
+ * trie node with this one: an insert or replace copies only the
+ * O(log<sub>32</sub> n) nodes on the path to the key (at most 7 levels for a
+ * 32-bit hash). Loading n specs one at a time is therefore O(n log n) instead
+ * of the O(n²) map copies a {@code HashMap} snapshot would need, and older
+ * snapshots held by in-flight requests stay valid and cheap.
+ *
+ * <p>
+ * Each trie node stores its inline entries and its sub-nodes in one array,
+ * indexed by two 32-bit bitmaps ({@code dataMap}, {@code nodeMap}) over the
+ * 5-bit hash fragment for that level. Keys whose full 32-bit hashes collide
+ * end up in a {@link CollisionNode} below the last level.
+ *
+ * <p>
+ * Keys and values must be non-null. The map is read-only through the
+ * {@link Map} interface — mutators inherited from {@link AbstractMap} throw
+ * {@link UnsupportedOperationException}. Thread-safe: instances are deeply
+ * immutable.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /** Returns the empty map. */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a persistent map with the entries of {@code map}. Returns
+     * {@code map} itself if it already is a {@code PersistentHashMap} — no copy
+     * is needed for an immutable source.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap<?, ?> persistent) {
+            return (PersistentHashMap<K, V>) persistent;
+        }
+        PersistentHashMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}. Returns
+     * {@code this} if the key is already mapped to the same value instance.
+     */
+    PersistentHashMap<K, V> plus(K key, V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(key, value, hash(key), 0, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        return (V) root.find(key, hash(key), 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        if (es == null) {
+            es = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new EntryIterator<>(root);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+            entrySet = es;
+        }
+        return es;
+    }
+
+    /** Spreads high bits into the low fragment (same idea as {@code HashMap.hash}). */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int fragment(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    // ── Trie nodes ──
+
+    private abstract static class Node {
+
+        abstract Object find(Object key, int hash, int shift);
+
+        /** Returns {@code this} when nothing changed; sets {@code added[0]} for new keys. */
+        abstract Node put(Object key, Object value, int hash, int shift, boolean[] added);
+
+        abstract int dataCount();
+
+        abstract Object keyAt(int index);
+
+        abstract Object valueAt(int index);
+
+        abstract int nodeCount();
+
+        abstract Node nodeAt(int index);
+    }
+
+    /**
+     * Bitmap-indexed node. {@code array} holds {@code [k0, v0, k1, v1, ...]}
+     * for the {@code dataMap} bits followed by one sub-node per
+     * {@code nodeMap} bit, both in ascending fragment order.
+     */
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] array;
+
+        BitmapNode(int dataMap, int nodeMap, Object[] array) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.array = array;
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeSlot(int bit) {
+            return 2 * Integer.bitCount(dataMap) + Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = 1 << fragment(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = dataIndex(bit);
+                return key.equals(array[2 * i]) ? array[2 * i + 1] : null;
+            }
+            if ((nodeMap & bit) != 0) {
+                return ((Node) array[nodeSlot(bit)]).find(key, hash, shift + BITS);
+            }
+            return null;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, boolean[] added) {
+            int bit = 1 << fragment(hash, shift);
+
+            if ((dataMap & bit) != 0) {
+                int i = dataIndex(bit);
+                Object existingKey = array[2 * i];
+                Object existingValue = array[2 * i + 1];
+                if (key.equals(existingKey)) {
+                    if (existingValue == value) {
+                        return this;
+                    }
+                    Object[] copy = array.clone();
+                    copy[2 * i + 1] = value;
+                    return new BitmapNode(dataMap, nodeMap, copy);
+                }
+                // Two keys share this fragment — push both one level down
+                added[0] = true;
+                Node sub = merge(existingKey, existingValue, hash(existingKey), key, value, hash, shift + BITS);
+                return migrateDataToNode(bit, i, sub);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                int slot = nodeSlot(bit);
+                Node child = (Node) array[slot];
+                Node newChild = child.put(key, value, hash, shift + BITS, added);
+                if (newChild == child) {
+                    return this;
+                }
+                Object[] copy = array.clone();
+                copy[slot] = newChild;
+                return new BitmapNode(dataMap, nodeMap, copy);
+            }
+
+            // Empty slot — insert inline entry
+            added[0] = true;
+            int i = dataIndex(bit);
+            Object[] copy = new Object[array.length + 2];
+            System.arraycopy(array, 0, copy, 0, 2 * i);
+            copy[2 * i] = key;
+            copy[2 * i + 1] = value;
+            System.arraycopy(array, 2 * i, copy, 2 * i + 2, array.length - 2 * i);
+            return new BitmapNode(dataMap | bit, nodeMap, copy);
+        }
+
+        /** Replaces inline entry {@code dataIdx} with sub-node {@code sub} at {@code bit}. */
+        private BitmapNode migrateDataToNode(int bit, int dataIdx, Node sub) {
+            int newDataMap = dataMap & ~bit;
+            int newNodeMap = nodeMap | bit;
+            Object[] copy = new Object[array.length - 1];
+            int oldDataEnd = 2 * Integer.bitCount(dataMap);
+            int newNodeSlot = 2 * Integer.bitCount(newDataMap) + Integer.bitCount(newNodeMap & (bit - 1));
+            // data entries before and after the removed pair
+            System.arraycopy(array, 0, copy, 0, 2 * dataIdx);
+            System.arraycopy(array, 2 * dataIdx + 2, copy, 2 * dataIdx, oldDataEnd - 2 * dataIdx - 2);
+            // sub-nodes before the new one, the new one, then the rest
+            int nodesBefore = newNodeSlot - (oldDataEnd - 2);
+            System.arraycopy(array, oldDataEnd, copy, oldDataEnd - 2, nodesBefore);
+            copy[newNodeSlot] = sub;
+            System.arraycopy(
+                    array, oldDataEnd + nodesBefore, copy, newNodeSlot + 1, array.length - oldDataEnd - nodesBefore);
+            return new BitmapNode(newDataMap, newNodeMap, copy);
+        }
+
+        @Override
+        int dataCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        Object keyAt(int index) {
+            return array[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index) {
+            return array[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        Node nodeAt(int index) {
+            return (Node) array[2 * Integer.bitCount(dataMap) + index];
+        }
+    }
+
+    /** Builds the smallest sub-trie holding two keys whose fragments matched at the parent level. */
+    private static Node merge(Object k1, Object v1, int h1, Object k2, Object v2, int h2, int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(new Object[] {k1, v1, k2, v2});
+        }
+        int f1 = fragment(h1, shift);
+        int f2 = fragment(h2, shift);
+        if (f1 == f2) {
+            Node sub = merge(k1, v1, h1, k2, v2, h2, shift + BITS);
+            return new BitmapNode(0, 1 << f1, new Object[] {sub});
+        }
+        Object[] array = f1 < f2 ? new Object[] {k1, v1, k2, v2} : new Object[] {k2, v2, k1, v1};
+        return new BitmapNode((1 << f1) | (1 << f2), 0, array);
+    }
+
+    /** Keys with identical 32-bit hashes, stored as a flat {@code [k, v, ...]} array. */
+    private static final class CollisionNode extends Node {
+
+        private final Object[] array;
+
+        CollisionNode(Object[] array) {
+            this.array = array;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return array[i + 1];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, boolean[] added) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    if (array[i + 1] == value) {
+                        return this;
+                    }
+                    Object[] copy = array.clone();
+                    copy[i + 1] = value;
+                    return new CollisionNode(copy);
+                }
+            }
+            added[0] = true;
+            Object[] copy = Arrays.copyOf(array, array.length + 2);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            return new CollisionNode(copy);
+        }
+
+        @Override
+        int dataCount() {
+            return array.length / 2;
+        }
+
+        @Override
+        Object keyAt(int index) {
+            return array[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index) {
+            return array[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount() {
+            return 0;
+        }
+
+        @Override
+        Node nodeAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /** Lazy depth-first iterator — no up-front copy of the entries. */
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+        private final Deque<Node> pending = new ArrayDeque<>();
+        private Node current;
+        private int index;
+
+        EntryIterator(Node root) {
+            pending.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || index >= current.dataCount()) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                current = pending.pop();
+                index = 0;
+                for (int i = current.nodeCount() - 1; i >= 0; i--) {
+                    pending.push(current.nodeAt(i));
+                }
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int i = index++;
+            return new AbstractMap.SimpleImmutableEntry<>((K) current.keyAt(i), (V) current.valueAt(i));
+        }
+    }
+}
@@ -8,6 +8,7 @@ import io.messagexform.core.model.TransformProfile;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -142,6 +143,88 @@ public final class ProfileMatcher {
         return findBestMatch(profile, requestPath, method, contentType, direction, null);
     }
 
+    /**
+     * Returns {@code true} if any entry of the profile could match a message
+     * with the given envelope, without looking at the body. Used to decide
+     * whether a body needs to be buffered and parsed at all.
+     *
+     * <p>
+     * The answer is conservative — it never says {@code false} for a message
+     * that {@link #findMatches} would match:
+     * <ul>
+     * <li>entries with a {@code match.when} predicate count as candidates
+     * (the predicate needs the body);</li>
+     * <li>a {@code null} content type or status code means "not known yet"
+     * and satisfies any constraint on it.</li>
+     * </ul>
+     *
+     * @param profile     the profile to search
+     * @param requestPath the request path
+     * @param method      the HTTP method, or null
+     * @param contentType the Content-Type the message will carry, or null if
+     *                    not known yet
+     * @param direction   the transform direction
+     * @param statusCode  the HTTP status code, or null if not known yet
+     * @return true if at least one entry is a candidate
+     */
+    public static boolean couldMatch(
+            TransformProfile profile,
+            String requestPath,
+            String method,
+            String contentType,
+            Direction direction,
+            Integer statusCode) {
+        return couldMatch(profile, requestPath, method, contentType, direction, statusCode, null);
+    }
+
+    /**
+     * Like {@link #couldMatch(TransformProfile, String, String, String, Direction, Integer)},
+     * but only entries whose spec id is in {@code specIds} count as candidates.
+     *
+     * @param specIds the spec ids to consider, or null for all
+     * @return true if at least one entry for one of {@code specIds} is a
+     *         candidate
+     */
+    public static boolean couldMatch(
+            TransformProfile profile,
+            String requestPath,
+            String method,
+            String contentType,
+            Direction direction,
+            Integer statusCode,
+            Set<String> specIds) {
+        for (ProfileEntry entry : profile.entries()) {
+            if ((specIds == null || specIds.contains(entry.spec().id()))
+                    && envelopeMatches(entry, requestPath, method, contentType, direction)
+                    && (statusCode == null
+                            || entry.statusPattern() == null
+                            || entry.statusPattern().matches(statusCode))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the entries {@link #couldMatch} counts as candidates for a
+     * request path and method, in either direction, with content type and
+     * status not known yet.
+     *
+     * @param profile     the profile to search
+     * @param requestPath the request path
+     * @param method      the HTTP method, or null
+     * @return the candidate entries, in profile order
+     */
+    public static List<ProfileEntry> candidates(TransformProfile profile, String requestPath, String method) {
+        List<ProfileEntry> candidates = new ArrayList<>();
+        for (ProfileEntry entry : profile.entries()) {
+            if (envelopeMatches(entry, requestPath, method, null, entry.direction())) {
+                candidates.add(entry);
+            }
+        }
+        return candidates;
+    }
+
     /**
      * Tests whether a single entry matches the given request parameters,
      * optional status code, parsed body, and transform context.
@@ -157,25 +240,7 @@ public final class ProfileMatcher {
             JsonNode parsedBody,
             TransformContext context) {
 
-        // Direction must match
-        if (entry.direction() != direction) {
-            return false;
-        }
-
-        // Path must match (exact or glob)
-        if (!pathMatches(entry.pathPattern(), requestPath)) {
-            return false;
-        }
-
-        // Method must match (if specified in the entry)
-        if (entry.method() != null && method != null && !entry.method().equalsIgnoreCase(method)) {
-            return false;
-        }
-
-        // Content-type must match (if specified in the entry)
-        if (entry.contentType() != null
-                && contentType != null
-                && !entry.contentType().equalsIgnoreCase(contentType)) {
+        if (!envelopeMatches(entry, requestPath, method, contentType, direction)) {
             return false;
         }
 
@@ -225,6 +290,33 @@ public final class ProfileMatcher {
         return true;
     }
 
+    /**
+     * Cheap envelope checks shared by {@link #couldMatch} and full matching:
+     * direction → path → method → content-type.
+     */
+    private static boolean envelopeMatches(
+            ProfileEntry entry, String requestPath, String method, String contentType, Direction direction) {
+        // Direction must match
+        if (entry.direction() != direction) {
+            return false;
+        }
+
+        // Path must match (exact or glob)
+        if (!pathMatches(entry.pathPattern(), requestPath)) {
+            return false;
+        }
+
+        // Method must match (if specified in the entry)
+        if (entry.method() != null && method != null && !entry.method().equalsIgnoreCase(method)) {
+            return false;
+        }
+
+        // Content-type must match (if specified in the entry)
+        return entry.contentType() == null
+                || contentType == null
+                || entry.contentType().equalsIgnoreCase(contentType);
+    }
+
     /**
      * Tests whether a single entry matches the given request parameters
      * and optional status code (without body-predicate support).
@@ -7,6 +7,7 @@ import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 import io.messagexform.core.error.EvalBudgetExceededException;
+import io.messagexform.core.error.ExpressionEvalException;
 import io.messagexform.core.error.InputSchemaViolation;
 import io.messagexform.core.error.TransformEvalException;
 import io.messagexform.core.model.ApplyStep;
@@ -24,12 +25,19 @@ import io.messagexform.core.spec.SpecParser;
 import io.messagexform.core.spi.CompiledExpression;
 import io.messagexform.core.spi.TelemetryListener;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,7 +66,10 @@ import org.slf4j.MDC;
 public final class TransformEngine {
 
     private static final Logger LOG = LoggerFactory.getLogger(TransformEngine.class);
-    private static final ObjectMapper SIZE_MAPPER = new ObjectMapper();
+    /** Messages per slice in {@link #transformBatch(List, Direction, ForkJoinPool)}. */
+    private static final int PARALLEL_SLICE_SIZE = 64;
+
+    private static final ObjectMapper SIZE_MAPPER = JsonMappers.newJsonMapper();
     private static final JsonSchemaFactory SCHEMA_FACTORY =
             JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
 
@@ -141,12 +152,20 @@ public final class TransformEngine {
         return node;
     }
 
-    /** Converts a SessionContext to a JSON object. */
+    /** Session → JSON conversion, cached per {@code SessionContext} instance. */
+    private static final Function<io.messagexform.core.model.SessionContext, JsonNode> SESSION_TO_JSON =
+            session -> SIZE_MAPPER.valueToTree(session.toMap());
+
+    /**
+     * Converts a SessionContext to a JSON object. The result is cached on the
+     * context, so a context reused across requests is converted once; callers
+     * must not modify the returned node.
+     */
     public static JsonNode sessionToJson(io.messagexform.core.model.SessionContext session) {
         if (session == null || session.isEmpty()) {
             return SIZE_MAPPER.createObjectNode();
         }
-        return SIZE_MAPPER.valueToTree(session.toMap());
+        return session.convert(SESSION_TO_JSON);
     }
 
     private final SpecParser specParser;
@@ -251,13 +270,8 @@ public final class TransformEngine {
         try {
             TransformSpec spec = specParser.parse(path);
             // Atomically add the spec to the registry snapshot (by id and
-            // id@version)
-            registryRef.updateAndGet(old -> {
-                Map<String, TransformSpec> updated = new HashMap<>(old.allSpecs());
-                updated.put(spec.id(), spec);
-                updated.put(spec.id() + "@" + spec.version(), spec);
-                return new TransformRegistry(updated, old.activeProfile());
-            });
+            // id@version) — O(log n), the old snapshot shares structure
+            registryRef.updateAndGet(old -> old.withSpec(spec));
             // T-001-42: Notify telemetry listener of successful spec load
             notifySpecLoaded(spec, path);
             return spec;
@@ -284,7 +298,35 @@ public final class TransformEngine {
         TransformRegistry current = registryRef.get();
         ProfileParser profileParser = new ProfileParser(current.allSpecs(), specParser.engineRegistry());
         TransformProfile profile = profileParser.parse(path);
-        registryRef.updateAndGet(old -> new TransformRegistry(old.allSpecs(), profile));
+        registryRef.updateAndGet(old -> old.withActiveProfile(profile));
+        return profile;
+    }
+
+    /**
+     * Loads a transform profile and registers it under a selection key,
+     * without changing the active (default) profile. Requests select it by
+     * passing the same key to
+     * {@link #transform(Message, Direction, TransformContext, String)}.
+     *
+     * <p>
+     * The profile's spec references are resolved against already-loaded specs,
+     * so every keyed profile shares the same compiled spec instances.
+     *
+     * @param key  the selection key (e.g. a Host header, path prefix or
+     *             gateway application name)
+     * @param path path to the profile YAML file
+     * @return the loaded and resolved profile
+     * @throws io.messagexform.core.error.ProfileResolveException if the profile
+     *                                                            YAML is invalid or
+     *                                                            spec references
+     *                                                            cannot be resolved
+     */
+    public TransformProfile loadProfile(String key, Path path) {
+        Objects.requireNonNull(key, "key must not be null");
+        TransformRegistry current = registryRef.get();
+        ProfileParser profileParser = new ProfileParser(current.allSpecs(), specParser.engineRegistry());
+        TransformProfile profile = profileParser.parse(path);
+        registryRef.updateAndGet(old -> old.withProfile(key, profile));
         return profile;
     }
 
@@ -319,6 +361,27 @@ public final class TransformEngine {
      *                                                               resolved
      */
     public void reload(List<Path> specPaths, Path profilePath) {
+        reload(specPaths, profilePath, Map.of());
+    }
+
+    /**
+     * Atomically reloads the engine with a fresh set of specs, an optional
+     * active profile and a set of keyed profiles. Every profile is resolved
+     * against the same freshly compiled spec set, and all of them are swapped
+     * in together — a request never sees a keyed profile from one generation
+     * and specs from another.
+     *
+     * @param specPaths     paths to spec YAML files to load
+     * @param profilePath   optional active (default) profile YAML file, or null
+     * @param keyedProfiles selection key → profile YAML file; may be empty
+     * @throws io.messagexform.core.error.SpecParseException      if any spec
+     *                                                            fails to parse
+     * @throws io.messagexform.core.error.ProfileResolveException if any profile
+     *                                                            cannot be
+     *                                                            resolved
+     * @see #reload(List, Path)
+     */
+    public void reload(List<Path> specPaths, Path profilePath, Map<String, Path> keyedProfiles) {
         // Build new registry from scratch
         TransformRegistry.Builder builder = TransformRegistry.builder();
         for (Path specPath : specPaths) {
@@ -329,20 +392,26 @@ public final class TransformEngine {
 
         // Resolve profile against the new spec set
         TransformProfile profile = null;
-        if (profilePath != null) {
+        if (profilePath != null || !keyedProfiles.isEmpty()) {
             TransformRegistry tempRegistry = builder.build();
             ProfileParser profileParser = new ProfileParser(tempRegistry.allSpecs(), specParser.engineRegistry());
-            profile = profileParser.parse(profilePath);
-            builder.activeProfile(profile);
+            if (profilePath != null) {
+                profile = profileParser.parse(profilePath);
+                builder.activeProfile(profile);
+            }
+            for (Map.Entry<String, Path> keyed : keyedProfiles.entrySet()) {
+                builder.profile(keyed.getKey(), profileParser.parse(keyed.getValue()));
+            }
         }
 
         // Atomic swap — in-flight requests keep old reference
         TransformRegistry newRegistry = builder.build();
         registryRef.set(newRegistry);
         LOG.info(
-                "Registry reloaded: specs={}, profile={}",
+                "Registry reloaded: specs={}, profile={}, keyedProfiles={}",
                 newRegistry.specCount(),
-                profile != null ? profile.id() : "none");
+                profile != null ? profile.id() : "none",
+                newRegistry.profiles().size());
     }
 
     /**
@@ -418,40 +487,255 @@ public final class TransformEngine {
         // T-001-44: Propagate trace context headers to MDC (NFR-001-10)
         setTraceContext(message);
         try {
-            return transformInternal(message, direction, context);
+            TransformRegistry snapshot = registryRef.get();
+            return transformInternal(snapshot, snapshot.activeProfile(), message, direction, context);
+        } finally {
+            clearTraceContext();
+        }
+    }
+
+    /**
+     * Transforms the given message using the keyed profile registered under
+     * {@code profileKey} (see {@link #loadProfile(String, Path)}).
+     *
+     * <p>
+     * A {@code null} key selects the active (default) profile, exactly like
+     * {@link #transform(Message, Direction, TransformContext)}. A key with no
+     * registered profile yields PASSTHROUGH — an unknown tenant or application
+     * is never routed through another tenant's profile.
+     *
+     * @param message    the input message to transform
+     * @param direction  the direction of the transform (REQUEST or RESPONSE)
+     * @param context    the adapter-supplied transform context; must not be null
+     * @param profileKey the profile selection key, or null for the default
+     *                   profile
+     * @return a {@link TransformResult} — SUCCESS, ERROR or PASSTHROUGH
+     */
+    public TransformResult transform(
+            Message message, Direction direction, TransformContext context, String profileKey) {
+        if (profileKey == null) {
+            return transform(message, direction, context);
+        }
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(direction, "direction must not be null");
+        Objects.requireNonNull(context, "context must not be null");
+
+        setTraceContext(message);
+        try {
+            TransformRegistry snapshot = registryRef.get();
+            TransformProfile profile = snapshot.profile(profileKey);
+            if (profile == null) {
+                LOG.debug("No profile registered for key '{}' — passthrough", profileKey);
+                return TransformResult.passthrough();
+            }
+            return transformInternal(snapshot, profile, message, direction, context);
         } finally {
             clearTraceContext();
         }
     }
 
+    /**
+     * Transforms a batch of messages (FR-001-17), e.g. for offline conversions
+     * or a message-queue consumer. The whole batch uses one registry snapshot
+     * — a concurrent {@link #reload} never splits it — and messages matching
+     * the same spec are transformed together.
+     *
+     * <p>
+     * Failures are isolated per message: where
+     * {@link #transform(Message, Direction)} would throw (e.g. a body that is
+     * not JSON), the message gets
+     * an RFC 9457 error result at its index instead, and the rest of the batch
+     * still runs. Otherwise each result is what {@code transform} returns.
+     * Profile matching runs for the whole batch first, without the
+     * per-message MDC trace context (NFR-001-10); the transforms themselves
+     * run with it.
+     *
+     * @param messages  the messages to transform; must not contain null
+     * @param direction the direction of the transform (REQUEST or RESPONSE)
+     * @return one result per message, in the order of {@code messages}
+     */
+    public List<TransformResult> transformBatch(List<Message> messages, Direction direction) {
+        Objects.requireNonNull(direction, "direction must not be null");
+        List<Message> batch = List.copyOf(messages);
+        TransformResult[] results = new TransformResult[batch.size()];
+        transformSlice(registryRef.get(), batch, direction, 0, batch.size(), results);
+        return List.of(results);
+    }
+
+    /**
+     * Parallel variant of {@link #transformBatch(List, Direction)}: the batch
+     * is split into slices of up to {@value #PARALLEL_SLICE_SIZE} messages that
+     * are transformed on {@code pool}. Results keep the order of
+     * {@code messages}, and every slice uses the same registry snapshot.
+     *
+     * <p>
+     * The calling thread waits for the batch; it may be a thread of
+     * {@code pool} (e.g. {@link ForkJoinPool#commonPool()}).
+     *
+     * @param messages  the messages to transform; must not contain null
+     * @param direction the direction of the transform (REQUEST or RESPONSE)
+     * @param pool      the pool to transform on
+     * @return one result per message, in the order of {@code messages}
+     */
+    public List<TransformResult> transformBatch(List<Message> messages, Direction direction, ForkJoinPool pool) {
+        Objects.requireNonNull(direction, "direction must not be null");
+        Objects.requireNonNull(pool, "pool must not be null");
+        List<Message> batch = List.copyOf(messages);
+        TransformResult[] results = new TransformResult[batch.size()];
+        pool.invoke(new BatchTask(registryRef.get(), batch, direction, 0, batch.size(), results));
+        return List.of(results);
+    }
+
+    /**
+     * Returns {@code true} if any transform could apply to a message with the
+     * given envelope under the profile selected by {@code profileKey} — using
+     * only method, path, content type, direction and status, never the body.
+     * A {@code false} answer guarantees that
+     * {@link #transform(Message, Direction, TransformContext, String)} returns
+     * PASSTHROUGH for such a message, so adapters can skip reading, parsing
+     * and wrapping the body altogether.
+     *
+     * <p>
+     * See {@link ProfileMatcher#couldMatch} for how unknown values and
+     * {@code match.when} predicates are treated. Without a profile the
+     * single-spec fallback (Phase 4) applies to every message; a key with no
+     * registered profile never matches.
+     *
+     * @param direction   the transform direction
+     * @param profileKey  the profile selection key, or null for the default
+     *                    profile
+     * @param requestPath the request path
+     * @param method      the HTTP method, or null
+     * @param contentType the Content-Type the message will carry, or null if
+     *                    not known yet
+     * @param statusCode  the response status, or null if not known yet (always
+     *                    null for requests)
+     * @return false if the message is guaranteed to pass through
+     */
+    public boolean couldMatch(
+            Direction direction,
+            String profileKey,
+            String requestPath,
+            String method,
+            String contentType,
+            Integer statusCode) {
+        Objects.requireNonNull(direction, "direction must not be null");
+        TransformRegistry snapshot = registryRef.get();
+        TransformProfile profile = profileKey != null ? snapshot.profile(profileKey) : snapshot.activeProfile();
+        if (profile != null) {
+            return ProfileMatcher.couldMatch(profile, requestPath, method, contentType, direction, statusCode);
+        }
+        return profileKey == null && snapshot.specCount() > 0;
+    }
+
+    /**
+     * Like {@link #couldMatch(Direction, String, String, String, String, Integer)},
+     * but only transforms by one of {@code specIds} count. Adapters use it to
+     * treat exchanges that could run flagged specs differently (e.g. offload
+     * them to a worker pool) without reading the body.
+     *
+     * <p>
+     * Without a profile, the single-spec fallback (Phase 4) counts if its
+     * spec is one of {@code specIds}.
+     *
+     * @param specIds     the spec ids to consider
+     * @param direction   the transform direction
+     * @param profileKey  the profile selection key, or null for the default
+     *                    profile
+     * @param requestPath the request path
+     * @param method      the HTTP method, or null
+     * @param contentType the Content-Type the message will carry, or null if
+     *                    not known yet
+     * @param statusCode  the response status, or null if not known yet
+     * @return false if no transform by one of {@code specIds} can apply
+     */
+    public boolean couldMatchSpecs(
+            Set<String> specIds,
+            Direction direction,
+            String profileKey,
+            String requestPath,
+            String method,
+            String contentType,
+            Integer statusCode) {
+        Objects.requireNonNull(specIds, "specIds must not be null");
+        Objects.requireNonNull(direction, "direction must not be null");
+        if (specIds.isEmpty()) {
+            return false;
+        }
+        TransformRegistry snapshot = registryRef.get();
+        TransformProfile profile = profileKey != null ? snapshot.profile(profileKey) : snapshot.activeProfile();
+        if (profile != null) {
+            return ProfileMatcher.couldMatch(profile, requestPath, method, contentType, direction, statusCode, specIds);
+        }
+        if (profileKey != null || snapshot.specCount() == 0) {
+            return false;
+        }
+        return specIds.contains(snapshot.allSpecs().values().iterator().next().id());
+    }
+
+    /**
+     * Returns the lower-case names of the HTTP headers read by the transforms
+     * that could apply to a request, in either direction (see
+     * {@link ProfileMatcher#candidates}), including their {@code match.when}
+     * predicates — the headers their output may depend on besides path,
+     * method and query. Adapters that cache transformed output key it on
+     * these headers (FR-004-52).
+     *
+     * @param profileKey  the profile selection key, or null for the default
+     *                    profile
+     * @param requestPath the request path
+     * @param method      the HTTP method, or null
+     * @return the headers read — empty if no transform could apply — or
+     *         {@code null} if a transform's expressions cannot tell (see
+     *         {@link CompiledExpression#headersRead()})
+     */
+    public Set<String> headersRead(String profileKey, String requestPath, String method) {
+        TransformRegistry snapshot = registryRef.get();
+        TransformProfile profile = profileKey != null ? snapshot.profile(profileKey) : snapshot.activeProfile();
+        if (profile == null) {
+            if (profileKey != null || snapshot.specCount() == 0) {
+                return Set.of();
+            }
+            return snapshot.allSpecs().values().iterator().next().headersRead();
+        }
+        Set<String> names = new HashSet<>();
+        for (ProfileEntry entry : ProfileMatcher.candidates(profile, requestPath, method)) {
+            Set<String> read = entry.spec().headersRead();
+            if (read == null) {
+                return null;
+            }
+            names.addAll(read);
+            if (entry.whenPredicate() != null) {
+                read = entry.whenPredicate().headersRead();
+                if (read == null) {
+                    return null;
+                }
+                names.addAll(read);
+            }
+        }
+        return names;
+    }
+
     /**
      * Internal transform logic — separated to allow try-finally MDC cleanup in
      * {@link #transform(Message, Direction, TransformContext)}.
      */
-    private TransformResult transformInternal(Message message, Direction direction, TransformContext context) {
-        // Capture the registry snapshot — in-flight request uses this snapshot
-        // even if reload() swaps in a new registry concurrently (NFR-001-05).
-        TransformRegistry snapshot = registryRef.get();
+    private TransformResult transformInternal(
+            TransformRegistry snapshot,
+            TransformProfile profile,
+            Message message,
+            Direction direction,
+            TransformContext context) {
+        // The caller captured the registry snapshot — the in-flight request uses
+        // it even if reload() swaps in a new registry concurrently (NFR-001-05).
 
         // Phase 5: Profile-based routing via ProfileMatcher
-        TransformProfile profile = snapshot.activeProfile();
         if (profile != null) {
             // Phase 2 (FR-001-16, ADR-0036, T-001-71): Conditional body pre-parse
             // If any profile entry has a when predicate, we must parse the body
             // BEFORE matching so that ProfileMatcher can evaluate predicates.
             // If no entries have when predicates, we skip this (zero overhead).
-            JsonNode preParsedBody = null;
-            if (profile.hasWhenPredicates()) {
-                try {
-                    preParsedBody = bodyToJson(message.body());
-                } catch (IllegalArgumentException e) {
-                    // bodyToJson() throws on non-JSON content (NOT returns null).
-                    // Non-JSON body — when predicates cannot evaluate.
-                    // Entries without when predicates can still match.
-                    LOG.debug("Body is not JSON — when predicates will not match: {}", e.getMessage());
-                    preParsedBody = null;
-                }
-            }
+            JsonNode preParsedBody = preParseForPredicates(profile, message);
 
             List<ProfileEntry> matches = ProfileMatcher.findMatches(
                     profile,
@@ -473,7 +757,7 @@ public final class TransformEngine {
                 return transformWithSpec(entry.spec(), message, direction, logCtx, context, preParsedBody);
             }
             // Multiple matches → pipeline chain (T-001-31, ADR-0012, S-001-49)
-            return transformChain(matches, message, direction, context);
+            return transformChain(profile, matches, message, direction, context);
         }
 
         // Phase 4 fallback: single-spec mode (no profile loaded)
@@ -487,15 +771,194 @@ public final class TransformEngine {
         return transformWithSpec(spec, message, direction, null, context, null);
     }
 
+    /**
+     * Parses the body for {@code when} predicates (FR-001-16, T-001-71), or
+     * returns null if the profile has none or the body is not JSON.
+     */
+    private JsonNode preParseForPredicates(TransformProfile profile, Message message) {
+        if (!profile.hasWhenPredicates()) {
+            return null;
+        }
+        try {
+            return bodyToJson(message.body());
+        } catch (IllegalArgumentException e) {
+            // bodyToJson() throws on non-JSON content (NOT returns null).
+            // Non-JSON body — when predicates cannot evaluate.
+            // Entries without when predicates can still match.
+            LOG.debug("Body is not JSON — when predicates will not match: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Transforms a slice of a batch (FR-001-17) against one registry snapshot.
+     * All messages are matched first; messages whose single match is the same
+     * profile entry are then transformed back to back, so each spec's compiled
+     * expressions stay hot. Chains and the single-spec fallback run per message.
+     * Results are written at the message's index in {@code messages}; a message
+     * that throws gets an error result there and the rest of the slice still
+     * runs.
+     */
+    private void transformSlice(
+            TransformRegistry snapshot,
+            List<Message> messages,
+            Direction direction,
+            int from,
+            int to,
+            TransformResult[] results) {
+        TransformProfile profile = snapshot.activeProfile();
+        if (profile == null) {
+            // Phase 4 fallback: every message uses the first loaded spec
+            Iterator<TransformSpec> specs = snapshot.allSpecs().values().iterator();
+            TransformSpec spec = specs.hasNext() ? specs.next() : null;
+            for (int i = from; i < to; i++) {
+                Message message = messages.get(i);
+                results[i] = spec == null
+                        ? TransformResult.passthrough()
+                        : isolated(
+                                message,
+                                () -> transformWithSpec(
+                                        spec, message, direction, null, batchContext(message, direction), null));
+            }
+            return;
+        }
+
+        TransformContext[] contexts = new TransformContext[to - from];
+        JsonNode[] preParsed = new JsonNode[to - from];
+        Map<ProfileEntry, List<Integer>> groups = new IdentityHashMap<>();
+        List<ProfileEntry> groupOrder = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Message message = messages.get(i);
+            TransformContext context = batchContext(message, direction);
+            JsonNode preParsedBody = preParseForPredicates(profile, message);
+            contexts[i - from] = context;
+            preParsed[i - from] = preParsedBody;
+            final List<ProfileEntry> matches;
+            try {
+                matches = ProfileMatcher.findMatches(
+                        profile,
+                        message.requestPath(),
+                        message.requestMethod(),
+                        message.contentType(),
+                        direction,
+                        message.statusCode(),
+                        preParsedBody,
+                        context);
+            } catch (RuntimeException e) {
+                results[i] = batchFailure(message, e);
+                continue;
+            }
+            if (matches.isEmpty()) {
+                results[i] = TransformResult.passthrough();
+            } else if (matches.size() > 1) {
+                // Pipeline chain (T-001-31, ADR-0012) — not grouped
+                results[i] = isolated(message, () -> transformChain(profile, matches, message, direction, context));
+            } else {
+                groups.computeIfAbsent(matches.get(0), entry -> {
+                            groupOrder.add(entry);
+                            return new ArrayList<>();
+                        })
+                        .add(i);
+            }
+        }
+
+        for (ProfileEntry entry : groupOrder) {
+            for (int i : groups.get(entry)) {
+                Message message = messages.get(i);
+                LogContext logCtx =
+                        new LogContext(profile.id(), entry.specificityScore(), message.requestPath(), direction, null);
+                JsonNode preParsedBody = preParsed[i - from];
+                TransformContext context = contexts[i - from];
+                results[i] = isolated(
+                        message,
+                        () -> transformWithSpec(entry.spec(), message, direction, logCtx, context, preParsedBody));
+            }
+        }
+    }
+
+    /** Context built from message metadata, as in {@link #transform(Message, Direction)}. */
+    private static TransformContext batchContext(Message message, Direction direction) {
+        Integer status = direction == Direction.RESPONSE ? message.statusCode() : null;
+        return new TransformContext(message.headers(), status, Map.of(), Map.of(), message.session());
+    }
+
+    /**
+     * Runs {@code transform} with the message's trace context in MDC
+     * (NFR-001-10). An exception — e.g. a body that is not JSON — becomes an
+     * error result for this message only.
+     */
+    private TransformResult isolated(Message message, Supplier<TransformResult> transform) {
+        setTraceContext(message);
+        try {
+            return transform.get();
+        } catch (RuntimeException e) {
+            return batchFailure(message, e);
+        } finally {
+            clearTraceContext();
+        }
+    }
+
+    /** Error result for a batch message whose transform threw (ADR-0022: never pass through). */
+    private TransformResult batchFailure(Message message, RuntimeException e) {
+        LOG.debug("Batch message failed to transform: {}", e.getMessage());
+        TransformEvalException failure = e instanceof TransformEvalException evalException
+                ? evalException
+                : new ExpressionEvalException(e.getMessage(), e, null, null);
+        MessageBody errorBody = errorResponseBuilder.buildErrorResponse(failure, message.requestPath());
+        return TransformResult.error(errorBody, errorResponseBuilder.status());
+    }
+
+    /** Splits a parallel batch until slices are small enough to transform directly. */
+    private final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient TransformRegistry snapshot;
+        private final transient List<Message> messages;
+        private final Direction direction;
+        private final int from;
+        private final int to;
+        private final transient TransformResult[] results;
+
+        BatchTask(
+                TransformRegistry snapshot,
+                List<Message> messages,
+                Direction direction,
+                int from,
+                int to,
+                TransformResult[] results) {
+            this.snapshot = snapshot;
+            this.messages = messages;
+            this.direction = direction;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SLICE_SIZE) {
+                transformSlice(snapshot, messages, direction, from, to, results);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new BatchTask(snapshot, messages, direction, from, mid, results),
+                    new BatchTask(snapshot, messages, direction, mid, to, results));
+        }
+    }
+
     /**
      * Executes a pipeline chain of transforms (T-001-31, ADR-0012).
      * Each step's output message feeds the next step. If any step fails,
      * the entire chain aborts — no partial results reach the caller.
      */
     private TransformResult transformChain(
-            List<ProfileEntry> chain, Message message, Direction direction, TransformContext context) {
-        TransformProfile profile = registryRef.get().activeProfile();
-        String profileId = profile != null ? profile.id() : "unknown";
+            TransformProfile profile,
+            List<ProfileEntry> chain,
+            Message message,
+            Direction direction,
+            TransformContext context) {
+        String profileId = profile.id();
         int totalSteps = chain.size();
 
         LOG.info(
@@ -845,11 +1308,11 @@ public final class TransformEngine {
      * Called at the start of {@link #transform(Message, Direction)}.
      */
     private void setTraceContext(Message message) {
-        String requestId = message.headers().toSingleValueMap().get("x-request-id");
+        String requestId = message.headers().first("x-request-id");
         if (requestId != null && !requestId.isBlank()) {
             MDC.put(MDC_REQUEST_ID, requestId);
         }
-        String traceparent = message.headers().toSingleValueMap().get("traceparent");
+        String traceparent = message.headers().first("traceparent");
         if (traceparent != null && !traceparent.isBlank()) {
             MDC.put(MDC_TRACEPARENT, traceparent);
         }
@@ -2,13 +2,11 @@ package io.messagexform.core.engine;
 
 import io.messagexform.core.model.TransformProfile;
 import io.messagexform.core.model.TransformSpec;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Immutable snapshot of all loaded specs and the active profile (T-001-45,
- * NFR-001-05).
+ * Immutable snapshot of all loaded specs, the active (default) profile and
+ * any keyed profiles (T-001-45, NFR-001-05).
  *
  * <p>
  * This is the unit of atomic swap in {@link TransformEngine#reload()}. The
@@ -18,12 +16,29 @@ import java.util.Map;
  * the old reference continue using it; new requests pick up the new one.
  *
  * <p>
- * Thread-safe: all fields are final and collections are unmodifiable.
+ * Specs are held in a {@link PersistentHashMap} (hash array mapped trie), so
+ * {@link #withSpec(TransformSpec)} and {@link #withActiveProfile} derive a new
+ * snapshot in O(log n) by sharing all untouched trie nodes with this one —
+ * incremental loading never copies the whole spec map.
+ *
+ * <p>
+ * Keyed profiles let one registry serve several tenants or applications over
+ * the same compiled spec set: an adapter registers each profile under a
+ * selection key (e.g. a Host header, path prefix or gateway application name)
+ * and passes that key to
+ * {@link TransformEngine#transform(io.messagexform.core.model.Message,
+ * io.messagexform.core.model.Direction,
+ * io.messagexform.core.model.TransformContext, String)}. The specs are parsed
+ * and compiled once, however many profiles reference them.
+ *
+ * <p>
+ * Thread-safe: all fields are final and collections are immutable.
  */
 public final class TransformRegistry {
 
-    private final Map<String, TransformSpec> specs;
+    private final PersistentHashMap<String, TransformSpec> specs;
     private final TransformProfile activeProfile;
+    private final PersistentHashMap<String, TransformProfile> profiles;
 
     /**
      * Creates a new registry with the given specs and optional profile.
@@ -34,8 +49,16 @@ public final class TransformRegistry {
      * @param activeProfile the currently active profile, or null if none
      */
     public TransformRegistry(Map<String, TransformSpec> specs, TransformProfile activeProfile) {
-        this.specs = Collections.unmodifiableMap(new HashMap<>(specs));
+        this(PersistentHashMap.copyOf(specs), activeProfile, PersistentHashMap.empty());
+    }
+
+    private TransformRegistry(
+            PersistentHashMap<String, TransformSpec> specs,
+            TransformProfile activeProfile,
+            PersistentHashMap<String, TransformProfile> profiles) {
+        this.specs = specs;
         this.activeProfile = activeProfile;
+        this.profiles = profiles;
     }
 
     /**
@@ -44,7 +67,7 @@ public final class TransformRegistry {
      * @return an empty, immutable registry
      */
     public static TransformRegistry empty() {
-        return new TransformRegistry(Map.of(), null);
+        return new TransformRegistry(PersistentHashMap.empty(), null, PersistentHashMap.empty());
     }
 
     /**
@@ -68,7 +91,8 @@ public final class TransformRegistry {
 
     /**
      * Returns an unmodifiable view of all loaded specs (keyed by id and by
-     * id@version).
+     * id@version). The returned map is the registry's own immutable map — no
+     * copy is made.
      *
      * @return unmodifiable map of all specs
      */
@@ -95,6 +119,65 @@ public final class TransformRegistry {
         return activeProfile;
     }
 
+    /**
+     * Looks up a keyed profile by its selection key.
+     *
+     * @param key the selection key the profile was registered under
+     * @return the profile, or null if no profile is registered for {@code key}
+     */
+    public TransformProfile profile(String key) {
+        return key != null ? profiles.get(key) : null;
+    }
+
+    /**
+     * Returns an unmodifiable view of all keyed profiles (selection key →
+     * profile). Does not include the active (default) profile unless it was
+     * also registered under a key.
+     *
+     * @return unmodifiable map of keyed profiles
+     */
+    public Map<String, TransformProfile> profiles() {
+        return profiles;
+    }
+
+    /**
+     * Returns a new registry with {@code spec} added (or replaced) under both
+     * its id and its {@code id@version} key, keeping all profiles.
+     * O(log n) — this registry is unchanged and shares structure with the
+     * result.
+     *
+     * @param spec the spec to register
+     * @return the new registry
+     */
+    public TransformRegistry withSpec(TransformSpec spec) {
+        return new TransformRegistry(
+                specs.plus(spec.id(), spec).plus(spec.id() + "@" + spec.version(), spec), activeProfile, profiles);
+    }
+
+    /**
+     * Returns a new registry with the same specs and the given active profile.
+     * The spec map and keyed profiles are shared, not copied.
+     *
+     * @param profile the profile to activate, or null for no profile
+     * @return the new registry
+     */
+    public TransformRegistry withActiveProfile(TransformProfile profile) {
+        return new TransformRegistry(specs, profile, profiles);
+    }
+
+    /**
+     * Returns a new registry with {@code profile} registered (or replaced)
+     * under the selection key {@code key}. The spec map and active profile are
+     * shared, not copied.
+     *
+     * @param key     the selection key
+     * @param profile the profile to register
+     * @return the new registry
+     */
+    public TransformRegistry withProfile(String key, TransformProfile profile) {
+        return new TransformRegistry(specs, activeProfile, profiles.plus(key, profile));
+    }
+
     /**
      * Builder for constructing a {@link TransformRegistry} incrementally.
      * Each {@link #addSpec(TransformSpec)} call registers the spec under both
@@ -103,8 +186,9 @@ public final class TransformRegistry {
      */
     public static final class Builder {
 
-        private final Map<String, TransformSpec> specs = new HashMap<>();
+        private PersistentHashMap<String, TransformSpec> specs = PersistentHashMap.empty();
         private TransformProfile activeProfile;
+        private PersistentHashMap<String, TransformProfile> profiles = PersistentHashMap.empty();
 
         Builder() {}
 
@@ -115,8 +199,7 @@ public final class TransformRegistry {
          * @return this builder (fluent)
          */
         public Builder addSpec(TransformSpec spec) {
-            specs.put(spec.id(), spec);
-            specs.put(spec.id() + "@" + spec.version(), spec);
+            specs = specs.plus(spec.id(), spec).plus(spec.id() + "@" + spec.version(), spec);
             return this;
         }
 
@@ -131,6 +214,18 @@ public final class TransformRegistry {
             return this;
         }
 
+        /**
+         * Registers a keyed profile under the given selection key.
+         *
+         * @param key     the selection key
+         * @param profile the profile to register
+         * @return this builder (fluent)
+         */
+        public Builder profile(String key, TransformProfile profile) {
+            profiles = profiles.plus(key, profile);
+            return this;
+        }
+
         /**
          * Builds an immutable {@link TransformRegistry} from the accumulated
          * state.
@@ -138,7 +233,7 @@ public final class TransformRegistry {
          * @return the new registry
          */
         public TransformRegistry build() {
-            return new TransformRegistry(specs, activeProfile);
+            return new TransformRegistry(specs, activeProfile, profiles);
         }
     }
 }
@@ -11,7 +11,12 @@ import io.messagexform.core.model.TransformContext;
 import io.messagexform.core.spi.CompiledExpression;
 import io.messagexform.core.spi.ExpressionEngine;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * JSLT expression engine implementation (FR-001-02, SPI-001-01/02/03). Uses the
@@ -22,13 +27,24 @@ import java.util.Map;
  * Context variables ({@code $headers}, {@code $headers_all}, {@code $status},
  * {@code
  * $queryParams}, {@code $cookies}, {@code $session}) are injected as external
- * JSLT variables.
+ * JSLT variables. The headers an expression reads are found from its source:
+ * {@code $headers.name} and {@code $headers."name"} name a header, while any
+ * other use of {@code $headers} or {@code $headers_all}, or a use of
+ * {@code $session}, makes them unknown.
  */
 public final class JsltExpressionEngine implements ExpressionEngine {
 
     /** Engine identifier used in spec YAML {@code lang:} field. */
     public static final String ENGINE_ID = "jslt";
 
+    /**
+     * A reference to a header-bearing context variable, with the key it is
+     * dereferenced by, if any. JSLT identifiers may contain {@code -}.
+     */
+    private static final Pattern CONTEXT_REFERENCE =
+            Pattern.compile("\\$(headers_all|headers|cookies|session)(?![A-Za-z0-9_-])"
+                    + "(?:\\.([A-Za-z_][A-Za-z0-9_-]*)|\\.\"([^\"\\\\]*)\")?");
+
     @Override
     public String id() {
         return ENGINE_ID;
@@ -38,19 +54,52 @@ public final class JsltExpressionEngine implements ExpressionEngine {
     public CompiledExpression compile(String expression) {
         try {
             Expression jsltExpr = Parser.compileString(expression);
-            return new JsltCompiledExpression(jsltExpr);
+            return new JsltCompiledExpression(jsltExpr, headersRead(expression));
         } catch (JsltException e) {
             throw new ExpressionCompileException("Failed to compile JSLT expression: " + e.getMessage(), e, null, null);
         }
     }
 
+    /**
+     * Finds the headers {@code expression} reads, or returns null if it
+     * cannot tell. Errs towards more headers or null: a reference inside a
+     * string literal or comment counts too.
+     */
+    static Set<String> headersRead(String expression) {
+        Set<String> names = new HashSet<>();
+        Matcher reference = CONTEXT_REFERENCE.matcher(expression);
+        while (reference.find()) {
+            String variable = reference.group(1);
+            if (variable.equals("session")) {
+                return null;
+            }
+            if (variable.equals("cookies")) {
+                names.add("cookie");
+                continue;
+            }
+            String name = reference.group(2) != null ? reference.group(2) : reference.group(3);
+            if (name == null) {
+                return null;
+            }
+            names.add(name.toLowerCase(Locale.ROOT));
+        }
+        return Set.copyOf(names);
+    }
+
     /** Thread-safe compiled JSLT expression handle. */
     private static final class JsltCompiledExpression implements CompiledExpression {
 
         private final Expression jsltExpression;
+        private final Set<String> headersRead;
 
-        JsltCompiledExpression(Expression jsltExpression) {
+        JsltCompiledExpression(Expression jsltExpression, Set<String> headersRead) {
             this.jsltExpression = jsltExpression;
+            this.headersRead = headersRead;
+        }
+
+        @Override
+        public Set<String> headersRead() {
+            return headersRead;
         }
 
         @Override
@@ -1,9 +1,15 @@
 package io.messagexform.core.model;
 
-import java.util.Collections;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Case-insensitive HTTP header collection (DO-001-10, FR-001-14c).
@@ -20,16 +26,99 @@ import java.util.TreeMap;
  * All header names are normalized to <strong>lowercase</strong> per RFC 9110
  * §5.1. The class is
  * immutable — no add/remove/set mutations.
+ *
+ * <p>
+ * Headers are read on every transform, so the representation is kept
+ * compact: a flat array of lowercase names in sorted order, a parallel array
+ * of values — the value itself for a single-valued header, an immutable
+ * list otherwise — and an open-addressing index from the case-insensitive
+ * hash of a name to its position. Lookups are O(1) and allocate nothing,
+ * whatever the case of the name asked for. Well-known names are normalized
+ * to shared constant instances, so building headers from a wire map does
+ * not lowercase them again. {@link #toSingleValueMap()} and
+ * {@link #toMultiValueMap()} are read-only views over the arrays, created
+ * once per instance.
  */
 public final class HttpHeaders {
 
-    private static final HttpHeaders EMPTY = new HttpHeaders(new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    /**
+     * Canonical lowercase instances of common header names, shared by every
+     * {@code HttpHeaders} instead of a lowercased copy per message.
+     */
+    private static final String[] WELL_KNOWN = {
+        "accept",
+        "accept-encoding",
+        "accept-language",
+        "access-control-allow-origin",
+        "age",
+        "authorization",
+        "cache-control",
+        "connection",
+        "content-disposition",
+        "content-encoding",
+        "content-language",
+        "content-length",
+        "content-type",
+        "cookie",
+        "date",
+        "etag",
+        "expect",
+        "expires",
+        "forwarded",
+        "host",
+        "if-match",
+        "if-modified-since",
+        "if-none-match",
+        "keep-alive",
+        "last-modified",
+        "location",
+        "origin",
+        "pragma",
+        "proxy-authorization",
+        "range",
+        "referer",
+        "retry-after",
+        "server",
+        "set-cookie",
+        "te",
+        "traceparent",
+        "tracestate",
+        "trailer",
+        "transfer-encoding",
+        "upgrade",
+        "user-agent",
+        "vary",
+        "via",
+        "www-authenticate",
+        "x-correlation-id",
+        "x-forwarded-for",
+        "x-forwarded-host",
+        "x-forwarded-port",
+        "x-forwarded-proto",
+        "x-request-id"
+    };
+
+    /** Open-addressing index into {@link #WELL_KNOWN}: position + 1, 0 = empty. */
+    private static final int[] WELL_KNOWN_INDEX = buildIndex(WELL_KNOWN, WELL_KNOWN.length);
+
+    private static final HttpHeaders EMPTY = new HttpHeaders(new String[0], new Object[0], 0);
 
-    /** Internal storage: case-insensitive key order, values are non-empty lists. */
-    private final TreeMap<String, List<String>> store;
+    /** Lowercase names, sorted, unique. */
+    private final String[] names;
 
-    private HttpHeaders(TreeMap<String, List<String>> store) {
-        this.store = store;
+    /** Per name: the single value as a {@code String}, or an immutable {@code List<String>}. */
+    private final Object[] values;
+
+    /** Open-addressing index into {@link #names}: position + 1, 0 = empty. */
+    private final int[] index;
+
+    private Map<String, String> singleValueView;
+    private Map<String, List<String>> multiValueView;
+
+    private HttpHeaders(String[] names, Object[] values, int size) {
+        this.names = size == names.length ? names : Arrays.copyOf(names, size);
+        this.values = size == values.length ? values : Arrays.copyOf(values, size);
+        this.index = buildIndex(this.names, size);
     }
 
     /**
@@ -38,8 +127,8 @@ public final class HttpHeaders {
      * @return the first value, or {@code null} if the header is absent
      */
     public String first(String name) {
-        List<String> values = store.get(name);
-        return values != null && !values.isEmpty() ? values.get(0) : null;
+        int i = indexOf(name);
+        return i >= 0 ? firstValue(i) : null;
     }
 
     /**
@@ -48,8 +137,8 @@ public final class HttpHeaders {
      * @return an unmodifiable list of values, or an empty list if absent
      */
     public List<String> all(String name) {
-        List<String> values = store.get(name);
-        return values != null ? Collections.unmodifiableList(values) : List.of();
+        int i = indexOf(name);
+        return i >= 0 ? allValues(i) : List.of();
     }
 
     /**
@@ -59,38 +148,47 @@ public final class HttpHeaders {
      * @return {@code true} if present
      */
     public boolean contains(String name) {
-        return store.containsKey(name);
+        return indexOf(name) >= 0;
     }
 
     /** Returns {@code true} if no headers are present. */
     public boolean isEmpty() {
-        return store.isEmpty();
+        return names.length == 0;
+    }
+
+    /** Returns the number of distinct header names. */
+    public int size() {
+        return names.length;
     }
 
     /**
-     * First-value-per-name view with lowercase keys.
+     * First-value-per-name view with lowercase keys, in name order. Headers
+     * without any value are left out. Created once and reused.
      *
      * @return an unmodifiable map
      */
     public Map<String, String> toSingleValueMap() {
-        Map<String, String> result = new TreeMap<>();
-        store.forEach((key, values) -> {
-            if (!values.isEmpty()) {
-                result.put(key.toLowerCase(), values.get(0));
-            }
-        });
-        return Collections.unmodifiableMap(result);
+        Map<String, String> view = singleValueView;
+        if (view == null) {
+            view = new SingleValueView();
+            singleValueView = view;
+        }
+        return view;
     }
 
     /**
-     * All-values-per-name view with lowercase keys.
+     * All-values-per-name view with lowercase keys, in name order. Created
+     * once and reused.
      *
      * @return an unmodifiable map
      */
     public Map<String, List<String>> toMultiValueMap() {
-        Map<String, List<String>> result = new TreeMap<>();
-        store.forEach((key, values) -> result.put(key.toLowerCase(), Collections.unmodifiableList(values)));
-        return Collections.unmodifiableMap(result);
+        Map<String, List<String>> view = multiValueView;
+        if (view == null) {
+            view = new MultiValueView();
+            multiValueView = view;
+        }
+        return view;
     }
 
     // ── Factory methods ──
@@ -105,9 +203,9 @@ public final class HttpHeaders {
         if (singleValue == null || singleValue.isEmpty()) {
             return EMPTY;
         }
-        TreeMap<String, List<String>> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        singleValue.forEach((key, value) -> map.put(key.toLowerCase(), List.of(value)));
-        return new HttpHeaders(map);
+        Builder builder = new Builder(singleValue.size());
+        singleValue.forEach((name, value) -> builder.put(name, Objects.requireNonNull(value, name)));
+        return builder.build();
     }
 
     /**
@@ -120,9 +218,10 @@ public final class HttpHeaders {
         if (multiValue == null || multiValue.isEmpty()) {
             return EMPTY;
         }
-        TreeMap<String, List<String>> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        multiValue.forEach((key, values) -> map.put(key.toLowerCase(), List.copyOf(values)));
-        return new HttpHeaders(map);
+        Builder builder = new Builder(multiValue.size());
+        multiValue.forEach((name, list) -> builder.put(
+                name, list.size() == 1 ? Objects.requireNonNull(list.get(0), name) : (Object) List.copyOf(list)));
+        return builder.build();
     }
 
     /** Returns an empty headers instance. */
@@ -130,20 +229,278 @@ public final class HttpHeaders {
         return EMPTY;
     }
 
+    // ── Storage ──
+
+    /** Collects names and values; a later name equal ignoring case replaces an earlier one. */
+    private static final class Builder {
+
+        private final String[] names;
+        private final Object[] values;
+        private int size;
+
+        Builder(int capacity) {
+            names = new String[capacity];
+            values = new Object[capacity];
+        }
+
+        void put(String name, Object value) {
+            String normalized = normalize(name);
+            for (int i = 0; i < size; i++) {
+                if (names[i].equals(normalized)) {
+                    values[i] = value;
+                    return;
+                }
+            }
+            // Insertion sort — header counts are small, and this keeps name order
+            int i = size++;
+            while (i > 0 && names[i - 1].compareTo(normalized) > 0) {
+                names[i] = names[i - 1];
+                values[i] = values[i - 1];
+                i--;
+            }
+            names[i] = normalized;
+            values[i] = value;
+        }
+
+        HttpHeaders build() {
+            return new HttpHeaders(names, values, size);
+        }
+    }
+
+    /** Lowercase form of {@code name}: the shared constant for well-known names, else a copy only if needed. */
+    static String normalize(String name) {
+        int known = find(WELL_KNOWN, WELL_KNOWN_INDEX, name);
+        if (known >= 0) {
+            return WELL_KNOWN[known];
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z' || c > 0x7f) {
+                return name.toLowerCase(Locale.ROOT);
+            }
+        }
+        return name;
+    }
+
+    private int indexOf(String name) {
+        return name != null ? find(names, index, name) : -1;
+    }
+
+    private String firstValue(int i) {
+        Object value = values[i];
+        if (value instanceof String single) {
+            return single;
+        }
+        List<?> list = (List<?>) value;
+        return list.isEmpty() ? null : (String) list.get(0);
+    }
+
+    private List<String> allValues(int i) {
+        Object value = values[i];
+        if (value instanceof String single) {
+            return List.of(single);
+        }
+        @SuppressWarnings("unchecked")
+        List<String> list = (List<String>) value;
+        return list;
+    }
+
+    /** Exact-key position for the map views, whose keys are the lowercase names. */
+    private int exactIndexOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        int i = find(names, index, name);
+        return i >= 0 && names[i].equals(name) ? i : -1;
+    }
+
+    private static int[] buildIndex(String[] keys, int size) {
+        int[] table = new int[Integer.highestOneBit(Math.max(1, size) * 2) * 2];
+        int mask = table.length - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hashIgnoreCase(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int find(String[] keys, int[] table, String name) {
+        int mask = table.length - 1;
+        int slot = hashIgnoreCase(name) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            String key = keys[entry - 1];
+            if (key == name || key.equalsIgnoreCase(name)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /** A hash equal for names that are {@link String#equalsIgnoreCase} equal. */
+    private static int hashIgnoreCase(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            } else if (c > 0x7f) {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    // ── Map views ──
+
+    private final class SingleValueView extends AbstractMap<String, String> {
+
+        private Set<Entry<String, String>> entries;
+
+        @Override
+        public String get(Object key) {
+            int i = exactIndexOf(key);
+            return i >= 0 ? firstValue(i) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            if (entries == null) {
+                entries = new EntrySet<>() {
+                    @Override
+                    boolean present(int i) {
+                        return firstValue(i) != null;
+                    }
+
+                    @Override
+                    String valueAt(int i) {
+                        return firstValue(i);
+                    }
+                };
+            }
+            return entries;
+        }
+    }
+
+    private final class MultiValueView extends AbstractMap<String, List<String>> {
+
+        private Set<Entry<String, List<String>>> entries;
+
+        @Override
+        public List<String> get(Object key) {
+            int i = exactIndexOf(key);
+            return i >= 0 ? allValues(i) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return exactIndexOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public Set<Entry<String, List<String>>> entrySet() {
+            if (entries == null) {
+                entries = new EntrySet<>() {
+                    @Override
+                    boolean present(int i) {
+                        return true;
+                    }
+
+                    @Override
+                    List<String> valueAt(int i) {
+                        return allValues(i);
+                    }
+                };
+            }
+            return entries;
+        }
+    }
+
+    /** Read-only entries over the name and value arrays, skipping positions that are not {@link #present}. */
+    private abstract class EntrySet<V> extends AbstractSet<Map.Entry<String, V>> {
+
+        private int size = -1;
+
+        abstract boolean present(int i);
+
+        abstract V valueAt(int i);
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                int count = 0;
+                for (int i = 0; i < names.length; i++) {
+                    if (present(i)) {
+                        count++;
+                    }
+                }
+                size = count;
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, V>> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    int i = from;
+                    while (i < names.length && !present(i)) {
+                        i++;
+                    }
+                    return i;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < names.length;
+                }
+
+                @Override
+                public Map.Entry<String, V> next() {
+                    if (next >= names.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = next;
+                    next = advance(i + 1);
+                    return new AbstractMap.SimpleImmutableEntry<>(names[i], valueAt(i));
+                }
+            };
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof HttpHeaders that)) return false;
-        return store.equals(that.store);
+        return toMultiValueMap().equals(that.toMultiValueMap());
     }
 
     @Override
     public int hashCode() {
-        return store.hashCode();
+        return toMultiValueMap().hashCode();
     }
 
     @Override
     public String toString() {
-        return "HttpHeaders" + store.keySet();
+        return "HttpHeaders" + Arrays.toString(names);
     }
 }
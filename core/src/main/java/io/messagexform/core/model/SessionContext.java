@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Gateway session context value object (DO-001-11, FR-001-14d).
@@ -28,6 +29,11 @@ public final class SessionContext {
 
     private final Map<String, Object> attributes;
 
+    /** Last result of {@link #convert(Function)}, tagged with its converter. */
+    private volatile Converted<?> converted;
+
+    private record Converted<T>(Function<? super SessionContext, T> converter, T value) {}
+
     private SessionContext(Map<String, Object> attributes) {
         this.attributes = attributes;
     }
@@ -75,6 +81,33 @@ public final class SessionContext {
         return new LinkedHashMap<>(attributes);
     }
 
+    /**
+     * Applies {@code converter} to this context, computing the result once per
+     * instance and converter. Contexts are immutable, so an adapter that reuses
+     * one instance across requests (e.g. from a session cache) pays for the
+     * engine's conversion — such as to JSON for {@code $session} — only once.
+     *
+     * <p>
+     * Only the most recent converter's result is kept, compared by identity:
+     * pass a constant, not a fresh lambda. The shared result must be treated as
+     * read-only.
+     *
+     * @param converter the conversion, typically a {@code static final} constant
+     * @param <T>       the converted type
+     * @return the (possibly cached) converted value
+     */
+    public <T> T convert(Function<? super SessionContext, T> converter) {
+        Converted<?> cached = converted;
+        if (cached != null && cached.converter() == converter) {
+            @SuppressWarnings("unchecked")
+            T value = (T) cached.value();
+            return value;
+        }
+        T value = converter.apply(this);
+        converted = new Converted<>(converter, value);
+        return value;
+    }
+
     // ── Factory methods ──
 
     /**
@@ -2,8 +2,11 @@ package io.messagexform.core.model;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.messagexform.core.spi.CompiledExpression;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Parsed and compiled transformation specification (DO-001-02). Immutable,
@@ -245,4 +248,42 @@ public record TransformSpec(
     public boolean hasSensitivePaths() {
         return sensitivePaths != null && !sensitivePaths.isEmpty();
     }
+
+    /**
+     * Returns the lower-case names of the HTTP headers this spec's expressions
+     * read — body, header, status and URL blocks and {@code apply} mappers —
+     * or {@code null} if one of them cannot tell (see
+     * {@link CompiledExpression#headersRead()}).
+     */
+    public Set<String> headersRead() {
+        List<CompiledExpression> expressions = new ArrayList<>();
+        expressions.add(compiledExpr);
+        expressions.add(forward);
+        expressions.add(reverse);
+        if (headerSpec != null) {
+            expressions.addAll(headerSpec.dynamicAdd().values());
+        }
+        if (statusSpec != null) {
+            expressions.add(statusSpec.when());
+        }
+        if (urlSpec != null) {
+            expressions.add(urlSpec.pathExpr());
+            expressions.addAll(urlSpec.queryDynamicAdd().values());
+            expressions.add(urlSpec.methodWhen());
+        }
+        if (applySteps != null) {
+            applySteps.forEach(step -> expressions.add(step.compiledMapper()));
+        }
+        Set<String> names = new HashSet<>();
+        for (CompiledExpression expression : expressions) {
+            if (expression != null) {
+                Set<String> read = expression.headersRead();
+                if (read == null) {
+                    return null;
+                }
+                names.addAll(read);
+            }
+        }
+        return names;
+    }
 }
@@ -2,6 +2,7 @@ package io.messagexform.core.spi;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.messagexform.core.model.TransformContext;
+import java.util.Set;
 
 /**
  * An immutable, thread-safe compiled expression handle (DO-001-03). Produced by {@link
@@ -21,4 +22,19 @@ public interface CompiledExpression {
      * @throws io.messagexform.core.error.ExpressionEvalException if evaluation fails at runtime
      */
     JsonNode evaluate(JsonNode input, TransformContext context);
+
+    /**
+     * Returns the lower-case names of the HTTP headers this expression reads through the context
+     * ({@code $headers}, {@code $headers_all}, and {@code $cookies} as {@code cookie}), or null if
+     * it cannot tell — e.g. the expression uses {@code $headers} as a whole, or reads {@code
+     * $session}. Adapters that cache transformed output key it on these headers; null means the
+     * output may depend on any of them.
+     *
+     * <p>The default returns null.
+     *
+     * @return the headers read, or null if unknown
+     */
+    default Set<String> headersRead() {
+        return null;
+    }
 }
@@ -0,0 +1,201 @@
+package io.messagexform.core.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.messagexform.core.engine.jslt.JsltExpressionEngine;
+import io.messagexform.core.model.Direction;
+import io.messagexform.core.model.HttpHeaders;
+import io.messagexform.core.model.Message;
+import io.messagexform.core.model.MessageBody;
+import io.messagexform.core.model.SessionContext;
+import io.messagexform.core.model.TransformResult;
+import io.messagexform.core.spec.SpecParser;
+import io.messagexform.core.testkit.TestMessages;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link TransformEngine#transformBatch} — batch and parallel
+ * transforms over one registry snapshot (FR-001-17).
+ */
+class BatchTransformTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private TransformEngine engine;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        EngineRegistry engineRegistry = new EngineRegistry();
+        engineRegistry.register(new JsltExpressionEngine());
+        engine = new TransformEngine(new SpecParser(engineRegistry));
+        engine.loadSpec(writeSpec("users", "{ \"kind\": \"user\", \"n\": .n }"));
+        engine.loadSpec(writeSpec("orders", "{ \"kind\": \"order\", \"n\": .n }"));
+    }
+
+    private Path writeSpec(String id, String jslt) throws Exception {
+        Path path = tempDir.resolve(id + ".yaml");
+        Files.writeString(path, """
+                id: %s
+                version: "1.0.0"
+                lang: jslt
+                input:
+                  schema:
+                    type: object
+                output:
+                  schema:
+                    type: object
+                transform:
+                  expr: |
+                    %s
+                """.formatted(id, jslt));
+        return path;
+    }
+
+    private void loadProfile() throws Exception {
+        Path path = tempDir.resolve("profile.yaml");
+        Files.writeString(path, """
+                profile: batch
+                version: "1.0.0"
+                transforms:
+                  - spec: users@1.0.0
+                    direction: request
+                    match:
+                      path: "/api/users"
+                  - spec: orders@1.0.0
+                    direction: request
+                    match:
+                      path: "/api/orders"
+                """);
+        engine.loadProfile(path);
+    }
+
+    private static Message message(String path, int n) throws Exception {
+        JsonNode body = JSON.readTree("{\"n\": " + n + "}");
+        return new Message(
+                TestMessages.toBody(body, "application/json"),
+                HttpHeaders.empty(),
+                null,
+                path,
+                "POST",
+                null,
+                SessionContext.empty());
+    }
+
+    /** Interleaves the two specs and an unmatched path so grouping reorders work. */
+    private static List<Message> mixedBatch(int size) throws Exception {
+        String[] paths = {"/api/users", "/api/orders", "/api/other"};
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            messages.add(message(paths[i % paths.length], i));
+        }
+        return messages;
+    }
+
+    private static JsonNode body(TransformResult result) {
+        return TestMessages.parseBody(result.message().body());
+    }
+
+    @Test
+    void batchMatchesSingleTransformsInOrder() throws Exception {
+        loadProfile();
+        List<Message> messages = mixedBatch(9);
+
+        List<TransformResult> results = engine.transformBatch(messages, Direction.REQUEST);
+
+        assertThat(results).hasSize(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            TransformResult single = engine.transform(messages.get(i), Direction.REQUEST);
+            TransformResult batched = results.get(i);
+            assertThat(batched.type()).isEqualTo(single.type());
+            if (single.isPassthrough()) {
+                continue;
+            }
+            assertThat(batched.specId()).isEqualTo(single.specId());
+            assertThat(body(batched)).isEqualTo(body(single));
+            assertThat(body(batched).get("n").asInt()).isEqualTo(i);
+        }
+        assertThat(results.get(0).specId()).isEqualTo("users");
+        assertThat(results.get(1).specId()).isEqualTo("orders");
+        assertThat(results.get(2).isPassthrough()).isTrue();
+    }
+
+    @Test
+    void withoutProfileEveryMessageUsesTheFallbackSpec() throws Exception {
+        List<Message> messages = mixedBatch(3);
+        String fallbackSpec =
+                engine.transform(messages.get(0), Direction.REQUEST).specId();
+
+        List<TransformResult> results = engine.transformBatch(messages, Direction.REQUEST);
+
+        assertThat(fallbackSpec).isNotNull();
+        assertThat(results).extracting(TransformResult::specId).containsOnly(fallbackSpec);
+    }
+
+    @Test
+    void emptyBatchAndNullMessages() throws Exception {
+        assertThat(engine.transformBatch(List.of(), Direction.REQUEST)).isEmpty();
+
+        List<Message> withNull = new ArrayList<>(mixedBatch(2));
+        withNull.add(null);
+        assertThatThrownBy(() -> engine.transformBatch(withNull, Direction.REQUEST))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nonJsonBodyFailsOnlyItsOwnMessage() throws Exception {
+        loadProfile();
+        List<Message> messages = new ArrayList<>(mixedBatch(3));
+        messages.set(
+                1,
+                new Message(
+                        MessageBody.json("not json"),
+                        HttpHeaders.empty(),
+                        null,
+                        "/api/orders",
+                        "POST",
+                        null,
+                        SessionContext.empty()));
+
+        List<TransformResult> results = engine.transformBatch(messages, Direction.REQUEST);
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).isError()).isTrue();
+        assertThat(results.get(1).errorResponse().asString()).contains("Failed to parse message body as JSON");
+        assertThat(results.get(2).isPassthrough()).isTrue();
+    }
+
+    @Test
+    void parallelBatchKeepsInputOrder() throws Exception {
+        loadProfile();
+        List<Message> messages = mixedBatch(500);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<TransformResult> parallel = engine.transformBatch(messages, Direction.REQUEST, pool);
+            List<TransformResult> sequential = engine.transformBatch(messages, Direction.REQUEST);
+
+            assertThat(parallel).hasSize(messages.size());
+            for (int i = 0; i < messages.size(); i++) {
+                assertThat(parallel.get(i).type()).isEqualTo(sequential.get(i).type());
+                if (!parallel.get(i).isPassthrough()) {
+                    assertThat(body(parallel.get(i))).isEqualTo(body(sequential.get(i)));
+                    assertThat(body(parallel.get(i)).get("n").asInt()).isEqualTo(i);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
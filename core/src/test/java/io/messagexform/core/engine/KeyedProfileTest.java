@@ -0,0 +1,175 @@
+package io.messagexform.core.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.messagexform.core.engine.jslt.JsltExpressionEngine;
+import io.messagexform.core.model.Direction;
+import io.messagexform.core.model.HttpHeaders;
+import io.messagexform.core.model.Message;
+import io.messagexform.core.model.SessionContext;
+import io.messagexform.core.model.TransformContext;
+import io.messagexform.core.model.TransformResult;
+import io.messagexform.core.spec.SpecParser;
+import io.messagexform.core.testkit.TestMessages;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for keyed profiles — several profiles compiled over one shared spec
+ * set and selected per request by key (T-001-45, NFR-001-05).
+ */
+class KeyedProfileTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private TransformEngine engine;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        EngineRegistry engineRegistry = new EngineRegistry();
+        engineRegistry.register(new JsltExpressionEngine());
+        engine = new TransformEngine(new SpecParser(engineRegistry));
+        engine.loadSpec(writeSpec("upper", "{ \"tenant\": \"a\", \"name\": .name }"));
+        engine.loadSpec(writeSpec("lower", "{ \"tenant\": \"b\", \"name\": .name }"));
+    }
+
+    private Path writeSpec(String id, String jslt) throws Exception {
+        Path path = tempDir.resolve(id + ".yaml");
+        Files.writeString(path, """
+                id: %s
+                version: "1.0.0"
+                lang: jslt
+                input:
+                  schema:
+                    type: object
+                output:
+                  schema:
+                    type: object
+                transform:
+                  expr: |
+                    %s
+                """.formatted(id, jslt));
+        return path;
+    }
+
+    private Path writeProfile(String id, String specId) throws Exception {
+        Path path = tempDir.resolve("profile-" + id + ".yaml");
+        Files.writeString(path, """
+                profile: %s
+                version: "1.0.0"
+                transforms:
+                  - spec: %s@1.0.0
+                    direction: response
+                    match:
+                      path: "/api/users"
+                """.formatted(id, specId));
+        return path;
+    }
+
+    private TransformResult transform(String profileKey) throws Exception {
+        JsonNode body = JSON.readTree("{\"name\": \"alice\"}");
+        Message message = new Message(
+                TestMessages.toBody(body, "application/json"),
+                HttpHeaders.empty(),
+                200,
+                "/api/users",
+                "GET",
+                null,
+                SessionContext.empty());
+        TransformContext context = new TransformContext(message.headers(), 200, Map.of(), Map.of(), message.session());
+        return engine.transform(message, Direction.RESPONSE, context, profileKey);
+    }
+
+    private static String tenant(TransformResult result) {
+        return TestMessages.parseBody(result.message().body()).get("tenant").asText();
+    }
+
+    @Test
+    void keySelectsProfileOverSharedSpecs() throws Exception {
+        engine.loadProfile("a.example.com", writeProfile("tenant-a", "upper"));
+        engine.loadProfile("b.example.com", writeProfile("tenant-b", "lower"));
+
+        assertThat(tenant(transform("a.example.com"))).isEqualTo("a");
+        assertThat(tenant(transform("b.example.com"))).isEqualTo("b");
+
+        // Both profiles reference the registry's compiled spec instances
+        TransformRegistry registry = engine.registry();
+        assertThat(registry.profile("a.example.com").entries().get(0).spec()).isSameAs(registry.getSpec("upper@1.0.0"));
+        assertThat(registry.profiles()).containsOnlyKeys("a.example.com", "b.example.com");
+    }
+
+    @Test
+    void keyedProfilesDoNotChangeTheDefaultProfile() throws Exception {
+        engine.loadProfile(writeProfile("default", "lower"));
+        engine.loadProfile("a.example.com", writeProfile("tenant-a", "upper"));
+
+        assertThat(engine.activeProfile().id()).isEqualTo("default");
+        assertThat(tenant(transform(null))).isEqualTo("b");
+        assertThat(tenant(transform("a.example.com"))).isEqualTo("a");
+    }
+
+    @Test
+    void unknownKeyPassesThrough() throws Exception {
+        engine.loadProfile(writeProfile("default", "lower"));
+        engine.loadProfile("a.example.com", writeProfile("tenant-a", "upper"));
+
+        assertThat(transform("unknown.example.com").isPassthrough()).isTrue();
+    }
+
+    @Test
+    void couldMatchUsesTheSelectedProfile() throws Exception {
+        engine.loadProfile(writeProfile("default", "lower"));
+        engine.loadProfile("a.example.com", writeProfile("tenant-a", "upper"));
+
+        assertThat(engine.couldMatch(Direction.RESPONSE, "a.example.com", "/api/users", "GET", null, 200))
+                .isTrue();
+        assertThat(engine.couldMatch(Direction.RESPONSE, "a.example.com", "/api/orders", "GET", null, 200))
+                .isFalse();
+        assertThat(engine.couldMatch(Direction.RESPONSE, "unknown.example.com", "/api/users", "GET", null, 200))
+                .isFalse();
+        assertThat(engine.couldMatch(Direction.REQUEST, null, "/api/users", "GET", null, null))
+                .isFalse();
+    }
+
+    @Test
+    void couldMatchSpecsOnlyCountsTheGivenSpecs() throws Exception {
+        engine.loadProfile(writeProfile("default", "lower"));
+        engine.loadProfile("a.example.com", writeProfile("tenant-a", "upper"));
+
+        assertThat(engine.couldMatchSpecs(
+                        Set.of("upper"), Direction.RESPONSE, "a.example.com", "/api/users", "GET", null, 200))
+                .isTrue();
+        assertThat(engine.couldMatchSpecs(Set.of("upper"), Direction.RESPONSE, null, "/api/users", "GET", null, 200))
+                .isFalse();
+        assertThat(engine.couldMatchSpecs(Set.of("lower"), Direction.RESPONSE, null, "/api/users", "GET", null, 200))
+                .isTrue();
+        assertThat(engine.couldMatchSpecs(Set.of(), Direction.RESPONSE, null, "/api/users", "GET", null, 200))
+                .isFalse();
+    }
+
+    @Test
+    void reloadSwapsKeyedProfilesWithSpecs() throws Exception {
+        engine.loadProfile("a.example.com", writeProfile("tenant-a", "upper"));
+
+        // Tenant A now maps to the "lower" spec; tenant B is dropped
+        engine.reload(
+                List.of(tempDir.resolve("upper.yaml"), tempDir.resolve("lower.yaml")),
+                null,
+                Map.of("a.example.com", writeProfile("tenant-a", "lower")));
+
+        assertThat(tenant(transform("a.example.com"))).isEqualTo("b");
+        assertThat(engine.registry().profiles()).containsOnlyKeys("a.example.com");
+        assertThat(engine.activeProfile()).isNull();
+    }
+}
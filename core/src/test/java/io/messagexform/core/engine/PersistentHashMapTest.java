@@ -0,0 +1,129 @@
+package io.messagexform.core.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PersistentHashMap} — the structural-sharing map behind
+ * {@link TransformRegistry}.
+ */
+class PersistentHashMapTest {
+
+    /** Key with a caller-chosen hash code, to force trie collisions. */
+    private record Key(String name, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    void emptyMapHasNoEntries() {
+        PersistentHashMap<String, String> map = PersistentHashMap.empty();
+
+        assertThat(map).isEmpty();
+        assertThat(map.get("missing")).isNull();
+        assertThat(map.get(null)).isNull();
+    }
+
+    @Test
+    void plusReturnsNewMapAndLeavesOriginalUnchanged() {
+        PersistentHashMap<String, String> v1 =
+                PersistentHashMap.<String, String>empty().plus("a", "1");
+        PersistentHashMap<String, String> v2 = v1.plus("b", "2");
+        PersistentHashMap<String, String> v3 = v2.plus("a", "1b");
+
+        assertThat(v1).containsExactly(Map.entry("a", "1"));
+        assertThat(v2).containsOnly(Map.entry("a", "1"), Map.entry("b", "2"));
+        assertThat(v3).containsOnly(Map.entry("a", "1b"), Map.entry("b", "2"));
+        assertThat(v3.size()).isEqualTo(2);
+    }
+
+    @Test
+    void plusWithSameValueInstanceReturnsSameMap() {
+        String value = "v";
+        PersistentHashMap<String, String> map =
+                PersistentHashMap.<String, String>empty().plus("k", value);
+
+        assertThat(map.plus("k", value)).isSameAs(map);
+    }
+
+    @Test
+    void fullHashCollisionsAreStoredAndReplaced() {
+        Key a = new Key("a", 42);
+        Key b = new Key("b", 42);
+        Key c = new Key("c", 42);
+        PersistentHashMap<Key, Integer> map =
+                PersistentHashMap.<Key, Integer>empty().plus(a, 1).plus(b, 2).plus(c, 3);
+
+        assertThat(map).hasSize(3);
+        assertThat(map.get(a)).isEqualTo(1);
+        assertThat(map.get(b)).isEqualTo(2);
+        assertThat(map.get(new Key("c", 42))).isEqualTo(3);
+        assertThat(map.get(new Key("d", 42))).isNull();
+
+        PersistentHashMap<Key, Integer> replaced = map.plus(b, 20);
+        assertThat(replaced).hasSize(3);
+        assertThat(replaced.get(b)).isEqualTo(20);
+        assertThat(map.get(b)).isEqualTo(2);
+    }
+
+    @Test
+    void partialHashCollisionsSplitIntoDeeperLevels() {
+        // Same low 5 bits, different higher bits → shared first-level slot
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 64; i++) {
+            map = map.plus(new Key("k" + i, 7 | (i << 5)), i);
+        }
+
+        assertThat(map).hasSize(64);
+        for (int i = 0; i < 64; i++) {
+            assertThat(map.get(new Key("k" + i, 7 | (i << 5)))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void matchesHashMapUnderRandomInserts() {
+        Random random = new Random(1234);
+        Map<String, Integer> expected = new HashMap<>();
+        PersistentHashMap<String, Integer> actual = PersistentHashMap.empty();
+
+        for (int i = 0; i < 5_000; i++) {
+            String key = "spec-" + random.nextInt(3_000);
+            expected.put(key, i);
+            actual = actual.plus(key, i);
+        }
+
+        assertThat(actual).hasSize(expected.size());
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(actual.entrySet()).hasSize(expected.size());
+    }
+
+    @Test
+    void copyOfReusesPersistentSourceAndCopiesOthers() {
+        PersistentHashMap<String, String> persistent =
+                PersistentHashMap.<String, String>empty().plus("a", "1");
+        assertThat(PersistentHashMap.copyOf(persistent)).isSameAs(persistent);
+
+        Map<String, String> mutable = new HashMap<>(Map.of("x", "1"));
+        PersistentHashMap<String, String> copy = PersistentHashMap.copyOf(mutable);
+        mutable.put("y", "2");
+        assertThat(copy).containsOnlyKeys("x");
+    }
+
+    @Test
+    void mapIsReadOnlyAndRejectsNulls() {
+        PersistentHashMap<String, String> map =
+                PersistentHashMap.<String, String>empty().plus("a", "1");
+
+        assertThatThrownBy(() -> map.put("b", "2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.plus(null, "x")).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> map.plus("x", null)).isInstanceOf(NullPointerException.class);
+    }
+}
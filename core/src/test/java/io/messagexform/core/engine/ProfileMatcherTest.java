@@ -473,4 +473,65 @@ class ProfileMatcherTest {
             assertThat(withWhen.constraintCount()).isGreaterThan(withoutWhen.constraintCount());
         }
     }
+
+    @Nested
+    @DisplayName("Could-match pre-classification")
+    class CouldMatch {
+
+        @Test
+        @DisplayName("method, path and direction rule out non-candidates")
+        void envelopeRulesOutNonCandidates() {
+            var profile = new TransformProfile(
+                    "p1", null, "1.0.0", List.of(entry("spec-a", "/api/orders", "POST", null, Direction.REQUEST)));
+
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/orders", "POST", null, Direction.REQUEST, null))
+                    .isTrue();
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/orders", "GET", null, Direction.REQUEST, null))
+                    .isFalse();
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/users", "POST", null, Direction.REQUEST, null))
+                    .isFalse();
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/orders", "POST", null, Direction.RESPONSE, 200))
+                    .isFalse();
+        }
+
+        @Test
+        @DisplayName("unknown status or content type is a candidate; a known mismatch is not")
+        void unknownValuesAreCandidates() {
+            var profile = new TransformProfile(
+                    "p1",
+                    null,
+                    "1.0.0",
+                    List.of(new ProfileEntry(
+                            dummySpec("spec-a"),
+                            Direction.RESPONSE,
+                            "/api/**",
+                            null,
+                            "application/json",
+                            new StatusPattern.Class(4))));
+
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/x", "GET", null, Direction.RESPONSE, null))
+                    .isTrue();
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/x", "GET", null, Direction.RESPONSE, 404))
+                    .isTrue();
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/x", "GET", null, Direction.RESPONSE, 200))
+                    .isFalse();
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/x", "GET", "text/xml", Direction.RESPONSE, 404))
+                    .isFalse();
+        }
+
+        @Test
+        @DisplayName("when-predicate entries stay candidates — the body is not consulted")
+        void whenPredicateEntryIsCandidate() {
+            CompiledExpression alwaysFalse = (input, ctx) -> BooleanNode.getFalse();
+            var profile = new TransformProfile(
+                    "p1",
+                    null,
+                    "1.0.0",
+                    List.of(new ProfileEntry(
+                            dummySpec("spec-a"), Direction.REQUEST, "/api/**", null, null, null, alwaysFalse)));
+
+            assertThat(ProfileMatcher.couldMatch(profile, "/api/x", "POST", null, Direction.REQUEST, null))
+                    .isTrue();
+        }
+    }
 }
@@ -171,4 +171,111 @@ class TransformRegistryTest {
         assertThat(registry.specCount()).isZero();
         assertThat(registry.activeProfile()).isNull();
     }
+
+    @Test
+    void builderIsNotAffectedByLaterAdds() {
+        TransformRegistry.Builder builder = TransformRegistry.builder().addSpec(stubSpec("first", "1.0.0"));
+        TransformRegistry first = builder.build();
+
+        builder.addSpec(stubSpec("second", "1.0.0"));
+
+        assertThat(first.getSpec("second")).isNull();
+        assertThat(builder.build().getSpec("second")).isNotNull();
+    }
+
+    // --- Incremental snapshots (structural sharing) ---
+
+    @Test
+    void withSpecAddsByIdAndVersionWithoutTouchingOldSnapshot() {
+        TransformSpec specA = stubSpec("spec-a", "1.0.0");
+        TransformSpec specB = stubSpec("spec-b", "1.0.0");
+        TransformProfile profile = stubProfile("p", specA);
+        TransformRegistry v1 = TransformRegistry.builder()
+                .addSpec(specA)
+                .activeProfile(profile)
+                .build();
+
+        TransformRegistry v2 = v1.withSpec(specB);
+
+        assertThat(v2.getSpec("spec-b")).isSameAs(specB);
+        assertThat(v2.getSpec("spec-b@1.0.0")).isSameAs(specB);
+        assertThat(v2.getSpec("spec-a")).isSameAs(specA);
+        assertThat(v2.activeProfile()).isSameAs(profile);
+        assertThat(v1.getSpec("spec-b")).isNull();
+        assertThat(v1.specCount()).isEqualTo(2);
+    }
+
+    @Test
+    void withSpecReplacesSameIdAndKeepsOlderVersionKey() {
+        TransformSpec v1Spec = stubSpec("spec", "1.0.0");
+        TransformSpec v2Spec = stubSpec("spec", "2.0.0");
+
+        TransformRegistry registry = TransformRegistry.empty().withSpec(v1Spec).withSpec(v2Spec);
+
+        assertThat(registry.getSpec("spec")).isSameAs(v2Spec);
+        assertThat(registry.getSpec("spec@1.0.0")).isSameAs(v1Spec);
+        assertThat(registry.getSpec("spec@2.0.0")).isSameAs(v2Spec);
+        assertThat(registry.specCount()).isEqualTo(3);
+    }
+
+    @Test
+    void withActiveProfileSharesSpecMap() {
+        TransformSpec spec = stubSpec("shared", "1.0.0");
+        TransformRegistry registry = TransformRegistry.builder().addSpec(spec).build();
+        TransformProfile profile = stubProfile("p", spec);
+
+        TransformRegistry withProfile = registry.withActiveProfile(profile);
+
+        assertThat(withProfile.activeProfile()).isSameAs(profile);
+        assertThat(withProfile.allSpecs()).isSameAs(registry.allSpecs());
+        assertThat(registry.activeProfile()).isNull();
+    }
+
+    @Test
+    void withProfileRegistersKeyedProfileAndKeepsDefault() {
+        TransformSpec spec = stubSpec("shared", "1.0.0");
+        TransformProfile defaultProfile = stubProfile("default", spec);
+        TransformProfile tenantProfile = stubProfile("tenant-a", spec);
+        TransformRegistry registry = TransformRegistry.builder()
+                .addSpec(spec)
+                .activeProfile(defaultProfile)
+                .build();
+
+        TransformRegistry keyed = registry.withProfile("a.example.com", tenantProfile);
+
+        assertThat(keyed.profile("a.example.com")).isSameAs(tenantProfile);
+        assertThat(keyed.profile("b.example.com")).isNull();
+        assertThat(keyed.profile(null)).isNull();
+        assertThat(keyed.activeProfile()).isSameAs(defaultProfile);
+        assertThat(keyed.allSpecs()).isSameAs(registry.allSpecs());
+        assertThat(registry.profiles()).isEmpty();
+    }
+
+    @Test
+    void withSpecAndWithActiveProfileKeepKeyedProfiles() {
+        TransformSpec spec = stubSpec("shared", "1.0.0");
+        TransformProfile tenantProfile = stubProfile("tenant-a", spec);
+        TransformRegistry registry = TransformRegistry.builder()
+                .addSpec(spec)
+                .profile("a.example.com", tenantProfile)
+                .build();
+
+        TransformRegistry derived =
+                registry.withSpec(stubSpec("other", "1.0.0")).withActiveProfile(stubProfile("default", spec));
+
+        assertThat(derived.profiles()).containsOnlyKeys("a.example.com");
+        assertThat(derived.profile("a.example.com")).isSameAs(tenantProfile);
+    }
+
+    @Test
+    void incrementalLoadOfManySpecs() {
+        TransformRegistry registry = TransformRegistry.empty();
+        for (int i = 0; i < 5_000; i++) {
+            registry = registry.withSpec(stubSpec("spec-" + i, "1.0.0"));
+        }
+
+        assertThat(registry.specCount()).isEqualTo(10_000);
+        assertThat(registry.getSpec("spec-4999@1.0.0")).isNotNull();
+        assertThat(registry.allSpecs().values()).hasSize(10_000);
+    }
 }
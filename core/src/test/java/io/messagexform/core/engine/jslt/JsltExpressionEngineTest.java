@@ -165,4 +165,18 @@ class JsltExpressionEngineTest {
             assertThat(result.get("doubled").asInt()).isEqualTo(i * 2);
         }
     }
+
+    @Test
+    void headersReadFromSource() {
+        assertThat(engine.compile("{\"id\": .id}").headersRead()).isEmpty();
+        assertThat(engine.compile("{\"t\": $headers.x-tenant, \"l\": $headers_all.\"Accept-Language\"}")
+                        .headersRead())
+                .containsExactlyInAnyOrder("x-tenant", "accept-language");
+        assertThat(engine.compile("{\"u\": $cookies.user, \"s\": $status}").headersRead())
+                .containsExactly("cookie");
+        // $headers as a whole, or $session, could read anything
+        assertThat(engine.compile("size($headers)").headersRead()).isNull();
+        assertThat(engine.compile("get-key($headers, \"x\")").headersRead()).isNull();
+        assertThat(engine.compile("$session.sub").headersRead()).isNull();
+    }
 }
@@ -3,6 +3,8 @@ package io.messagexform.core.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -141,4 +143,91 @@ class HttpHeadersTest {
         assertThat(headers.all("accept")).containsExactly("text/html");
         assertThat(headers.toMultiValueMap().get("accept")).containsExactly("text/html");
     }
+
+    // ── Compact representation ──
+
+    @Test
+    void viewsAreCreatedOnceAndReused() {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Accept", "text/html", "Host", "example.com"));
+        assertThat(headers.toSingleValueMap()).isSameAs(headers.toSingleValueMap());
+        assertThat(headers.toMultiValueMap()).isSameAs(headers.toMultiValueMap());
+    }
+
+    @Test
+    void viewsIterateInNameOrder() {
+        HttpHeaders headers = HttpHeaders.of(Map.of("X-B", "2", "Accept", "html", "x-a", "1"));
+        assertThat(headers.toSingleValueMap().keySet()).containsExactly("accept", "x-a", "x-b");
+        assertThat(headers.toMultiValueMap().keySet()).containsExactly("accept", "x-a", "x-b");
+        assertThat(headers.toString()).isEqualTo("HttpHeaders[accept, x-a, x-b]");
+    }
+
+    @Test
+    void wellKnownNamesShareOneInstance() {
+        HttpHeaders upper = HttpHeaders.of(Map.of("Content-Type", "json"));
+        HttpHeaders lower = HttpHeaders.of(Map.of("content-type", "xml"));
+        String upperName = upper.toSingleValueMap().keySet().iterator().next();
+        String lowerName = lower.toSingleValueMap().keySet().iterator().next();
+        assertThat(upperName).isEqualTo("content-type").isSameAs(lowerName);
+        assertThat(HttpHeaders.normalize("X-Custom-Header")).isEqualTo("x-custom-header");
+        assertThat(HttpHeaders.normalize("x-custom")).isSameAs(HttpHeaders.normalize("x-custom"));
+    }
+
+    @Test
+    void namesDifferingOnlyInCaseCollapse() {
+        LinkedHashMap<String, String> raw = new LinkedHashMap<>();
+        raw.put("X-Trace", "first");
+        raw.put("x-trace", "second");
+        HttpHeaders headers = HttpHeaders.of(raw);
+        assertThat(headers.size()).isEqualTo(1);
+        assertThat(headers.first("X-TRACE")).isEqualTo("second");
+    }
+
+    @Test
+    void manyHeadersAreAllFoundInAnyCase() {
+        Map<String, String> raw = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            raw.put("X-Header-" + i, "v" + i);
+        }
+        HttpHeaders headers = HttpHeaders.of(raw);
+        for (int i = 0; i < 100; i++) {
+            assertThat(headers.first("x-header-" + i)).isEqualTo("v" + i);
+            assertThat(headers.contains("X-HEADER-" + i)).isTrue();
+        }
+        assertThat(headers.contains("x-header-100")).isFalse();
+        assertThat(headers.toSingleValueMap()).hasSize(100);
+    }
+
+    @Test
+    void singleValueViewLooksUpLowercaseKeysOnly() {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Content-Type", "json"));
+        assertThat(headers.toSingleValueMap().get("content-type")).isEqualTo("json");
+        assertThat(headers.toSingleValueMap().get("Content-Type")).isNull();
+        assertThat(headers.toMultiValueMap().containsKey("Content-Type")).isFalse();
+    }
+
+    @Test
+    void headerWithoutValuesIsOnlyInMultiValueView() {
+        HttpHeaders headers = HttpHeaders.ofMulti(Map.of("x-empty", List.of(), "accept", List.of("json")));
+        assertThat(headers.contains("x-empty")).isTrue();
+        assertThat(headers.first("x-empty")).isNull();
+        assertThat(headers.toSingleValueMap()).containsOnlyKeys("accept");
+        assertThat(headers.toMultiValueMap()).containsOnlyKeys("accept", "x-empty");
+    }
+
+    @Test
+    void equalRegardlessOfFactoryAndCase() {
+        HttpHeaders single = HttpHeaders.of(Map.of("Accept", "json"));
+        HttpHeaders multi = HttpHeaders.ofMulti(Map.of("accept", List.of("json")));
+        assertThat(single).isEqualTo(multi).hasSameHashCodeAs(multi);
+        assertThat(single).isNotEqualTo(HttpHeaders.of(Map.of("accept", "xml")));
+    }
+
+    @Test
+    void viewEntriesAreUnmodifiable() {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Accept", "text/html"));
+        assertThatThrownBy(() -> headers.toSingleValueMap().remove("accept"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.toMultiValueMap().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(headers.first("accept")).isEqualTo("text/html");
+    }
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
 /** Tests for {@link SessionContext} (FR-001-14d, DO-001-11). */
@@ -133,4 +135,21 @@ class SessionContextTest {
         original.put("injected", "attack");
         assertThat(ctx.has("injected")).isFalse();
     }
+
+    // ── convert() ──
+
+    @Test
+    void convertComputesOncePerConverter() {
+        SessionContext ctx = SessionContext.of(Map.of("sub", "user1"));
+        AtomicInteger calls = new AtomicInteger();
+        Function<SessionContext, String> converter = c -> c.getString("sub") + calls.incrementAndGet();
+
+        assertThat(ctx.convert(converter)).isEqualTo("user11");
+        assertThat(ctx.convert(converter)).isEqualTo("user11");
+        assertThat(calls.get()).isEqualTo(1);
+
+        Function<SessionContext, Integer> other = c -> c.toMap().size();
+        assertThat(ctx.convert(other)).isEqualTo(1);
+        assertThat(ctx.convert(converter)).isEqualTo("user12");
+    }
 }